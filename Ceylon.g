@@ -43,6 +43,12 @@ options {
     public java.util.List<ParseError> getErrors() {
         return errors;
     }
+    
+    //a node has a single parent, so each synthetic 
+    //node gets its own copy of an identifier
+    private static Identifier copy(Identifier identifier) {
+        return new Identifier(identifier.getToken());
+    }
     int expecting=-1;
   @Override
   protected Object getMissingSymbol(IntStream input,
@@ -2529,11 +2535,11 @@ switchExpression returns [SwitchExpression term]
               IsCase ic = (IsCase) item;
               Variable v = new Variable(null);
               v.setType(new SyntheticVariable(null));
-              v.setIdentifier(id);
+              v.setIdentifier(copy(id));
               SpecifierExpression se = new SpecifierExpression(null);
               Expression e = new Expression(null);
               BaseMemberExpression bme = new BaseMemberExpression(null);
-              bme.setIdentifier(id);
+              bme.setIdentifier(copy(id));
               bme.setTypeArguments( new InferredTypeArguments(null) );
               e.setTerm(bme);
               se.setExpression(e);
@@ -2553,8 +2559,8 @@ switchExpression returns [SwitchExpression term]
             ese.setExpression(ee);
             ev.setSpecifierExpression(ese);
             ec.setVariable(ev);
-            ebme.setIdentifier(id);
-            ev.setIdentifier(id);
+            ebme.setIdentifier(copy(id));
+            ev.setIdentifier(copy(id));
           }
         } 
       }
@@ -2635,8 +2641,8 @@ ifExpression returns [IfExpression term]
                 ese.setExpression(ee);
                 ev.setSpecifierExpression(ese);
                 ec.setVariable(ev);
-                ev.setIdentifier(id);
-                ebme.setIdentifier(id);
+                ev.setIdentifier(copy(id));
+                ebme.setIdentifier(copy(id));
               }
             }
           }        
@@ -3804,8 +3810,8 @@ ifElse returns [IfStatement statement]
                 ese.setExpression(ee);
                 ev.setSpecifierExpression(ese);
                 ec.setVariable(ev);
-                ev.setIdentifier(id);
-                ebme.setIdentifier(id);
+                ev.setIdentifier(copy(id));
+                ebme.setIdentifier(copy(id));
               }
             }
           }
@@ -3873,8 +3879,8 @@ switchCaseElse returns [SwitchStatement statement]
               se.setExpression(e);
               v.setSpecifierExpression(se);
               ic.setVariable(v);
-              bme.setIdentifier(id);
-              v.setIdentifier(id);
+              bme.setIdentifier(copy(id));
+              v.setIdentifier(copy(id));
             }
           }
           ElseClause ec = $cases.switchCaseList.getElseClause();
@@ -3889,8 +3895,8 @@ switchCaseElse returns [SwitchStatement statement]
             ese.setExpression(ee);
             ev.setSpecifierExpression(ese);
             ec.setVariable(ev);
-            ebme.setIdentifier(id);
-            ev.setIdentifier(id);
+            ebme.setIdentifier(copy(id));
+            ev.setIdentifier(copy(id));
           }
         }
       }
@@ -4203,7 +4209,7 @@ impliedVariable returns [Variable variable]
         SpecifierExpression se = new SpecifierExpression(null);
         Expression e = new Expression(null);
         BaseMemberExpression bme = new BaseMemberExpression(null);
-        bme.setIdentifier($memberName.identifier);
+        bme.setIdentifier(copy($memberName.identifier));
         bme.setTypeArguments( new InferredTypeArguments(null) );
         e.setTerm(bme);
         se.setExpression(e);
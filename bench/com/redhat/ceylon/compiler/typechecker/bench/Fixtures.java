@@ -0,0 +1,136 @@
+package com.redhat.ceylon.compiler.typechecker.bench;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.redhat.ceylon.compiler.typechecker.TypeChecker;
+import com.redhat.ceylon.compiler.typechecker.TypeCheckerBuilder;
+import com.redhat.ceylon.compiler.typechecker.analyzer.ModuleValidator;
+import com.redhat.ceylon.compiler.typechecker.context.PhasedUnits;
+import com.redhat.ceylon.compiler.typechecker.io.ClosableVirtualFile;
+import com.redhat.ceylon.compiler.typechecker.io.VFS;
+import com.redhat.ceylon.compiler.typechecker.io.VirtualFile;
+import com.redhat.ceylon.model.typechecker.model.Module;
+
+/**
+ * The source corpora the benchmarks run on: the 
+ * {@code test/main} directory, and the sources of the
+ * latest {@code ceylon.language} in the local repository.
+ */
+final class Fixtures {
+    
+    static final String MAIN = "main";
+    static final String LANGUAGE = "language";
+    
+    private static final VFS vfs = new VFS();
+    
+    private Fixtures() {}
+    
+    /**
+     * The source directory of the given corpus, to be passed
+     * to {@link #close(VirtualFile)} when no longer needed.
+     */
+    static VirtualFile open(String corpus) {
+        if (MAIN.equals(corpus)) {
+            return vfs.getFromFile(new File(System.getProperty("bench.test.dir", "test"), "main"));
+        }
+        else if (LANGUAGE.equals(corpus)) {
+            return vfs.getFromZipFile(getLanguageSourceArchive());
+        }
+        else {
+            throw new IllegalArgumentException("unknown corpus: " + corpus);
+        }
+    }
+    
+    static void close(VirtualFile srcDir) {
+        if (srcDir instanceof ClosableVirtualFile) {
+            ((ClosableVirtualFile) srcDir).close();
+        }
+    }
+    
+    private static File getLanguageSourceArchive() {
+        File langDir = new File(System.getProperty("user.home"), ".ceylon/repo/ceylon/language");
+        String[] versions = langDir.list();
+        if (versions==null || versions.length==0) {
+            throw new IllegalStateException("ceylon.language not found in repository: " + langDir);
+        }
+        Arrays.sort(versions);
+        String version = versions[versions.length-1]; //last
+        return new File(langDir, version + "/ceylon.language-" + version + ".src");
+    }
+    
+    /**
+     * The text of every source file of the given corpus.
+     */
+    static List<String> readSources(String corpus) throws IOException {
+        List<String> sources = new ArrayList<String>();
+        VirtualFile dir = open(corpus);
+        try {
+            collectSources(dir, sources);
+        }
+        finally {
+            close(dir);
+        }
+        return sources;
+    }
+    
+    private static void collectSources(VirtualFile file, List<String> sources) 
+            throws IOException {
+        if (file.isFolder()) {
+            for (VirtualFile child: file.getChildren()) {
+                collectSources(child, sources);
+            }
+        }
+        else if (file.getName().endsWith(".ceylon")) {
+            InputStream in = file.getInputStream();
+            try {
+                ByteArrayOutputStream out = new ByteArrayOutputStream();
+                byte[] buffer = new byte[8192];
+                int read;
+                while ((read = in.read(buffer))>=0) {
+                    out.write(buffer, 0, read);
+                }
+                sources.add(out.toString("UTF-8"));
+            }
+            finally {
+                in.close();
+            }
+        }
+    }
+    
+    /**
+     * A type checker for the given source directory, with its
+     * units parsed and its modules visited, ready to run the
+     * first phase. Units are parsed through the given cache, 
+     * so that building the same state again is cheap.
+     */
+    static TypeChecker prepare(VirtualFile srcDir, File parseCache) {
+        TypeChecker typeChecker = new TypeCheckerBuilder()
+                .verbose(false)
+                .statistics(false)
+                .parseCache(parseCache)
+                .addSrcDirectory(srcDir)
+                .getTypeChecker();
+        PhasedUnits phasedUnits = typeChecker.getPhasedUnits();
+        phasedUnits.getModuleManager().prepareForTypeChecking();
+        phasedUnits.visitModules();
+        phasedUnits.getModuleManager().modulesVisited();
+        Module languageModule = 
+                typeChecker.getContext().getModules().getLanguageModule();
+        if (languageModule.getVersion() == null) {
+            languageModule.setVersion(TypeChecker.LANGUAGE_MODULE_VERSION);
+        }
+        ModuleValidator moduleValidator = 
+                new ModuleValidator(typeChecker.getContext(), phasedUnits);
+        moduleValidator.verifyModuleDependencyTree();
+        typeChecker.setPhasedUnitsOfDependencies(
+                moduleValidator.getPhasedUnitsOfDependencies());
+        return typeChecker;
+    }
+    
+}
@@ -0,0 +1,57 @@
+package com.redhat.ceylon.compiler.typechecker.bench;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.antlr.runtime.ANTLRStringStream;
+import org.antlr.runtime.Token;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.redhat.ceylon.compiler.typechecker.parser.CeylonLexer;
+
+/**
+ * Lexes every source file of a corpus, one operation being
+ * the whole corpus.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations=5)
+@Measurement(iterations=5)
+@Fork(1)
+public class LexerBenchmark {
+    
+    @Param({Fixtures.MAIN, Fixtures.LANGUAGE})
+    public String corpus;
+    
+    private List<String> sources;
+    
+    @Setup
+    public void setup() throws Exception {
+        sources = Fixtures.readSources(corpus);
+    }
+    
+    @Benchmark
+    public int lex() {
+        int count = 0;
+        for (String source: sources) {
+            CeylonLexer lexer = 
+                    new CeylonLexer(new ANTLRStringStream(source));
+            while (lexer.nextToken().getType()!=Token.EOF) {
+                count++;
+            }
+        }
+        return count;
+    }
+    
+}
@@ -0,0 +1,95 @@
+package com.redhat.ceylon.compiler.typechecker.bench;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.antlr.runtime.ANTLRStringStream;
+import org.antlr.runtime.CommonToken;
+import org.antlr.runtime.CommonTokenStream;
+import org.antlr.runtime.Token;
+import org.antlr.runtime.TokenSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.redhat.ceylon.compiler.typechecker.parser.CeylonLexer;
+import com.redhat.ceylon.compiler.typechecker.parser.CeylonParser;
+
+/**
+ * Parses every source file of a corpus, one operation being
+ * the whole corpus. The files are lexed once up front, and
+ * the parser is fed the recorded tokens, so that only the
+ * parser is measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations=5)
+@Measurement(iterations=5)
+@Fork(1)
+public class ParserBenchmark {
+    
+    @Param({Fixtures.MAIN, Fixtures.LANGUAGE})
+    public String corpus;
+    
+    private List<List<Token>> tokenLists;
+    
+    /**
+     * Replays a list of tokens recorded from the lexer.
+     */
+    private static class TokenReplay implements TokenSource {
+        private final List<Token> tokens;
+        private int index = 0;
+        TokenReplay(List<Token> tokens) {
+            this.tokens = tokens;
+        }
+        @Override
+        public Token nextToken() {
+            return index<tokens.size() ? 
+                    tokens.get(index++) : 
+                    tokens.get(tokens.size()-1);
+        }
+        @Override
+        public String getSourceName() {
+            return "replay";
+        }
+    }
+    
+    @Setup
+    public void setup() throws Exception {
+        tokenLists = new ArrayList<List<Token>>();
+        for (String source: Fixtures.readSources(corpus)) {
+            CeylonLexer lexer = 
+                    new CeylonLexer(new ANTLRStringStream(source));
+            List<Token> tokens = new ArrayList<Token>();
+            Token token;
+            do {
+                token = lexer.nextToken();
+                tokens.add(token);
+            }
+            while (token.getType()!=Token.EOF);
+            tokenLists.add(tokens);
+        }
+    }
+    
+    @Benchmark
+    public void parse(Blackhole blackhole) throws Exception {
+        for (List<Token> tokens: tokenLists) {
+            CeylonParser parser = 
+                    new CeylonParser(new CommonTokenStream(
+                            new TokenReplay(tokens)));
+            blackhole.consume(parser.compilationUnit());
+        }
+    }
+    
+}
@@ -0,0 +1,103 @@
+package com.redhat.ceylon.compiler.typechecker.bench;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.redhat.ceylon.compiler.typechecker.context.Phase;
+import com.redhat.ceylon.compiler.typechecker.context.PhasedUnit;
+import com.redhat.ceylon.compiler.typechecker.io.VirtualFile;
+
+/**
+ * Runs a single type checking phase on every unit of a
+ * corpus, one operation being the whole corpus. Since the
+ * phases modify the model, the state each operation starts
+ * from is built again before every operation: the units are 
+ * read back from a parse cache filled during the trial 
+ * setup, and taken through the previous phases. Only the
+ * phase itself is measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations=5)
+@Measurement(iterations=5)
+@Fork(1)
+public class PhaseBenchmark {
+    
+    @Param({Fixtures.MAIN, Fixtures.LANGUAGE})
+    public String corpus;
+    
+    @Param({"TREE_VALIDATION", "DECLARATIONS", "TYPE_DECLARATIONS", 
+            "REFINEMENT", "TYPES", "FLOW", "USAGE"})
+    public Phase phase;
+    
+    private VirtualFile srcDir;
+    private File parseCache;
+    private List<PhasedUnit> units;
+    
+    @Setup(Level.Trial)
+    public void setupTrial() throws IOException {
+        srcDir = Fixtures.open(corpus);
+        parseCache = File.createTempFile("ceylon-bench", ".cache");
+        parseCache.delete();
+        //fill the cache
+        Fixtures.prepare(srcDir, parseCache);
+    }
+    
+    @TearDown(Level.Trial)
+    public void tearDownTrial() {
+        Fixtures.close(srcDir);
+        delete(parseCache);
+    }
+    
+    @Setup(Level.Invocation)
+    public void setupInvocation() {
+        units = Fixtures.prepare(srcDir, parseCache)
+                .getPhasedUnits().getPhasedUnits();
+        for (Phase previous: Phase.values()) {
+            if (previous==phase) {
+                break;
+            }
+            for (PhasedUnit pu: units) {
+                previous.run(pu);
+            }
+        }
+    }
+    
+    @Benchmark
+    public List<PhasedUnit> runPhase() {
+        for (PhasedUnit pu: units) {
+            //the body alone, without the listener and
+            //the diagnostics sink
+            phase.execute(pu);
+        }
+        return units;
+    }
+    
+    private static void delete(File file) {
+        File[] children = file.listFiles();
+        if (children!=null) {
+            for (File child: children) {
+                delete(child);
+            }
+        }
+        file.delete();
+    }
+    
+}
@@ -0,0 +1,6085 @@
+// $ANTLR 3.4 Ceylon.g 2026-10-18 14:07:40
+ package com.redhat.ceylon.compiler.typechecker.parser; 
+
+import org.antlr.runtime.*;
+import java.util.Stack;
+import java.util.List;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.HashMap;
+
+@SuppressWarnings({"all", "warnings", "unchecked"})
+public class CeylonLexer extends Lexer {
+    public static final int EOF=-1;
+    public static final int ABSTRACTED_TYPE=4;
+    public static final int ADD_SPECIFY=5;
+    public static final int AIDENTIFIER=6;
+    public static final int ALIAS=7;
+    public static final int AND_OP=8;
+    public static final int AND_SPECIFY=9;
+    public static final int ASSEMBLY=10;
+    public static final int ASSERT=11;
+    public static final int ASSIGN=12;
+    public static final int ASTRING_LITERAL=13;
+    public static final int AVERBATIM_STRING=14;
+    public static final int BACKTICK=15;
+    public static final int BREAK=16;
+    public static final int BinaryDigit=17;
+    public static final int BinaryDigits=18;
+    public static final int CASE_CLAUSE=19;
+    public static final int CASE_TYPES=20;
+    public static final int CATCH_CLAUSE=21;
+    public static final int CHAR_LITERAL=22;
+    public static final int CLASS_DEFINITION=23;
+    public static final int COMMA=24;
+    public static final int COMPARE_OP=25;
+    public static final int COMPILER_ANNOTATION=26;
+    public static final int COMPLEMENT_OP=27;
+    public static final int COMPLEMENT_SPECIFY=28;
+    public static final int COMPUTE=29;
+    public static final int CONTINUE=30;
+    public static final int CharPart=31;
+    public static final int DECREMENT_OP=32;
+    public static final int DIFFERENCE_OP=33;
+    public static final int DIVIDE_SPECIFY=34;
+    public static final int DYNAMIC=35;
+    public static final int Digit=36;
+    public static final int Digits=37;
+    public static final int ELLIPSIS=38;
+    public static final int ELSE_CLAUSE=39;
+    public static final int ENTRY_OP=40;
+    public static final int EQUAL_OP=41;
+    public static final int EXISTS=42;
+    public static final int EXTENDS=43;
+    public static final int EscapeSequence=44;
+    public static final int Exponent=45;
+    public static final int FINALLY_CLAUSE=46;
+    public static final int FLOAT_LITERAL=47;
+    public static final int FOR_CLAUSE=48;
+    public static final int FUNCTION_MODIFIER=49;
+    public static final int FractionalMagnitude=50;
+    public static final int HexDigit=51;
+    public static final int HexDigits=52;
+    public static final int IDENTICAL_OP=53;
+    public static final int IF_CLAUSE=54;
+    public static final int IMPORT=55;
+    public static final int INCREMENT_OP=56;
+    public static final int INTERFACE_DEFINITION=57;
+    public static final int INTERSECTION_OP=58;
+    public static final int INTERSECT_SPECIFY=59;
+    public static final int IN_OP=60;
+    public static final int IS_OP=61;
+    public static final int IdentifierPart=62;
+    public static final int IdentifierStart=63;
+    public static final int LARGER_OP=64;
+    public static final int LARGE_AS_OP=65;
+    public static final int LBRACE=66;
+    public static final int LBRACKET=67;
+    public static final int LET=68;
+    public static final int LIDENTIFIER=69;
+    public static final int LINE_COMMENT=70;
+    public static final int LIdentifierPrefix=71;
+    public static final int LPAREN=72;
+    public static final int Letter=73;
+    public static final int MEMBER_OP=74;
+    public static final int MODULE=75;
+    public static final int MULTIPLY_SPECIFY=76;
+    public static final int MULTI_COMMENT=77;
+    public static final int Magnitude=78;
+    public static final int NATURAL_LITERAL=79;
+    public static final int NEW=80;
+    public static final int NONEMPTY=81;
+    public static final int NOT_EQUAL_OP=82;
+    public static final int NOT_OP=83;
+    public static final int OBJECT_DEFINITION=84;
+    public static final int OPTIONAL=85;
+    public static final int OR_OP=86;
+    public static final int OR_SPECIFY=87;
+    public static final int OUT=88;
+    public static final int OUTER=89;
+    public static final int PACKAGE=90;
+    public static final int PIDENTIFIER=91;
+    public static final int POWER_OP=92;
+    public static final int PRODUCT_OP=93;
+    public static final int QUOTIENT_OP=94;
+    public static final int RANGE_OP=95;
+    public static final int RBRACE=96;
+    public static final int RBRACKET=97;
+    public static final int REMAINDER_OP=98;
+    public static final int REMAINDER_SPECIFY=99;
+    public static final int RETURN=100;
+    public static final int RPAREN=101;
+    public static final int SAFE_MEMBER_OP=102;
+    public static final int SATISFIES=103;
+    public static final int SCALE_OP=104;
+    public static final int SEGMENT_OP=105;
+    public static final int SEMICOLON=106;
+    public static final int SMALLER_OP=107;
+    public static final int SMALL_AS_OP=108;
+    public static final int SPECIFY=109;
+    public static final int SPREAD_OP=110;
+    public static final int STRING_END=111;
+    public static final int STRING_LITERAL=112;
+    public static final int STRING_MID=113;
+    public static final int STRING_START=114;
+    public static final int SUBTRACT_SPECIFY=115;
+    public static final int SUM_OP=116;
+    public static final int SUPER=117;
+    public static final int SWITCH_CLAUSE=118;
+    public static final int StringPart=119;
+    public static final int THEN_CLAUSE=120;
+    public static final int THIS=121;
+    public static final int THROW=122;
+    public static final int TRY_CLAUSE=123;
+    public static final int TYPE_CONSTRAINT=124;
+    public static final int UIDENTIFIER=125;
+    public static final int UIdentifierPrefix=126;
+    public static final int UNION_OP=127;
+    public static final int UNION_SPECIFY=128;
+    public static final int VALUE_MODIFIER=129;
+    public static final int VERBATIM_STRING=130;
+    public static final int VOID_MODIFIER=131;
+    public static final int WHILE_CLAUSE=132;
+    public static final int WS=133;
+
+        private java.util.List<LexError> errors 
+                = new java.util.ArrayList<LexError>();
+        @Override public void displayRecognitionError(String[] tn,
+                RecognitionException re) {
+            errors.add(new LexError(this, re, tn));
+        }
+        public java.util.List<LexError> getErrors() {
+            return errors;
+        }
+
+
+    // delegates
+    // delegators
+    public Lexer[] getDelegates() {
+        return new Lexer[] {};
+    }
+
+    public CeylonLexer() {} 
+    public CeylonLexer(CharStream input) {
+        this(input, new RecognizerSharedState());
+    }
+    public CeylonLexer(CharStream input, RecognizerSharedState state) {
+        super(input,state);
+    }
+    public String getGrammarFileName() { return "Ceylon.g"; }
+
+    // $ANTLR start "Digits"
+    public final void mDigits() throws RecognitionException {
+        try {
+            // Ceylon.g:4476:5: ( Digit ( '_' | Digit )* )
+            // Ceylon.g:4476:7: Digit ( '_' | Digit )*
+            {
+            mDigit(); if (state.failed) return ;
+
+
+            // Ceylon.g:4476:13: ( '_' | Digit )*
+            loop1:
+            do {
+                int alt1=2;
+                int LA1_0 = input.LA(1);
+
+                if ( ((LA1_0 >= '0' && LA1_0 <= '9')||LA1_0=='_') ) {
+                    alt1=1;
+                }
+
+
+                switch (alt1) {
+            	case 1 :
+            	    // Ceylon.g:
+            	    {
+            	    if ( (input.LA(1) >= '0' && input.LA(1) <= '9')||input.LA(1)=='_' ) {
+            	        input.consume();
+            	        state.failed=false;
+            	    }
+            	    else {
+            	        if (state.backtracking>0) {state.failed=true; return ;}
+            	        MismatchedSetException mse = new MismatchedSetException(null,input);
+            	        recover(mse);
+            	        throw mse;
+            	    }
+
+
+            	    }
+            	    break;
+
+            	default :
+            	    break loop1;
+                }
+            } while (true);
+
+
+            }
+
+
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "Digits"
+
+    // $ANTLR start "HexDigits"
+    public final void mHexDigits() throws RecognitionException {
+        try {
+            // Ceylon.g:4481:5: ( HexDigit ( '_' | HexDigit )* )
+            // Ceylon.g:4481:7: HexDigit ( '_' | HexDigit )*
+            {
+            mHexDigit(); if (state.failed) return ;
+
+
+            // Ceylon.g:4481:16: ( '_' | HexDigit )*
+            loop2:
+            do {
+                int alt2=2;
+                int LA2_0 = input.LA(1);
+
+                if ( ((LA2_0 >= '0' && LA2_0 <= '9')||(LA2_0 >= 'A' && LA2_0 <= 'F')||LA2_0=='_'||(LA2_0 >= 'a' && LA2_0 <= 'f')) ) {
+                    alt2=1;
+                }
+
+
+                switch (alt2) {
+            	case 1 :
+            	    // Ceylon.g:
+            	    {
+            	    if ( (input.LA(1) >= '0' && input.LA(1) <= '9')||(input.LA(1) >= 'A' && input.LA(1) <= 'F')||input.LA(1)=='_'||(input.LA(1) >= 'a' && input.LA(1) <= 'f') ) {
+            	        input.consume();
+            	        state.failed=false;
+            	    }
+            	    else {
+            	        if (state.backtracking>0) {state.failed=true; return ;}
+            	        MismatchedSetException mse = new MismatchedSetException(null,input);
+            	        recover(mse);
+            	        throw mse;
+            	    }
+
+
+            	    }
+            	    break;
+
+            	default :
+            	    break loop2;
+                }
+            } while (true);
+
+
+            }
+
+
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "HexDigits"
+
+    // $ANTLR start "BinaryDigits"
+    public final void mBinaryDigits() throws RecognitionException {
+        try {
+            // Ceylon.g:4486:5: ( BinaryDigit ( '_' | BinaryDigit )* )
+            // Ceylon.g:4486:7: BinaryDigit ( '_' | BinaryDigit )*
+            {
+            mBinaryDigit(); if (state.failed) return ;
+
+
+            // Ceylon.g:4486:19: ( '_' | BinaryDigit )*
+            loop3:
+            do {
+                int alt3=2;
+                int LA3_0 = input.LA(1);
+
+                if ( ((LA3_0 >= '0' && LA3_0 <= '1')||LA3_0=='_') ) {
+                    alt3=1;
+                }
+
+
+                switch (alt3) {
+            	case 1 :
+            	    // Ceylon.g:
+            	    {
+            	    if ( (input.LA(1) >= '0' && input.LA(1) <= '1')||input.LA(1)=='_' ) {
+            	        input.consume();
+            	        state.failed=false;
+            	    }
+            	    else {
+            	        if (state.backtracking>0) {state.failed=true; return ;}
+            	        MismatchedSetException mse = new MismatchedSetException(null,input);
+            	        recover(mse);
+            	        throw mse;
+            	    }
+
+
+            	    }
+            	    break;
+
+            	default :
+            	    break loop3;
+                }
+            } while (true);
+
+
+            }
+
+
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "BinaryDigits"
+
+    // $ANTLR start "Exponent"
+    public final void mExponent() throws RecognitionException {
+        try {
+            // Ceylon.g:4491:5: ( ( 'e' | 'E' ) ( '+' | '-' )? ( Digit )* )
+            // Ceylon.g:4491:7: ( 'e' | 'E' ) ( '+' | '-' )? ( Digit )*
+            {
+            if ( input.LA(1)=='E'||input.LA(1)=='e' ) {
+                input.consume();
+                state.failed=false;
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return ;}
+                MismatchedSetException mse = new MismatchedSetException(null,input);
+                recover(mse);
+                throw mse;
+            }
+
+
+            // Ceylon.g:4491:21: ( '+' | '-' )?
+            int alt4=2;
+            int LA4_0 = input.LA(1);
+
+            if ( (LA4_0=='+'||LA4_0=='-') ) {
+                alt4=1;
+            }
+            switch (alt4) {
+                case 1 :
+                    // Ceylon.g:
+                    {
+                    if ( input.LA(1)=='+'||input.LA(1)=='-' ) {
+                        input.consume();
+                        state.failed=false;
+                    }
+                    else {
+                        if (state.backtracking>0) {state.failed=true; return ;}
+                        MismatchedSetException mse = new MismatchedSetException(null,input);
+                        recover(mse);
+                        throw mse;
+                    }
+
+
+                    }
+                    break;
+
+            }
+
+
+            // Ceylon.g:4491:36: ( Digit )*
+            loop5:
+            do {
+                int alt5=2;
+                int LA5_0 = input.LA(1);
+
+                if ( ((LA5_0 >= '0' && LA5_0 <= '9')) ) {
+                    alt5=1;
+                }
+
+
+                switch (alt5) {
+            	case 1 :
+            	    // Ceylon.g:
+            	    {
+            	    if ( (input.LA(1) >= '0' && input.LA(1) <= '9') ) {
+            	        input.consume();
+            	        state.failed=false;
+            	    }
+            	    else {
+            	        if (state.backtracking>0) {state.failed=true; return ;}
+            	        MismatchedSetException mse = new MismatchedSetException(null,input);
+            	        recover(mse);
+            	        throw mse;
+            	    }
+
+
+            	    }
+            	    break;
+
+            	default :
+            	    break loop5;
+                }
+            } while (true);
+
+
+            }
+
+
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "Exponent"
+
+    // $ANTLR start "Magnitude"
+    public final void mMagnitude() throws RecognitionException {
+        try {
+            // Ceylon.g:4496:5: ( 'k' | 'M' | 'G' | 'T' | 'P' )
+            // Ceylon.g:
+            {
+            if ( input.LA(1)=='G'||input.LA(1)=='M'||input.LA(1)=='P'||input.LA(1)=='T'||input.LA(1)=='k' ) {
+                input.consume();
+                state.failed=false;
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return ;}
+                MismatchedSetException mse = new MismatchedSetException(null,input);
+                recover(mse);
+                throw mse;
+            }
+
+
+            }
+
+
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "Magnitude"
+
+    // $ANTLR start "FractionalMagnitude"
+    public final void mFractionalMagnitude() throws RecognitionException {
+        try {
+            // Ceylon.g:4501:5: ( 'm' | 'u' | 'n' | 'p' | 'f' )
+            // Ceylon.g:
+            {
+            if ( input.LA(1)=='f'||(input.LA(1) >= 'm' && input.LA(1) <= 'n')||input.LA(1)=='p'||input.LA(1)=='u' ) {
+                input.consume();
+                state.failed=false;
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return ;}
+                MismatchedSetException mse = new MismatchedSetException(null,input);
+                recover(mse);
+                throw mse;
+            }
+
+
+            }
+
+
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "FractionalMagnitude"
+
+    // $ANTLR start "FLOAT_LITERAL"
+    public final void mFLOAT_LITERAL() throws RecognitionException {
+        try {
+            // Ceylon.g:4503:24: ()
+            // Ceylon.g:4503:25: 
+            {
+            }
+
+
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "FLOAT_LITERAL"
+
+    // $ANTLR start "NATURAL_LITERAL"
+    public final void mNATURAL_LITERAL() throws RecognitionException {
+        try {
+            int _type = NATURAL_LITERAL;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // Ceylon.g:4508:5: ( Digits ( ( '.' ( '0' .. '9' ) )=> '.' Digits ( Exponent | Magnitude | FractionalMagnitude )? | FractionalMagnitude | ( Magnitude )? ) | '#' HexDigits | '$' BinaryDigits )
+            int alt9=3;
+            switch ( input.LA(1) ) {
+            case '0':
+            case '1':
+            case '2':
+            case '3':
+            case '4':
+            case '5':
+            case '6':
+            case '7':
+            case '8':
+            case '9':
+                {
+                alt9=1;
+                }
+                break;
+            case '#':
+                {
+                alt9=2;
+                }
+                break;
+            case '$':
+                {
+                alt9=3;
+                }
+                break;
+            default:
+                if (state.backtracking>0) {state.failed=true; return ;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 9, 0, input);
+
+                throw nvae;
+
+            }
+
+            switch (alt9) {
+                case 1 :
+                    // Ceylon.g:4508:7: Digits ( ( '.' ( '0' .. '9' ) )=> '.' Digits ( Exponent | Magnitude | FractionalMagnitude )? | FractionalMagnitude | ( Magnitude )? )
+                    {
+                    mDigits(); if (state.failed) return ;
+
+
+                    // Ceylon.g:4509:7: ( ( '.' ( '0' .. '9' ) )=> '.' Digits ( Exponent | Magnitude | FractionalMagnitude )? | FractionalMagnitude | ( Magnitude )? )
+                    int alt8=3;
+                    int LA8_0 = input.LA(1);
+
+                    if ( (LA8_0=='.') && (synpred1_Ceylon())) {
+                        alt8=1;
+                    }
+                    else if ( (LA8_0=='f'||(LA8_0 >= 'm' && LA8_0 <= 'n')||LA8_0=='p'||LA8_0=='u') ) {
+                        alt8=2;
+                    }
+                    else {
+                        alt8=3;
+                    }
+                    switch (alt8) {
+                        case 1 :
+                            // Ceylon.g:4510:9: ( '.' ( '0' .. '9' ) )=> '.' Digits ( Exponent | Magnitude | FractionalMagnitude )?
+                            {
+                            match('.'); if (state.failed) return ;
+
+                            mDigits(); if (state.failed) return ;
+
+
+                            // Ceylon.g:4511:20: ( Exponent | Magnitude | FractionalMagnitude )?
+                            int alt6=4;
+                            switch ( input.LA(1) ) {
+                                case 'E':
+                                case 'e':
+                                    {
+                                    alt6=1;
+                                    }
+                                    break;
+                                case 'G':
+                                case 'M':
+                                case 'P':
+                                case 'T':
+                                case 'k':
+                                    {
+                                    alt6=2;
+                                    }
+                                    break;
+                                case 'f':
+                                case 'm':
+                                case 'n':
+                                case 'p':
+                                case 'u':
+                                    {
+                                    alt6=3;
+                                    }
+                                    break;
+                            }
+
+                            switch (alt6) {
+                                case 1 :
+                                    // Ceylon.g:4511:21: Exponent
+                                    {
+                                    mExponent(); if (state.failed) return ;
+
+
+                                    }
+                                    break;
+                                case 2 :
+                                    // Ceylon.g:4511:30: Magnitude
+                                    {
+                                    mMagnitude(); if (state.failed) return ;
+
+
+                                    }
+                                    break;
+                                case 3 :
+                                    // Ceylon.g:4511:40: FractionalMagnitude
+                                    {
+                                    mFractionalMagnitude(); if (state.failed) return ;
+
+
+                                    }
+                                    break;
+
+                            }
+
+
+                            if ( state.backtracking==0 ) { _type = FLOAT_LITERAL; }
+
+                            }
+                            break;
+                        case 2 :
+                            // Ceylon.g:4512:9: FractionalMagnitude
+                            {
+                            mFractionalMagnitude(); if (state.failed) return ;
+
+
+                            if ( state.backtracking==0 ) { _type = FLOAT_LITERAL; }
+
+                            }
+                            break;
+                        case 3 :
+                            // Ceylon.g:4513:9: ( Magnitude )?
+                            {
+                            // Ceylon.g:4513:9: ( Magnitude )?
+                            int alt7=2;
+                            int LA7_0 = input.LA(1);
+
+                            if ( (LA7_0=='G'||LA7_0=='M'||LA7_0=='P'||LA7_0=='T'||LA7_0=='k') ) {
+                                alt7=1;
+                            }
+                            switch (alt7) {
+                                case 1 :
+                                    // Ceylon.g:
+                                    {
+                                    if ( input.LA(1)=='G'||input.LA(1)=='M'||input.LA(1)=='P'||input.LA(1)=='T'||input.LA(1)=='k' ) {
+                                        input.consume();
+                                        state.failed=false;
+                                    }
+                                    else {
+                                        if (state.backtracking>0) {state.failed=true; return ;}
+                                        MismatchedSetException mse = new MismatchedSetException(null,input);
+                                        recover(mse);
+                                        throw mse;
+                                    }
+
+
+                                    }
+                                    break;
+
+                            }
+
+
+                            }
+                            break;
+
+                    }
+
+
+                    }
+                    break;
+                case 2 :
+                    // Ceylon.g:4515:7: '#' HexDigits
+                    {
+                    match('#'); if (state.failed) return ;
+
+                    mHexDigits(); if (state.failed) return ;
+
+
+                    }
+                    break;
+                case 3 :
+                    // Ceylon.g:4516:7: '$' BinaryDigits
+                    {
+                    match('$'); if (state.failed) return ;
+
+                    mBinaryDigits(); if (state.failed) return ;
+
+
+                    }
+                    break;
+
+            }
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "NATURAL_LITERAL"
+
+    // $ANTLR start "ASTRING_LITERAL"
+    public final void mASTRING_LITERAL() throws RecognitionException {
+        try {
+            // Ceylon.g:4519:25: ()
+            // Ceylon.g:4519:26: 
+            {
+            }
+
+
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "ASTRING_LITERAL"
+
+    // $ANTLR start "AVERBATIM_STRING"
+    public final void mAVERBATIM_STRING() throws RecognitionException {
+        try {
+            // Ceylon.g:4520:26: ()
+            // Ceylon.g:4520:27: 
+            {
+            }
+
+
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "AVERBATIM_STRING"
+
+    // $ANTLR start "CHAR_LITERAL"
+    public final void mCHAR_LITERAL() throws RecognitionException {
+        try {
+            int _type = CHAR_LITERAL;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // Ceylon.g:4523:5: ( '\\'' CharPart '\\'' )
+            // Ceylon.g:4523:9: '\\'' CharPart '\\''
+            {
+            match('\''); if (state.failed) return ;
+
+            mCharPart(); if (state.failed) return ;
+
+
+            match('\''); if (state.failed) return ;
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "CHAR_LITERAL"
+
+    // $ANTLR start "STRING_START"
+    public final void mSTRING_START() throws RecognitionException {
+        try {
+            // Ceylon.g:4526:22: ()
+            // Ceylon.g:4526:23: 
+            {
+            }
+
+
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "STRING_START"
+
+    // $ANTLR start "STRING_LITERAL"
+    public final void mSTRING_LITERAL() throws RecognitionException {
+        try {
+            int _type = STRING_LITERAL;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // Ceylon.g:4528:5: ( '\"' StringPart ( '\"' | '``' ( ( '`' ~ '`' )=> '`' )? )? )
+            // Ceylon.g:4528:9: '\"' StringPart ( '\"' | '``' ( ( '`' ~ '`' )=> '`' )? )?
+            {
+            match('\"'); if (state.failed) return ;
+
+            mStringPart(); if (state.failed) return ;
+
+
+            // Ceylon.g:4528:24: ( '\"' | '``' ( ( '`' ~ '`' )=> '`' )? )?
+            int alt11=3;
+            int LA11_0 = input.LA(1);
+
+            if ( (LA11_0=='\"') ) {
+                alt11=1;
+            }
+            else if ( (LA11_0=='`') ) {
+                alt11=2;
+            }
+            switch (alt11) {
+                case 1 :
+                    // Ceylon.g:4528:26: '\"'
+                    {
+                    match('\"'); if (state.failed) return ;
+
+                    }
+                    break;
+                case 2 :
+                    // Ceylon.g:4528:32: '``' ( ( '`' ~ '`' )=> '`' )?
+                    {
+                    match("``"); if (state.failed) return ;
+
+
+
+                    if ( state.backtracking==0 ) { _type = STRING_START; }
+
+                    // Ceylon.g:4528:63: ( ( '`' ~ '`' )=> '`' )?
+                    int alt10=2;
+                    int LA10_0 = input.LA(1);
+
+                    if ( (LA10_0=='`') && (synpred2_Ceylon())) {
+                        alt10=1;
+                    }
+                    switch (alt10) {
+                        case 1 :
+                            // Ceylon.g:4528:64: ( '`' ~ '`' )=> '`'
+                            {
+                            match('`'); if (state.failed) return ;
+
+                            }
+                            break;
+
+                    }
+
+
+                    }
+                    break;
+
+            }
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "STRING_LITERAL"
+
+    // $ANTLR start "STRING_MID"
+    public final void mSTRING_MID() throws RecognitionException {
+        try {
+            // Ceylon.g:4531:20: ()
+            // Ceylon.g:4531:21: 
+            {
+            }
+
+
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "STRING_MID"
+
+    // $ANTLR start "STRING_END"
+    public final void mSTRING_END() throws RecognitionException {
+        try {
+            int _type = STRING_END;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // Ceylon.g:4533:5: ( '``' StringPart ( '\"' | '``' ( ( '`' ~ '`' )=> '`' )? )? )
+            // Ceylon.g:4533:9: '``' StringPart ( '\"' | '``' ( ( '`' ~ '`' )=> '`' )? )?
+            {
+            match("``"); if (state.failed) return ;
+
+
+
+            mStringPart(); if (state.failed) return ;
+
+
+            // Ceylon.g:4533:25: ( '\"' | '``' ( ( '`' ~ '`' )=> '`' )? )?
+            int alt13=3;
+            int LA13_0 = input.LA(1);
+
+            if ( (LA13_0=='\"') ) {
+                alt13=1;
+            }
+            else if ( (LA13_0=='`') ) {
+                alt13=2;
+            }
+            switch (alt13) {
+                case 1 :
+                    // Ceylon.g:4533:27: '\"'
+                    {
+                    match('\"'); if (state.failed) return ;
+
+                    }
+                    break;
+                case 2 :
+                    // Ceylon.g:4533:33: '``' ( ( '`' ~ '`' )=> '`' )?
+                    {
+                    match("``"); if (state.failed) return ;
+
+
+
+                    if ( state.backtracking==0 ) { _type = STRING_MID; }
+
+                    // Ceylon.g:4533:62: ( ( '`' ~ '`' )=> '`' )?
+                    int alt12=2;
+                    int LA12_0 = input.LA(1);
+
+                    if ( (LA12_0=='`') && (synpred3_Ceylon())) {
+                        alt12=1;
+                    }
+                    switch (alt12) {
+                        case 1 :
+                            // Ceylon.g:4533:63: ( '`' ~ '`' )=> '`'
+                            {
+                            match('`'); if (state.failed) return ;
+
+                            }
+                            break;
+
+                    }
+
+
+                    }
+                    break;
+
+            }
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "STRING_END"
+
+    // $ANTLR start "VERBATIM_STRING"
+    public final void mVERBATIM_STRING() throws RecognitionException {
+        try {
+            int _type = VERBATIM_STRING;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // Ceylon.g:4537:5: ( '\"\"\"' (~ '\"' | '\"' ~ '\"' | '\"\"' ~ '\"' )* ( '\"' ( '\"' ( '\"' ( '\"' ( '\"' )? )? )? )? )? )
+            // Ceylon.g:4537:7: '\"\"\"' (~ '\"' | '\"' ~ '\"' | '\"\"' ~ '\"' )* ( '\"' ( '\"' ( '\"' ( '\"' ( '\"' )? )? )? )? )?
+            {
+            match("\"\"\""); if (state.failed) return ;
+
+
+
+            // Ceylon.g:4537:13: (~ '\"' | '\"' ~ '\"' | '\"\"' ~ '\"' )*
+            loop14:
+            do {
+                int alt14=4;
+                int LA14_0 = input.LA(1);
+
+                if ( (LA14_0=='\"') ) {
+                    int LA14_1 = input.LA(2);
+
+                    if ( ((LA14_1 >= '\u0000' && LA14_1 <= '!')||(LA14_1 >= '#' && LA14_1 <= '\uFFFF')) ) {
+                        alt14=2;
+                    }
+                    else if ( (LA14_1=='\"') ) {
+                        int LA14_5 = input.LA(3);
+
+                        if ( ((LA14_5 >= '\u0000' && LA14_5 <= '!')||(LA14_5 >= '#' && LA14_5 <= '\uFFFF')) ) {
+                            alt14=3;
+                        }
+
+
+                    }
+
+
+                }
+                else if ( ((LA14_0 >= '\u0000' && LA14_0 <= '!')||(LA14_0 >= '#' && LA14_0 <= '\uFFFF')) ) {
+                    alt14=1;
+                }
+
+
+                switch (alt14) {
+            	case 1 :
+            	    // Ceylon.g:4537:14: ~ '\"'
+            	    {
+            	    if ( (input.LA(1) >= '\u0000' && input.LA(1) <= '!')||(input.LA(1) >= '#' && input.LA(1) <= '\uFFFF') ) {
+            	        input.consume();
+            	        state.failed=false;
+            	    }
+            	    else {
+            	        if (state.backtracking>0) {state.failed=true; return ;}
+            	        MismatchedSetException mse = new MismatchedSetException(null,input);
+            	        recover(mse);
+            	        throw mse;
+            	    }
+
+
+            	    }
+            	    break;
+            	case 2 :
+            	    // Ceylon.g:4537:21: '\"' ~ '\"'
+            	    {
+            	    match('\"'); if (state.failed) return ;
+
+            	    if ( (input.LA(1) >= '\u0000' && input.LA(1) <= '!')||(input.LA(1) >= '#' && input.LA(1) <= '\uFFFF') ) {
+            	        input.consume();
+            	        state.failed=false;
+            	    }
+            	    else {
+            	        if (state.backtracking>0) {state.failed=true; return ;}
+            	        MismatchedSetException mse = new MismatchedSetException(null,input);
+            	        recover(mse);
+            	        throw mse;
+            	    }
+
+
+            	    }
+            	    break;
+            	case 3 :
+            	    // Ceylon.g:4537:32: '\"\"' ~ '\"'
+            	    {
+            	    match("\"\""); if (state.failed) return ;
+
+
+
+            	    if ( (input.LA(1) >= '\u0000' && input.LA(1) <= '!')||(input.LA(1) >= '#' && input.LA(1) <= '\uFFFF') ) {
+            	        input.consume();
+            	        state.failed=false;
+            	    }
+            	    else {
+            	        if (state.backtracking>0) {state.failed=true; return ;}
+            	        MismatchedSetException mse = new MismatchedSetException(null,input);
+            	        recover(mse);
+            	        throw mse;
+            	    }
+
+
+            	    }
+            	    break;
+
+            	default :
+            	    break loop14;
+                }
+            } while (true);
+
+
+            // Ceylon.g:4537:44: ( '\"' ( '\"' ( '\"' ( '\"' ( '\"' )? )? )? )? )?
+            int alt19=2;
+            int LA19_0 = input.LA(1);
+
+            if ( (LA19_0=='\"') ) {
+                alt19=1;
+            }
+            switch (alt19) {
+                case 1 :
+                    // Ceylon.g:4537:45: '\"' ( '\"' ( '\"' ( '\"' ( '\"' )? )? )? )?
+                    {
+                    match('\"'); if (state.failed) return ;
+
+                    // Ceylon.g:4537:49: ( '\"' ( '\"' ( '\"' ( '\"' )? )? )? )?
+                    int alt18=2;
+                    int LA18_0 = input.LA(1);
+
+                    if ( (LA18_0=='\"') ) {
+                        alt18=1;
+                    }
+                    switch (alt18) {
+                        case 1 :
+                            // Ceylon.g:4537:50: '\"' ( '\"' ( '\"' ( '\"' )? )? )?
+                            {
+                            match('\"'); if (state.failed) return ;
+
+                            // Ceylon.g:4537:54: ( '\"' ( '\"' ( '\"' )? )? )?
+                            int alt17=2;
+                            int LA17_0 = input.LA(1);
+
+                            if ( (LA17_0=='\"') ) {
+                                alt17=1;
+                            }
+                            switch (alt17) {
+                                case 1 :
+                                    // Ceylon.g:4537:55: '\"' ( '\"' ( '\"' )? )?
+                                    {
+                                    match('\"'); if (state.failed) return ;
+
+                                    // Ceylon.g:4537:59: ( '\"' ( '\"' )? )?
+                                    int alt16=2;
+                                    int LA16_0 = input.LA(1);
+
+                                    if ( (LA16_0=='\"') ) {
+                                        alt16=1;
+                                    }
+                                    switch (alt16) {
+                                        case 1 :
+                                            // Ceylon.g:4537:60: '\"' ( '\"' )?
+                                            {
+                                            match('\"'); if (state.failed) return ;
+
+                                            // Ceylon.g:4537:64: ( '\"' )?
+                                            int alt15=2;
+                                            int LA15_0 = input.LA(1);
+
+                                            if ( (LA15_0=='\"') ) {
+                                                alt15=1;
+                                            }
+                                            switch (alt15) {
+                                                case 1 :
+                                                    // Ceylon.g:4537:64: '\"'
+                                                    {
+                                                    match('\"'); if (state.failed) return ;
+
+                                                    }
+                                                    break;
+
+                                            }
+
+
+                                            }
+                                            break;
+
+                                    }
+
+
+                                    }
+                                    break;
+
+                            }
+
+
+                            }
+                            break;
+
+                    }
+
+
+                    }
+                    break;
+
+            }
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "VERBATIM_STRING"
+
+    // $ANTLR start "CharPart"
+    public final void mCharPart() throws RecognitionException {
+        try {
+            // Ceylon.g:4549:5: ( (~ ( '\\\\' | '\\'' ) | EscapeSequence )* )
+            // Ceylon.g:4549:7: (~ ( '\\\\' | '\\'' ) | EscapeSequence )*
+            {
+            // Ceylon.g:4549:7: (~ ( '\\\\' | '\\'' ) | EscapeSequence )*
+            loop20:
+            do {
+                int alt20=3;
+                int LA20_0 = input.LA(1);
+
+                if ( ((LA20_0 >= '\u0000' && LA20_0 <= '&')||(LA20_0 >= '(' && LA20_0 <= '[')||(LA20_0 >= ']' && LA20_0 <= '\uFFFF')) ) {
+                    alt20=1;
+                }
+                else if ( (LA20_0=='\\') ) {
+                    alt20=2;
+                }
+
+
+                switch (alt20) {
+            	case 1 :
+            	    // Ceylon.g:4549:9: ~ ( '\\\\' | '\\'' )
+            	    {
+            	    if ( (input.LA(1) >= '\u0000' && input.LA(1) <= '&')||(input.LA(1) >= '(' && input.LA(1) <= '[')||(input.LA(1) >= ']' && input.LA(1) <= '\uFFFF') ) {
+            	        input.consume();
+            	        state.failed=false;
+            	    }
+            	    else {
+            	        if (state.backtracking>0) {state.failed=true; return ;}
+            	        MismatchedSetException mse = new MismatchedSetException(null,input);
+            	        recover(mse);
+            	        throw mse;
+            	    }
+
+
+            	    }
+            	    break;
+            	case 2 :
+            	    // Ceylon.g:4549:26: EscapeSequence
+            	    {
+            	    mEscapeSequence(); if (state.failed) return ;
+
+
+            	    }
+            	    break;
+
+            	default :
+            	    break loop20;
+                }
+            } while (true);
+
+
+            }
+
+
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "CharPart"
+
+    // $ANTLR start "StringPart"
+    public final void mStringPart() throws RecognitionException {
+        try {
+            // Ceylon.g:4562:5: ( (~ ( '\\\\' | '\"' | '`' ) | ( ( '`' ~ '`' )=> '`' ) | EscapeSequence )* )
+            // Ceylon.g:4562:7: (~ ( '\\\\' | '\"' | '`' ) | ( ( '`' ~ '`' )=> '`' ) | EscapeSequence )*
+            {
+            // Ceylon.g:4562:7: (~ ( '\\\\' | '\"' | '`' ) | ( ( '`' ~ '`' )=> '`' ) | EscapeSequence )*
+            loop21:
+            do {
+                int alt21=4;
+                int LA21_0 = input.LA(1);
+
+                if ( ((LA21_0 >= '\u0000' && LA21_0 <= '!')||(LA21_0 >= '#' && LA21_0 <= '[')||(LA21_0 >= ']' && LA21_0 <= '_')||(LA21_0 >= 'a' && LA21_0 <= '\uFFFF')) ) {
+                    alt21=1;
+                }
+                else if ( (LA21_0=='`') && (synpred4_Ceylon())) {
+                    alt21=2;
+                }
+                else if ( (LA21_0=='\\') ) {
+                    alt21=3;
+                }
+
+
+                switch (alt21) {
+            	case 1 :
+            	    // Ceylon.g:4562:9: ~ ( '\\\\' | '\"' | '`' )
+            	    {
+            	    if ( (input.LA(1) >= '\u0000' && input.LA(1) <= '!')||(input.LA(1) >= '#' && input.LA(1) <= '[')||(input.LA(1) >= ']' && input.LA(1) <= '_')||(input.LA(1) >= 'a' && input.LA(1) <= '\uFFFF') ) {
+            	        input.consume();
+            	        state.failed=false;
+            	    }
+            	    else {
+            	        if (state.backtracking>0) {state.failed=true; return ;}
+            	        MismatchedSetException mse = new MismatchedSetException(null,input);
+            	        recover(mse);
+            	        throw mse;
+            	    }
+
+
+            	    }
+            	    break;
+            	case 2 :
+            	    // Ceylon.g:4562:31: ( ( '`' ~ '`' )=> '`' )
+            	    {
+            	    // Ceylon.g:4562:31: ( ( '`' ~ '`' )=> '`' )
+            	    // Ceylon.g:4562:33: ( '`' ~ '`' )=> '`'
+            	    {
+            	    match('`'); if (state.failed) return ;
+
+            	    }
+
+
+            	    }
+            	    break;
+            	case 3 :
+            	    // Ceylon.g:4562:55: EscapeSequence
+            	    {
+            	    mEscapeSequence(); if (state.failed) return ;
+
+
+            	    }
+            	    break;
+
+            	default :
+            	    break loop21;
+                }
+            } while (true);
+
+
+            }
+
+
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "StringPart"
+
+    // $ANTLR start "EscapeSequence"
+    public final void mEscapeSequence() throws RecognitionException {
+        try {
+            // Ceylon.g:4567:5: ( '\\\\' (~ '{' | '{' (~ '}' )* ( '}' )? )? )
+            // Ceylon.g:4567:9: '\\\\' (~ '{' | '{' (~ '}' )* ( '}' )? )?
+            {
+            match('\\'); if (state.failed) return ;
+
+            // Ceylon.g:4568:9: (~ '{' | '{' (~ '}' )* ( '}' )? )?
+            int alt24=3;
+            int LA24_0 = input.LA(1);
+
+            if ( ((LA24_0 >= '\u0000' && LA24_0 <= 'z')||(LA24_0 >= '|' && LA24_0 <= '\uFFFF')) ) {
+                alt24=1;
+            }
+            else if ( (LA24_0=='{') ) {
+                alt24=2;
+            }
+            switch (alt24) {
+                case 1 :
+                    // Ceylon.g:4568:11: ~ '{'
+                    {
+                    if ( (input.LA(1) >= '\u0000' && input.LA(1) <= 'z')||(input.LA(1) >= '|' && input.LA(1) <= '\uFFFF') ) {
+                        input.consume();
+                        state.failed=false;
+                    }
+                    else {
+                        if (state.backtracking>0) {state.failed=true; return ;}
+                        MismatchedSetException mse = new MismatchedSetException(null,input);
+                        recover(mse);
+                        throw mse;
+                    }
+
+
+                    }
+                    break;
+                case 2 :
+                    // Ceylon.g:4568:18: '{' (~ '}' )* ( '}' )?
+                    {
+                    match('{'); if (state.failed) return ;
+
+                    // Ceylon.g:4568:22: (~ '}' )*
+                    loop22:
+                    do {
+                        int alt22=2;
+                        int LA22_0 = input.LA(1);
+
+                        if ( ((LA22_0 >= '\u0000' && LA22_0 <= '|')||(LA22_0 >= '~' && LA22_0 <= '\uFFFF')) ) {
+                            alt22=1;
+                        }
+
+
+                        switch (alt22) {
+                    	case 1 :
+                    	    // Ceylon.g:
+                    	    {
+                    	    if ( (input.LA(1) >= '\u0000' && input.LA(1) <= '|')||(input.LA(1) >= '~' && input.LA(1) <= '\uFFFF') ) {
+                    	        input.consume();
+                    	        state.failed=false;
+                    	    }
+                    	    else {
+                    	        if (state.backtracking>0) {state.failed=true; return ;}
+                    	        MismatchedSetException mse = new MismatchedSetException(null,input);
+                    	        recover(mse);
+                    	        throw mse;
+                    	    }
+
+
+                    	    }
+                    	    break;
+
+                    	default :
+                    	    break loop22;
+                        }
+                    } while (true);
+
+
+                    // Ceylon.g:4568:30: ( '}' )?
+                    int alt23=2;
+                    int LA23_0 = input.LA(1);
+
+                    if ( (LA23_0=='}') ) {
+                        alt23=1;
+                    }
+                    switch (alt23) {
+                        case 1 :
+                            // Ceylon.g:4568:30: '}'
+                            {
+                            match('}'); if (state.failed) return ;
+
+                            }
+                            break;
+
+                    }
+
+
+                    }
+                    break;
+
+            }
+
+
+            }
+
+
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "EscapeSequence"
+
+    // $ANTLR start "WS"
+    public final void mWS() throws RecognitionException {
+        try {
+            int _type = WS;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // Ceylon.g:4571:5: ( ( ' ' | '\\r' | '\\t' | '\\f' | '\\n' )+ )
+            // Ceylon.g:4571:9: ( ' ' | '\\r' | '\\t' | '\\f' | '\\n' )+
+            {
+            // Ceylon.g:4571:9: ( ' ' | '\\r' | '\\t' | '\\f' | '\\n' )+
+            int cnt25=0;
+            loop25:
+            do {
+                int alt25=2;
+                int LA25_0 = input.LA(1);
+
+                if ( ((LA25_0 >= '\t' && LA25_0 <= '\n')||(LA25_0 >= '\f' && LA25_0 <= '\r')||LA25_0==' ') ) {
+                    alt25=1;
+                }
+
+
+                switch (alt25) {
+            	case 1 :
+            	    // Ceylon.g:
+            	    {
+            	    if ( (input.LA(1) >= '\t' && input.LA(1) <= '\n')||(input.LA(1) >= '\f' && input.LA(1) <= '\r')||input.LA(1)==' ' ) {
+            	        input.consume();
+            	        state.failed=false;
+            	    }
+            	    else {
+            	        if (state.backtracking>0) {state.failed=true; return ;}
+            	        MismatchedSetException mse = new MismatchedSetException(null,input);
+            	        recover(mse);
+            	        throw mse;
+            	    }
+
+
+            	    }
+            	    break;
+
+            	default :
+            	    if ( cnt25 >= 1 ) break loop25;
+            	    if (state.backtracking>0) {state.failed=true; return ;}
+                        EarlyExitException eee =
+                            new EarlyExitException(25, input);
+                        throw eee;
+                }
+                cnt25++;
+            } while (true);
+
+
+            if ( state.backtracking==0 ) {
+                        //skip();
+                        _channel = HIDDEN;
+                    }
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "WS"
+
+    // $ANTLR start "LINE_COMMENT"
+    public final void mLINE_COMMENT() throws RecognitionException {
+        try {
+            int _type = LINE_COMMENT;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // Ceylon.g:4585:5: ( ( '//' | '#!' ) (~ ( '\\n' | '\\r' ) )* ( '\\r\\n' | '\\r' | '\\n' )? )
+            // Ceylon.g:4585:9: ( '//' | '#!' ) (~ ( '\\n' | '\\r' ) )* ( '\\r\\n' | '\\r' | '\\n' )?
+            {
+            // Ceylon.g:4585:9: ( '//' | '#!' )
+            int alt26=2;
+            int LA26_0 = input.LA(1);
+
+            if ( (LA26_0=='/') ) {
+                alt26=1;
+            }
+            else if ( (LA26_0=='#') ) {
+                alt26=2;
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return ;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 26, 0, input);
+
+                throw nvae;
+
+            }
+            switch (alt26) {
+                case 1 :
+                    // Ceylon.g:4585:10: '//'
+                    {
+                    match("//"); if (state.failed) return ;
+
+
+
+                    }
+                    break;
+                case 2 :
+                    // Ceylon.g:4585:15: '#!'
+                    {
+                    match("#!"); if (state.failed) return ;
+
+
+
+                    }
+                    break;
+
+            }
+
+
+            // Ceylon.g:4585:21: (~ ( '\\n' | '\\r' ) )*
+            loop27:
+            do {
+                int alt27=2;
+                int LA27_0 = input.LA(1);
+
+                if ( ((LA27_0 >= '\u0000' && LA27_0 <= '\t')||(LA27_0 >= '\u000B' && LA27_0 <= '\f')||(LA27_0 >= '\u000E' && LA27_0 <= '\uFFFF')) ) {
+                    alt27=1;
+                }
+
+
+                switch (alt27) {
+            	case 1 :
+            	    // Ceylon.g:
+            	    {
+            	    if ( (input.LA(1) >= '\u0000' && input.LA(1) <= '\t')||(input.LA(1) >= '\u000B' && input.LA(1) <= '\f')||(input.LA(1) >= '\u000E' && input.LA(1) <= '\uFFFF') ) {
+            	        input.consume();
+            	        state.failed=false;
+            	    }
+            	    else {
+            	        if (state.backtracking>0) {state.failed=true; return ;}
+            	        MismatchedSetException mse = new MismatchedSetException(null,input);
+            	        recover(mse);
+            	        throw mse;
+            	    }
+
+
+            	    }
+            	    break;
+
+            	default :
+            	    break loop27;
+                }
+            } while (true);
+
+
+            // Ceylon.g:4585:36: ( '\\r\\n' | '\\r' | '\\n' )?
+            int alt28=4;
+            int LA28_0 = input.LA(1);
+
+            if ( (LA28_0=='\r') ) {
+                int LA28_1 = input.LA(2);
+
+                if ( (LA28_1=='\n') ) {
+                    alt28=1;
+                }
+            }
+            else if ( (LA28_0=='\n') ) {
+                alt28=3;
+            }
+            switch (alt28) {
+                case 1 :
+                    // Ceylon.g:4585:37: '\\r\\n'
+                    {
+                    match("\r\n"); if (state.failed) return ;
+
+
+
+                    }
+                    break;
+                case 2 :
+                    // Ceylon.g:4585:46: '\\r'
+                    {
+                    match('\r'); if (state.failed) return ;
+
+                    }
+                    break;
+                case 3 :
+                    // Ceylon.g:4585:53: '\\n'
+                    {
+                    match('\n'); if (state.failed) return ;
+
+                    }
+                    break;
+
+            }
+
+
+            if ( state.backtracking==0 ) {
+                        _channel = HIDDEN;
+                    }
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "LINE_COMMENT"
+
+    // $ANTLR start "MULTI_COMMENT"
+    public final void mMULTI_COMMENT() throws RecognitionException {
+        try {
+            int _type = MULTI_COMMENT;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // Ceylon.g:4592:5: ( '/*' (~ ( '/' | '*' ) | ( '/' ~ '*' )=> '/' | ( '*' ~ '/' )=> '*' | MULTI_COMMENT )* ( '*/' )? )
+            // Ceylon.g:4592:9: '/*' (~ ( '/' | '*' ) | ( '/' ~ '*' )=> '/' | ( '*' ~ '/' )=> '*' | MULTI_COMMENT )* ( '*/' )?
+            {
+            match("/*"); if (state.failed) return ;
+
+
+
+            // Ceylon.g:4593:9: (~ ( '/' | '*' ) | ( '/' ~ '*' )=> '/' | ( '*' ~ '/' )=> '*' | MULTI_COMMENT )*
+            loop29:
+            do {
+                int alt29=5;
+                int LA29_0 = input.LA(1);
+
+                if ( (LA29_0=='*') ) {
+                    int LA29_1 = input.LA(2);
+
+                    if ( (LA29_1=='/') ) {
+                        int LA29_5 = input.LA(3);
+
+                        if ( (synpred6_Ceylon()) ) {
+                            alt29=3;
+                        }
+
+
+                    }
+                    else if ( (LA29_1=='*') && (synpred6_Ceylon())) {
+                        alt29=3;
+                    }
+                    else if ( ((LA29_1 >= '\u0000' && LA29_1 <= ')')||(LA29_1 >= '+' && LA29_1 <= '.')||(LA29_1 >= '0' && LA29_1 <= '\uFFFF')) && (synpred6_Ceylon())) {
+                        alt29=3;
+                    }
+
+                    else {
+                        alt29=3;
+                    }
+
+
+                }
+                else if ( ((LA29_0 >= '\u0000' && LA29_0 <= ')')||(LA29_0 >= '+' && LA29_0 <= '.')||(LA29_0 >= '0' && LA29_0 <= '\uFFFF')) ) {
+                    alt29=1;
+                }
+                else if ( (LA29_0=='/') ) {
+                    int LA29_4 = input.LA(2);
+
+                    if ( (LA29_4=='*') ) {
+                        int LA29_9 = input.LA(3);
+
+                        if ( (synpred5_Ceylon()) ) {
+                            alt29=2;
+                        }
+                        else if ( (true) ) {
+                            alt29=4;
+                        }
+
+
+                    }
+                    else if ( ((LA29_4 >= '\u0000' && LA29_4 <= ')')||(LA29_4 >= '+' && LA29_4 <= '.')||(LA29_4 >= '0' && LA29_4 <= '\uFFFF')) && (synpred5_Ceylon())) {
+                        alt29=2;
+                    }
+                    else if ( (LA29_4=='/') && (synpred5_Ceylon())) {
+                        alt29=2;
+                    }
+
+                    else {
+                        alt29=2;
+                    }
+
+
+                }
+
+
+                switch (alt29) {
+            	case 1 :
+            	    // Ceylon.g:4593:14: ~ ( '/' | '*' )
+            	    {
+            	    if ( (input.LA(1) >= '\u0000' && input.LA(1) <= ')')||(input.LA(1) >= '+' && input.LA(1) <= '.')||(input.LA(1) >= '0' && input.LA(1) <= '\uFFFF') ) {
+            	        input.consume();
+            	        state.failed=false;
+            	    }
+            	    else {
+            	        if (state.backtracking>0) {state.failed=true; return ;}
+            	        MismatchedSetException mse = new MismatchedSetException(null,input);
+            	        recover(mse);
+            	        throw mse;
+            	    }
+
+
+            	    }
+            	    break;
+            	case 2 :
+            	    // Ceylon.g:4594:14: ( '/' ~ '*' )=> '/'
+            	    {
+            	    match('/'); if (state.failed) return ;
+
+            	    }
+            	    break;
+            	case 3 :
+            	    // Ceylon.g:4595:14: ( '*' ~ '/' )=> '*'
+            	    {
+            	    match('*'); if (state.failed) return ;
+
+            	    }
+            	    break;
+            	case 4 :
+            	    // Ceylon.g:4596:14: MULTI_COMMENT
+            	    {
+            	    mMULTI_COMMENT(); if (state.failed) return ;
+
+
+            	    }
+            	    break;
+
+            	default :
+            	    break loop29;
+                }
+            } while (true);
+
+
+            // Ceylon.g:4598:9: ( '*/' )?
+            int alt30=2;
+            int LA30_0 = input.LA(1);
+
+            if ( (LA30_0=='*') ) {
+                alt30=1;
+            }
+            switch (alt30) {
+                case 1 :
+                    // Ceylon.g:4598:9: '*/'
+                    {
+                    match("*/"); if (state.failed) return ;
+
+
+
+                    }
+                    break;
+
+            }
+
+
+            if ( state.backtracking==0 ) {
+                        _channel = HIDDEN;
+                    }
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "MULTI_COMMENT"
+
+    // $ANTLR start "BACKTICK"
+    public final void mBACKTICK() throws RecognitionException {
+        try {
+            int _type = BACKTICK;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // Ceylon.g:4606:5: ( '`' )
+            // Ceylon.g:4606:7: '`'
+            {
+            match('`'); if (state.failed) return ;
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "BACKTICK"
+
+    // $ANTLR start "ABSTRACTED_TYPE"
+    public final void mABSTRACTED_TYPE() throws RecognitionException {
+        try {
+            int _type = ABSTRACTED_TYPE;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // Ceylon.g:4616:5: ( 'abstracts' )
+            // Ceylon.g:4616:9: 'abstracts'
+            {
+            match("abstracts"); if (state.failed) return ;
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "ABSTRACTED_TYPE"
+
+    // $ANTLR start "ALIAS"
+    public final void mALIAS() throws RecognitionException {
+        try {
+            int _type = ALIAS;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // Ceylon.g:4620:5: ( 'alias' )
+            // Ceylon.g:4620:9: 'alias'
+            {
+            match("alias"); if (state.failed) return ;
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "ALIAS"
+
+    // $ANTLR start "ASSEMBLY"
+    public final void mASSEMBLY() throws RecognitionException {
+        try {
+            int _type = ASSEMBLY;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // Ceylon.g:4624:5: ( 'assembly' )
+            // Ceylon.g:4624:7: 'assembly'
+            {
+            match("assembly"); if (state.failed) return ;
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "ASSEMBLY"
+
+    // $ANTLR start "ASSERT"
+    public final void mASSERT() throws RecognitionException {
+        try {
+            int _type = ASSERT;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // Ceylon.g:4628:5: ( 'assert' )
+            // Ceylon.g:4628:7: 'assert'
+            {
+            match("assert"); if (state.failed) return ;
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "ASSERT"
+
+    // $ANTLR start "ASSIGN"
+    public final void mASSIGN() throws RecognitionException {
+        try {
+            int _type = ASSIGN;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // Ceylon.g:4632:5: ( 'assign' )
+            // Ceylon.g:4632:9: 'assign'
+            {
+            match("assign"); if (state.failed) return ;
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "ASSIGN"
+
+    // $ANTLR start "BREAK"
+    public final void mBREAK() throws RecognitionException {
+        try {
+            int _type = BREAK;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // Ceylon.g:4636:5: ( 'break' )
+            // Ceylon.g:4636:9: 'break'
+            {
+            match("break"); if (state.failed) return ;
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "BREAK"
+
+    // $ANTLR start "CASE_CLAUSE"
+    public final void mCASE_CLAUSE() throws RecognitionException {
+        try {
+            int _type = CASE_CLAUSE;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // Ceylon.g:4640:5: ( 'case' )
+            // Ceylon.g:4640:9: 'case'
+            {
+            match("case"); if (state.failed) return ;
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "CASE_CLAUSE"
+
+    // $ANTLR start "CATCH_CLAUSE"
+    public final void mCATCH_CLAUSE() throws RecognitionException {
+        try {
+            int _type = CATCH_CLAUSE;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // Ceylon.g:4644:5: ( 'catch' )
+            // Ceylon.g:4644:9: 'catch'
+            {
+            match("catch"); if (state.failed) return ;
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "CATCH_CLAUSE"
+
+    // $ANTLR start "CLASS_DEFINITION"
+    public final void mCLASS_DEFINITION() throws RecognitionException {
+        try {
+            int _type = CLASS_DEFINITION;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // Ceylon.g:4648:5: ( 'class' )
+            // Ceylon.g:4648:9: 'class'
+            {
+            match("class"); if (state.failed) return ;
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "CLASS_DEFINITION"
+
+    // $ANTLR start "CONTINUE"
+    public final void mCONTINUE() throws RecognitionException {
+        try {
+            int _type = CONTINUE;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // Ceylon.g:4652:5: ( 'continue' )
+            // Ceylon.g:4652:9: 'continue'
+            {
+            match("continue"); if (state.failed) return ;
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "CONTINUE"
+
+    // $ANTLR start "DYNAMIC"
+    public final void mDYNAMIC() throws RecognitionException {
+        try {
+            int _type = DYNAMIC;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // Ceylon.g:4656:5: ( 'dynamic' )
+            // Ceylon.g:4656:9: 'dynamic'
+            {
+            match("dynamic"); if (state.failed) return ;
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "DYNAMIC"
+
+    // $ANTLR start "ELSE_CLAUSE"
+    public final void mELSE_CLAUSE() throws RecognitionException {
+        try {
+            int _type = ELSE_CLAUSE;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // Ceylon.g:4660:5: ( 'else' )
+            // Ceylon.g:4660:9: 'else'
+            {
+            match("else"); if (state.failed) return ;
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "ELSE_CLAUSE"
+
+    // $ANTLR start "EXISTS"
+    public final void mEXISTS() throws RecognitionException {
+        try {
+            int _type = EXISTS;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // Ceylon.g:4664:5: ( 'exists' )
+            // Ceylon.g:4664:9: 'exists'
+            {
+            match("exists"); if (state.failed) return ;
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "EXISTS"
+
+    // $ANTLR start "EXTENDS"
+    public final void mEXTENDS() throws RecognitionException {
+        try {
+            int _type = EXTENDS;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // Ceylon.g:4668:5: ( 'extends' )
+            // Ceylon.g:4668:9: 'extends'
+            {
+            match("extends"); if (state.failed) return ;
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "EXTENDS"
+
+    // $ANTLR start "FINALLY_CLAUSE"
+    public final void mFINALLY_CLAUSE() throws RecognitionException {
+        try {
+            int _type = FINALLY_CLAUSE;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // Ceylon.g:4672:5: ( 'finally' )
+            // Ceylon.g:4672:9: 'finally'
+            {
+            match("finally"); if (state.failed) return ;
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "FINALLY_CLAUSE"
+
+    // $ANTLR start "FOR_CLAUSE"
+    public final void mFOR_CLAUSE() throws RecognitionException {
+        try {
+            int _type = FOR_CLAUSE;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // Ceylon.g:4676:5: ( 'for' )
+            // Ceylon.g:4676:9: 'for'
+            {
+            match("for"); if (state.failed) return ;
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "FOR_CLAUSE"
+
+    // $ANTLR start "FUNCTION_MODIFIER"
+    public final void mFUNCTION_MODIFIER() throws RecognitionException {
+        try {
+            int _type = FUNCTION_MODIFIER;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // Ceylon.g:4680:5: ( 'function' )
+            // Ceylon.g:4680:9: 'function'
+            {
+            match("function"); if (state.failed) return ;
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "FUNCTION_MODIFIER"
+
+    // $ANTLR start "TYPE_CONSTRAINT"
+    public final void mTYPE_CONSTRAINT() throws RecognitionException {
+        try {
+            int _type = TYPE_CONSTRAINT;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // Ceylon.g:4684:5: ( 'given' )
+            // Ceylon.g:4684:9: 'given'
+            {
+            match("given"); if (state.failed) return ;
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "TYPE_CONSTRAINT"
+
+    // $ANTLR start "IF_CLAUSE"
+    public final void mIF_CLAUSE() throws RecognitionException {
+        try {
+            int _type = IF_CLAUSE;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // Ceylon.g:4688:5: ( 'if' )
+            // Ceylon.g:4688:9: 'if'
+            {
+            match("if"); if (state.failed) return ;
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "IF_CLAUSE"
+
+    // $ANTLR start "IMPORT"
+    public final void mIMPORT() throws RecognitionException {
+        try {
+            int _type = IMPORT;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // Ceylon.g:4692:5: ( 'import' )
+            // Ceylon.g:4692:9: 'import'
+            {
+            match("import"); if (state.failed) return ;
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "IMPORT"
+
+    // $ANTLR start "IN_OP"
+    public final void mIN_OP() throws RecognitionException {
+        try {
+            int _type = IN_OP;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // Ceylon.g:4696:5: ( 'in' )
+            // Ceylon.g:4696:9: 'in'
+            {
+            match("in"); if (state.failed) return ;
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "IN_OP"
+
+    // $ANTLR start "INTERFACE_DEFINITION"
+    public final void mINTERFACE_DEFINITION() throws RecognitionException {
+        try {
+            int _type = INTERFACE_DEFINITION;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // Ceylon.g:4700:5: ( 'interface' )
+            // Ceylon.g:4700:9: 'interface'
+            {
+            match("interface"); if (state.failed) return ;
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "INTERFACE_DEFINITION"
+
+    // $ANTLR start "IS_OP"
+    public final void mIS_OP() throws RecognitionException {
+        try {
+            int _type = IS_OP;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // Ceylon.g:4704:5: ( 'is' )
+            // Ceylon.g:4704:9: 'is'
+            {
+            match("is"); if (state.failed) return ;
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "IS_OP"
+
+    // $ANTLR start "LET"
+    public final void mLET() throws RecognitionException {
+        try {
+            int _type = LET;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // Ceylon.g:4708:5: ( 'let' )
+            // Ceylon.g:4708:9: 'let'
+            {
+            match("let"); if (state.failed) return ;
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "LET"
+
+    // $ANTLR start "MODULE"
+    public final void mMODULE() throws RecognitionException {
+        try {
+            int _type = MODULE;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // Ceylon.g:4712:5: ( 'module' )
+            // Ceylon.g:4712:9: 'module'
+            {
+            match("module"); if (state.failed) return ;
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "MODULE"
+
+    // $ANTLR start "NEW"
+    public final void mNEW() throws RecognitionException {
+        try {
+            int _type = NEW;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // Ceylon.g:4716:5: ( 'new' )
+            // Ceylon.g:4716:9: 'new'
+            {
+            match("new"); if (state.failed) return ;
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "NEW"
+
+    // $ANTLR start "NONEMPTY"
+    public final void mNONEMPTY() throws RecognitionException {
+        try {
+            int _type = NONEMPTY;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // Ceylon.g:4720:5: ( 'nonempty' )
+            // Ceylon.g:4720:9: 'nonempty'
+            {
+            match("nonempty"); if (state.failed) return ;
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "NONEMPTY"
+
+    // $ANTLR start "OBJECT_DEFINITION"
+    public final void mOBJECT_DEFINITION() throws RecognitionException {
+        try {
+            int _type = OBJECT_DEFINITION;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // Ceylon.g:4724:5: ( 'object' )
+            // Ceylon.g:4724:9: 'object'
+            {
+            match("object"); if (state.failed) return ;
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "OBJECT_DEFINITION"
+
+    // $ANTLR start "CASE_TYPES"
+    public final void mCASE_TYPES() throws RecognitionException {
+        try {
+            int _type = CASE_TYPES;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // Ceylon.g:4728:5: ( 'of' )
+            // Ceylon.g:4728:9: 'of'
+            {
+            match("of"); if (state.failed) return ;
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "CASE_TYPES"
+
+    // $ANTLR start "OUT"
+    public final void mOUT() throws RecognitionException {
+        try {
+            int _type = OUT;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // Ceylon.g:4732:5: ( 'out' )
+            // Ceylon.g:4732:9: 'out'
+            {
+            match("out"); if (state.failed) return ;
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "OUT"
+
+    // $ANTLR start "OUTER"
+    public final void mOUTER() throws RecognitionException {
+        try {
+            int _type = OUTER;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // Ceylon.g:4736:5: ( 'outer' )
+            // Ceylon.g:4736:9: 'outer'
+            {
+            match("outer"); if (state.failed) return ;
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "OUTER"
+
+    // $ANTLR start "PACKAGE"
+    public final void mPACKAGE() throws RecognitionException {
+        try {
+            int _type = PACKAGE;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // Ceylon.g:4740:5: ( 'package' )
+            // Ceylon.g:4740:9: 'package'
+            {
+            match("package"); if (state.failed) return ;
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "PACKAGE"
+
+    // $ANTLR start "RETURN"
+    public final void mRETURN() throws RecognitionException {
+        try {
+            int _type = RETURN;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // Ceylon.g:4744:5: ( 'return' )
+            // Ceylon.g:4744:9: 'return'
+            {
+            match("return"); if (state.failed) return ;
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "RETURN"
+
+    // $ANTLR start "SATISFIES"
+    public final void mSATISFIES() throws RecognitionException {
+        try {
+            int _type = SATISFIES;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // Ceylon.g:4748:5: ( 'satisfies' )
+            // Ceylon.g:4748:9: 'satisfies'
+            {
+            match("satisfies"); if (state.failed) return ;
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "SATISFIES"
+
+    // $ANTLR start "SUPER"
+    public final void mSUPER() throws RecognitionException {
+        try {
+            int _type = SUPER;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // Ceylon.g:4752:5: ( 'super' )
+            // Ceylon.g:4752:9: 'super'
+            {
+            match("super"); if (state.failed) return ;
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "SUPER"
+
+    // $ANTLR start "SWITCH_CLAUSE"
+    public final void mSWITCH_CLAUSE() throws RecognitionException {
+        try {
+            int _type = SWITCH_CLAUSE;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // Ceylon.g:4756:5: ( 'switch' )
+            // Ceylon.g:4756:9: 'switch'
+            {
+            match("switch"); if (state.failed) return ;
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "SWITCH_CLAUSE"
+
+    // $ANTLR start "THEN_CLAUSE"
+    public final void mTHEN_CLAUSE() throws RecognitionException {
+        try {
+            int _type = THEN_CLAUSE;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // Ceylon.g:4760:5: ( 'then' )
+            // Ceylon.g:4760:9: 'then'
+            {
+            match("then"); if (state.failed) return ;
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "THEN_CLAUSE"
+
+    // $ANTLR start "THIS"
+    public final void mTHIS() throws RecognitionException {
+        try {
+            int _type = THIS;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // Ceylon.g:4764:5: ( 'this' )
+            // Ceylon.g:4764:9: 'this'
+            {
+            match("this"); if (state.failed) return ;
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "THIS"
+
+    // $ANTLR start "THROW"
+    public final void mTHROW() throws RecognitionException {
+        try {
+            int _type = THROW;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // Ceylon.g:4768:5: ( 'throw' )
+            // Ceylon.g:4768:9: 'throw'
+            {
+            match("throw"); if (state.failed) return ;
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "THROW"
+
+    // $ANTLR start "TRY_CLAUSE"
+    public final void mTRY_CLAUSE() throws RecognitionException {
+        try {
+            int _type = TRY_CLAUSE;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // Ceylon.g:4772:5: ( 'try' )
+            // Ceylon.g:4772:9: 'try'
+            {
+            match("try"); if (state.failed) return ;
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "TRY_CLAUSE"
+
+    // $ANTLR start "VALUE_MODIFIER"
+    public final void mVALUE_MODIFIER() throws RecognitionException {
+        try {
+            int _type = VALUE_MODIFIER;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // Ceylon.g:4776:5: ( 'value' )
+            // Ceylon.g:4776:9: 'value'
+            {
+            match("value"); if (state.failed) return ;
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "VALUE_MODIFIER"
+
+    // $ANTLR start "VOID_MODIFIER"
+    public final void mVOID_MODIFIER() throws RecognitionException {
+        try {
+            int _type = VOID_MODIFIER;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // Ceylon.g:4780:5: ( 'void' )
+            // Ceylon.g:4780:9: 'void'
+            {
+            match("void"); if (state.failed) return ;
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "VOID_MODIFIER"
+
+    // $ANTLR start "WHILE_CLAUSE"
+    public final void mWHILE_CLAUSE() throws RecognitionException {
+        try {
+            int _type = WHILE_CLAUSE;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // Ceylon.g:4784:5: ( 'while' )
+            // Ceylon.g:4784:9: 'while'
+            {
+            match("while"); if (state.failed) return ;
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "WHILE_CLAUSE"
+
+    // $ANTLR start "ELLIPSIS"
+    public final void mELLIPSIS() throws RecognitionException {
+        try {
+            int _type = ELLIPSIS;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // Ceylon.g:4788:5: ( '...' )
+            // Ceylon.g:4788:9: '...'
+            {
+            match("..."); if (state.failed) return ;
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "ELLIPSIS"
+
+    // $ANTLR start "RANGE_OP"
+    public final void mRANGE_OP() throws RecognitionException {
+        try {
+            int _type = RANGE_OP;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // Ceylon.g:4792:5: ( '..' )
+            // Ceylon.g:4792:9: '..'
+            {
+            match(".."); if (state.failed) return ;
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "RANGE_OP"
+
+    // $ANTLR start "SEGMENT_OP"
+    public final void mSEGMENT_OP() throws RecognitionException {
+        try {
+            int _type = SEGMENT_OP;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // Ceylon.g:4796:5: ( ':' )
+            // Ceylon.g:4796:9: ':'
+            {
+            match(':'); if (state.failed) return ;
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "SEGMENT_OP"
+
+    // $ANTLR start "MEMBER_OP"
+    public final void mMEMBER_OP() throws RecognitionException {
+        try {
+            int _type = MEMBER_OP;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // Ceylon.g:4800:5: ( '.' )
+            // Ceylon.g:4800:9: '.'
+            {
+            match('.'); if (state.failed) return ;
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "MEMBER_OP"
+
+    // $ANTLR start "LPAREN"
+    public final void mLPAREN() throws RecognitionException {
+        try {
+            int _type = LPAREN;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // Ceylon.g:4803:5: ( '(' )
+            // Ceylon.g:4803:9: '('
+            {
+            match('('); if (state.failed) return ;
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "LPAREN"
+
+    // $ANTLR start "RPAREN"
+    public final void mRPAREN() throws RecognitionException {
+        try {
+            int _type = RPAREN;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // Ceylon.g:4807:5: ( ')' )
+            // Ceylon.g:4807:9: ')'
+            {
+            match(')'); if (state.failed) return ;
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "RPAREN"
+
+    // $ANTLR start "LBRACE"
+    public final void mLBRACE() throws RecognitionException {
+        try {
+            int _type = LBRACE;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // Ceylon.g:4811:5: ( '{' )
+            // Ceylon.g:4811:9: '{'
+            {
+            match('{'); if (state.failed) return ;
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "LBRACE"
+
+    // $ANTLR start "RBRACE"
+    public final void mRBRACE() throws RecognitionException {
+        try {
+            int _type = RBRACE;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // Ceylon.g:4815:5: ( '}' )
+            // Ceylon.g:4815:9: '}'
+            {
+            match('}'); if (state.failed) return ;
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "RBRACE"
+
+    // $ANTLR start "LBRACKET"
+    public final void mLBRACKET() throws RecognitionException {
+        try {
+            int _type = LBRACKET;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // Ceylon.g:4819:5: ( '[' )
+            // Ceylon.g:4819:9: '['
+            {
+            match('['); if (state.failed) return ;
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "LBRACKET"
+
+    // $ANTLR start "RBRACKET"
+    public final void mRBRACKET() throws RecognitionException {
+        try {
+            int _type = RBRACKET;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // Ceylon.g:4823:5: ( ']' )
+            // Ceylon.g:4823:9: ']'
+            {
+            match(']'); if (state.failed) return ;
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "RBRACKET"
+
+    // $ANTLR start "SEMICOLON"
+    public final void mSEMICOLON() throws RecognitionException {
+        try {
+            int _type = SEMICOLON;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // Ceylon.g:4827:5: ( ';' )
+            // Ceylon.g:4827:9: ';'
+            {
+            match(';'); if (state.failed) return ;
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "SEMICOLON"
+
+    // $ANTLR start "COMMA"
+    public final void mCOMMA() throws RecognitionException {
+        try {
+            int _type = COMMA;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // Ceylon.g:4831:5: ( ',' )
+            // Ceylon.g:4831:9: ','
+            {
+            match(','); if (state.failed) return ;
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "COMMA"
+
+    // $ANTLR start "SPECIFY"
+    public final void mSPECIFY() throws RecognitionException {
+        try {
+            int _type = SPECIFY;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // Ceylon.g:4835:5: ( '=' )
+            // Ceylon.g:4835:9: '='
+            {
+            match('='); if (state.failed) return ;
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "SPECIFY"
+
+    // $ANTLR start "COMPUTE"
+    public final void mCOMPUTE() throws RecognitionException {
+        try {
+            int _type = COMPUTE;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // Ceylon.g:4839:5: ( '=>' )
+            // Ceylon.g:4839:9: '=>'
+            {
+            match("=>"); if (state.failed) return ;
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "COMPUTE"
+
+    // $ANTLR start "SAFE_MEMBER_OP"
+    public final void mSAFE_MEMBER_OP() throws RecognitionException {
+        try {
+            int _type = SAFE_MEMBER_OP;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // Ceylon.g:4843:5: ( '?.' )
+            // Ceylon.g:4843:9: '?.'
+            {
+            match("?."); if (state.failed) return ;
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "SAFE_MEMBER_OP"
+
+    // $ANTLR start "OPTIONAL"
+    public final void mOPTIONAL() throws RecognitionException {
+        try {
+            int _type = OPTIONAL;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // Ceylon.g:4847:5: ( '?' )
+            // Ceylon.g:4847:10: '?'
+            {
+            match('?'); if (state.failed) return ;
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "OPTIONAL"
+
+    // $ANTLR start "NOT_OP"
+    public final void mNOT_OP() throws RecognitionException {
+        try {
+            int _type = NOT_OP;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // Ceylon.g:4851:5: ( '!' )
+            // Ceylon.g:4851:9: '!'
+            {
+            match('!'); if (state.failed) return ;
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "NOT_OP"
+
+    // $ANTLR start "COMPLEMENT_OP"
+    public final void mCOMPLEMENT_OP() throws RecognitionException {
+        try {
+            int _type = COMPLEMENT_OP;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // Ceylon.g:4855:5: ( '~' )
+            // Ceylon.g:4855:9: '~'
+            {
+            match('~'); if (state.failed) return ;
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "COMPLEMENT_OP"
+
+    // $ANTLR start "EQUAL_OP"
+    public final void mEQUAL_OP() throws RecognitionException {
+        try {
+            int _type = EQUAL_OP;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // Ceylon.g:4859:5: ( '==' )
+            // Ceylon.g:4859:9: '=='
+            {
+            match("=="); if (state.failed) return ;
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "EQUAL_OP"
+
+    // $ANTLR start "IDENTICAL_OP"
+    public final void mIDENTICAL_OP() throws RecognitionException {
+        try {
+            int _type = IDENTICAL_OP;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // Ceylon.g:4863:5: ( '===' )
+            // Ceylon.g:4863:9: '==='
+            {
+            match("==="); if (state.failed) return ;
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "IDENTICAL_OP"
+
+    // $ANTLR start "AND_OP"
+    public final void mAND_OP() throws RecognitionException {
+        try {
+            int _type = AND_OP;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // Ceylon.g:4867:5: ( '&&' )
+            // Ceylon.g:4867:9: '&&'
+            {
+            match("&&"); if (state.failed) return ;
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "AND_OP"
+
+    // $ANTLR start "OR_OP"
+    public final void mOR_OP() throws RecognitionException {
+        try {
+            int _type = OR_OP;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // Ceylon.g:4871:5: ( '||' )
+            // Ceylon.g:4871:9: '||'
+            {
+            match("||"); if (state.failed) return ;
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "OR_OP"
+
+    // $ANTLR start "INCREMENT_OP"
+    public final void mINCREMENT_OP() throws RecognitionException {
+        try {
+            int _type = INCREMENT_OP;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // Ceylon.g:4875:5: ( '++' )
+            // Ceylon.g:4875:9: '++'
+            {
+            match("++"); if (state.failed) return ;
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "INCREMENT_OP"
+
+    // $ANTLR start "DECREMENT_OP"
+    public final void mDECREMENT_OP() throws RecognitionException {
+        try {
+            int _type = DECREMENT_OP;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // Ceylon.g:4879:5: ( '--' )
+            // Ceylon.g:4879:9: '--'
+            {
+            match("--"); if (state.failed) return ;
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "DECREMENT_OP"
+
+    // $ANTLR start "SUM_OP"
+    public final void mSUM_OP() throws RecognitionException {
+        try {
+            int _type = SUM_OP;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // Ceylon.g:4883:5: ( '+' )
+            // Ceylon.g:4883:9: '+'
+            {
+            match('+'); if (state.failed) return ;
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "SUM_OP"
+
+    // $ANTLR start "DIFFERENCE_OP"
+    public final void mDIFFERENCE_OP() throws RecognitionException {
+        try {
+            int _type = DIFFERENCE_OP;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // Ceylon.g:4887:5: ( '-' )
+            // Ceylon.g:4887:9: '-'
+            {
+            match('-'); if (state.failed) return ;
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "DIFFERENCE_OP"
+
+    // $ANTLR start "SPREAD_OP"
+    public final void mSPREAD_OP() throws RecognitionException {
+        try {
+            int _type = SPREAD_OP;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // Ceylon.g:4891:5: ( '*.' )
+            // Ceylon.g:4891:10: '*.'
+            {
+            match("*."); if (state.failed) return ;
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "SPREAD_OP"
+
+    // $ANTLR start "SCALE_OP"
+    public final void mSCALE_OP() throws RecognitionException {
+        try {
+            int _type = SCALE_OP;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // Ceylon.g:4895:5: ( '**' )
+            // Ceylon.g:4895:10: '**'
+            {
+            match("**"); if (state.failed) return ;
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "SCALE_OP"
+
+    // $ANTLR start "PRODUCT_OP"
+    public final void mPRODUCT_OP() throws RecognitionException {
+        try {
+            int _type = PRODUCT_OP;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // Ceylon.g:4899:5: ( '*' )
+            // Ceylon.g:4899:9: '*'
+            {
+            match('*'); if (state.failed) return ;
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "PRODUCT_OP"
+
+    // $ANTLR start "QUOTIENT_OP"
+    public final void mQUOTIENT_OP() throws RecognitionException {
+        try {
+            int _type = QUOTIENT_OP;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // Ceylon.g:4903:5: ( '/' )
+            // Ceylon.g:4903:9: '/'
+            {
+            match('/'); if (state.failed) return ;
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "QUOTIENT_OP"
+
+    // $ANTLR start "INTERSECTION_OP"
+    public final void mINTERSECTION_OP() throws RecognitionException {
+        try {
+            int _type = INTERSECTION_OP;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // Ceylon.g:4907:5: ( '&' )
+            // Ceylon.g:4907:9: '&'
+            {
+            match('&'); if (state.failed) return ;
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "INTERSECTION_OP"
+
+    // $ANTLR start "UNION_OP"
+    public final void mUNION_OP() throws RecognitionException {
+        try {
+            int _type = UNION_OP;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // Ceylon.g:4911:5: ( '|' )
+            // Ceylon.g:4911:9: '|'
+            {
+            match('|'); if (state.failed) return ;
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "UNION_OP"
+
+    // $ANTLR start "REMAINDER_OP"
+    public final void mREMAINDER_OP() throws RecognitionException {
+        try {
+            int _type = REMAINDER_OP;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // Ceylon.g:4915:5: ( '%' )
+            // Ceylon.g:4915:9: '%'
+            {
+            match('%'); if (state.failed) return ;
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "REMAINDER_OP"
+
+    // $ANTLR start "NOT_EQUAL_OP"
+    public final void mNOT_EQUAL_OP() throws RecognitionException {
+        try {
+            int _type = NOT_EQUAL_OP;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // Ceylon.g:4919:5: ( '!=' )
+            // Ceylon.g:4919:9: '!='
+            {
+            match("!="); if (state.failed) return ;
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "NOT_EQUAL_OP"
+
+    // $ANTLR start "LARGER_OP"
+    public final void mLARGER_OP() throws RecognitionException {
+        try {
+            int _type = LARGER_OP;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // Ceylon.g:4923:5: ( '>' )
+            // Ceylon.g:4923:9: '>'
+            {
+            match('>'); if (state.failed) return ;
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "LARGER_OP"
+
+    // $ANTLR start "SMALLER_OP"
+    public final void mSMALLER_OP() throws RecognitionException {
+        try {
+            int _type = SMALLER_OP;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // Ceylon.g:4927:5: ( '<' )
+            // Ceylon.g:4927:9: '<'
+            {
+            match('<'); if (state.failed) return ;
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "SMALLER_OP"
+
+    // $ANTLR start "LARGE_AS_OP"
+    public final void mLARGE_AS_OP() throws RecognitionException {
+        try {
+            int _type = LARGE_AS_OP;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // Ceylon.g:4931:5: ( ( '>=' ( ' ' | '\\r' | '\\t' | '\\f' | '\\n' )* ~ ( '>' | ']' | ')' | ',' | ' ' | '\\r' | '\\t' | '\\f' | '\\n' ) )=> '>=' | '>' )
+            int alt31=2;
+            int LA31_0 = input.LA(1);
+
+            if ( (LA31_0=='>') ) {
+                int LA31_1 = input.LA(2);
+
+                if ( (LA31_1=='=') && (synpred7_Ceylon())) {
+                    alt31=1;
+                }
+                else {
+                    alt31=2;
+                }
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return ;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 31, 0, input);
+
+                throw nvae;
+
+            }
+            switch (alt31) {
+                case 1 :
+                    // Ceylon.g:4931:9: ( '>=' ( ' ' | '\\r' | '\\t' | '\\f' | '\\n' )* ~ ( '>' | ']' | ')' | ',' | ' ' | '\\r' | '\\t' | '\\f' | '\\n' ) )=> '>='
+                    {
+                    match(">="); if (state.failed) return ;
+
+
+
+                    }
+                    break;
+                case 2 :
+                    // Ceylon.g:4933:9: '>'
+                    {
+                    match('>'); if (state.failed) return ;
+
+                    if ( state.backtracking==0 ) { _type=LARGER_OP; }
+
+                    }
+                    break;
+
+            }
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "LARGE_AS_OP"
+
+    // $ANTLR start "SMALL_AS_OP"
+    public final void mSMALL_AS_OP() throws RecognitionException {
+        try {
+            int _type = SMALL_AS_OP;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // Ceylon.g:4937:5: ( '<=' )
+            // Ceylon.g:4937:9: '<='
+            {
+            match("<="); if (state.failed) return ;
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "SMALL_AS_OP"
+
+    // $ANTLR start "ENTRY_OP"
+    public final void mENTRY_OP() throws RecognitionException {
+        try {
+            int _type = ENTRY_OP;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // Ceylon.g:4941:5: ( '->' )
+            // Ceylon.g:4941:9: '->'
+            {
+            match("->"); if (state.failed) return ;
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "ENTRY_OP"
+
+    // $ANTLR start "COMPARE_OP"
+    public final void mCOMPARE_OP() throws RecognitionException {
+        try {
+            int _type = COMPARE_OP;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // Ceylon.g:4945:5: ( '<=>' )
+            // Ceylon.g:4945:9: '<=>'
+            {
+            match("<=>"); if (state.failed) return ;
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "COMPARE_OP"
+
+    // $ANTLR start "POWER_OP"
+    public final void mPOWER_OP() throws RecognitionException {
+        try {
+            int _type = POWER_OP;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // Ceylon.g:4949:5: ( '^' )
+            // Ceylon.g:4949:10: '^'
+            {
+            match('^'); if (state.failed) return ;
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "POWER_OP"
+
+    // $ANTLR start "ADD_SPECIFY"
+    public final void mADD_SPECIFY() throws RecognitionException {
+        try {
+            int _type = ADD_SPECIFY;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // Ceylon.g:4953:5: ( '+=' )
+            // Ceylon.g:4953:9: '+='
+            {
+            match("+="); if (state.failed) return ;
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "ADD_SPECIFY"
+
+    // $ANTLR start "SUBTRACT_SPECIFY"
+    public final void mSUBTRACT_SPECIFY() throws RecognitionException {
+        try {
+            int _type = SUBTRACT_SPECIFY;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // Ceylon.g:4957:5: ( '-=' )
+            // Ceylon.g:4957:9: '-='
+            {
+            match("-="); if (state.failed) return ;
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "SUBTRACT_SPECIFY"
+
+    // $ANTLR start "MULTIPLY_SPECIFY"
+    public final void mMULTIPLY_SPECIFY() throws RecognitionException {
+        try {
+            int _type = MULTIPLY_SPECIFY;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // Ceylon.g:4961:5: ( '*=' )
+            // Ceylon.g:4961:9: '*='
+            {
+            match("*="); if (state.failed) return ;
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "MULTIPLY_SPECIFY"
+
+    // $ANTLR start "DIVIDE_SPECIFY"
+    public final void mDIVIDE_SPECIFY() throws RecognitionException {
+        try {
+            int _type = DIVIDE_SPECIFY;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // Ceylon.g:4965:5: ( '/=' )
+            // Ceylon.g:4965:9: '/='
+            {
+            match("/="); if (state.failed) return ;
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "DIVIDE_SPECIFY"
+
+    // $ANTLR start "INTERSECT_SPECIFY"
+    public final void mINTERSECT_SPECIFY() throws RecognitionException {
+        try {
+            int _type = INTERSECT_SPECIFY;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // Ceylon.g:4969:5: ( '&=' )
+            // Ceylon.g:4969:9: '&='
+            {
+            match("&="); if (state.failed) return ;
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "INTERSECT_SPECIFY"
+
+    // $ANTLR start "UNION_SPECIFY"
+    public final void mUNION_SPECIFY() throws RecognitionException {
+        try {
+            int _type = UNION_SPECIFY;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // Ceylon.g:4973:5: ( '|=' )
+            // Ceylon.g:4973:9: '|='
+            {
+            match("|="); if (state.failed) return ;
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "UNION_SPECIFY"
+
+    // $ANTLR start "COMPLEMENT_SPECIFY"
+    public final void mCOMPLEMENT_SPECIFY() throws RecognitionException {
+        try {
+            int _type = COMPLEMENT_SPECIFY;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // Ceylon.g:4977:5: ( '~=' )
+            // Ceylon.g:4977:9: '~='
+            {
+            match("~="); if (state.failed) return ;
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "COMPLEMENT_SPECIFY"
+
+    // $ANTLR start "REMAINDER_SPECIFY"
+    public final void mREMAINDER_SPECIFY() throws RecognitionException {
+        try {
+            int _type = REMAINDER_SPECIFY;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // Ceylon.g:4981:5: ( '%=' )
+            // Ceylon.g:4981:9: '%='
+            {
+            match("%="); if (state.failed) return ;
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "REMAINDER_SPECIFY"
+
+    // $ANTLR start "AND_SPECIFY"
+    public final void mAND_SPECIFY() throws RecognitionException {
+        try {
+            int _type = AND_SPECIFY;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // Ceylon.g:4985:5: ( '&&=' )
+            // Ceylon.g:4985:9: '&&='
+            {
+            match("&&="); if (state.failed) return ;
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "AND_SPECIFY"
+
+    // $ANTLR start "OR_SPECIFY"
+    public final void mOR_SPECIFY() throws RecognitionException {
+        try {
+            int _type = OR_SPECIFY;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // Ceylon.g:4989:5: ( '||=' )
+            // Ceylon.g:4989:9: '||='
+            {
+            match("||="); if (state.failed) return ;
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "OR_SPECIFY"
+
+    // $ANTLR start "COMPILER_ANNOTATION"
+    public final void mCOMPILER_ANNOTATION() throws RecognitionException {
+        try {
+            int _type = COMPILER_ANNOTATION;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // Ceylon.g:4993:5: ( '@' )
+            // Ceylon.g:4993:9: '@'
+            {
+            match('@'); if (state.failed) return ;
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "COMPILER_ANNOTATION"
+
+    // $ANTLR start "LIDENTIFIER"
+    public final void mLIDENTIFIER() throws RecognitionException {
+        try {
+            // Ceylon.g:4998:13: ()
+            // Ceylon.g:4998:14: 
+            {
+            }
+
+
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "LIDENTIFIER"
+
+    // $ANTLR start "PIDENTIFIER"
+    public final void mPIDENTIFIER() throws RecognitionException {
+        try {
+            // Ceylon.g:5000:13: ()
+            // Ceylon.g:5000:14: 
+            {
+            }
+
+
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "PIDENTIFIER"
+
+    // $ANTLR start "AIDENTIFIER"
+    public final void mAIDENTIFIER() throws RecognitionException {
+        try {
+            // Ceylon.g:5002:13: ()
+            // Ceylon.g:5002:14: 
+            {
+            }
+
+
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "AIDENTIFIER"
+
+    // $ANTLR start "UIDENTIFIER"
+    public final void mUIDENTIFIER() throws RecognitionException {
+        try {
+            int _type = UIDENTIFIER;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            CommonToken name=null;
+
+            // Ceylon.g:5004:5: ( IdentifierStart ( IdentifierPart )* | UIdentifierPrefix (name= IdentifierPart )+ | LIdentifierPrefix (name= IdentifierPart )+ )
+            int alt35=3;
+            int LA35_0 = input.LA(1);
+
+            if ( ((LA35_0 >= 'A' && LA35_0 <= 'Z')||LA35_0=='_'||(LA35_0 >= 'a' && LA35_0 <= 'z')||(LA35_0 >= '\u0080' && LA35_0 <= '\uFFFF')) ) {
+                alt35=1;
+            }
+            else if ( (LA35_0=='\\') ) {
+                int LA35_2 = input.LA(2);
+
+                if ( (LA35_2=='I') ) {
+                    alt35=2;
+                }
+                else if ( (LA35_2=='i') ) {
+                    alt35=3;
+                }
+                else {
+                    if (state.backtracking>0) {state.failed=true; return ;}
+                    NoViableAltException nvae =
+                        new NoViableAltException("", 35, 2, input);
+
+                    throw nvae;
+
+                }
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return ;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 35, 0, input);
+
+                throw nvae;
+
+            }
+            switch (alt35) {
+                case 1 :
+                    // Ceylon.g:5004:9: IdentifierStart ( IdentifierPart )*
+                    {
+                    mIdentifierStart(); if (state.failed) return ;
+
+
+                    // Ceylon.g:5004:25: ( IdentifierPart )*
+                    loop32:
+                    do {
+                        int alt32=2;
+                        int LA32_0 = input.LA(1);
+
+                        if ( ((LA32_0 >= '0' && LA32_0 <= '9')||(LA32_0 >= 'A' && LA32_0 <= 'Z')||LA32_0=='_'||(LA32_0 >= 'a' && LA32_0 <= 'z')||(LA32_0 >= '\u0080' && LA32_0 <= '\uFFFF')) ) {
+                            alt32=1;
+                        }
+
+
+                        switch (alt32) {
+                    	case 1 :
+                    	    // Ceylon.g:
+                    	    {
+                    	    if ( (input.LA(1) >= '0' && input.LA(1) <= '9')||(input.LA(1) >= 'A' && input.LA(1) <= 'Z')||input.LA(1)=='_'||(input.LA(1) >= 'a' && input.LA(1) <= 'z')||(input.LA(1) >= '\u0080' && input.LA(1) <= '\uFFFF') ) {
+                    	        input.consume();
+                    	        state.failed=false;
+                    	    }
+                    	    else {
+                    	        if (state.backtracking>0) {state.failed=true; return ;}
+                    	        MismatchedSetException mse = new MismatchedSetException(null,input);
+                    	        recover(mse);
+                    	        throw mse;
+                    	    }
+
+
+                    	    }
+                    	    break;
+
+                    	default :
+                    	    break loop32;
+                        }
+                    } while (true);
+
+
+                    if ( state.backtracking==0 ) { int cp = getText().codePointAt(0);
+                              if (cp=='_' || Character.isLowerCase(cp)) _type=LIDENTIFIER; }
+
+                    }
+                    break;
+                case 2 :
+                    // Ceylon.g:5007:9: UIdentifierPrefix (name= IdentifierPart )+
+                    {
+                    mUIdentifierPrefix(); if (state.failed) return ;
+
+
+                    // Ceylon.g:5007:31: (name= IdentifierPart )+
+                    int cnt33=0;
+                    loop33:
+                    do {
+                        int alt33=2;
+                        int LA33_0 = input.LA(1);
+
+                        if ( ((LA33_0 >= '0' && LA33_0 <= '9')||(LA33_0 >= 'A' && LA33_0 <= 'Z')||LA33_0=='_'||(LA33_0 >= 'a' && LA33_0 <= 'z')||(LA33_0 >= '\u0080' && LA33_0 <= '\uFFFF')) ) {
+                            alt33=1;
+                        }
+
+
+                        switch (alt33) {
+                    	case 1 :
+                    	    // Ceylon.g:5007:31: name= IdentifierPart
+                    	    {
+                    	    int nameStart2872 = getCharIndex();
+                    	    int nameStartLine2872 = getLine();
+                    	    int nameStartCharPos2872 = getCharPositionInLine();
+                    	    mIdentifierPart(); if (state.failed) return ;
+                    	    name = new CommonToken(input, Token.INVALID_TOKEN_TYPE, Token.DEFAULT_CHANNEL, nameStart2872, getCharIndex()-1);
+                    	    name.setLine(nameStartLine2872);
+                    	    name.setCharPositionInLine(nameStartCharPos2872);
+
+
+                    	    }
+                    	    break;
+
+                    	default :
+                    	    if ( cnt33 >= 1 ) break loop33;
+                    	    if (state.backtracking>0) {state.failed=true; return ;}
+                                EarlyExitException eee =
+                                    new EarlyExitException(33, input);
+                                throw eee;
+                        }
+                        cnt33++;
+                    } while (true);
+
+
+                    if ( state.backtracking==0 ) { setText(getText().substring(2)); }
+
+                    }
+                    break;
+                case 3 :
+                    // Ceylon.g:5009:9: LIdentifierPrefix (name= IdentifierPart )+
+                    {
+                    mLIdentifierPrefix(); if (state.failed) return ;
+
+
+                    // Ceylon.g:5009:31: (name= IdentifierPart )+
+                    int cnt34=0;
+                    loop34:
+                    do {
+                        int alt34=2;
+                        int LA34_0 = input.LA(1);
+
+                        if ( ((LA34_0 >= '0' && LA34_0 <= '9')||(LA34_0 >= 'A' && LA34_0 <= 'Z')||LA34_0=='_'||(LA34_0 >= 'a' && LA34_0 <= 'z')||(LA34_0 >= '\u0080' && LA34_0 <= '\uFFFF')) ) {
+                            alt34=1;
+                        }
+
+
+                        switch (alt34) {
+                    	case 1 :
+                    	    // Ceylon.g:5009:31: name= IdentifierPart
+                    	    {
+                    	    int nameStart2897 = getCharIndex();
+                    	    int nameStartLine2897 = getLine();
+                    	    int nameStartCharPos2897 = getCharPositionInLine();
+                    	    mIdentifierPart(); if (state.failed) return ;
+                    	    name = new CommonToken(input, Token.INVALID_TOKEN_TYPE, Token.DEFAULT_CHANNEL, nameStart2897, getCharIndex()-1);
+                    	    name.setLine(nameStartLine2897);
+                    	    name.setCharPositionInLine(nameStartCharPos2897);
+
+
+                    	    }
+                    	    break;
+
+                    	default :
+                    	    if ( cnt34 >= 1 ) break loop34;
+                    	    if (state.backtracking>0) {state.failed=true; return ;}
+                                EarlyExitException eee =
+                                    new EarlyExitException(34, input);
+                                throw eee;
+                        }
+                        cnt34++;
+                    } while (true);
+
+
+                    if ( state.backtracking==0 ) { setText(getText().substring(2)); _type=LIDENTIFIER; }
+
+                    }
+                    break;
+
+            }
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "UIDENTIFIER"
+
+    // $ANTLR start "IdentifierStart"
+    public final void mIdentifierStart() throws RecognitionException {
+        try {
+            // Ceylon.g:5016:5: ( '_' | Letter )
+            // Ceylon.g:
+            {
+            if ( (input.LA(1) >= 'A' && input.LA(1) <= 'Z')||input.LA(1)=='_'||(input.LA(1) >= 'a' && input.LA(1) <= 'z')||(input.LA(1) >= '\u0080' && input.LA(1) <= '\uFFFF') ) {
+                input.consume();
+                state.failed=false;
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return ;}
+                MismatchedSetException mse = new MismatchedSetException(null,input);
+                recover(mse);
+                throw mse;
+            }
+
+
+            }
+
+
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "IdentifierStart"
+
+    // $ANTLR start "LIdentifierPrefix"
+    public final void mLIdentifierPrefix() throws RecognitionException {
+        try {
+            // Ceylon.g:5022:5: ( '\\\\i' )
+            // Ceylon.g:5022:7: '\\\\i'
+            {
+            match("\\i"); if (state.failed) return ;
+
+
+
+            }
+
+
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "LIdentifierPrefix"
+
+    // $ANTLR start "UIdentifierPrefix"
+    public final void mUIdentifierPrefix() throws RecognitionException {
+        try {
+            // Ceylon.g:5027:5: ( '\\\\I' )
+            // Ceylon.g:5027:7: '\\\\I'
+            {
+            match("\\I"); if (state.failed) return ;
+
+
+
+            }
+
+
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "UIdentifierPrefix"
+
+    // $ANTLR start "IdentifierPart"
+    public final void mIdentifierPart() throws RecognitionException {
+        try {
+            // Ceylon.g:5032:5: ( '_' | Digit | Letter )
+            // Ceylon.g:
+            {
+            if ( (input.LA(1) >= '0' && input.LA(1) <= '9')||(input.LA(1) >= 'A' && input.LA(1) <= 'Z')||input.LA(1)=='_'||(input.LA(1) >= 'a' && input.LA(1) <= 'z')||(input.LA(1) >= '\u0080' && input.LA(1) <= '\uFFFF') ) {
+                input.consume();
+                state.failed=false;
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return ;}
+                MismatchedSetException mse = new MismatchedSetException(null,input);
+                recover(mse);
+                throw mse;
+            }
+
+
+            }
+
+
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "IdentifierPart"
+
+    // $ANTLR start "Letter"
+    public final void mLetter() throws RecognitionException {
+        try {
+            // Ceylon.g:5039:5: ( 'a' .. 'z' | 'A' .. 'Z' | '\\u0080' .. '\\uffff' )
+            // Ceylon.g:
+            {
+            if ( (input.LA(1) >= 'A' && input.LA(1) <= 'Z')||(input.LA(1) >= 'a' && input.LA(1) <= 'z')||(input.LA(1) >= '\u0080' && input.LA(1) <= '\uFFFF') ) {
+                input.consume();
+                state.failed=false;
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return ;}
+                MismatchedSetException mse = new MismatchedSetException(null,input);
+                recover(mse);
+                throw mse;
+            }
+
+
+            }
+
+
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "Letter"
+
+    // $ANTLR start "Digit"
+    public final void mDigit() throws RecognitionException {
+        try {
+            // Ceylon.g:5046:5: ( '0' .. '9' )
+            // Ceylon.g:
+            {
+            if ( (input.LA(1) >= '0' && input.LA(1) <= '9') ) {
+                input.consume();
+                state.failed=false;
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return ;}
+                MismatchedSetException mse = new MismatchedSetException(null,input);
+                recover(mse);
+                throw mse;
+            }
+
+
+            }
+
+
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "Digit"
+
+    // $ANTLR start "HexDigit"
+    public final void mHexDigit() throws RecognitionException {
+        try {
+            // Ceylon.g:5051:5: ( '0' .. '9' | 'A' .. 'F' | 'a' .. 'f' )
+            // Ceylon.g:
+            {
+            if ( (input.LA(1) >= '0' && input.LA(1) <= '9')||(input.LA(1) >= 'A' && input.LA(1) <= 'F')||(input.LA(1) >= 'a' && input.LA(1) <= 'f') ) {
+                input.consume();
+                state.failed=false;
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return ;}
+                MismatchedSetException mse = new MismatchedSetException(null,input);
+                recover(mse);
+                throw mse;
+            }
+
+
+            }
+
+
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "HexDigit"
+
+    // $ANTLR start "BinaryDigit"
+    public final void mBinaryDigit() throws RecognitionException {
+        try {
+            // Ceylon.g:5056:5: ( '0' | '1' )
+            // Ceylon.g:
+            {
+            if ( (input.LA(1) >= '0' && input.LA(1) <= '1') ) {
+                input.consume();
+                state.failed=false;
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return ;}
+                MismatchedSetException mse = new MismatchedSetException(null,input);
+                recover(mse);
+                throw mse;
+            }
+
+
+            }
+
+
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "BinaryDigit"
+
+    public void mTokens() throws RecognitionException {
+        // Ceylon.g:1:8: ( NATURAL_LITERAL | CHAR_LITERAL | STRING_LITERAL | STRING_END | VERBATIM_STRING | WS | LINE_COMMENT | MULTI_COMMENT | BACKTICK | ABSTRACTED_TYPE | ALIAS | ASSEMBLY | ASSERT | ASSIGN | BREAK | CASE_CLAUSE | CATCH_CLAUSE | CLASS_DEFINITION | CONTINUE | DYNAMIC | ELSE_CLAUSE | EXISTS | EXTENDS | FINALLY_CLAUSE | FOR_CLAUSE | FUNCTION_MODIFIER | TYPE_CONSTRAINT | IF_CLAUSE | IMPORT | IN_OP | INTERFACE_DEFINITION | IS_OP | LET | MODULE | NEW | NONEMPTY | OBJECT_DEFINITION | CASE_TYPES | OUT | OUTER | PACKAGE | RETURN | SATISFIES | SUPER | SWITCH_CLAUSE | THEN_CLAUSE | THIS | THROW | TRY_CLAUSE | VALUE_MODIFIER | VOID_MODIFIER | WHILE_CLAUSE | ELLIPSIS | RANGE_OP | SEGMENT_OP | MEMBER_OP | LPAREN | RPAREN | LBRACE | RBRACE | LBRACKET | RBRACKET | SEMICOLON | COMMA | SPECIFY | COMPUTE | SAFE_MEMBER_OP | OPTIONAL | NOT_OP | COMPLEMENT_OP | EQUAL_OP | IDENTICAL_OP | AND_OP | OR_OP | INCREMENT_OP | DECREMENT_OP | SUM_OP | DIFFERENCE_OP | SPREAD_OP | SCALE_OP | PRODUCT_OP | QUOTIENT_OP | INTERSECTION_OP | UNION_OP | REMAINDER_OP | NOT_EQUAL_OP | LARGER_OP | SMALLER_OP | LARGE_AS_OP | SMALL_AS_OP | ENTRY_OP | COMPARE_OP | POWER_OP | ADD_SPECIFY | SUBTRACT_SPECIFY | MULTIPLY_SPECIFY | DIVIDE_SPECIFY | INTERSECT_SPECIFY | UNION_SPECIFY | COMPLEMENT_SPECIFY | REMAINDER_SPECIFY | AND_SPECIFY | OR_SPECIFY | COMPILER_ANNOTATION | UIDENTIFIER )
+        int alt36=105;
+        alt36 = dfa36.predict(input);
+        switch (alt36) {
+            case 1 :
+                // Ceylon.g:1:10: NATURAL_LITERAL
+                {
+                mNATURAL_LITERAL(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 2 :
+                // Ceylon.g:1:26: CHAR_LITERAL
+                {
+                mCHAR_LITERAL(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 3 :
+                // Ceylon.g:1:39: STRING_LITERAL
+                {
+                mSTRING_LITERAL(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 4 :
+                // Ceylon.g:1:54: STRING_END
+                {
+                mSTRING_END(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 5 :
+                // Ceylon.g:1:65: VERBATIM_STRING
+                {
+                mVERBATIM_STRING(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 6 :
+                // Ceylon.g:1:81: WS
+                {
+                mWS(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 7 :
+                // Ceylon.g:1:84: LINE_COMMENT
+                {
+                mLINE_COMMENT(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 8 :
+                // Ceylon.g:1:97: MULTI_COMMENT
+                {
+                mMULTI_COMMENT(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 9 :
+                // Ceylon.g:1:111: BACKTICK
+                {
+                mBACKTICK(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 10 :
+                // Ceylon.g:1:120: ABSTRACTED_TYPE
+                {
+                mABSTRACTED_TYPE(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 11 :
+                // Ceylon.g:1:136: ALIAS
+                {
+                mALIAS(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 12 :
+                // Ceylon.g:1:142: ASSEMBLY
+                {
+                mASSEMBLY(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 13 :
+                // Ceylon.g:1:151: ASSERT
+                {
+                mASSERT(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 14 :
+                // Ceylon.g:1:158: ASSIGN
+                {
+                mASSIGN(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 15 :
+                // Ceylon.g:1:165: BREAK
+                {
+                mBREAK(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 16 :
+                // Ceylon.g:1:171: CASE_CLAUSE
+                {
+                mCASE_CLAUSE(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 17 :
+                // Ceylon.g:1:183: CATCH_CLAUSE
+                {
+                mCATCH_CLAUSE(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 18 :
+                // Ceylon.g:1:196: CLASS_DEFINITION
+                {
+                mCLASS_DEFINITION(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 19 :
+                // Ceylon.g:1:213: CONTINUE
+                {
+                mCONTINUE(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 20 :
+                // Ceylon.g:1:222: DYNAMIC
+                {
+                mDYNAMIC(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 21 :
+                // Ceylon.g:1:230: ELSE_CLAUSE
+                {
+                mELSE_CLAUSE(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 22 :
+                // Ceylon.g:1:242: EXISTS
+                {
+                mEXISTS(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 23 :
+                // Ceylon.g:1:249: EXTENDS
+                {
+                mEXTENDS(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 24 :
+                // Ceylon.g:1:257: FINALLY_CLAUSE
+                {
+                mFINALLY_CLAUSE(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 25 :
+                // Ceylon.g:1:272: FOR_CLAUSE
+                {
+                mFOR_CLAUSE(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 26 :
+                // Ceylon.g:1:283: FUNCTION_MODIFIER
+                {
+                mFUNCTION_MODIFIER(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 27 :
+                // Ceylon.g:1:301: TYPE_CONSTRAINT
+                {
+                mTYPE_CONSTRAINT(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 28 :
+                // Ceylon.g:1:317: IF_CLAUSE
+                {
+                mIF_CLAUSE(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 29 :
+                // Ceylon.g:1:327: IMPORT
+                {
+                mIMPORT(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 30 :
+                // Ceylon.g:1:334: IN_OP
+                {
+                mIN_OP(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 31 :
+                // Ceylon.g:1:340: INTERFACE_DEFINITION
+                {
+                mINTERFACE_DEFINITION(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 32 :
+                // Ceylon.g:1:361: IS_OP
+                {
+                mIS_OP(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 33 :
+                // Ceylon.g:1:367: LET
+                {
+                mLET(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 34 :
+                // Ceylon.g:1:371: MODULE
+                {
+                mMODULE(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 35 :
+                // Ceylon.g:1:378: NEW
+                {
+                mNEW(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 36 :
+                // Ceylon.g:1:382: NONEMPTY
+                {
+                mNONEMPTY(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 37 :
+                // Ceylon.g:1:391: OBJECT_DEFINITION
+                {
+                mOBJECT_DEFINITION(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 38 :
+                // Ceylon.g:1:409: CASE_TYPES
+                {
+                mCASE_TYPES(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 39 :
+                // Ceylon.g:1:420: OUT
+                {
+                mOUT(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 40 :
+                // Ceylon.g:1:424: OUTER
+                {
+                mOUTER(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 41 :
+                // Ceylon.g:1:430: PACKAGE
+                {
+                mPACKAGE(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 42 :
+                // Ceylon.g:1:438: RETURN
+                {
+                mRETURN(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 43 :
+                // Ceylon.g:1:445: SATISFIES
+                {
+                mSATISFIES(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 44 :
+                // Ceylon.g:1:455: SUPER
+                {
+                mSUPER(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 45 :
+                // Ceylon.g:1:461: SWITCH_CLAUSE
+                {
+                mSWITCH_CLAUSE(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 46 :
+                // Ceylon.g:1:475: THEN_CLAUSE
+                {
+                mTHEN_CLAUSE(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 47 :
+                // Ceylon.g:1:487: THIS
+                {
+                mTHIS(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 48 :
+                // Ceylon.g:1:492: THROW
+                {
+                mTHROW(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 49 :
+                // Ceylon.g:1:498: TRY_CLAUSE
+                {
+                mTRY_CLAUSE(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 50 :
+                // Ceylon.g:1:509: VALUE_MODIFIER
+                {
+                mVALUE_MODIFIER(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 51 :
+                // Ceylon.g:1:524: VOID_MODIFIER
+                {
+                mVOID_MODIFIER(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 52 :
+                // Ceylon.g:1:538: WHILE_CLAUSE
+                {
+                mWHILE_CLAUSE(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 53 :
+                // Ceylon.g:1:551: ELLIPSIS
+                {
+                mELLIPSIS(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 54 :
+                // Ceylon.g:1:560: RANGE_OP
+                {
+                mRANGE_OP(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 55 :
+                // Ceylon.g:1:569: SEGMENT_OP
+                {
+                mSEGMENT_OP(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 56 :
+                // Ceylon.g:1:580: MEMBER_OP
+                {
+                mMEMBER_OP(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 57 :
+                // Ceylon.g:1:590: LPAREN
+                {
+                mLPAREN(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 58 :
+                // Ceylon.g:1:597: RPAREN
+                {
+                mRPAREN(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 59 :
+                // Ceylon.g:1:604: LBRACE
+                {
+                mLBRACE(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 60 :
+                // Ceylon.g:1:611: RBRACE
+                {
+                mRBRACE(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 61 :
+                // Ceylon.g:1:618: LBRACKET
+                {
+                mLBRACKET(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 62 :
+                // Ceylon.g:1:627: RBRACKET
+                {
+                mRBRACKET(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 63 :
+                // Ceylon.g:1:636: SEMICOLON
+                {
+                mSEMICOLON(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 64 :
+                // Ceylon.g:1:646: COMMA
+                {
+                mCOMMA(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 65 :
+                // Ceylon.g:1:652: SPECIFY
+                {
+                mSPECIFY(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 66 :
+                // Ceylon.g:1:660: COMPUTE
+                {
+                mCOMPUTE(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 67 :
+                // Ceylon.g:1:668: SAFE_MEMBER_OP
+                {
+                mSAFE_MEMBER_OP(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 68 :
+                // Ceylon.g:1:683: OPTIONAL
+                {
+                mOPTIONAL(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 69 :
+                // Ceylon.g:1:692: NOT_OP
+                {
+                mNOT_OP(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 70 :
+                // Ceylon.g:1:699: COMPLEMENT_OP
+                {
+                mCOMPLEMENT_OP(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 71 :
+                // Ceylon.g:1:713: EQUAL_OP
+                {
+                mEQUAL_OP(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 72 :
+                // Ceylon.g:1:722: IDENTICAL_OP
+                {
+                mIDENTICAL_OP(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 73 :
+                // Ceylon.g:1:735: AND_OP
+                {
+                mAND_OP(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 74 :
+                // Ceylon.g:1:742: OR_OP
+                {
+                mOR_OP(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 75 :
+                // Ceylon.g:1:748: INCREMENT_OP
+                {
+                mINCREMENT_OP(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 76 :
+                // Ceylon.g:1:761: DECREMENT_OP
+                {
+                mDECREMENT_OP(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 77 :
+                // Ceylon.g:1:774: SUM_OP
+                {
+                mSUM_OP(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 78 :
+                // Ceylon.g:1:781: DIFFERENCE_OP
+                {
+                mDIFFERENCE_OP(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 79 :
+                // Ceylon.g:1:795: SPREAD_OP
+                {
+                mSPREAD_OP(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 80 :
+                // Ceylon.g:1:805: SCALE_OP
+                {
+                mSCALE_OP(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 81 :
+                // Ceylon.g:1:814: PRODUCT_OP
+                {
+                mPRODUCT_OP(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 82 :
+                // Ceylon.g:1:825: QUOTIENT_OP
+                {
+                mQUOTIENT_OP(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 83 :
+                // Ceylon.g:1:837: INTERSECTION_OP
+                {
+                mINTERSECTION_OP(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 84 :
+                // Ceylon.g:1:853: UNION_OP
+                {
+                mUNION_OP(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 85 :
+                // Ceylon.g:1:862: REMAINDER_OP
+                {
+                mREMAINDER_OP(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 86 :
+                // Ceylon.g:1:875: NOT_EQUAL_OP
+                {
+                mNOT_EQUAL_OP(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 87 :
+                // Ceylon.g:1:888: LARGER_OP
+                {
+                mLARGER_OP(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 88 :
+                // Ceylon.g:1:898: SMALLER_OP
+                {
+                mSMALLER_OP(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 89 :
+                // Ceylon.g:1:909: LARGE_AS_OP
+                {
+                mLARGE_AS_OP(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 90 :
+                // Ceylon.g:1:921: SMALL_AS_OP
+                {
+                mSMALL_AS_OP(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 91 :
+                // Ceylon.g:1:933: ENTRY_OP
+                {
+                mENTRY_OP(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 92 :
+                // Ceylon.g:1:942: COMPARE_OP
+                {
+                mCOMPARE_OP(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 93 :
+                // Ceylon.g:1:953: POWER_OP
+                {
+                mPOWER_OP(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 94 :
+                // Ceylon.g:1:962: ADD_SPECIFY
+                {
+                mADD_SPECIFY(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 95 :
+                // Ceylon.g:1:974: SUBTRACT_SPECIFY
+                {
+                mSUBTRACT_SPECIFY(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 96 :
+                // Ceylon.g:1:991: MULTIPLY_SPECIFY
+                {
+                mMULTIPLY_SPECIFY(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 97 :
+                // Ceylon.g:1:1008: DIVIDE_SPECIFY
+                {
+                mDIVIDE_SPECIFY(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 98 :
+                // Ceylon.g:1:1023: INTERSECT_SPECIFY
+                {
+                mINTERSECT_SPECIFY(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 99 :
+                // Ceylon.g:1:1041: UNION_SPECIFY
+                {
+                mUNION_SPECIFY(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 100 :
+                // Ceylon.g:1:1055: COMPLEMENT_SPECIFY
+                {
+                mCOMPLEMENT_SPECIFY(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 101 :
+                // Ceylon.g:1:1074: REMAINDER_SPECIFY
+                {
+                mREMAINDER_SPECIFY(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 102 :
+                // Ceylon.g:1:1092: AND_SPECIFY
+                {
+                mAND_SPECIFY(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 103 :
+                // Ceylon.g:1:1104: OR_SPECIFY
+                {
+                mOR_SPECIFY(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 104 :
+                // Ceylon.g:1:1115: COMPILER_ANNOTATION
+                {
+                mCOMPILER_ANNOTATION(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 105 :
+                // Ceylon.g:1:1135: UIDENTIFIER
+                {
+                mUIDENTIFIER(); if (state.failed) return ;
+
+
+                }
+                break;
+
+        }
+
+    }
+
+    // $ANTLR start synpred1_Ceylon
+    public final void synpred1_Ceylon_fragment() throws RecognitionException {
+        // Ceylon.g:4510:9: ( '.' ( '0' .. '9' ) )
+        // Ceylon.g:4510:10: '.' ( '0' .. '9' )
+        {
+        match('.'); if (state.failed) return ;
+
+        if ( (input.LA(1) >= '0' && input.LA(1) <= '9') ) {
+            input.consume();
+            state.failed=false;
+        }
+        else {
+            if (state.backtracking>0) {state.failed=true; return ;}
+            MismatchedSetException mse = new MismatchedSetException(null,input);
+            recover(mse);
+            throw mse;
+        }
+
+
+        }
+
+    }
+    // $ANTLR end synpred1_Ceylon
+
+    // $ANTLR start synpred2_Ceylon
+    public final void synpred2_Ceylon_fragment() throws RecognitionException {
+        // Ceylon.g:4528:64: ( '`' ~ '`' )
+        // Ceylon.g:4528:65: '`' ~ '`'
+        {
+        match('`'); if (state.failed) return ;
+
+        if ( (input.LA(1) >= '\u0000' && input.LA(1) <= '_')||(input.LA(1) >= 'a' && input.LA(1) <= '\uFFFF') ) {
+            input.consume();
+            state.failed=false;
+        }
+        else {
+            if (state.backtracking>0) {state.failed=true; return ;}
+            MismatchedSetException mse = new MismatchedSetException(null,input);
+            recover(mse);
+            throw mse;
+        }
+
+
+        }
+
+    }
+    // $ANTLR end synpred2_Ceylon
+
+    // $ANTLR start synpred3_Ceylon
+    public final void synpred3_Ceylon_fragment() throws RecognitionException {
+        // Ceylon.g:4533:63: ( '`' ~ '`' )
+        // Ceylon.g:4533:64: '`' ~ '`'
+        {
+        match('`'); if (state.failed) return ;
+
+        if ( (input.LA(1) >= '\u0000' && input.LA(1) <= '_')||(input.LA(1) >= 'a' && input.LA(1) <= '\uFFFF') ) {
+            input.consume();
+            state.failed=false;
+        }
+        else {
+            if (state.backtracking>0) {state.failed=true; return ;}
+            MismatchedSetException mse = new MismatchedSetException(null,input);
+            recover(mse);
+            throw mse;
+        }
+
+
+        }
+
+    }
+    // $ANTLR end synpred3_Ceylon
+
+    // $ANTLR start synpred4_Ceylon
+    public final void synpred4_Ceylon_fragment() throws RecognitionException {
+        // Ceylon.g:4562:33: ( '`' ~ '`' )
+        // Ceylon.g:4562:34: '`' ~ '`'
+        {
+        match('`'); if (state.failed) return ;
+
+        if ( (input.LA(1) >= '\u0000' && input.LA(1) <= '_')||(input.LA(1) >= 'a' && input.LA(1) <= '\uFFFF') ) {
+            input.consume();
+            state.failed=false;
+        }
+        else {
+            if (state.backtracking>0) {state.failed=true; return ;}
+            MismatchedSetException mse = new MismatchedSetException(null,input);
+            recover(mse);
+            throw mse;
+        }
+
+
+        }
+
+    }
+    // $ANTLR end synpred4_Ceylon
+
+    // $ANTLR start synpred5_Ceylon
+    public final void synpred5_Ceylon_fragment() throws RecognitionException {
+        // Ceylon.g:4594:14: ( '/' ~ '*' )
+        // Ceylon.g:4594:15: '/' ~ '*'
+        {
+        match('/'); if (state.failed) return ;
+
+        if ( (input.LA(1) >= '\u0000' && input.LA(1) <= ')')||(input.LA(1) >= '+' && input.LA(1) <= '\uFFFF') ) {
+            input.consume();
+            state.failed=false;
+        }
+        else {
+            if (state.backtracking>0) {state.failed=true; return ;}
+            MismatchedSetException mse = new MismatchedSetException(null,input);
+            recover(mse);
+            throw mse;
+        }
+
+
+        }
+
+    }
+    // $ANTLR end synpred5_Ceylon
+
+    // $ANTLR start synpred6_Ceylon
+    public final void synpred6_Ceylon_fragment() throws RecognitionException {
+        // Ceylon.g:4595:14: ( '*' ~ '/' )
+        // Ceylon.g:4595:15: '*' ~ '/'
+        {
+        match('*'); if (state.failed) return ;
+
+        if ( (input.LA(1) >= '\u0000' && input.LA(1) <= '.')||(input.LA(1) >= '0' && input.LA(1) <= '\uFFFF') ) {
+            input.consume();
+            state.failed=false;
+        }
+        else {
+            if (state.backtracking>0) {state.failed=true; return ;}
+            MismatchedSetException mse = new MismatchedSetException(null,input);
+            recover(mse);
+            throw mse;
+        }
+
+
+        }
+
+    }
+    // $ANTLR end synpred6_Ceylon
+
+    // $ANTLR start synpred7_Ceylon
+    public final void synpred7_Ceylon_fragment() throws RecognitionException {
+        // Ceylon.g:4931:9: ( '>=' ( ' ' | '\\r' | '\\t' | '\\f' | '\\n' )* ~ ( '>' | ']' | ')' | ',' | ' ' | '\\r' | '\\t' | '\\f' | '\\n' ) )
+        // Ceylon.g:4931:10: '>=' ( ' ' | '\\r' | '\\t' | '\\f' | '\\n' )* ~ ( '>' | ']' | ')' | ',' | ' ' | '\\r' | '\\t' | '\\f' | '\\n' )
+        {
+        match(">="); if (state.failed) return ;
+
+
+
+        // Ceylon.g:4931:15: ( ' ' | '\\r' | '\\t' | '\\f' | '\\n' )*
+        loop37:
+        do {
+            int alt37=2;
+            int LA37_0 = input.LA(1);
+
+            if ( ((LA37_0 >= '\t' && LA37_0 <= '\n')||(LA37_0 >= '\f' && LA37_0 <= '\r')||LA37_0==' ') ) {
+                alt37=1;
+            }
+
+
+            switch (alt37) {
+        	case 1 :
+        	    // Ceylon.g:
+        	    {
+        	    if ( (input.LA(1) >= '\t' && input.LA(1) <= '\n')||(input.LA(1) >= '\f' && input.LA(1) <= '\r')||input.LA(1)==' ' ) {
+        	        input.consume();
+        	        state.failed=false;
+        	    }
+        	    else {
+        	        if (state.backtracking>0) {state.failed=true; return ;}
+        	        MismatchedSetException mse = new MismatchedSetException(null,input);
+        	        recover(mse);
+        	        throw mse;
+        	    }
+
+
+        	    }
+        	    break;
+
+        	default :
+        	    break loop37;
+            }
+        } while (true);
+
+
+        if ( (input.LA(1) >= '\u0000' && input.LA(1) <= '\b')||input.LA(1)=='\u000B'||(input.LA(1) >= '\u000E' && input.LA(1) <= '\u001F')||(input.LA(1) >= '!' && input.LA(1) <= '(')||(input.LA(1) >= '*' && input.LA(1) <= '+')||(input.LA(1) >= '-' && input.LA(1) <= '=')||(input.LA(1) >= '?' && input.LA(1) <= '\\')||(input.LA(1) >= '^' && input.LA(1) <= '\uFFFF') ) {
+            input.consume();
+            state.failed=false;
+        }
+        else {
+            if (state.backtracking>0) {state.failed=true; return ;}
+            MismatchedSetException mse = new MismatchedSetException(null,input);
+            recover(mse);
+            throw mse;
+        }
+
+
+        }
+
+    }
+    // $ANTLR end synpred7_Ceylon
+
+    public final boolean synpred7_Ceylon() {
+        state.backtracking++;
+        int start = input.mark();
+        try {
+            synpred7_Ceylon_fragment(); // can never throw exception
+        } catch (RecognitionException re) {
+            System.err.println("impossible: "+re);
+        }
+        boolean success = !state.failed;
+        input.rewind(start);
+        state.backtracking--;
+        state.failed=false;
+        return success;
+    }
+    public final boolean synpred2_Ceylon() {
+        state.backtracking++;
+        int start = input.mark();
+        try {
+            synpred2_Ceylon_fragment(); // can never throw exception
+        } catch (RecognitionException re) {
+            System.err.println("impossible: "+re);
+        }
+        boolean success = !state.failed;
+        input.rewind(start);
+        state.backtracking--;
+        state.failed=false;
+        return success;
+    }
+    public final boolean synpred6_Ceylon() {
+        state.backtracking++;
+        int start = input.mark();
+        try {
+            synpred6_Ceylon_fragment(); // can never throw exception
+        } catch (RecognitionException re) {
+            System.err.println("impossible: "+re);
+        }
+        boolean success = !state.failed;
+        input.rewind(start);
+        state.backtracking--;
+        state.failed=false;
+        return success;
+    }
+    public final boolean synpred3_Ceylon() {
+        state.backtracking++;
+        int start = input.mark();
+        try {
+            synpred3_Ceylon_fragment(); // can never throw exception
+        } catch (RecognitionException re) {
+            System.err.println("impossible: "+re);
+        }
+        boolean success = !state.failed;
+        input.rewind(start);
+        state.backtracking--;
+        state.failed=false;
+        return success;
+    }
+    public final boolean synpred5_Ceylon() {
+        state.backtracking++;
+        int start = input.mark();
+        try {
+            synpred5_Ceylon_fragment(); // can never throw exception
+        } catch (RecognitionException re) {
+            System.err.println("impossible: "+re);
+        }
+        boolean success = !state.failed;
+        input.rewind(start);
+        state.backtracking--;
+        state.failed=false;
+        return success;
+    }
+    public final boolean synpred1_Ceylon() {
+        state.backtracking++;
+        int start = input.mark();
+        try {
+            synpred1_Ceylon_fragment(); // can never throw exception
+        } catch (RecognitionException re) {
+            System.err.println("impossible: "+re);
+        }
+        boolean success = !state.failed;
+        input.rewind(start);
+        state.backtracking--;
+        state.failed=false;
+        return success;
+    }
+    public final boolean synpred4_Ceylon() {
+        state.backtracking++;
+        int start = input.mark();
+        try {
+            synpred4_Ceylon_fragment(); // can never throw exception
+        } catch (RecognitionException re) {
+            System.err.println("impossible: "+re);
+        }
+        boolean success = !state.failed;
+        input.rewind(start);
+        state.backtracking--;
+        state.failed=false;
+        return success;
+    }
+
+
+    protected DFA36 dfa36 = new DFA36(this);
+    static final String DFA36_eotS =
+        "\4\uffff\1\65\1\67\1\uffff\1\72\22\62\1\137\11\uffff\1\142\1\144"+
+        "\1\146\1\150\1\153\1\156\1\161\1\165\1\171\1\173\1\175\1\177\4\uffff"+
+        "\1\65\6\uffff\16\62\1\u0091\1\62\1\u0094\1\u0095\5\62\1\u009b\13"+
+        "\62\1\u00aa\2\uffff\1\u00ac\7\uffff\1\u00ae\2\uffff\1\u00b0\21\uffff"+
+        "\1\u00b2\2\uffff\15\62\1\u00c1\2\62\1\uffff\2\62\2\uffff\1\u00c6"+
+        "\1\62\1\u00c8\2\62\1\uffff\1\u00cc\10\62\1\u00d5\3\62\12\uffff\5"+
+        "\62\1\u00df\4\62\1\u00e4\3\62\1\uffff\4\62\1\uffff\1\62\1\uffff"+
+        "\3\62\1\uffff\5\62\1\u00f5\1\u00f6\1\62\1\uffff\1\62\1\u00f9\2\62"+
+        "\1\u00fc\3\62\1\u0100\1\uffff\1\u0101\1\u0102\2\62\1\uffff\4\62"+
+        "\1\u0109\5\62\1\u010f\3\62\1\u0113\1\62\2\uffff\1\u0115\1\u0116"+
+        "\1\uffff\1\u0117\1\62\1\uffff\1\62\1\u011a\1\u011b\3\uffff\2\62"+
+        "\1\u011e\3\62\1\uffff\1\u0122\1\62\1\u0124\1\62\1\u0126\1\uffff"+
+        "\1\62\1\u0128\1\62\1\uffff\1\u012a\3\uffff\2\62\2\uffff\1\62\1\u012e"+
+        "\1\uffff\1\u012f\1\u0130\1\62\1\uffff\1\62\1\uffff\1\62\1\uffff"+
+        "\1\u0134\1\uffff\1\62\1\uffff\1\62\1\u0137\1\u0138\3\uffff\1\u0139"+
+        "\1\62\1\u013b\1\uffff\1\62\1\u013d\3\uffff\1\u013e\1\uffff\1\u013f"+
+        "\3\uffff";
+    static final String DFA36_eofS =
+        "\u0140\uffff";
+    static final String DFA36_minS =
+        "\1\11\1\uffff\1\41\1\uffff\1\42\1\140\1\uffff\1\52\1\142\1\162\1"+
+        "\141\1\171\1\154\2\151\1\146\1\145\1\157\1\145\1\142\1\141\1\145"+
+        "\1\141\1\150\1\141\1\150\1\56\11\uffff\1\75\1\56\2\75\1\46\1\75"+
+        "\1\53\1\55\1\52\3\75\4\uffff\1\42\6\uffff\1\163\1\151\1\163\1\145"+
+        "\1\163\1\141\2\156\1\163\1\151\1\156\1\162\1\156\1\166\1\60\1\160"+
+        "\2\60\1\164\1\144\1\167\1\156\1\152\1\60\1\164\1\143\2\164\1\160"+
+        "\1\151\1\145\1\171\1\154\2\151\1\56\2\uffff\1\75\7\uffff\1\75\2"+
+        "\uffff\1\75\21\uffff\1\76\2\uffff\1\164\1\141\1\145\1\141\1\145"+
+        "\1\143\1\163\1\164\1\141\1\145\1\163\1\145\1\141\1\60\1\143\1\145"+
+        "\1\uffff\1\157\1\145\2\uffff\1\60\1\165\1\60\2\145\1\uffff\1\60"+
+        "\1\153\1\165\1\151\1\145\1\164\1\156\1\163\1\157\1\60\1\165\1\144"+
+        "\1\154\12\uffff\1\162\1\163\1\155\1\147\1\153\1\60\1\150\1\163\1"+
+        "\151\1\155\1\60\1\164\1\156\1\154\1\uffff\1\164\1\156\2\162\1\uffff"+
+        "\1\154\1\uffff\1\155\1\143\1\162\1\uffff\1\141\1\162\1\163\1\162"+
+        "\1\143\2\60\1\167\1\uffff\1\145\1\60\1\145\1\141\1\60\1\142\1\164"+
+        "\1\156\1\60\1\uffff\2\60\1\156\1\151\1\uffff\1\163\1\144\1\154\1"+
+        "\151\1\60\1\164\1\146\1\145\1\160\1\164\1\60\1\147\1\156\1\146\1"+
+        "\60\1\150\2\uffff\2\60\1\uffff\1\60\1\143\1\uffff\1\154\2\60\3\uffff"+
+        "\1\165\1\143\1\60\1\163\1\171\1\157\1\uffff\1\60\1\141\1\60\1\164"+
+        "\1\60\1\uffff\1\145\1\60\1\151\1\uffff\1\60\3\uffff\1\164\1\171"+
+        "\2\uffff\1\145\1\60\1\uffff\2\60\1\156\1\uffff\1\143\1\uffff\1\171"+
+        "\1\uffff\1\60\1\uffff\1\145\1\uffff\1\163\2\60\3\uffff\1\60\1\145"+
+        "\1\60\1\uffff\1\163\1\60\3\uffff\1\60\1\uffff\1\60\3\uffff";
+    static final String DFA36_maxS =
+        "\1\uffff\1\uffff\1\146\1\uffff\1\42\1\140\1\uffff\1\75\1\163\1\162"+
+        "\1\157\1\171\1\170\1\165\1\151\1\163\1\145\2\157\1\165\1\141\1\145"+
+        "\1\167\1\162\1\157\1\150\1\56\11\uffff\1\76\1\56\3\75\1\174\1\75"+
+        "\1\76\4\75\4\uffff\1\42\6\uffff\1\163\1\151\1\163\1\145\1\164\1"+
+        "\141\2\156\1\163\1\164\1\156\1\162\1\156\1\166\1\uffff\1\160\2\uffff"+
+        "\1\164\1\144\1\167\1\156\1\152\1\uffff\1\164\1\143\2\164\1\160\1"+
+        "\151\1\162\1\171\1\154\2\151\1\56\2\uffff\1\75\7\uffff\1\75\2\uffff"+
+        "\1\75\21\uffff\1\76\2\uffff\1\164\1\141\1\151\1\141\1\145\1\143"+
+        "\1\163\1\164\1\141\1\145\1\163\1\145\1\141\1\uffff\1\143\1\145\1"+
+        "\uffff\1\157\1\145\2\uffff\1\uffff\1\165\1\uffff\2\145\1\uffff\1"+
+        "\uffff\1\153\1\165\1\151\1\145\1\164\1\156\1\163\1\157\1\uffff\1"+
+        "\165\1\144\1\154\12\uffff\1\162\1\163\1\162\1\147\1\153\1\uffff"+
+        "\1\150\1\163\1\151\1\155\1\uffff\1\164\1\156\1\154\1\uffff\1\164"+
+        "\1\156\2\162\1\uffff\1\154\1\uffff\1\155\1\143\1\162\1\uffff\1\141"+
+        "\1\162\1\163\1\162\1\143\2\uffff\1\167\1\uffff\1\145\1\uffff\1\145"+
+        "\1\141\1\uffff\1\142\1\164\1\156\1\uffff\1\uffff\2\uffff\1\156\1"+
+        "\151\1\uffff\1\163\1\144\1\154\1\151\1\uffff\1\164\1\146\1\145\1"+
+        "\160\1\164\1\uffff\1\147\1\156\1\146\1\uffff\1\150\2\uffff\2\uffff"+
+        "\1\uffff\1\uffff\1\143\1\uffff\1\154\2\uffff\3\uffff\1\165\1\143"+
+        "\1\uffff\1\163\1\171\1\157\1\uffff\1\uffff\1\141\1\uffff\1\164\1"+
+        "\uffff\1\uffff\1\145\1\uffff\1\151\1\uffff\1\uffff\3\uffff\1\164"+
+        "\1\171\2\uffff\1\145\1\uffff\1\uffff\2\uffff\1\156\1\uffff\1\143"+
+        "\1\uffff\1\171\1\uffff\1\uffff\1\uffff\1\145\1\uffff\1\163\2\uffff"+
+        "\3\uffff\1\uffff\1\145\1\uffff\1\uffff\1\163\1\uffff\3\uffff\1\uffff"+
+        "\1\uffff\1\uffff\3\uffff";
+    static final String DFA36_acceptS =
+        "\1\uffff\1\1\1\uffff\1\2\2\uffff\1\6\24\uffff\1\67\1\71\1\72\1\73"+
+        "\1\74\1\75\1\76\1\77\1\100\14\uffff\1\135\1\150\1\151\1\7\1\uffff"+
+        "\1\3\1\4\1\11\1\10\1\141\1\122\44\uffff\1\70\1\102\1\uffff\1\101"+
+        "\1\103\1\104\1\126\1\105\1\144\1\106\1\uffff\1\142\1\123\1\uffff"+
+        "\1\143\1\124\1\113\1\136\1\115\1\114\1\133\1\137\1\116\1\117\1\120"+
+        "\1\140\1\121\1\145\1\125\1\131\1\127\1\uffff\1\130\1\5\20\uffff"+
+        "\1\34\2\uffff\1\36\1\40\5\uffff\1\46\15\uffff\1\65\1\66\1\110\1"+
+        "\107\1\146\1\111\1\147\1\112\1\134\1\132\16\uffff\1\31\4\uffff\1"+
+        "\41\1\uffff\1\43\3\uffff\1\47\10\uffff\1\61\11\uffff\1\20\4\uffff"+
+        "\1\25\20\uffff\1\56\1\57\2\uffff\1\63\2\uffff\1\13\3\uffff\1\17"+
+        "\1\21\1\22\6\uffff\1\33\5\uffff\1\50\3\uffff\1\54\1\uffff\1\60\1"+
+        "\62\1\64\2\uffff\1\15\1\16\2\uffff\1\26\3\uffff\1\35\1\uffff\1\42"+
+        "\1\uffff\1\45\1\uffff\1\52\1\uffff\1\55\3\uffff\1\24\1\27\1\30\3"+
+        "\uffff\1\51\2\uffff\1\14\1\23\1\32\1\uffff\1\44\1\uffff\1\12\1\37"+
+        "\1\53";
+    static final String DFA36_specialS =
+        "\u0140\uffff}>";
+    static final String[] DFA36_transitionS = {
+            "\2\6\1\uffff\2\6\22\uffff\1\6\1\46\1\4\1\2\1\1\1\55\1\50\1\3"+
+            "\1\34\1\35\1\54\1\52\1\43\1\53\1\32\1\7\12\1\1\33\1\42\1\57"+
+            "\1\44\1\56\1\45\1\61\32\62\1\40\1\62\1\41\1\60\1\62\1\5\1\10"+
+            "\1\11\1\12\1\13\1\14\1\15\1\16\1\62\1\17\2\62\1\20\1\21\1\22"+
+            "\1\23\1\24\1\62\1\25\1\26\1\27\1\62\1\30\1\31\3\62\1\36\1\51"+
+            "\1\37\1\47\1\uffff\uff80\62",
+            "",
+            "\1\63\16\uffff\12\1\7\uffff\6\1\32\uffff\6\1",
+            "",
+            "\1\64",
+            "\1\66",
+            "",
+            "\1\70\4\uffff\1\63\15\uffff\1\71",
+            "\1\73\11\uffff\1\74\6\uffff\1\75",
+            "\1\76",
+            "\1\77\12\uffff\1\100\2\uffff\1\101",
+            "\1\102",
+            "\1\103\13\uffff\1\104",
+            "\1\105\5\uffff\1\106\5\uffff\1\107",
+            "\1\110",
+            "\1\111\6\uffff\1\112\1\113\4\uffff\1\114",
+            "\1\115",
+            "\1\116",
+            "\1\117\11\uffff\1\120",
+            "\1\121\3\uffff\1\122\16\uffff\1\123",
+            "\1\124",
+            "\1\125",
+            "\1\126\23\uffff\1\127\1\uffff\1\130",
+            "\1\131\11\uffff\1\132",
+            "\1\133\15\uffff\1\134",
+            "\1\135",
+            "\1\136",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "\1\141\1\140",
+            "\1\143",
+            "\1\145",
+            "\1\147",
+            "\1\151\26\uffff\1\152",
+            "\1\155\76\uffff\1\154",
+            "\1\157\21\uffff\1\160",
+            "\1\162\17\uffff\1\164\1\163",
+            "\1\167\3\uffff\1\166\16\uffff\1\170",
+            "\1\172",
+            "\1\174",
+            "\1\176",
+            "",
+            "",
+            "",
+            "",
+            "\1\u0080",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "\1\u0081",
+            "\1\u0082",
+            "\1\u0083",
+            "\1\u0084",
+            "\1\u0085\1\u0086",
+            "\1\u0087",
+            "\1\u0088",
+            "\1\u0089",
+            "\1\u008a",
+            "\1\u008b\12\uffff\1\u008c",
+            "\1\u008d",
+            "\1\u008e",
+            "\1\u008f",
+            "\1\u0090",
+            "\12\62\7\uffff\32\62\4\uffff\1\62\1\uffff\32\62\5\uffff\uff80"+
+            "\62",
+            "\1\u0092",
+            "\12\62\7\uffff\32\62\4\uffff\1\62\1\uffff\23\62\1\u0093\6\62"+
+            "\5\uffff\uff80\62",
+            "\12\62\7\uffff\32\62\4\uffff\1\62\1\uffff\32\62\5\uffff\uff80"+
+            "\62",
+            "\1\u0096",
+            "\1\u0097",
+            "\1\u0098",
+            "\1\u0099",
+            "\1\u009a",
+            "\12\62\7\uffff\32\62\4\uffff\1\62\1\uffff\32\62\5\uffff\uff80"+
+            "\62",
+            "\1\u009c",
+            "\1\u009d",
+            "\1\u009e",
+            "\1\u009f",
+            "\1\u00a0",
+            "\1\u00a1",
+            "\1\u00a2\3\uffff\1\u00a3\10\uffff\1\u00a4",
+            "\1\u00a5",
+            "\1\u00a6",
+            "\1\u00a7",
+            "\1\u00a8",
+            "\1\u00a9",
+            "",
+            "",
+            "\1\u00ab",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "\1\u00ad",
+            "",
+            "",
+            "\1\u00af",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "\1\u00b1",
+            "",
+            "",
+            "\1\u00b3",
+            "\1\u00b4",
+            "\1\u00b5\3\uffff\1\u00b6",
+            "\1\u00b7",
+            "\1\u00b8",
+            "\1\u00b9",
+            "\1\u00ba",
+            "\1\u00bb",
+            "\1\u00bc",
+            "\1\u00bd",
+            "\1\u00be",
+            "\1\u00bf",
+            "\1\u00c0",
+            "\12\62\7\uffff\32\62\4\uffff\1\62\1\uffff\32\62\5\uffff\uff80"+
+            "\62",
+            "\1\u00c2",
+            "\1\u00c3",
+            "",
+            "\1\u00c4",
+            "\1\u00c5",
+            "",
+            "",
+            "\12\62\7\uffff\32\62\4\uffff\1\62\1\uffff\32\62\5\uffff\uff80"+
+            "\62",
+            "\1\u00c7",
+            "\12\62\7\uffff\32\62\4\uffff\1\62\1\uffff\32\62\5\uffff\uff80"+
+            "\62",
+            "\1\u00c9",
+            "\1\u00ca",
+            "",
+            "\12\62\7\uffff\32\62\4\uffff\1\62\1\uffff\4\62\1\u00cb\25\62"+
+            "\5\uffff\uff80\62",
+            "\1\u00cd",
+            "\1\u00ce",
+            "\1\u00cf",
+            "\1\u00d0",
+            "\1\u00d1",
+            "\1\u00d2",
+            "\1\u00d3",
+            "\1\u00d4",
+            "\12\62\7\uffff\32\62\4\uffff\1\62\1\uffff\32\62\5\uffff\uff80"+
+            "\62",
+            "\1\u00d6",
+            "\1\u00d7",
+            "\1\u00d8",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "\1\u00d9",
+            "\1\u00da",
+            "\1\u00db\4\uffff\1\u00dc",
+            "\1\u00dd",
+            "\1\u00de",
+            "\12\62\7\uffff\32\62\4\uffff\1\62\1\uffff\32\62\5\uffff\uff80"+
+            "\62",
+            "\1\u00e0",
+            "\1\u00e1",
+            "\1\u00e2",
+            "\1\u00e3",
+            "\12\62\7\uffff\32\62\4\uffff\1\62\1\uffff\32\62\5\uffff\uff80"+
+            "\62",
+            "\1\u00e5",
+            "\1\u00e6",
+            "\1\u00e7",
+            "",
+            "\1\u00e8",
+            "\1\u00e9",
+            "\1\u00ea",
+            "\1\u00eb",
+            "",
+            "\1\u00ec",
+            "",
+            "\1\u00ed",
+            "\1\u00ee",
+            "\1\u00ef",
+            "",
+            "\1\u00f0",
+            "\1\u00f1",
+            "\1\u00f2",
+            "\1\u00f3",
+            "\1\u00f4",
+            "\12\62\7\uffff\32\62\4\uffff\1\62\1\uffff\32\62\5\uffff\uff80"+
+            "\62",
+            "\12\62\7\uffff\32\62\4\uffff\1\62\1\uffff\32\62\5\uffff\uff80"+
+            "\62",
+            "\1\u00f7",
+            "",
+            "\1\u00f8",
+            "\12\62\7\uffff\32\62\4\uffff\1\62\1\uffff\32\62\5\uffff\uff80"+
+            "\62",
+            "\1\u00fa",
+            "\1\u00fb",
+            "\12\62\7\uffff\32\62\4\uffff\1\62\1\uffff\32\62\5\uffff\uff80"+
+            "\62",
+            "\1\u00fd",
+            "\1\u00fe",
+            "\1\u00ff",
+            "\12\62\7\uffff\32\62\4\uffff\1\62\1\uffff\32\62\5\uffff\uff80"+
+            "\62",
+            "",
+            "\12\62\7\uffff\32\62\4\uffff\1\62\1\uffff\32\62\5\uffff\uff80"+
+            "\62",
+            "\12\62\7\uffff\32\62\4\uffff\1\62\1\uffff\32\62\5\uffff\uff80"+
+            "\62",
+            "\1\u0103",
+            "\1\u0104",
+            "",
+            "\1\u0105",
+            "\1\u0106",
+            "\1\u0107",
+            "\1\u0108",
+            "\12\62\7\uffff\32\62\4\uffff\1\62\1\uffff\32\62\5\uffff\uff80"+
+            "\62",
+            "\1\u010a",
+            "\1\u010b",
+            "\1\u010c",
+            "\1\u010d",
+            "\1\u010e",
+            "\12\62\7\uffff\32\62\4\uffff\1\62\1\uffff\32\62\5\uffff\uff80"+
+            "\62",
+            "\1\u0110",
+            "\1\u0111",
+            "\1\u0112",
+            "\12\62\7\uffff\32\62\4\uffff\1\62\1\uffff\32\62\5\uffff\uff80"+
+            "\62",
+            "\1\u0114",
+            "",
+            "",
+            "\12\62\7\uffff\32\62\4\uffff\1\62\1\uffff\32\62\5\uffff\uff80"+
+            "\62",
+            "\12\62\7\uffff\32\62\4\uffff\1\62\1\uffff\32\62\5\uffff\uff80"+
+            "\62",
+            "",
+            "\12\62\7\uffff\32\62\4\uffff\1\62\1\uffff\32\62\5\uffff\uff80"+
+            "\62",
+            "\1\u0118",
+            "",
+            "\1\u0119",
+            "\12\62\7\uffff\32\62\4\uffff\1\62\1\uffff\32\62\5\uffff\uff80"+
+            "\62",
+            "\12\62\7\uffff\32\62\4\uffff\1\62\1\uffff\32\62\5\uffff\uff80"+
+            "\62",
+            "",
+            "",
+            "",
+            "\1\u011c",
+            "\1\u011d",
+            "\12\62\7\uffff\32\62\4\uffff\1\62\1\uffff\32\62\5\uffff\uff80"+
+            "\62",
+            "\1\u011f",
+            "\1\u0120",
+            "\1\u0121",
+            "",
+            "\12\62\7\uffff\32\62\4\uffff\1\62\1\uffff\32\62\5\uffff\uff80"+
+            "\62",
+            "\1\u0123",
+            "\12\62\7\uffff\32\62\4\uffff\1\62\1\uffff\32\62\5\uffff\uff80"+
+            "\62",
+            "\1\u0125",
+            "\12\62\7\uffff\32\62\4\uffff\1\62\1\uffff\32\62\5\uffff\uff80"+
+            "\62",
+            "",
+            "\1\u0127",
+            "\12\62\7\uffff\32\62\4\uffff\1\62\1\uffff\32\62\5\uffff\uff80"+
+            "\62",
+            "\1\u0129",
+            "",
+            "\12\62\7\uffff\32\62\4\uffff\1\62\1\uffff\32\62\5\uffff\uff80"+
+            "\62",
+            "",
+            "",
+            "",
+            "\1\u012b",
+            "\1\u012c",
+            "",
+            "",
+            "\1\u012d",
+            "\12\62\7\uffff\32\62\4\uffff\1\62\1\uffff\32\62\5\uffff\uff80"+
+            "\62",
+            "",
+            "\12\62\7\uffff\32\62\4\uffff\1\62\1\uffff\32\62\5\uffff\uff80"+
+            "\62",
+            "\12\62\7\uffff\32\62\4\uffff\1\62\1\uffff\32\62\5\uffff\uff80"+
+            "\62",
+            "\1\u0131",
+            "",
+            "\1\u0132",
+            "",
+            "\1\u0133",
+            "",
+            "\12\62\7\uffff\32\62\4\uffff\1\62\1\uffff\32\62\5\uffff\uff80"+
+            "\62",
+            "",
+            "\1\u0135",
+            "",
+            "\1\u0136",
+            "\12\62\7\uffff\32\62\4\uffff\1\62\1\uffff\32\62\5\uffff\uff80"+
+            "\62",
+            "\12\62\7\uffff\32\62\4\uffff\1\62\1\uffff\32\62\5\uffff\uff80"+
+            "\62",
+            "",
+            "",
+            "",
+            "\12\62\7\uffff\32\62\4\uffff\1\62\1\uffff\32\62\5\uffff\uff80"+
+            "\62",
+            "\1\u013a",
+            "\12\62\7\uffff\32\62\4\uffff\1\62\1\uffff\32\62\5\uffff\uff80"+
+            "\62",
+            "",
+            "\1\u013c",
+            "\12\62\7\uffff\32\62\4\uffff\1\62\1\uffff\32\62\5\uffff\uff80"+
+            "\62",
+            "",
+            "",
+            "",
+            "\12\62\7\uffff\32\62\4\uffff\1\62\1\uffff\32\62\5\uffff\uff80"+
+            "\62",
+            "",
+            "\12\62\7\uffff\32\62\4\uffff\1\62\1\uffff\32\62\5\uffff\uff80"+
+            "\62",
+            "",
+            "",
+            ""
+    };
+
+    static final short[] DFA36_eot = DFA.unpackEncodedString(DFA36_eotS);
+    static final short[] DFA36_eof = DFA.unpackEncodedString(DFA36_eofS);
+    static final char[] DFA36_min = DFA.unpackEncodedStringToUnsignedChars(DFA36_minS);
+    static final char[] DFA36_max = DFA.unpackEncodedStringToUnsignedChars(DFA36_maxS);
+    static final short[] DFA36_accept = DFA.unpackEncodedString(DFA36_acceptS);
+    static final short[] DFA36_special = DFA.unpackEncodedString(DFA36_specialS);
+    static final short[][] DFA36_transition;
+
+    static {
+        int numStates = DFA36_transitionS.length;
+        DFA36_transition = new short[numStates][];
+        for (int i=0; i<numStates; i++) {
+            DFA36_transition[i] = DFA.unpackEncodedString(DFA36_transitionS[i]);
+        }
+    }
+
+    class DFA36 extends DFA {
+
+        public DFA36(BaseRecognizer recognizer) {
+            this.recognizer = recognizer;
+            this.decisionNumber = 36;
+            this.eot = DFA36_eot;
+            this.eof = DFA36_eof;
+            this.min = DFA36_min;
+            this.max = DFA36_max;
+            this.accept = DFA36_accept;
+            this.special = DFA36_special;
+            this.transition = DFA36_transition;
+        }
+        public String getDescription() {
+            return "1:1: Tokens : ( NATURAL_LITERAL | CHAR_LITERAL | STRING_LITERAL | STRING_END | VERBATIM_STRING | WS | LINE_COMMENT | MULTI_COMMENT | BACKTICK | ABSTRACTED_TYPE | ALIAS | ASSEMBLY | ASSERT | ASSIGN | BREAK | CASE_CLAUSE | CATCH_CLAUSE | CLASS_DEFINITION | CONTINUE | DYNAMIC | ELSE_CLAUSE | EXISTS | EXTENDS | FINALLY_CLAUSE | FOR_CLAUSE | FUNCTION_MODIFIER | TYPE_CONSTRAINT | IF_CLAUSE | IMPORT | IN_OP | INTERFACE_DEFINITION | IS_OP | LET | MODULE | NEW | NONEMPTY | OBJECT_DEFINITION | CASE_TYPES | OUT | OUTER | PACKAGE | RETURN | SATISFIES | SUPER | SWITCH_CLAUSE | THEN_CLAUSE | THIS | THROW | TRY_CLAUSE | VALUE_MODIFIER | VOID_MODIFIER | WHILE_CLAUSE | ELLIPSIS | RANGE_OP | SEGMENT_OP | MEMBER_OP | LPAREN | RPAREN | LBRACE | RBRACE | LBRACKET | RBRACKET | SEMICOLON | COMMA | SPECIFY | COMPUTE | SAFE_MEMBER_OP | OPTIONAL | NOT_OP | COMPLEMENT_OP | EQUAL_OP | IDENTICAL_OP | AND_OP | OR_OP | INCREMENT_OP | DECREMENT_OP | SUM_OP | DIFFERENCE_OP | SPREAD_OP | SCALE_OP | PRODUCT_OP | QUOTIENT_OP | INTERSECTION_OP | UNION_OP | REMAINDER_OP | NOT_EQUAL_OP | LARGER_OP | SMALLER_OP | LARGE_AS_OP | SMALL_AS_OP | ENTRY_OP | COMPARE_OP | POWER_OP | ADD_SPECIFY | SUBTRACT_SPECIFY | MULTIPLY_SPECIFY | DIVIDE_SPECIFY | INTERSECT_SPECIFY | UNION_SPECIFY | COMPLEMENT_SPECIFY | REMAINDER_SPECIFY | AND_SPECIFY | OR_SPECIFY | COMPILER_ANNOTATION | UIDENTIFIER );";
+        }
+    }
+ 
+
+}
\ No newline at end of file
@@ -0,0 +1,1837 @@
+package com.redhat.ceylon.compiler.typechecker.tree;
+
+import static com.redhat.ceylon.compiler.typechecker.tree.Tree.*;
+import static com.redhat.ceylon.compiler.typechecker.tree.Tree.Package;
+
+/**
+ * A visitor which does its work in an {@code enter()}
+ * hook, called before the children of a node are
+ * visited, and in a {@code leave()} hook, called after
+ * them. A {@link FusedVisitor} calls the hooks of
+ * several such visitors in a single walk of the tree,
+ * in the same order as each of them would on its own.
+ * 
+ * Like {@code visit()}, the hook for a node type calls
+ * the hook for its supertype, so an override calls
+ * {@code super.enter()} after its own work, and
+ * {@code super.leave()} before it.
+ */
+public abstract class FusableVisitor extends Visitor {
+
+    public void enterAny(Node that) {}
+
+    public void leaveAny(Node that) {}
+
+    public void enter(CompilationUnit that) { enterAny(that); }
+    public void leave(CompilationUnit that) { leaveAny(that); }
+    @Override public final void visit(CompilationUnit that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(ModuleDescriptor that) { enter((StatementOrArgument) that); }
+    public void leave(ModuleDescriptor that) { leave((StatementOrArgument) that); }
+    @Override public final void visit(ModuleDescriptor that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(PackageDescriptor that) { enter((StatementOrArgument) that); }
+    public void leave(PackageDescriptor that) { leave((StatementOrArgument) that); }
+    @Override public final void visit(PackageDescriptor that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(ImportModuleList that) { enterAny(that); }
+    public void leave(ImportModuleList that) { leaveAny(that); }
+    @Override public final void visit(ImportModuleList that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(ImportModule that) { enter((StatementOrArgument) that); }
+    public void leave(ImportModule that) { leave((StatementOrArgument) that); }
+    @Override public final void visit(ImportModule that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(ImportList that) { enterAny(that); }
+    public void leave(ImportList that) { leaveAny(that); }
+    @Override public final void visit(ImportList that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(Import that) { enter((StatementOrArgument) that); }
+    public void leave(Import that) { leave((StatementOrArgument) that); }
+    @Override public final void visit(Import that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(ImportPath that) { enterAny(that); }
+    public void leave(ImportPath that) { leaveAny(that); }
+    @Override public final void visit(ImportPath that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(ImportMemberOrTypeList that) { enterAny(that); }
+    public void leave(ImportMemberOrTypeList that) { leaveAny(that); }
+    @Override public final void visit(ImportMemberOrTypeList that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(ImportMemberOrType that) { enter((StatementOrArgument) that); }
+    public void leave(ImportMemberOrType that) { leave((StatementOrArgument) that); }
+    @Override public final void visit(ImportMemberOrType that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(ImportMember that) { enter((ImportMemberOrType) that); }
+    public void leave(ImportMember that) { leave((ImportMemberOrType) that); }
+    @Override public final void visit(ImportMember that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(ImportType that) { enter((ImportMemberOrType) that); }
+    public void leave(ImportType that) { leave((ImportMemberOrType) that); }
+    @Override public final void visit(ImportType that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(Alias that) { enterAny(that); }
+    public void leave(Alias that) { leaveAny(that); }
+    @Override public final void visit(Alias that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(ImportWildcard that) { enterAny(that); }
+    public void leave(ImportWildcard that) { leaveAny(that); }
+    @Override public final void visit(ImportWildcard that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(Declaration that) { enter((Statement) that); }
+    public void leave(Declaration that) { leave((Statement) that); }
+    public void enter(MissingDeclaration that) { enter((Declaration) that); }
+    public void leave(MissingDeclaration that) { leave((Declaration) that); }
+    @Override public final void visit(MissingDeclaration that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(TypeDeclaration that) { enter((Declaration) that); }
+    public void leave(TypeDeclaration that) { leave((Declaration) that); }
+    public void enter(ClassOrInterface that) { enter((TypeDeclaration) that); }
+    public void leave(ClassOrInterface that) { leave((TypeDeclaration) that); }
+    public void enter(TypeAliasDeclaration that) { enter((TypeDeclaration) that); }
+    public void leave(TypeAliasDeclaration that) { leave((TypeDeclaration) that); }
+    @Override public final void visit(TypeAliasDeclaration that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(SatisfiedTypes that) { enterAny(that); }
+    public void leave(SatisfiedTypes that) { leaveAny(that); }
+    @Override public final void visit(SatisfiedTypes that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(AbstractedType that) { enterAny(that); }
+    public void leave(AbstractedType that) { leaveAny(that); }
+    @Override public final void visit(AbstractedType that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(CaseTypes that) { enterAny(that); }
+    public void leave(CaseTypes that) { leaveAny(that); }
+    @Override public final void visit(CaseTypes that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(ExtendedType that) { enterAny(that); }
+    public void leave(ExtendedType that) { leaveAny(that); }
+    @Override public final void visit(ExtendedType that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(TypeConstraintList that) { enterAny(that); }
+    public void leave(TypeConstraintList that) { leaveAny(that); }
+    @Override public final void visit(TypeConstraintList that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(TypeConstraint that) { enter((TypeDeclaration) that); }
+    public void leave(TypeConstraint that) { leave((TypeDeclaration) that); }
+    @Override public final void visit(TypeConstraint that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(TypeSpecifier that) { enterAny(that); }
+    public void leave(TypeSpecifier that) { leaveAny(that); }
+    @Override public final void visit(TypeSpecifier that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(DefaultTypeArgument that) { enter((TypeSpecifier) that); }
+    public void leave(DefaultTypeArgument that) { leave((TypeSpecifier) that); }
+    @Override public final void visit(DefaultTypeArgument that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(ClassSpecifier that) { enterAny(that); }
+    public void leave(ClassSpecifier that) { leaveAny(that); }
+    @Override public final void visit(ClassSpecifier that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(AnyClass that) { enter((ClassOrInterface) that); }
+    public void leave(AnyClass that) { leave((ClassOrInterface) that); }
+    @Override public final void visit(AnyClass that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(ClassDefinition that) { enter((AnyClass) that); }
+    public void leave(ClassDefinition that) { leave((AnyClass) that); }
+    @Override public final void visit(ClassDefinition that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(Enumerated that) { enter((Declaration) that); }
+    public void leave(Enumerated that) { leave((Declaration) that); }
+    @Override public final void visit(Enumerated that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(Constructor that) { enter((Declaration) that); }
+    public void leave(Constructor that) { leave((Declaration) that); }
+    @Override public final void visit(Constructor that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(DelegatedConstructor that) { enterAny(that); }
+    public void leave(DelegatedConstructor that) { leaveAny(that); }
+    @Override public final void visit(DelegatedConstructor that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(ClassDeclaration that) { enter((AnyClass) that); }
+    public void leave(ClassDeclaration that) { leave((AnyClass) that); }
+    @Override public final void visit(ClassDeclaration that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(AnyInterface that) { enter((ClassOrInterface) that); }
+    public void leave(AnyInterface that) { leave((ClassOrInterface) that); }
+    @Override public final void visit(AnyInterface that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(InterfaceDefinition that) { enter((AnyInterface) that); }
+    public void leave(InterfaceDefinition that) { leave((AnyInterface) that); }
+    @Override public final void visit(InterfaceDefinition that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(InterfaceDeclaration that) { enter((AnyInterface) that); }
+    public void leave(InterfaceDeclaration that) { leave((AnyInterface) that); }
+    @Override public final void visit(InterfaceDeclaration that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(TypedDeclaration that) { enter((Declaration) that); }
+    public void leave(TypedDeclaration that) { leave((Declaration) that); }
+    public void enter(AnyAttribute that) { enter((TypedDeclaration) that); }
+    public void leave(AnyAttribute that) { leave((TypedDeclaration) that); }
+    public void enter(AttributeDeclaration that) { enter((AnyAttribute) that); }
+    public void leave(AttributeDeclaration that) { leave((AnyAttribute) that); }
+    @Override public final void visit(AttributeDeclaration that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(AttributeGetterDefinition that) { enter((AnyAttribute) that); }
+    public void leave(AttributeGetterDefinition that) { leave((AnyAttribute) that); }
+    @Override public final void visit(AttributeGetterDefinition that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(AttributeSetterDefinition that) { enter((TypedDeclaration) that); }
+    public void leave(AttributeSetterDefinition that) { leave((TypedDeclaration) that); }
+    @Override public final void visit(AttributeSetterDefinition that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(AnyMethod that) { enter((TypedDeclaration) that); }
+    public void leave(AnyMethod that) { leave((TypedDeclaration) that); }
+    @Override public final void visit(AnyMethod that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(MethodDefinition that) { enter((AnyMethod) that); }
+    public void leave(MethodDefinition that) { leave((AnyMethod) that); }
+    @Override public final void visit(MethodDefinition that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(MethodDeclaration that) { enter((AnyMethod) that); }
+    public void leave(MethodDeclaration that) { leave((AnyMethod) that); }
+    @Override public final void visit(MethodDeclaration that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(VoidModifier that) { enter((Type) that); }
+    public void leave(VoidModifier that) { leave((Type) that); }
+    @Override public final void visit(VoidModifier that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(ObjectDefinition that) { enter((TypedDeclaration) that); }
+    public void leave(ObjectDefinition that) { leave((TypedDeclaration) that); }
+    @Override public final void visit(ObjectDefinition that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(ParameterList that) { enterAny(that); }
+    public void leave(ParameterList that) { leaveAny(that); }
+    @Override public final void visit(ParameterList that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(Parameter that) { enterAny(that); }
+    public void leave(Parameter that) { leaveAny(that); }
+    public void enter(ParameterDeclaration that) { enter((Parameter) that); }
+    public void leave(ParameterDeclaration that) { leave((Parameter) that); }
+    public void enter(ValueParameterDeclaration that) { enter((ParameterDeclaration) that); }
+    public void leave(ValueParameterDeclaration that) { leave((ParameterDeclaration) that); }
+    @Override public final void visit(ValueParameterDeclaration that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(FunctionalParameterDeclaration that) { enter((ParameterDeclaration) that); }
+    public void leave(FunctionalParameterDeclaration that) { leave((ParameterDeclaration) that); }
+    @Override public final void visit(FunctionalParameterDeclaration that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(InitializerParameter that) { enter((Parameter) that); }
+    public void leave(InitializerParameter that) { leave((Parameter) that); }
+    @Override public final void visit(InitializerParameter that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(TypeParameterList that) { enterAny(that); }
+    public void leave(TypeParameterList that) { leaveAny(that); }
+    @Override public final void visit(TypeParameterList that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(TypeParameterDeclaration that) { enter((Declaration) that); }
+    public void leave(TypeParameterDeclaration that) { leave((Declaration) that); }
+    @Override public final void visit(TypeParameterDeclaration that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(TypeVariance that) { enterAny(that); }
+    public void leave(TypeVariance that) { leaveAny(that); }
+    @Override public final void visit(TypeVariance that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(Body that) { enterAny(that); }
+    public void leave(Body that) { leaveAny(that); }
+    public void enter(Block that) { enter((Body) that); }
+    public void leave(Block that) { leave((Body) that); }
+    @Override public final void visit(Block that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(ClassBody that) { enter((Body) that); }
+    public void leave(ClassBody that) { leave((Body) that); }
+    @Override public final void visit(ClassBody that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(InterfaceBody that) { enter((Body) that); }
+    public void leave(InterfaceBody that) { leave((Body) that); }
+    @Override public final void visit(InterfaceBody that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(Type that) { enterAny(that); }
+    public void leave(Type that) { leaveAny(that); }
+    public void enter(StaticType that) { enter((Type) that); }
+    public void leave(StaticType that) { leave((Type) that); }
+    public void enter(GroupedType that) { enter((StaticType) that); }
+    public void leave(GroupedType that) { leave((StaticType) that); }
+    @Override public final void visit(GroupedType that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(SimpleType that) { enter((StaticType) that); }
+    public void leave(SimpleType that) { leave((StaticType) that); }
+    public void enter(BaseType that) { enter((SimpleType) that); }
+    public void leave(BaseType that) { leave((SimpleType) that); }
+    @Override public final void visit(BaseType that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(QualifiedType that) { enter((SimpleType) that); }
+    public void leave(QualifiedType that) { leave((SimpleType) that); }
+    @Override public final void visit(QualifiedType that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(UnionType that) { enter((StaticType) that); }
+    public void leave(UnionType that) { leave((StaticType) that); }
+    @Override public final void visit(UnionType that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(IntersectionType that) { enter((StaticType) that); }
+    public void leave(IntersectionType that) { leave((StaticType) that); }
+    @Override public final void visit(IntersectionType that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(SequenceType that) { enter((StaticType) that); }
+    public void leave(SequenceType that) { leave((StaticType) that); }
+    @Override public final void visit(SequenceType that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(IterableType that) { enter((StaticType) that); }
+    public void leave(IterableType that) { leave((StaticType) that); }
+    @Override public final void visit(IterableType that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(OptionalType that) { enter((StaticType) that); }
+    public void leave(OptionalType that) { leave((StaticType) that); }
+    @Override public final void visit(OptionalType that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(TupleType that) { enter((StaticType) that); }
+    public void leave(TupleType that) { leave((StaticType) that); }
+    @Override public final void visit(TupleType that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(FunctionType that) { enter((StaticType) that); }
+    public void leave(FunctionType that) { leave((StaticType) that); }
+    @Override public final void visit(FunctionType that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(EntryType that) { enter((StaticType) that); }
+    public void leave(EntryType that) { leave((StaticType) that); }
+    @Override public final void visit(EntryType that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(TypeConstructor that) { enter((StaticType) that); }
+    public void leave(TypeConstructor that) { leave((StaticType) that); }
+    @Override public final void visit(TypeConstructor that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(SuperType that) { enter((StaticType) that); }
+    public void leave(SuperType that) { leave((StaticType) that); }
+    @Override public final void visit(SuperType that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(MetaLiteral that) { enter((Primary) that); }
+    public void leave(MetaLiteral that) { leave((Primary) that); }
+    public void enter(TypeLiteral that) { enter((MetaLiteral) that); }
+    public void leave(TypeLiteral that) { leave((MetaLiteral) that); }
+    @Override public final void visit(TypeLiteral that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(MemberLiteral that) { enter((MetaLiteral) that); }
+    public void leave(MemberLiteral that) { leave((MetaLiteral) that); }
+    @Override public final void visit(MemberLiteral that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(ClassLiteral that) { enter((TypeLiteral) that); }
+    public void leave(ClassLiteral that) { leave((TypeLiteral) that); }
+    @Override public final void visit(ClassLiteral that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(NewLiteral that) { enter((TypeLiteral) that); }
+    public void leave(NewLiteral that) { leave((TypeLiteral) that); }
+    @Override public final void visit(NewLiteral that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(InterfaceLiteral that) { enter((TypeLiteral) that); }
+    public void leave(InterfaceLiteral that) { leave((TypeLiteral) that); }
+    @Override public final void visit(InterfaceLiteral that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(AliasLiteral that) { enter((TypeLiteral) that); }
+    public void leave(AliasLiteral that) { leave((TypeLiteral) that); }
+    @Override public final void visit(AliasLiteral that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(TypeParameterLiteral that) { enter((TypeLiteral) that); }
+    public void leave(TypeParameterLiteral that) { leave((TypeLiteral) that); }
+    @Override public final void visit(TypeParameterLiteral that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(ValueLiteral that) { enter((MemberLiteral) that); }
+    public void leave(ValueLiteral that) { leave((MemberLiteral) that); }
+    @Override public final void visit(ValueLiteral that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(FunctionLiteral that) { enter((MemberLiteral) that); }
+    public void leave(FunctionLiteral that) { leave((MemberLiteral) that); }
+    @Override public final void visit(FunctionLiteral that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(ModuleLiteral that) { enter((MetaLiteral) that); }
+    public void leave(ModuleLiteral that) { leave((MetaLiteral) that); }
+    @Override public final void visit(ModuleLiteral that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(PackageLiteral that) { enter((MetaLiteral) that); }
+    public void leave(PackageLiteral that) { leave((MetaLiteral) that); }
+    @Override public final void visit(PackageLiteral that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(DynamicModifier that) { enter((Type) that); }
+    public void leave(DynamicModifier that) { leave((Type) that); }
+    @Override public final void visit(DynamicModifier that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(LocalModifier that) { enter((Type) that); }
+    public void leave(LocalModifier that) { leave((Type) that); }
+    public void enter(ValueModifier that) { enter((LocalModifier) that); }
+    public void leave(ValueModifier that) { leave((LocalModifier) that); }
+    @Override public final void visit(ValueModifier that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(FunctionModifier that) { enter((LocalModifier) that); }
+    public void leave(FunctionModifier that) { leave((LocalModifier) that); }
+    @Override public final void visit(FunctionModifier that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(SyntheticVariable that) { enter((ValueModifier) that); }
+    public void leave(SyntheticVariable that) { leave((ValueModifier) that); }
+    @Override public final void visit(SyntheticVariable that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(TypeArguments that) { enterAny(that); }
+    public void leave(TypeArguments that) { leaveAny(that); }
+    @Override public final void visit(TypeArguments that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(TypeArgumentList that) { enter((TypeArguments) that); }
+    public void leave(TypeArgumentList that) { leave((TypeArguments) that); }
+    @Override public final void visit(TypeArgumentList that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(InferredTypeArguments that) { enter((TypeArguments) that); }
+    public void leave(InferredTypeArguments that) { leave((TypeArguments) that); }
+    @Override public final void visit(InferredTypeArguments that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(SequencedType that) { enter((Type) that); }
+    public void leave(SequencedType that) { leave((Type) that); }
+    @Override public final void visit(SequencedType that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(DefaultedType that) { enter((Type) that); }
+    public void leave(DefaultedType that) { leave((Type) that); }
+    @Override public final void visit(DefaultedType that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(SpreadType that) { enter((Type) that); }
+    public void leave(SpreadType that) { leave((Type) that); }
+    @Override public final void visit(SpreadType that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(Directive that) { enter((ExecutableStatement) that); }
+    public void leave(Directive that) { leave((ExecutableStatement) that); }
+    public void enter(Return that) { enter((Directive) that); }
+    public void leave(Return that) { leave((Directive) that); }
+    @Override public final void visit(Return that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(Throw that) { enter((Directive) that); }
+    public void leave(Throw that) { leave((Directive) that); }
+    @Override public final void visit(Throw that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(Continue that) { enter((Directive) that); }
+    public void leave(Continue that) { leave((Directive) that); }
+    @Override public final void visit(Continue that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(Break that) { enter((Directive) that); }
+    public void leave(Break that) { leave((Directive) that); }
+    @Override public final void visit(Break that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(StatementOrArgument that) { enterAny(that); }
+    public void leave(StatementOrArgument that) { leaveAny(that); }
+    public void enter(Statement that) { enter((StatementOrArgument) that); }
+    public void leave(Statement that) { leave((StatementOrArgument) that); }
+    public void enter(CompilerAnnotation that) { enterAny(that); }
+    public void leave(CompilerAnnotation that) { leaveAny(that); }
+    @Override public final void visit(CompilerAnnotation that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(ExecutableStatement that) { enter((Statement) that); }
+    public void leave(ExecutableStatement that) { leave((Statement) that); }
+    public void enter(Assertion that) { enter((ExecutableStatement) that); }
+    public void leave(Assertion that) { leave((ExecutableStatement) that); }
+    @Override public final void visit(Assertion that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(SpecifierStatement that) { enter((ExecutableStatement) that); }
+    public void leave(SpecifierStatement that) { leave((ExecutableStatement) that); }
+    @Override public final void visit(SpecifierStatement that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(ExpressionStatement that) { enter((ExecutableStatement) that); }
+    public void leave(ExpressionStatement that) { leave((ExecutableStatement) that); }
+    @Override public final void visit(ExpressionStatement that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(Pattern that) { enterAny(that); }
+    public void leave(Pattern that) { leaveAny(that); }
+    public void enter(VariablePattern that) { enter((Pattern) that); }
+    public void leave(VariablePattern that) { leave((Pattern) that); }
+    @Override public final void visit(VariablePattern that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(TuplePattern that) { enter((Pattern) that); }
+    public void leave(TuplePattern that) { leave((Pattern) that); }
+    @Override public final void visit(TuplePattern that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(KeyValuePattern that) { enter((Pattern) that); }
+    public void leave(KeyValuePattern that) { leave((Pattern) that); }
+    @Override public final void visit(KeyValuePattern that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(Destructure that) { enter((ExecutableStatement) that); }
+    public void leave(Destructure that) { leave((ExecutableStatement) that); }
+    @Override public final void visit(Destructure that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(ControlStatement that) { enter((ExecutableStatement) that); }
+    public void leave(ControlStatement that) { leave((ExecutableStatement) that); }
+    @Override public final void visit(ControlStatement that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(ControlClause that) { enterAny(that); }
+    public void leave(ControlClause that) { leaveAny(that); }
+    @Override public final void visit(ControlClause that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(DynamicStatement that) { enter((ControlStatement) that); }
+    public void leave(DynamicStatement that) { leave((ControlStatement) that); }
+    @Override public final void visit(DynamicStatement that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(DynamicClause that) { enter((ControlClause) that); }
+    public void leave(DynamicClause that) { leave((ControlClause) that); }
+    @Override public final void visit(DynamicClause that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(LetExpression that) { enter((Term) that); }
+    public void leave(LetExpression that) { leave((Term) that); }
+    @Override public final void visit(LetExpression that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(LetClause that) { enter((ControlClause) that); }
+    public void leave(LetClause that) { leave((ControlClause) that); }
+    @Override public final void visit(LetClause that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(IfStatement that) { enter((ControlStatement) that); }
+    public void leave(IfStatement that) { leave((ControlStatement) that); }
+    @Override public final void visit(IfStatement that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(IfClause that) { enter((ControlClause) that); }
+    public void leave(IfClause that) { leave((ControlClause) that); }
+    @Override public final void visit(IfClause that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(ElseClause that) { enter((ControlClause) that); }
+    public void leave(ElseClause that) { leave((ControlClause) that); }
+    @Override public final void visit(ElseClause that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(SwitchStatement that) { enter((ControlStatement) that); }
+    public void leave(SwitchStatement that) { leave((ControlStatement) that); }
+    @Override public final void visit(SwitchStatement that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(SwitchClause that) { enterAny(that); }
+    public void leave(SwitchClause that) { leaveAny(that); }
+    @Override public final void visit(SwitchClause that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(Switched that) { enterAny(that); }
+    public void leave(Switched that) { leaveAny(that); }
+    @Override public final void visit(Switched that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(SwitchCaseList that) { enterAny(that); }
+    public void leave(SwitchCaseList that) { leaveAny(that); }
+    @Override public final void visit(SwitchCaseList that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(CaseClause that) { enter((ControlClause) that); }
+    public void leave(CaseClause that) { leave((ControlClause) that); }
+    @Override public final void visit(CaseClause that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(CaseItem that) { enterAny(that); }
+    public void leave(CaseItem that) { leaveAny(that); }
+    @Override public final void visit(CaseItem that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(MatchCase that) { enter((CaseItem) that); }
+    public void leave(MatchCase that) { leave((CaseItem) that); }
+    @Override public final void visit(MatchCase that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(IsCase that) { enter((CaseItem) that); }
+    public void leave(IsCase that) { leave((CaseItem) that); }
+    @Override public final void visit(IsCase that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(SatisfiesCase that) { enter((CaseItem) that); }
+    public void leave(SatisfiesCase that) { leave((CaseItem) that); }
+    @Override public final void visit(SatisfiesCase that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(TryCatchStatement that) { enter((ControlStatement) that); }
+    public void leave(TryCatchStatement that) { leave((ControlStatement) that); }
+    @Override public final void visit(TryCatchStatement that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(TryClause that) { enter((ControlClause) that); }
+    public void leave(TryClause that) { leave((ControlClause) that); }
+    @Override public final void visit(TryClause that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(CatchClause that) { enter((ControlClause) that); }
+    public void leave(CatchClause that) { leave((ControlClause) that); }
+    @Override public final void visit(CatchClause that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(FinallyClause that) { enter((ControlClause) that); }
+    public void leave(FinallyClause that) { leave((ControlClause) that); }
+    @Override public final void visit(FinallyClause that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(ResourceList that) { enterAny(that); }
+    public void leave(ResourceList that) { leaveAny(that); }
+    @Override public final void visit(ResourceList that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(Resource that) { enterAny(that); }
+    public void leave(Resource that) { leaveAny(that); }
+    @Override public final void visit(Resource that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(CatchVariable that) { enterAny(that); }
+    public void leave(CatchVariable that) { leaveAny(that); }
+    @Override public final void visit(CatchVariable that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(ForStatement that) { enter((ControlStatement) that); }
+    public void leave(ForStatement that) { leave((ControlStatement) that); }
+    @Override public final void visit(ForStatement that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(ForClause that) { enter((ControlClause) that); }
+    public void leave(ForClause that) { leave((ControlClause) that); }
+    @Override public final void visit(ForClause that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(ForIterator that) { enter((StatementOrArgument) that); }
+    public void leave(ForIterator that) { leave((StatementOrArgument) that); }
+    @Override public final void visit(ForIterator that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(ValueIterator that) { enter((ForIterator) that); }
+    public void leave(ValueIterator that) { leave((ForIterator) that); }
+    @Override public final void visit(ValueIterator that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(PatternIterator that) { enter((ForIterator) that); }
+    public void leave(PatternIterator that) { leave((ForIterator) that); }
+    @Override public final void visit(PatternIterator that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(WhileStatement that) { enter((ControlStatement) that); }
+    public void leave(WhileStatement that) { leave((ControlStatement) that); }
+    @Override public final void visit(WhileStatement that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(WhileClause that) { enter((ControlClause) that); }
+    public void leave(WhileClause that) { leave((ControlClause) that); }
+    @Override public final void visit(WhileClause that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(ConditionList that) { enterAny(that); }
+    public void leave(ConditionList that) { leaveAny(that); }
+    @Override public final void visit(ConditionList that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(Condition that) { enterAny(that); }
+    public void leave(Condition that) { leaveAny(that); }
+    public void enter(BooleanCondition that) { enter((Condition) that); }
+    public void leave(BooleanCondition that) { leave((Condition) that); }
+    @Override public final void visit(BooleanCondition that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(ExistsOrNonemptyCondition that) { enter((Condition) that); }
+    public void leave(ExistsOrNonemptyCondition that) { leave((Condition) that); }
+    public void enter(ExistsCondition that) { enter((ExistsOrNonemptyCondition) that); }
+    public void leave(ExistsCondition that) { leave((ExistsOrNonemptyCondition) that); }
+    @Override public final void visit(ExistsCondition that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(NonemptyCondition that) { enter((ExistsOrNonemptyCondition) that); }
+    public void leave(NonemptyCondition that) { leave((ExistsOrNonemptyCondition) that); }
+    @Override public final void visit(NonemptyCondition that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(IsCondition that) { enter((Condition) that); }
+    public void leave(IsCondition that) { leave((Condition) that); }
+    @Override public final void visit(IsCondition that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(SatisfiesCondition that) { enter((Condition) that); }
+    public void leave(SatisfiesCondition that) { leave((Condition) that); }
+    @Override public final void visit(SatisfiesCondition that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(Variable that) { enter((TypedDeclaration) that); }
+    public void leave(Variable that) { leave((TypedDeclaration) that); }
+    @Override public final void visit(Variable that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(Term that) { enterAny(that); }
+    public void leave(Term that) { leaveAny(that); }
+    public void enter(OperatorExpression that) { enter((Term) that); }
+    public void leave(OperatorExpression that) { leave((Term) that); }
+    public void enter(BinaryOperatorExpression that) { enter((OperatorExpression) that); }
+    public void leave(BinaryOperatorExpression that) { leave((OperatorExpression) that); }
+    public void enter(ArithmeticOp that) { enter((BinaryOperatorExpression) that); }
+    public void leave(ArithmeticOp that) { leave((BinaryOperatorExpression) that); }
+    public void enter(SumOp that) { enter((ArithmeticOp) that); }
+    public void leave(SumOp that) { leave((ArithmeticOp) that); }
+    @Override public final void visit(SumOp that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(DifferenceOp that) { enter((ArithmeticOp) that); }
+    public void leave(DifferenceOp that) { leave((ArithmeticOp) that); }
+    @Override public final void visit(DifferenceOp that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(ProductOp that) { enter((ArithmeticOp) that); }
+    public void leave(ProductOp that) { leave((ArithmeticOp) that); }
+    @Override public final void visit(ProductOp that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(QuotientOp that) { enter((ArithmeticOp) that); }
+    public void leave(QuotientOp that) { leave((ArithmeticOp) that); }
+    @Override public final void visit(QuotientOp that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(PowerOp that) { enter((ArithmeticOp) that); }
+    public void leave(PowerOp that) { leave((ArithmeticOp) that); }
+    @Override public final void visit(PowerOp that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(RemainderOp that) { enter((ArithmeticOp) that); }
+    public void leave(RemainderOp that) { leave((ArithmeticOp) that); }
+    @Override public final void visit(RemainderOp that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(AssignmentOp that) { enter((BinaryOperatorExpression) that); }
+    public void leave(AssignmentOp that) { leave((BinaryOperatorExpression) that); }
+    public void enter(AssignOp that) { enter((AssignmentOp) that); }
+    public void leave(AssignOp that) { leave((AssignmentOp) that); }
+    @Override public final void visit(AssignOp that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(ArithmeticAssignmentOp that) { enter((AssignmentOp) that); }
+    public void leave(ArithmeticAssignmentOp that) { leave((AssignmentOp) that); }
+    public void enter(AddAssignOp that) { enter((ArithmeticAssignmentOp) that); }
+    public void leave(AddAssignOp that) { leave((ArithmeticAssignmentOp) that); }
+    @Override public final void visit(AddAssignOp that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(SubtractAssignOp that) { enter((ArithmeticAssignmentOp) that); }
+    public void leave(SubtractAssignOp that) { leave((ArithmeticAssignmentOp) that); }
+    @Override public final void visit(SubtractAssignOp that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(MultiplyAssignOp that) { enter((ArithmeticAssignmentOp) that); }
+    public void leave(MultiplyAssignOp that) { leave((ArithmeticAssignmentOp) that); }
+    @Override public final void visit(MultiplyAssignOp that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(DivideAssignOp that) { enter((ArithmeticAssignmentOp) that); }
+    public void leave(DivideAssignOp that) { leave((ArithmeticAssignmentOp) that); }
+    @Override public final void visit(DivideAssignOp that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(RemainderAssignOp that) { enter((ArithmeticAssignmentOp) that); }
+    public void leave(RemainderAssignOp that) { leave((ArithmeticAssignmentOp) that); }
+    @Override public final void visit(RemainderAssignOp that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(BitwiseAssignmentOp that) { enter((AssignmentOp) that); }
+    public void leave(BitwiseAssignmentOp that) { leave((AssignmentOp) that); }
+    public void enter(IntersectAssignOp that) { enter((BitwiseAssignmentOp) that); }
+    public void leave(IntersectAssignOp that) { leave((BitwiseAssignmentOp) that); }
+    @Override public final void visit(IntersectAssignOp that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(UnionAssignOp that) { enter((BitwiseAssignmentOp) that); }
+    public void leave(UnionAssignOp that) { leave((BitwiseAssignmentOp) that); }
+    @Override public final void visit(UnionAssignOp that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(ComplementAssignOp that) { enter((BitwiseAssignmentOp) that); }
+    public void leave(ComplementAssignOp that) { leave((BitwiseAssignmentOp) that); }
+    @Override public final void visit(ComplementAssignOp that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(LogicalAssignmentOp that) { enter((AssignmentOp) that); }
+    public void leave(LogicalAssignmentOp that) { leave((AssignmentOp) that); }
+    public void enter(AndAssignOp that) { enter((LogicalAssignmentOp) that); }
+    public void leave(AndAssignOp that) { leave((LogicalAssignmentOp) that); }
+    @Override public final void visit(AndAssignOp that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(OrAssignOp that) { enter((LogicalAssignmentOp) that); }
+    public void leave(OrAssignOp that) { leave((LogicalAssignmentOp) that); }
+    @Override public final void visit(OrAssignOp that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(LogicalOp that) { enter((BinaryOperatorExpression) that); }
+    public void leave(LogicalOp that) { leave((BinaryOperatorExpression) that); }
+    public void enter(AndOp that) { enter((LogicalOp) that); }
+    public void leave(AndOp that) { leave((LogicalOp) that); }
+    @Override public final void visit(AndOp that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(OrOp that) { enter((LogicalOp) that); }
+    public void leave(OrOp that) { leave((LogicalOp) that); }
+    @Override public final void visit(OrOp that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(BitwiseOp that) { enter((BinaryOperatorExpression) that); }
+    public void leave(BitwiseOp that) { leave((BinaryOperatorExpression) that); }
+    public void enter(IntersectionOp that) { enter((BitwiseOp) that); }
+    public void leave(IntersectionOp that) { leave((BitwiseOp) that); }
+    @Override public final void visit(IntersectionOp that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(UnionOp that) { enter((BitwiseOp) that); }
+    public void leave(UnionOp that) { leave((BitwiseOp) that); }
+    @Override public final void visit(UnionOp that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(ComplementOp that) { enter((BitwiseOp) that); }
+    public void leave(ComplementOp that) { leave((BitwiseOp) that); }
+    @Override public final void visit(ComplementOp that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(EqualityOp that) { enter((BinaryOperatorExpression) that); }
+    public void leave(EqualityOp that) { leave((BinaryOperatorExpression) that); }
+    public void enter(EqualOp that) { enter((EqualityOp) that); }
+    public void leave(EqualOp that) { leave((EqualityOp) that); }
+    @Override public final void visit(EqualOp that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(NotEqualOp that) { enter((EqualityOp) that); }
+    public void leave(NotEqualOp that) { leave((EqualityOp) that); }
+    @Override public final void visit(NotEqualOp that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(ComparisonOp that) { enter((BinaryOperatorExpression) that); }
+    public void leave(ComparisonOp that) { leave((BinaryOperatorExpression) that); }
+    public void enter(LargerOp that) { enter((ComparisonOp) that); }
+    public void leave(LargerOp that) { leave((ComparisonOp) that); }
+    @Override public final void visit(LargerOp that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(SmallerOp that) { enter((ComparisonOp) that); }
+    public void leave(SmallerOp that) { leave((ComparisonOp) that); }
+    @Override public final void visit(SmallerOp that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(LargeAsOp that) { enter((ComparisonOp) that); }
+    public void leave(LargeAsOp that) { leave((ComparisonOp) that); }
+    @Override public final void visit(LargeAsOp that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(SmallAsOp that) { enter((ComparisonOp) that); }
+    public void leave(SmallAsOp that) { leave((ComparisonOp) that); }
+    @Override public final void visit(SmallAsOp that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(ScaleOp that) { enter((BinaryOperatorExpression) that); }
+    public void leave(ScaleOp that) { leave((BinaryOperatorExpression) that); }
+    @Override public final void visit(ScaleOp that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(Bound that) { enter((Term) that); }
+    public void leave(Bound that) { leave((Term) that); }
+    public void enter(OpenBound that) { enter((Bound) that); }
+    public void leave(OpenBound that) { leave((Bound) that); }
+    @Override public final void visit(OpenBound that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(ClosedBound that) { enter((Bound) that); }
+    public void leave(ClosedBound that) { leave((Bound) that); }
+    @Override public final void visit(ClosedBound that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(WithinOp that) { enter((OperatorExpression) that); }
+    public void leave(WithinOp that) { leave((OperatorExpression) that); }
+    @Override public final void visit(WithinOp that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(DefaultOp that) { enter((BinaryOperatorExpression) that); }
+    public void leave(DefaultOp that) { leave((BinaryOperatorExpression) that); }
+    @Override public final void visit(DefaultOp that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(ThenOp that) { enter((BinaryOperatorExpression) that); }
+    public void leave(ThenOp that) { leave((BinaryOperatorExpression) that); }
+    @Override public final void visit(ThenOp that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(IdenticalOp that) { enter((BinaryOperatorExpression) that); }
+    public void leave(IdenticalOp that) { leave((BinaryOperatorExpression) that); }
+    @Override public final void visit(IdenticalOp that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(EntryOp that) { enter((BinaryOperatorExpression) that); }
+    public void leave(EntryOp that) { leave((BinaryOperatorExpression) that); }
+    @Override public final void visit(EntryOp that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(RangeOp that) { enter((BinaryOperatorExpression) that); }
+    public void leave(RangeOp that) { leave((BinaryOperatorExpression) that); }
+    @Override public final void visit(RangeOp that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(SegmentOp that) { enter((BinaryOperatorExpression) that); }
+    public void leave(SegmentOp that) { leave((BinaryOperatorExpression) that); }
+    @Override public final void visit(SegmentOp that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(CompareOp that) { enter((BinaryOperatorExpression) that); }
+    public void leave(CompareOp that) { leave((BinaryOperatorExpression) that); }
+    @Override public final void visit(CompareOp that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(InOp that) { enter((BinaryOperatorExpression) that); }
+    public void leave(InOp that) { leave((BinaryOperatorExpression) that); }
+    @Override public final void visit(InOp that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(UnaryOperatorExpression that) { enter((OperatorExpression) that); }
+    public void leave(UnaryOperatorExpression that) { leave((OperatorExpression) that); }
+    public void enter(NotOp that) { enter((UnaryOperatorExpression) that); }
+    public void leave(NotOp that) { leave((UnaryOperatorExpression) that); }
+    @Override public final void visit(NotOp that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(Exists that) { enter((UnaryOperatorExpression) that); }
+    public void leave(Exists that) { leave((UnaryOperatorExpression) that); }
+    @Override public final void visit(Exists that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(Nonempty that) { enter((UnaryOperatorExpression) that); }
+    public void leave(Nonempty that) { leave((UnaryOperatorExpression) that); }
+    @Override public final void visit(Nonempty that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(NegativeOp that) { enter((UnaryOperatorExpression) that); }
+    public void leave(NegativeOp that) { leave((UnaryOperatorExpression) that); }
+    @Override public final void visit(NegativeOp that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(PositiveOp that) { enter((UnaryOperatorExpression) that); }
+    public void leave(PositiveOp that) { leave((UnaryOperatorExpression) that); }
+    @Override public final void visit(PositiveOp that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(TypeOperatorExpression that) { enter((UnaryOperatorExpression) that); }
+    public void leave(TypeOperatorExpression that) { leave((UnaryOperatorExpression) that); }
+    public void enter(IsOp that) { enter((TypeOperatorExpression) that); }
+    public void leave(IsOp that) { leave((TypeOperatorExpression) that); }
+    @Override public final void visit(IsOp that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(Satisfies that) { enter((TypeOperatorExpression) that); }
+    public void leave(Satisfies that) { leave((TypeOperatorExpression) that); }
+    @Override public final void visit(Satisfies that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(Extends that) { enter((TypeOperatorExpression) that); }
+    public void leave(Extends that) { leave((TypeOperatorExpression) that); }
+    @Override public final void visit(Extends that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(OfOp that) { enter((TypeOperatorExpression) that); }
+    public void leave(OfOp that) { leave((TypeOperatorExpression) that); }
+    @Override public final void visit(OfOp that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(PrefixOperatorExpression that) { enter((UnaryOperatorExpression) that); }
+    public void leave(PrefixOperatorExpression that) { leave((UnaryOperatorExpression) that); }
+    public void enter(IncrementOp that) { enter((PrefixOperatorExpression) that); }
+    public void leave(IncrementOp that) { leave((PrefixOperatorExpression) that); }
+    @Override public final void visit(IncrementOp that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(DecrementOp that) { enter((PrefixOperatorExpression) that); }
+    public void leave(DecrementOp that) { leave((PrefixOperatorExpression) that); }
+    @Override public final void visit(DecrementOp that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(PostfixOperatorExpression that) { enter((UnaryOperatorExpression) that); }
+    public void leave(PostfixOperatorExpression that) { leave((UnaryOperatorExpression) that); }
+    public void enter(PostfixIncrementOp that) { enter((PostfixOperatorExpression) that); }
+    public void leave(PostfixIncrementOp that) { leave((PostfixOperatorExpression) that); }
+    @Override public final void visit(PostfixIncrementOp that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(PostfixDecrementOp that) { enter((PostfixOperatorExpression) that); }
+    public void leave(PostfixDecrementOp that) { leave((PostfixOperatorExpression) that); }
+    @Override public final void visit(PostfixDecrementOp that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(ExpressionList that) { enterAny(that); }
+    public void leave(ExpressionList that) { leaveAny(that); }
+    @Override public final void visit(ExpressionList that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(Expression that) { enter((Atom) that); }
+    public void leave(Expression that) { leave((Atom) that); }
+    @Override public final void visit(Expression that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(Primary that) { enter((Term) that); }
+    public void leave(Primary that) { leave((Term) that); }
+    public void enter(PostfixExpression that) { enter((Primary) that); }
+    public void leave(PostfixExpression that) { leave((Primary) that); }
+    public void enter(InvocationExpression that) { enter((PostfixExpression) that); }
+    public void leave(InvocationExpression that) { leave((PostfixExpression) that); }
+    @Override public final void visit(InvocationExpression that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(ParameterizedExpression that) { enter((Primary) that); }
+    public void leave(ParameterizedExpression that) { leave((Primary) that); }
+    @Override public final void visit(ParameterizedExpression that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(MemberOrTypeExpression that) { enter((Primary) that); }
+    public void leave(MemberOrTypeExpression that) { leave((Primary) that); }
+    public void enter(ExtendedTypeExpression that) { enter((MemberOrTypeExpression) that); }
+    public void leave(ExtendedTypeExpression that) { leave((MemberOrTypeExpression) that); }
+    @Override public final void visit(ExtendedTypeExpression that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(StaticMemberOrTypeExpression that) { enter((MemberOrTypeExpression) that); }
+    public void leave(StaticMemberOrTypeExpression that) { leave((MemberOrTypeExpression) that); }
+    public void enter(BaseMemberOrTypeExpression that) { enter((StaticMemberOrTypeExpression) that); }
+    public void leave(BaseMemberOrTypeExpression that) { leave((StaticMemberOrTypeExpression) that); }
+    public void enter(BaseMemberExpression that) { enter((BaseMemberOrTypeExpression) that); }
+    public void leave(BaseMemberExpression that) { leave((BaseMemberOrTypeExpression) that); }
+    @Override public final void visit(BaseMemberExpression that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(BaseTypeExpression that) { enter((BaseMemberOrTypeExpression) that); }
+    public void leave(BaseTypeExpression that) { leave((BaseMemberOrTypeExpression) that); }
+    @Override public final void visit(BaseTypeExpression that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(QualifiedMemberOrTypeExpression that) { enter((StaticMemberOrTypeExpression) that); }
+    public void leave(QualifiedMemberOrTypeExpression that) { leave((StaticMemberOrTypeExpression) that); }
+    public void enter(QualifiedMemberExpression that) { enter((QualifiedMemberOrTypeExpression) that); }
+    public void leave(QualifiedMemberExpression that) { leave((QualifiedMemberOrTypeExpression) that); }
+    @Override public final void visit(QualifiedMemberExpression that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(QualifiedTypeExpression that) { enter((QualifiedMemberOrTypeExpression) that); }
+    public void leave(QualifiedTypeExpression that) { leave((QualifiedMemberOrTypeExpression) that); }
+    @Override public final void visit(QualifiedTypeExpression that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(MemberOperator that) { enterAny(that); }
+    public void leave(MemberOperator that) { leaveAny(that); }
+    public void enter(MemberOp that) { enter((MemberOperator) that); }
+    public void leave(MemberOp that) { leave((MemberOperator) that); }
+    @Override public final void visit(MemberOp that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(SafeMemberOp that) { enter((MemberOperator) that); }
+    public void leave(SafeMemberOp that) { leave((MemberOperator) that); }
+    @Override public final void visit(SafeMemberOp that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(SpreadOp that) { enter((MemberOperator) that); }
+    public void leave(SpreadOp that) { leave((MemberOperator) that); }
+    @Override public final void visit(SpreadOp that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(IndexExpression that) { enter((PostfixExpression) that); }
+    public void leave(IndexExpression that) { leave((PostfixExpression) that); }
+    @Override public final void visit(IndexExpression that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(ElementOrRange that) { enterAny(that); }
+    public void leave(ElementOrRange that) { leaveAny(that); }
+    public void enter(Element that) { enter((ElementOrRange) that); }
+    public void leave(Element that) { leave((ElementOrRange) that); }
+    @Override public final void visit(Element that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(ElementRange that) { enter((ElementOrRange) that); }
+    public void leave(ElementRange that) { leave((ElementOrRange) that); }
+    @Override public final void visit(ElementRange that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(Outer that) { enter((Atom) that); }
+    public void leave(Outer that) { leave((Atom) that); }
+    @Override public final void visit(Outer that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(Package that) { enter((Atom) that); }
+    public void leave(Package that) { leave((Atom) that); }
+    @Override public final void visit(Package that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(ArgumentList that) { enterAny(that); }
+    public void leave(ArgumentList that) { leaveAny(that); }
+    public void enter(NamedArgumentList that) { enter((ArgumentList) that); }
+    public void leave(NamedArgumentList that) { leave((ArgumentList) that); }
+    @Override public final void visit(NamedArgumentList that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(SequencedArgument that) { enter((StatementOrArgument) that); }
+    public void leave(SequencedArgument that) { leave((StatementOrArgument) that); }
+    @Override public final void visit(SequencedArgument that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(PositionalArgumentList that) { enter((ArgumentList) that); }
+    public void leave(PositionalArgumentList that) { leave((ArgumentList) that); }
+    @Override public final void visit(PositionalArgumentList that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(PositionalArgument that) { enterAny(that); }
+    public void leave(PositionalArgument that) { leaveAny(that); }
+    public void enter(ListedArgument that) { enter((PositionalArgument) that); }
+    public void leave(ListedArgument that) { leave((PositionalArgument) that); }
+    @Override public final void visit(ListedArgument that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(SpreadArgument that) { enter((PositionalArgument) that); }
+    public void leave(SpreadArgument that) { leave((PositionalArgument) that); }
+    @Override public final void visit(SpreadArgument that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(FunctionArgument that) { enter((Term) that); }
+    public void leave(FunctionArgument that) { leave((Term) that); }
+    @Override public final void visit(FunctionArgument that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(ObjectExpression that) { enter((Primary) that); }
+    public void leave(ObjectExpression that) { leave((Primary) that); }
+    @Override public final void visit(ObjectExpression that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(IfExpression that) { enter((Term) that); }
+    public void leave(IfExpression that) { leave((Term) that); }
+    @Override public final void visit(IfExpression that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(SwitchExpression that) { enter((Term) that); }
+    public void leave(SwitchExpression that) { leave((Term) that); }
+    @Override public final void visit(SwitchExpression that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(NamedArgument that) { enter((StatementOrArgument) that); }
+    public void leave(NamedArgument that) { leave((StatementOrArgument) that); }
+    public void enter(SpecifiedArgument that) { enter((NamedArgument) that); }
+    public void leave(SpecifiedArgument that) { leave((NamedArgument) that); }
+    @Override public final void visit(SpecifiedArgument that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(TypedArgument that) { enter((NamedArgument) that); }
+    public void leave(TypedArgument that) { leave((NamedArgument) that); }
+    public void enter(MethodArgument that) { enter((TypedArgument) that); }
+    public void leave(MethodArgument that) { leave((TypedArgument) that); }
+    @Override public final void visit(MethodArgument that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(AttributeArgument that) { enter((TypedArgument) that); }
+    public void leave(AttributeArgument that) { leave((TypedArgument) that); }
+    @Override public final void visit(AttributeArgument that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(ObjectArgument that) { enter((TypedArgument) that); }
+    public void leave(ObjectArgument that) { leave((TypedArgument) that); }
+    @Override public final void visit(ObjectArgument that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(SpecifierOrInitializerExpression that) { enterAny(that); }
+    public void leave(SpecifierOrInitializerExpression that) { leaveAny(that); }
+    public void enter(SpecifierExpression that) { enter((SpecifierOrInitializerExpression) that); }
+    public void leave(SpecifierExpression that) { leave((SpecifierOrInitializerExpression) that); }
+    @Override public final void visit(SpecifierExpression that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(LazySpecifierExpression that) { enter((SpecifierExpression) that); }
+    public void leave(LazySpecifierExpression that) { leave((SpecifierExpression) that); }
+    @Override public final void visit(LazySpecifierExpression that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(InitializerExpression that) { enter((SpecifierOrInitializerExpression) that); }
+    public void leave(InitializerExpression that) { leave((SpecifierOrInitializerExpression) that); }
+    @Override public final void visit(InitializerExpression that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(Atom that) { enter((Primary) that); }
+    public void leave(Atom that) { leave((Primary) that); }
+    public void enter(Literal that) { enter((Atom) that); }
+    public void leave(Literal that) { leave((Atom) that); }
+    public void enter(NaturalLiteral that) { enter((Literal) that); }
+    public void leave(NaturalLiteral that) { leave((Literal) that); }
+    @Override public final void visit(NaturalLiteral that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(FloatLiteral that) { enter((Literal) that); }
+    public void leave(FloatLiteral that) { leave((Literal) that); }
+    @Override public final void visit(FloatLiteral that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(CharLiteral that) { enter((Literal) that); }
+    public void leave(CharLiteral that) { leave((Literal) that); }
+    @Override public final void visit(CharLiteral that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(StringLiteral that) { enter((Literal) that); }
+    public void leave(StringLiteral that) { leave((Literal) that); }
+    @Override public final void visit(StringLiteral that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(QuotedLiteral that) { enter((Literal) that); }
+    public void leave(QuotedLiteral that) { leave((Literal) that); }
+    @Override public final void visit(QuotedLiteral that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(DocLink that) { enterAny(that); }
+    public void leave(DocLink that) { leaveAny(that); }
+    @Override public final void visit(DocLink that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(SelfExpression that) { enter((Atom) that); }
+    public void leave(SelfExpression that) { leave((Atom) that); }
+    public void enter(This that) { enter((SelfExpression) that); }
+    public void leave(This that) { leave((SelfExpression) that); }
+    @Override public final void visit(This that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(Super that) { enter((SelfExpression) that); }
+    public void leave(Super that) { leave((SelfExpression) that); }
+    @Override public final void visit(Super that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(SequenceEnumeration that) { enter((Atom) that); }
+    public void leave(SequenceEnumeration that) { leave((Atom) that); }
+    @Override public final void visit(SequenceEnumeration that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(Tuple that) { enter((Atom) that); }
+    public void leave(Tuple that) { leave((Atom) that); }
+    @Override public final void visit(Tuple that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(Dynamic that) { enter((Atom) that); }
+    public void leave(Dynamic that) { leave((Atom) that); }
+    @Override public final void visit(Dynamic that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(StringTemplate that) { enter((Atom) that); }
+    public void leave(StringTemplate that) { leave((Atom) that); }
+    @Override public final void visit(StringTemplate that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(Annotation that) { enter((InvocationExpression) that); }
+    public void leave(Annotation that) { leave((InvocationExpression) that); }
+    @Override public final void visit(Annotation that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(AnonymousAnnotation that) { enterAny(that); }
+    public void leave(AnonymousAnnotation that) { leaveAny(that); }
+    @Override public final void visit(AnonymousAnnotation that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(AnnotationList that) { enterAny(that); }
+    public void leave(AnnotationList that) { leaveAny(that); }
+    @Override public final void visit(AnnotationList that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(Identifier that) { enterAny(that); }
+    public void leave(Identifier that) { leaveAny(that); }
+    @Override public final void visit(Identifier that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(Comprehension that) { enter((PositionalArgument) that); }
+    public void leave(Comprehension that) { leave((PositionalArgument) that); }
+    @Override public final void visit(Comprehension that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(ComprehensionClause that) { enter((ControlClause) that); }
+    public void leave(ComprehensionClause that) { leave((ControlClause) that); }
+    public void enter(InitialComprehensionClause that) { enter((ComprehensionClause) that); }
+    public void leave(InitialComprehensionClause that) { leave((ComprehensionClause) that); }
+    public void enter(ExpressionComprehensionClause that) { enter((ComprehensionClause) that); }
+    public void leave(ExpressionComprehensionClause that) { leave((ComprehensionClause) that); }
+    @Override public final void visit(ExpressionComprehensionClause that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(ForComprehensionClause that) { enter((InitialComprehensionClause) that); }
+    public void leave(ForComprehensionClause that) { leave((InitialComprehensionClause) that); }
+    @Override public final void visit(ForComprehensionClause that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+    public void enter(IfComprehensionClause that) { enter((InitialComprehensionClause) that); }
+    public void leave(IfComprehensionClause that) { leave((InitialComprehensionClause) that); }
+    @Override public final void visit(IfComprehensionClause that) {
+        enter(that);
+        that.visitChildren(this);
+        leave(that);
+    }
+
+}
@@ -0,0 +1,6345 @@
+package com.redhat.ceylon.compiler.typechecker.tree;
+
+import static com.redhat.ceylon.compiler.typechecker.tree.Tree.*;
+import static com.redhat.ceylon.compiler.typechecker.tree.Tree.Package;
+
+import java.util.concurrent.CancellationException;
+
+/**
+ * Runs several {@link FusableVisitor}s in a single walk
+ * of the tree. At each node, the {@code enter()} hook of
+ * every visitor is called in turn, then the children
+ * are visited once for all of them, and then the
+ * {@code leave()} hook of every visitor is called, in
+ * the same order.
+ */
+public class FusedVisitor extends Visitor {
+
+    private final FusableVisitor[] visitors;
+
+    public FusedVisitor(FusableVisitor... visitors) {
+        this.visitors = visitors.clone();
+    }
+
+    public FusableVisitor[] getVisitors() { return visitors.clone(); }
+
+    @Override public void visit(CompilationUnit that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(ModuleDescriptor that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(PackageDescriptor that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(ImportModuleList that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(ImportModule that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(ImportList that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(Import that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(ImportPath that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(ImportMemberOrTypeList that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(ImportMemberOrType that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(ImportMember that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(ImportType that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(Alias that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(ImportWildcard that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(MissingDeclaration that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(TypeAliasDeclaration that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(SatisfiedTypes that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(AbstractedType that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(CaseTypes that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(ExtendedType that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(TypeConstraintList that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(TypeConstraint that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(TypeSpecifier that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(DefaultTypeArgument that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(ClassSpecifier that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(AnyClass that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(ClassDefinition that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(Enumerated that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(Constructor that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(DelegatedConstructor that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(ClassDeclaration that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(AnyInterface that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(InterfaceDefinition that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(InterfaceDeclaration that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(AttributeDeclaration that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(AttributeGetterDefinition that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(AttributeSetterDefinition that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(AnyMethod that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(MethodDefinition that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(MethodDeclaration that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(VoidModifier that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(ObjectDefinition that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(ParameterList that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(ValueParameterDeclaration that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(FunctionalParameterDeclaration that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(InitializerParameter that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(TypeParameterList that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(TypeParameterDeclaration that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(TypeVariance that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(Block that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(ClassBody that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(InterfaceBody that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(GroupedType that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(BaseType that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(QualifiedType that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(UnionType that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(IntersectionType that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(SequenceType that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(IterableType that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(OptionalType that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(TupleType that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(FunctionType that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(EntryType that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(TypeConstructor that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(SuperType that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(TypeLiteral that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(MemberLiteral that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(ClassLiteral that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(NewLiteral that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(InterfaceLiteral that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(AliasLiteral that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(TypeParameterLiteral that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(ValueLiteral that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(FunctionLiteral that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(ModuleLiteral that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(PackageLiteral that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(DynamicModifier that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(ValueModifier that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(FunctionModifier that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(SyntheticVariable that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(TypeArguments that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(TypeArgumentList that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(InferredTypeArguments that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(SequencedType that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(DefaultedType that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(SpreadType that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(Return that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(Throw that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(Continue that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(Break that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(CompilerAnnotation that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(Assertion that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(SpecifierStatement that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(ExpressionStatement that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(VariablePattern that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(TuplePattern that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(KeyValuePattern that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(Destructure that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(ControlStatement that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(ControlClause that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(DynamicStatement that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(DynamicClause that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(LetExpression that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(LetClause that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(IfStatement that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(IfClause that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(ElseClause that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(SwitchStatement that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(SwitchClause that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(Switched that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(SwitchCaseList that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(CaseClause that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(CaseItem that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(MatchCase that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(IsCase that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(SatisfiesCase that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(TryCatchStatement that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(TryClause that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(CatchClause that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(FinallyClause that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(ResourceList that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(Resource that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(CatchVariable that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(ForStatement that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(ForClause that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(ForIterator that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(ValueIterator that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(PatternIterator that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(WhileStatement that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(WhileClause that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(ConditionList that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(BooleanCondition that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(ExistsCondition that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(NonemptyCondition that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(IsCondition that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(SatisfiesCondition that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(Variable that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(SumOp that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(DifferenceOp that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(ProductOp that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(QuotientOp that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(PowerOp that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(RemainderOp that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(AssignOp that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(AddAssignOp that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(SubtractAssignOp that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(MultiplyAssignOp that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(DivideAssignOp that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(RemainderAssignOp that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(IntersectAssignOp that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(UnionAssignOp that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(ComplementAssignOp that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(AndAssignOp that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(OrAssignOp that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(AndOp that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(OrOp that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(IntersectionOp that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(UnionOp that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(ComplementOp that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(EqualOp that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(NotEqualOp that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(LargerOp that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(SmallerOp that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(LargeAsOp that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(SmallAsOp that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(ScaleOp that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(OpenBound that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(ClosedBound that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(WithinOp that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(DefaultOp that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(ThenOp that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(IdenticalOp that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(EntryOp that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(RangeOp that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(SegmentOp that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(CompareOp that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(InOp that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(NotOp that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(Exists that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(Nonempty that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(NegativeOp that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(PositiveOp that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(IsOp that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(Satisfies that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(Extends that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(OfOp that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(IncrementOp that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(DecrementOp that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(PostfixIncrementOp that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(PostfixDecrementOp that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(ExpressionList that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(Expression that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(InvocationExpression that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(ParameterizedExpression that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(ExtendedTypeExpression that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(BaseMemberExpression that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(BaseTypeExpression that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(QualifiedMemberExpression that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(QualifiedTypeExpression that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(MemberOp that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(SafeMemberOp that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(SpreadOp that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(IndexExpression that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(Element that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(ElementRange that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(Outer that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(Package that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(NamedArgumentList that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(SequencedArgument that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(PositionalArgumentList that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(ListedArgument that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(SpreadArgument that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(FunctionArgument that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(ObjectExpression that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(IfExpression that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(SwitchExpression that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(SpecifiedArgument that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(MethodArgument that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(AttributeArgument that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(ObjectArgument that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(SpecifierExpression that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(LazySpecifierExpression that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(InitializerExpression that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(NaturalLiteral that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(FloatLiteral that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(CharLiteral that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(StringLiteral that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(QuotedLiteral that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(DocLink that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(This that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(Super that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(SequenceEnumeration that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(Tuple that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(Dynamic that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(StringTemplate that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(Annotation that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(AnonymousAnnotation that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(AnnotationList that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(Identifier that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(Comprehension that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(ExpressionComprehensionClause that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(ForComprehensionClause that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+    @Override public void visit(IfComprehensionClause that) {
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.enter(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+        that.visitChildren(this);
+        for (FusableVisitor visitor: visitors) {
+            try {
+                visitor.leave(that);
+            }
+            catch (CancellationException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                visitor.handleException(e, that);
+            }
+        }
+    }
+
+
+}
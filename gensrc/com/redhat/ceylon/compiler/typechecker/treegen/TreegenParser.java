@@ -0,0 +1,870 @@
+// $ANTLR 3.4 treegen/Treegen.g 2026-10-18 12:29:41
+ 
+    package com.redhat.ceylon.compiler.typechecker.treegen; 
+    import static com.redhat.ceylon.compiler.typechecker.treegen.Util.*; 
+
+
+import org.antlr.runtime.*;
+import java.util.Stack;
+import java.util.List;
+import java.util.ArrayList;
+
+@SuppressWarnings({"all", "warnings", "unchecked"})
+public class TreegenParser extends Parser {
+    public static final String[] tokenNames = new String[] {
+        "<invalid>", "<EOR>", "<DOWN>", "<UP>", "CARAT", "DESCRIPTION", "EXTENDS", "FIELD_NAME", "LPAREN", "MANY", "NODE_NAME", "OPTIONAL", "RPAREN", "SEMI", "TYPE_NAME", "WS", "'*'", "'<'", "'>'", "'abstract'", "'boolean'"
+    };
+
+    public static final int EOF=-1;
+    public static final int T__16=16;
+    public static final int T__17=17;
+    public static final int T__18=18;
+    public static final int T__19=19;
+    public static final int T__20=20;
+    public static final int CARAT=4;
+    public static final int DESCRIPTION=5;
+    public static final int EXTENDS=6;
+    public static final int FIELD_NAME=7;
+    public static final int LPAREN=8;
+    public static final int MANY=9;
+    public static final int NODE_NAME=10;
+    public static final int OPTIONAL=11;
+    public static final int RPAREN=12;
+    public static final int SEMI=13;
+    public static final int TYPE_NAME=14;
+    public static final int WS=15;
+
+    // delegates
+    public Parser[] getDelegates() {
+        return new Parser[] {};
+    }
+
+    // delegators
+
+
+    public TreegenParser(TokenStream input) {
+        this(input, new RecognizerSharedState());
+    }
+    public TreegenParser(TokenStream input, RecognizerSharedState state) {
+        super(input, state);
+    }
+
+    public String[] getTokenNames() { return TreegenParser.tokenNames; }
+    public String getGrammarFileName() { return "treegen/Treegen.g"; }
+
+
+
+    // $ANTLR start "nodeList"
+    // treegen/Treegen.g:11:1: nodeList : ( ( nodeDescription )? node )+ EOF ;
+    public final void nodeList() throws RecognitionException {
+        try {
+            // treegen/Treegen.g:11:10: ( ( ( nodeDescription )? node )+ EOF )
+            // treegen/Treegen.g:11:12: ( ( nodeDescription )? node )+ EOF
+            {
+
+                       println("package com.redhat.ceylon.compiler.typechecker.tree;\n");
+                       println("import static com.redhat.ceylon.compiler.typechecker.tree.Walker.*;\n");
+                       println("import org.antlr.runtime.Token;\n");
+                       println("import java.util.*;\n");
+                       println("public class Tree {\n");
+                       
+
+            // treegen/Treegen.g:18:12: ( ( nodeDescription )? node )+
+            int cnt2=0;
+            loop2:
+            do {
+                int alt2=2;
+                int LA2_0 = input.LA(1);
+
+                if ( ((LA2_0 >= CARAT && LA2_0 <= DESCRIPTION)) ) {
+                    alt2=1;
+                }
+
+
+                switch (alt2) {
+            	case 1 :
+            	    // treegen/Treegen.g:18:13: ( nodeDescription )? node
+            	    {
+            	    // treegen/Treegen.g:18:13: ( nodeDescription )?
+            	    int alt1=2;
+            	    int LA1_0 = input.LA(1);
+
+            	    if ( (LA1_0==DESCRIPTION) ) {
+            	        alt1=1;
+            	    }
+            	    switch (alt1) {
+            	        case 1 :
+            	            // treegen/Treegen.g:18:13: nodeDescription
+            	            {
+            	            pushFollow(FOLLOW_nodeDescription_in_nodeList41);
+            	            nodeDescription();
+
+            	            state._fsp--;
+
+
+            	            }
+            	            break;
+
+            	    }
+
+
+            	    pushFollow(FOLLOW_node_in_nodeList44);
+            	    node();
+
+            	    state._fsp--;
+
+
+            	    }
+            	    break;
+
+            	default :
+            	    if ( cnt2 >= 1 ) break loop2;
+                        EarlyExitException eee =
+                            new EarlyExitException(2, input);
+                        throw eee;
+                }
+                cnt2++;
+            } while (true);
+
+
+            match(input,EOF,FOLLOW_EOF_in_nodeList60); 
+
+             println("}"); 
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return ;
+    }
+    // $ANTLR end "nodeList"
+
+
+
+    // $ANTLR start "node"
+    // treegen/Treegen.g:23:1: node : '^' '(' ( 'abstract' )? n= NODE_NAME extendsNode ( ( memberDescription )? subnode )* ( ( memberDescription )? field )* ')' ;
+    public final void node() throws RecognitionException {
+        Token n=null;
+
+        try {
+            // treegen/Treegen.g:23:6: ( '^' '(' ( 'abstract' )? n= NODE_NAME extendsNode ( ( memberDescription )? subnode )* ( ( memberDescription )? field )* ')' )
+            // treegen/Treegen.g:23:8: '^' '(' ( 'abstract' )? n= NODE_NAME extendsNode ( ( memberDescription )? subnode )* ( ( memberDescription )? field )* ')'
+            {
+            match(input,CARAT,FOLLOW_CARAT_in_node93); 
+
+            match(input,LPAREN,FOLLOW_LPAREN_in_node95); 
+
+             print("    public static "); 
+
+            // treegen/Treegen.g:25:8: ( 'abstract' )?
+            int alt3=2;
+            int LA3_0 = input.LA(1);
+
+            if ( (LA3_0==19) ) {
+                alt3=1;
+            }
+            switch (alt3) {
+                case 1 :
+                    // treegen/Treegen.g:25:9: 'abstract'
+                    {
+                    match(input,19,FOLLOW_19_in_node115); 
+
+                     print("abstract "); 
+
+                    }
+                    break;
+
+            }
+
+
+             print("class "); 
+
+            n=(Token)match(input,NODE_NAME,FOLLOW_NODE_NAME_in_node140); 
+
+             print(className((n!=null?n.getText():null))); 
+
+            pushFollow(FOLLOW_extendsNode_in_node159);
+            extendsNode();
+
+            state._fsp--;
+
+
+             println(" {\n"); 
+
+             println("        public " + className((n!=null?n.getText():null)) + "(Token token) {" ); 
+
+             println("            super(token);" ); 
+
+             println("        }\n" ); 
+
+             println("        @Override public void visit(Visitor visitor) {" ); 
+
+             println("            try {" ); 
+
+             println("                visitor.visit(this);" ); 
+
+             println("            }" ); 
+
+             println("            catch (Exception e) {" ); 
+
+             println("                visitor.handleException(e, this);"); 
+
+             println("            }" ); 
+
+             println("        }\n" ); 
+
+             println("        @Override public void visitChildren(Visitor visitor) {" ); 
+
+             println("            walk" + className((n!=null?n.getText():null)) +"(visitor, this);"); 
+
+             println("        }\n" ); 
+
+            // treegen/Treegen.g:45:8: ( ( memberDescription )? subnode )*
+            loop5:
+            do {
+                int alt5=2;
+                int LA5_0 = input.LA(1);
+
+                if ( (LA5_0==DESCRIPTION) ) {
+                    int LA5_1 = input.LA(2);
+
+                    if ( (LA5_1==NODE_NAME) ) {
+                        alt5=1;
+                    }
+
+
+                }
+                else if ( (LA5_0==NODE_NAME) ) {
+                    alt5=1;
+                }
+
+
+                switch (alt5) {
+            	case 1 :
+            	    // treegen/Treegen.g:45:9: ( memberDescription )? subnode
+            	    {
+            	    // treegen/Treegen.g:45:9: ( memberDescription )?
+            	    int alt4=2;
+            	    int LA4_0 = input.LA(1);
+
+            	    if ( (LA4_0==DESCRIPTION) ) {
+            	        alt4=1;
+            	    }
+            	    switch (alt4) {
+            	        case 1 :
+            	            // treegen/Treegen.g:45:9: memberDescription
+            	            {
+            	            pushFollow(FOLLOW_memberDescription_in_node310);
+            	            memberDescription();
+
+            	            state._fsp--;
+
+
+            	            }
+            	            break;
+
+            	    }
+
+
+            	    pushFollow(FOLLOW_subnode_in_node313);
+            	    subnode();
+
+            	    state._fsp--;
+
+
+            	    }
+            	    break;
+
+            	default :
+            	    break loop5;
+                }
+            } while (true);
+
+
+            // treegen/Treegen.g:46:8: ( ( memberDescription )? field )*
+            loop7:
+            do {
+                int alt7=2;
+                int LA7_0 = input.LA(1);
+
+                if ( (LA7_0==DESCRIPTION||LA7_0==TYPE_NAME||(LA7_0 >= 19 && LA7_0 <= 20)) ) {
+                    alt7=1;
+                }
+
+
+                switch (alt7) {
+            	case 1 :
+            	    // treegen/Treegen.g:46:9: ( memberDescription )? field
+            	    {
+            	    // treegen/Treegen.g:46:9: ( memberDescription )?
+            	    int alt6=2;
+            	    int LA6_0 = input.LA(1);
+
+            	    if ( (LA6_0==DESCRIPTION) ) {
+            	        alt6=1;
+            	    }
+            	    switch (alt6) {
+            	        case 1 :
+            	            // treegen/Treegen.g:46:9: memberDescription
+            	            {
+            	            pushFollow(FOLLOW_memberDescription_in_node325);
+            	            memberDescription();
+
+            	            state._fsp--;
+
+
+            	            }
+            	            break;
+
+            	    }
+
+
+            	    pushFollow(FOLLOW_field_in_node328);
+            	    field();
+
+            	    state._fsp--;
+
+
+            	    }
+            	    break;
+
+            	default :
+            	    break loop7;
+                }
+            } while (true);
+
+
+            match(input,RPAREN,FOLLOW_RPAREN_in_node339); 
+
+             println("    }\n"); 
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return ;
+    }
+    // $ANTLR end "node"
+
+
+
+    // $ANTLR start "extendsNode"
+    // treegen/Treegen.g:51:1: extendsNode : ( ':' n= NODE_NAME |);
+    public final void extendsNode() throws RecognitionException {
+        Token n=null;
+
+        try {
+            // treegen/Treegen.g:51:13: ( ':' n= NODE_NAME |)
+            int alt8=2;
+            int LA8_0 = input.LA(1);
+
+            if ( (LA8_0==EXTENDS) ) {
+                alt8=1;
+            }
+            else if ( (LA8_0==DESCRIPTION||LA8_0==NODE_NAME||LA8_0==RPAREN||LA8_0==TYPE_NAME||(LA8_0 >= 19 && LA8_0 <= 20)) ) {
+                alt8=2;
+            }
+            else {
+                NoViableAltException nvae =
+                    new NoViableAltException("", 8, 0, input);
+
+                throw nvae;
+
+            }
+            switch (alt8) {
+                case 1 :
+                    // treegen/Treegen.g:51:15: ':' n= NODE_NAME
+                    {
+                    match(input,EXTENDS,FOLLOW_EXTENDS_in_extendsNode363); 
+
+                    n=(Token)match(input,NODE_NAME,FOLLOW_NODE_NAME_in_extendsNode367); 
+
+                     print(" extends " + className((n!=null?n.getText():null))); 
+
+                    }
+                    break;
+                case 2 :
+                    // treegen/Treegen.g:53:15: 
+                    {
+                     print(" extends Node"); 
+
+                    }
+                    break;
+
+            }
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return ;
+    }
+    // $ANTLR end "extendsNode"
+
+
+
+    // $ANTLR start "nodeDescription"
+    // treegen/Treegen.g:56:1: nodeDescription : d= DESCRIPTION ;
+    public final void nodeDescription() throws RecognitionException {
+        Token d=null;
+
+        try {
+            // treegen/Treegen.g:56:17: (d= DESCRIPTION )
+            // treegen/Treegen.g:56:19: d= DESCRIPTION
+            {
+            d=(Token)match(input,DESCRIPTION,FOLLOW_DESCRIPTION_in_nodeDescription423); 
+
+             println("    /**\n     * " + (d!=null?d.getText():null).replace("\"", "") + "\n     */"); 
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return ;
+    }
+    // $ANTLR end "nodeDescription"
+
+
+
+    // $ANTLR start "memberDescription"
+    // treegen/Treegen.g:60:1: memberDescription : d= DESCRIPTION ;
+    public final void memberDescription() throws RecognitionException {
+        Token d=null;
+
+        try {
+            // treegen/Treegen.g:60:19: (d= DESCRIPTION )
+            // treegen/Treegen.g:60:21: d= DESCRIPTION
+            {
+            d=(Token)match(input,DESCRIPTION,FOLLOW_DESCRIPTION_in_memberDescription473); 
+
+             println("        /** \n         * " + (d!=null?d.getText():null).replace("\"", "") + "\n         */"); 
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return ;
+    }
+    // $ANTLR end "memberDescription"
+
+
+
+    // $ANTLR start "subnode"
+    // treegen/Treegen.g:64:1: subnode : (n= NODE_NAME ( '?' )? f= FIELD_NAME |n= NODE_NAME ( '?' )? |mn= NODE_NAME '*' |mn= NODE_NAME '*' f= FIELD_NAME );
+    public final void subnode() throws RecognitionException {
+        Token n=null;
+        Token f=null;
+        Token mn=null;
+
+        try {
+            // treegen/Treegen.g:64:9: (n= NODE_NAME ( '?' )? f= FIELD_NAME |n= NODE_NAME ( '?' )? |mn= NODE_NAME '*' |mn= NODE_NAME '*' f= FIELD_NAME )
+            int alt11=4;
+            int LA11_0 = input.LA(1);
+
+            if ( (LA11_0==NODE_NAME) ) {
+                switch ( input.LA(2) ) {
+                case 16:
+                    {
+                    int LA11_2 = input.LA(3);
+
+                    if ( (LA11_2==FIELD_NAME) ) {
+                        alt11=4;
+                    }
+                    else if ( (LA11_2==DESCRIPTION||LA11_2==NODE_NAME||LA11_2==RPAREN||LA11_2==TYPE_NAME||(LA11_2 >= 19 && LA11_2 <= 20)) ) {
+                        alt11=3;
+                    }
+                    else {
+                        NoViableAltException nvae =
+                            new NoViableAltException("", 11, 2, input);
+
+                        throw nvae;
+
+                    }
+                    }
+                    break;
+                case OPTIONAL:
+                    {
+                    int LA11_3 = input.LA(3);
+
+                    if ( (LA11_3==FIELD_NAME) ) {
+                        alt11=1;
+                    }
+                    else if ( (LA11_3==DESCRIPTION||LA11_3==NODE_NAME||LA11_3==RPAREN||LA11_3==TYPE_NAME||(LA11_3 >= 19 && LA11_3 <= 20)) ) {
+                        alt11=2;
+                    }
+                    else {
+                        NoViableAltException nvae =
+                            new NoViableAltException("", 11, 3, input);
+
+                        throw nvae;
+
+                    }
+                    }
+                    break;
+                case FIELD_NAME:
+                    {
+                    alt11=1;
+                    }
+                    break;
+                case DESCRIPTION:
+                case NODE_NAME:
+                case RPAREN:
+                case TYPE_NAME:
+                case 19:
+                case 20:
+                    {
+                    alt11=2;
+                    }
+                    break;
+                default:
+                    NoViableAltException nvae =
+                        new NoViableAltException("", 11, 1, input);
+
+                    throw nvae;
+
+                }
+
+            }
+            else {
+                NoViableAltException nvae =
+                    new NoViableAltException("", 11, 0, input);
+
+                throw nvae;
+
+            }
+            switch (alt11) {
+                case 1 :
+                    // treegen/Treegen.g:65:11: n= NODE_NAME ( '?' )? f= FIELD_NAME
+                    {
+                    n=(Token)match(input,NODE_NAME,FOLLOW_NODE_NAME_in_subnode536); 
+
+                    // treegen/Treegen.g:65:23: ( '?' )?
+                    int alt9=2;
+                    int LA9_0 = input.LA(1);
+
+                    if ( (LA9_0==OPTIONAL) ) {
+                        alt9=1;
+                    }
+                    switch (alt9) {
+                        case 1 :
+                            // treegen/Treegen.g:65:23: '?'
+                            {
+                            match(input,OPTIONAL,FOLLOW_OPTIONAL_in_subnode538); 
+
+                            }
+                            break;
+
+                    }
+
+
+                    f=(Token)match(input,FIELD_NAME,FOLLOW_FIELD_NAME_in_subnode543); 
+
+                     println("        private " + className((n!=null?n.getText():null)) + " " + (f!=null?f.getText():null) + ";"); 
+
+                     println("        public " + className((n!=null?n.getText():null)) + " get" + initialUpper((f!=null?f.getText():null)) + "() { return " + (f!=null?f.getText():null) + "; }"); 
+
+                     println("        public void set" + initialUpper((f!=null?f.getText():null)) + "(" + className((n!=null?n.getText():null)) + " node) { " + (f!=null?f.getText():null) + " = node; connect(node); }\n"); 
+
+                    }
+                    break;
+                case 2 :
+                    // treegen/Treegen.g:69:11: n= NODE_NAME ( '?' )?
+                    {
+                    n=(Token)match(input,NODE_NAME,FOLLOW_NODE_NAME_in_subnode593); 
+
+                    // treegen/Treegen.g:69:23: ( '?' )?
+                    int alt10=2;
+                    int LA10_0 = input.LA(1);
+
+                    if ( (LA10_0==OPTIONAL) ) {
+                        alt10=1;
+                    }
+                    switch (alt10) {
+                        case 1 :
+                            // treegen/Treegen.g:69:23: '?'
+                            {
+                            match(input,OPTIONAL,FOLLOW_OPTIONAL_in_subnode595); 
+
+                            }
+                            break;
+
+                    }
+
+
+                     println("        private " + className((n!=null?n.getText():null)) + " " + fieldName((n!=null?n.getText():null)) + ";"); 
+
+                     println("        public " + className((n!=null?n.getText():null)) + " get" + className((n!=null?n.getText():null)) + "() { return " + fieldName((n!=null?n.getText():null)) + "; }"); 
+
+                     println("        public void set" + className((n!=null?n.getText():null)) + "(" + className((n!=null?n.getText():null)) + " node) { " + fieldName((n!=null?n.getText():null)) + " = node; connect(node); }\n"); 
+
+                    }
+                    break;
+                case 3 :
+                    // treegen/Treegen.g:73:11: mn= NODE_NAME '*'
+                    {
+                    mn=(Token)match(input,NODE_NAME,FOLLOW_NODE_NAME_in_subnode646); 
+
+                    match(input,16,FOLLOW_16_in_subnode648); 
+
+                     println("        private List<" + className((mn!=null?mn.getText():null)) + "> " + fieldName((mn!=null?mn.getText():null)) + 
+                                                   "s = new ArrayList<" + className((mn!=null?mn.getText():null)) + ">(3);"); 
+
+                     println("        public List<" + className((mn!=null?mn.getText():null)) + "> get" + className((mn!=null?mn.getText():null)) + "s() { return " + fieldName((mn!=null?mn.getText():null)) + "s; }"); 
+
+                     println("        public void add" + className((mn!=null?mn.getText():null)) + "(" + className((mn!=null?mn.getText():null)) + " node) { " + fieldName((mn!=null?mn.getText():null)) + "s.add(node); connect(node); }\n"); 
+
+                    }
+                    break;
+                case 4 :
+                    // treegen/Treegen.g:78:11: mn= NODE_NAME '*' f= FIELD_NAME
+                    {
+                    mn=(Token)match(input,NODE_NAME,FOLLOW_NODE_NAME_in_subnode698); 
+
+                    match(input,16,FOLLOW_16_in_subnode700); 
+
+                    f=(Token)match(input,FIELD_NAME,FOLLOW_FIELD_NAME_in_subnode704); 
+
+                     println("        private List<" + className((mn!=null?mn.getText():null)) + "> " + (f!=null?f.getText():null) + 
+                                                   "s = new ArrayList<" + className((mn!=null?mn.getText():null)) + ">(3);"); 
+
+                     println("        public List<" + className((mn!=null?mn.getText():null)) + "> get" + initialUpper((f!=null?f.getText():null)) + "s() { return " + (f!=null?f.getText():null) + "s; }"); 
+
+                     println("        public void add" + initialUpper((f!=null?f.getText():null)) + "(" + className((mn!=null?mn.getText():null)) + " node) { " + (f!=null?f.getText():null) + "s.add(node); connect(node); }\n"); 
+
+                    }
+                    break;
+
+            }
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return ;
+    }
+    // $ANTLR end "subnode"
+
+
+
+    // $ANTLR start "field"
+    // treegen/Treegen.g:85:1: field : (t= TYPE_NAME f= FIELD_NAME ';' | 'boolean' f= FIELD_NAME ';' |l= TYPE_NAME '<' t= TYPE_NAME '>' f= FIELD_NAME ';' | 'abstract' t= TYPE_NAME f= FIELD_NAME ';' );
+    public final void field() throws RecognitionException {
+        Token t=null;
+        Token f=null;
+        Token l=null;
+
+        try {
+            // treegen/Treegen.g:85:7: (t= TYPE_NAME f= FIELD_NAME ';' | 'boolean' f= FIELD_NAME ';' |l= TYPE_NAME '<' t= TYPE_NAME '>' f= FIELD_NAME ';' | 'abstract' t= TYPE_NAME f= FIELD_NAME ';' )
+            int alt12=4;
+            switch ( input.LA(1) ) {
+            case TYPE_NAME:
+                {
+                int LA12_1 = input.LA(2);
+
+                if ( (LA12_1==FIELD_NAME) ) {
+                    alt12=1;
+                }
+                else if ( (LA12_1==17) ) {
+                    alt12=3;
+                }
+                else {
+                    NoViableAltException nvae =
+                        new NoViableAltException("", 12, 1, input);
+
+                    throw nvae;
+
+                }
+                }
+                break;
+            case 20:
+                {
+                alt12=2;
+                }
+                break;
+            case 19:
+                {
+                alt12=4;
+                }
+                break;
+            default:
+                NoViableAltException nvae =
+                    new NoViableAltException("", 12, 0, input);
+
+                throw nvae;
+
+            }
+
+            switch (alt12) {
+                case 1 :
+                    // treegen/Treegen.g:85:9: t= TYPE_NAME f= FIELD_NAME ';'
+                    {
+                    t=(Token)match(input,TYPE_NAME,FOLLOW_TYPE_NAME_in_field759); 
+
+                    f=(Token)match(input,FIELD_NAME,FOLLOW_FIELD_NAME_in_field763); 
+
+                     println("        private com.redhat.ceylon.model.typechecker.model." + (t!=null?t.getText():null) + " " + (f!=null?f.getText():null)+ ";"); 
+
+                     println("        public com.redhat.ceylon.model.typechecker.model." + (t!=null?t.getText():null) + " get" + initialUpper((f!=null?f.getText():null)) + "() { return " + (f!=null?f.getText():null) + "; }"); 
+
+                     println("        public void set" + initialUpper((f!=null?f.getText():null)) + "(com.redhat.ceylon.model.typechecker.model." + (t!=null?t.getText():null) + " value) { " + (f!=null?f.getText():null) + " = value; }\n"); 
+
+                    match(input,SEMI,FOLLOW_SEMI_in_field809); 
+
+                    }
+                    break;
+                case 2 :
+                    // treegen/Treegen.g:90:9: 'boolean' f= FIELD_NAME ';'
+                    {
+                    match(input,20,FOLLOW_20_in_field819); 
+
+                    f=(Token)match(input,FIELD_NAME,FOLLOW_FIELD_NAME_in_field823); 
+
+                     println("        private boolean " + (f!=null?f.getText():null)+ ";"); 
+
+                     println("        public boolean get" + initialUpper((f!=null?f.getText():null)) + "() { return " + (f!=null?f.getText():null) + "; }"); 
+
+                     println("        public void set" + initialUpper((f!=null?f.getText():null)) + "(boolean value) { " + (f!=null?f.getText():null) + " = value; }\n"); 
+
+                    match(input,SEMI,FOLLOW_SEMI_in_field869); 
+
+                    }
+                    break;
+                case 3 :
+                    // treegen/Treegen.g:95:9: l= TYPE_NAME '<' t= TYPE_NAME '>' f= FIELD_NAME ';'
+                    {
+                    l=(Token)match(input,TYPE_NAME,FOLLOW_TYPE_NAME_in_field881); 
+
+                    match(input,17,FOLLOW_17_in_field883); 
+
+                    t=(Token)match(input,TYPE_NAME,FOLLOW_TYPE_NAME_in_field887); 
+
+                    match(input,18,FOLLOW_18_in_field889); 
+
+                    f=(Token)match(input,FIELD_NAME,FOLLOW_FIELD_NAME_in_field893); 
+
+                     println("        private " + (l!=null?l.getText():null) + "<com.redhat.ceylon.model.typechecker.model." + (t!=null?t.getText():null) + "> " + (f!=null?f.getText():null)+ ";"); 
+
+                     println("        public " + (l!=null?l.getText():null) + "<com.redhat.ceylon.model.typechecker.model." + (t!=null?t.getText():null) + "> get" + initialUpper((f!=null?f.getText():null)) + "() { return " + (f!=null?f.getText():null) + "; }"); 
+
+                     println("        public void set" + initialUpper((f!=null?f.getText():null)) + "(" + (l!=null?l.getText():null) + "<com.redhat.ceylon.model.typechecker.model." + (t!=null?t.getText():null) + "> value) { " + (f!=null?f.getText():null) + " = value; }\n"); 
+
+                    match(input,SEMI,FOLLOW_SEMI_in_field939); 
+
+                    }
+                    break;
+                case 4 :
+                    // treegen/Treegen.g:100:9: 'abstract' t= TYPE_NAME f= FIELD_NAME ';'
+                    {
+                    match(input,19,FOLLOW_19_in_field949); 
+
+                    t=(Token)match(input,TYPE_NAME,FOLLOW_TYPE_NAME_in_field953); 
+
+                    f=(Token)match(input,FIELD_NAME,FOLLOW_FIELD_NAME_in_field957); 
+
+                     println("        public abstract com.redhat.ceylon.model.typechecker.model." + (t!=null?t.getText():null) + " get" + initialUpper((f!=null?f.getText():null)) + "();\n"); 
+
+                    match(input,SEMI,FOLLOW_SEMI_in_field979); 
+
+                    }
+                    break;
+
+            }
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return ;
+    }
+    // $ANTLR end "field"
+
+    // Delegated rules
+
+
+ 
+
+    public static final BitSet FOLLOW_nodeDescription_in_nodeList41 = new BitSet(new long[]{0x0000000000000010L});
+    public static final BitSet FOLLOW_node_in_nodeList44 = new BitSet(new long[]{0x0000000000000030L});
+    public static final BitSet FOLLOW_EOF_in_nodeList60 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_CARAT_in_node93 = new BitSet(new long[]{0x0000000000000100L});
+    public static final BitSet FOLLOW_LPAREN_in_node95 = new BitSet(new long[]{0x0000000000080400L});
+    public static final BitSet FOLLOW_19_in_node115 = new BitSet(new long[]{0x0000000000000400L});
+    public static final BitSet FOLLOW_NODE_NAME_in_node140 = new BitSet(new long[]{0x0000000000185460L});
+    public static final BitSet FOLLOW_extendsNode_in_node159 = new BitSet(new long[]{0x0000000000185420L});
+    public static final BitSet FOLLOW_memberDescription_in_node310 = new BitSet(new long[]{0x0000000000000400L});
+    public static final BitSet FOLLOW_subnode_in_node313 = new BitSet(new long[]{0x0000000000185420L});
+    public static final BitSet FOLLOW_memberDescription_in_node325 = new BitSet(new long[]{0x0000000000184000L});
+    public static final BitSet FOLLOW_field_in_node328 = new BitSet(new long[]{0x0000000000185020L});
+    public static final BitSet FOLLOW_RPAREN_in_node339 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_EXTENDS_in_extendsNode363 = new BitSet(new long[]{0x0000000000000400L});
+    public static final BitSet FOLLOW_NODE_NAME_in_extendsNode367 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_DESCRIPTION_in_nodeDescription423 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_DESCRIPTION_in_memberDescription473 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_NODE_NAME_in_subnode536 = new BitSet(new long[]{0x0000000000000880L});
+    public static final BitSet FOLLOW_OPTIONAL_in_subnode538 = new BitSet(new long[]{0x0000000000000080L});
+    public static final BitSet FOLLOW_FIELD_NAME_in_subnode543 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_NODE_NAME_in_subnode593 = new BitSet(new long[]{0x0000000000000802L});
+    public static final BitSet FOLLOW_OPTIONAL_in_subnode595 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_NODE_NAME_in_subnode646 = new BitSet(new long[]{0x0000000000010000L});
+    public static final BitSet FOLLOW_16_in_subnode648 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_NODE_NAME_in_subnode698 = new BitSet(new long[]{0x0000000000010000L});
+    public static final BitSet FOLLOW_16_in_subnode700 = new BitSet(new long[]{0x0000000000000080L});
+    public static final BitSet FOLLOW_FIELD_NAME_in_subnode704 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_TYPE_NAME_in_field759 = new BitSet(new long[]{0x0000000000000080L});
+    public static final BitSet FOLLOW_FIELD_NAME_in_field763 = new BitSet(new long[]{0x0000000000002000L});
+    public static final BitSet FOLLOW_SEMI_in_field809 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_20_in_field819 = new BitSet(new long[]{0x0000000000000080L});
+    public static final BitSet FOLLOW_FIELD_NAME_in_field823 = new BitSet(new long[]{0x0000000000002000L});
+    public static final BitSet FOLLOW_SEMI_in_field869 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_TYPE_NAME_in_field881 = new BitSet(new long[]{0x0000000000020000L});
+    public static final BitSet FOLLOW_17_in_field883 = new BitSet(new long[]{0x0000000000004000L});
+    public static final BitSet FOLLOW_TYPE_NAME_in_field887 = new BitSet(new long[]{0x0000000000040000L});
+    public static final BitSet FOLLOW_18_in_field889 = new BitSet(new long[]{0x0000000000000080L});
+    public static final BitSet FOLLOW_FIELD_NAME_in_field893 = new BitSet(new long[]{0x0000000000002000L});
+    public static final BitSet FOLLOW_SEMI_in_field939 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_19_in_field949 = new BitSet(new long[]{0x0000000000004000L});
+    public static final BitSet FOLLOW_TYPE_NAME_in_field953 = new BitSet(new long[]{0x0000000000000080L});
+    public static final BitSet FOLLOW_FIELD_NAME_in_field957 = new BitSet(new long[]{0x0000000000002000L});
+    public static final BitSet FOLLOW_SEMI_in_field979 = new BitSet(new long[]{0x0000000000000002L});
+
+}
\ No newline at end of file
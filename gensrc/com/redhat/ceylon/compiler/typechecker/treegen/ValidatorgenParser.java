@@ -0,0 +1,572 @@
+// $ANTLR 3.4 treegen/Validatorgen.g 2026-10-18 12:29:39
+ 
+    package com.redhat.ceylon.compiler.typechecker.treegen; 
+    import static com.redhat.ceylon.compiler.typechecker.treegen.Util.*; 
+
+
+import org.antlr.runtime.*;
+import java.util.Stack;
+import java.util.List;
+import java.util.ArrayList;
+
+@SuppressWarnings({"all", "warnings", "unchecked"})
+public class ValidatorgenParser extends Parser {
+    public static final String[] tokenNames = new String[] {
+        "<invalid>", "<EOR>", "<DOWN>", "<UP>", "CARAT", "DESCRIPTION", "EXTENDS", "FIELD_NAME", "LPAREN", "MANY", "NODE_NAME", "OPTIONAL", "RPAREN", "SEMI", "TYPE_NAME", "WS", "'*'", "'abstract'", "'boolean'"
+    };
+
+    public static final int EOF=-1;
+    public static final int T__16=16;
+    public static final int T__17=17;
+    public static final int T__18=18;
+    public static final int CARAT=4;
+    public static final int DESCRIPTION=5;
+    public static final int EXTENDS=6;
+    public static final int FIELD_NAME=7;
+    public static final int LPAREN=8;
+    public static final int MANY=9;
+    public static final int NODE_NAME=10;
+    public static final int OPTIONAL=11;
+    public static final int RPAREN=12;
+    public static final int SEMI=13;
+    public static final int TYPE_NAME=14;
+    public static final int WS=15;
+
+    // delegates
+    public Parser[] getDelegates() {
+        return new Parser[] {};
+    }
+
+    // delegators
+
+
+    public ValidatorgenParser(TokenStream input) {
+        this(input, new RecognizerSharedState());
+    }
+    public ValidatorgenParser(TokenStream input, RecognizerSharedState state) {
+        super(input, state);
+    }
+
+    public String[] getTokenNames() { return ValidatorgenParser.tokenNames; }
+    public String getGrammarFileName() { return "treegen/Validatorgen.g"; }
+
+
+
+    // $ANTLR start "nodeList"
+    // treegen/Validatorgen.g:11:1: nodeList : ( ( DESCRIPTION )? node )+ EOF ;
+    public final void nodeList() throws RecognitionException {
+        try {
+            // treegen/Validatorgen.g:11:10: ( ( ( DESCRIPTION )? node )+ EOF )
+            // treegen/Validatorgen.g:11:12: ( ( DESCRIPTION )? node )+ EOF
+            {
+
+                       println("package com.redhat.ceylon.compiler.typechecker.tree;\n");
+                       println("import static com.redhat.ceylon.compiler.typechecker.tree.Tree.*;");
+                       println("import static com.redhat.ceylon.compiler.typechecker.tree.Tree.Package;\n");
+                       println("public class Validator extends Visitor {\n");
+                       
+
+            // treegen/Validatorgen.g:17:12: ( ( DESCRIPTION )? node )+
+            int cnt2=0;
+            loop2:
+            do {
+                int alt2=2;
+                int LA2_0 = input.LA(1);
+
+                if ( ((LA2_0 >= CARAT && LA2_0 <= DESCRIPTION)) ) {
+                    alt2=1;
+                }
+
+
+                switch (alt2) {
+            	case 1 :
+            	    // treegen/Validatorgen.g:17:13: ( DESCRIPTION )? node
+            	    {
+            	    // treegen/Validatorgen.g:17:13: ( DESCRIPTION )?
+            	    int alt1=2;
+            	    int LA1_0 = input.LA(1);
+
+            	    if ( (LA1_0==DESCRIPTION) ) {
+            	        alt1=1;
+            	    }
+            	    switch (alt1) {
+            	        case 1 :
+            	            // treegen/Validatorgen.g:17:13: DESCRIPTION
+            	            {
+            	            match(input,DESCRIPTION,FOLLOW_DESCRIPTION_in_nodeList41); 
+
+            	            }
+            	            break;
+
+            	    }
+
+
+            	    pushFollow(FOLLOW_node_in_nodeList44);
+            	    node();
+
+            	    state._fsp--;
+
+
+            	    }
+            	    break;
+
+            	default :
+            	    if ( cnt2 >= 1 ) break loop2;
+                        EarlyExitException eee =
+                            new EarlyExitException(2, input);
+                        throw eee;
+                }
+                cnt2++;
+            } while (true);
+
+
+            match(input,EOF,FOLLOW_EOF_in_nodeList60); 
+
+             println("\n}"); 
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return ;
+    }
+    // $ANTLR end "nodeList"
+
+
+
+    // $ANTLR start "node"
+    // treegen/Validatorgen.g:22:1: node : '^' '(' ( 'abstract' )? n= NODE_NAME ( ':' en= NODE_NAME )? ( ( DESCRIPTION )? subnode )* ( ( DESCRIPTION )? field )* ')' ;
+    public final void node() throws RecognitionException {
+        Token n=null;
+        Token en=null;
+
+        try {
+            // treegen/Validatorgen.g:22:6: ( '^' '(' ( 'abstract' )? n= NODE_NAME ( ':' en= NODE_NAME )? ( ( DESCRIPTION )? subnode )* ( ( DESCRIPTION )? field )* ')' )
+            // treegen/Validatorgen.g:22:8: '^' '(' ( 'abstract' )? n= NODE_NAME ( ':' en= NODE_NAME )? ( ( DESCRIPTION )? subnode )* ( ( DESCRIPTION )? field )* ')'
+            {
+            match(input,CARAT,FOLLOW_CARAT_in_node93); 
+
+            match(input,LPAREN,FOLLOW_LPAREN_in_node95); 
+
+            // treegen/Validatorgen.g:23:8: ( 'abstract' )?
+            int alt3=2;
+            int LA3_0 = input.LA(1);
+
+            if ( (LA3_0==17) ) {
+                alt3=1;
+            }
+            switch (alt3) {
+                case 1 :
+                    // treegen/Validatorgen.g:23:8: 'abstract'
+                    {
+                    match(input,17,FOLLOW_17_in_node104); 
+
+                    }
+                    break;
+
+            }
+
+
+            n=(Token)match(input,NODE_NAME,FOLLOW_NODE_NAME_in_node109); 
+
+            // treegen/Validatorgen.g:23:32: ( ':' en= NODE_NAME )?
+            int alt4=2;
+            int LA4_0 = input.LA(1);
+
+            if ( (LA4_0==EXTENDS) ) {
+                alt4=1;
+            }
+            switch (alt4) {
+                case 1 :
+                    // treegen/Validatorgen.g:23:33: ':' en= NODE_NAME
+                    {
+                    match(input,EXTENDS,FOLLOW_EXTENDS_in_node112); 
+
+                    en=(Token)match(input,NODE_NAME,FOLLOW_NODE_NAME_in_node116); 
+
+                    }
+                    break;
+
+            }
+
+
+             println("    public void visit(" + className((n!=null?n.getText():null)) + " that) {"); 
+
+             println("        super.visit(that);"); 
+
+            // treegen/Validatorgen.g:26:8: ( ( DESCRIPTION )? subnode )*
+            loop6:
+            do {
+                int alt6=2;
+                int LA6_0 = input.LA(1);
+
+                if ( (LA6_0==DESCRIPTION) ) {
+                    int LA6_1 = input.LA(2);
+
+                    if ( (LA6_1==NODE_NAME) ) {
+                        alt6=1;
+                    }
+
+
+                }
+                else if ( (LA6_0==NODE_NAME) ) {
+                    alt6=1;
+                }
+
+
+                switch (alt6) {
+            	case 1 :
+            	    // treegen/Validatorgen.g:26:9: ( DESCRIPTION )? subnode
+            	    {
+            	    // treegen/Validatorgen.g:26:9: ( DESCRIPTION )?
+            	    int alt5=2;
+            	    int LA5_0 = input.LA(1);
+
+            	    if ( (LA5_0==DESCRIPTION) ) {
+            	        alt5=1;
+            	    }
+            	    switch (alt5) {
+            	        case 1 :
+            	            // treegen/Validatorgen.g:26:9: DESCRIPTION
+            	            {
+            	            match(input,DESCRIPTION,FOLLOW_DESCRIPTION_in_node146); 
+
+            	            }
+            	            break;
+
+            	    }
+
+
+            	    pushFollow(FOLLOW_subnode_in_node149);
+            	    subnode();
+
+            	    state._fsp--;
+
+
+            	    }
+            	    break;
+
+            	default :
+            	    break loop6;
+                }
+            } while (true);
+
+
+            // treegen/Validatorgen.g:27:8: ( ( DESCRIPTION )? field )*
+            loop8:
+            do {
+                int alt8=2;
+                int LA8_0 = input.LA(1);
+
+                if ( (LA8_0==DESCRIPTION||LA8_0==TYPE_NAME||(LA8_0 >= 17 && LA8_0 <= 18)) ) {
+                    alt8=1;
+                }
+
+
+                switch (alt8) {
+            	case 1 :
+            	    // treegen/Validatorgen.g:27:9: ( DESCRIPTION )? field
+            	    {
+            	    // treegen/Validatorgen.g:27:9: ( DESCRIPTION )?
+            	    int alt7=2;
+            	    int LA7_0 = input.LA(1);
+
+            	    if ( (LA7_0==DESCRIPTION) ) {
+            	        alt7=1;
+            	    }
+            	    switch (alt7) {
+            	        case 1 :
+            	            // treegen/Validatorgen.g:27:9: DESCRIPTION
+            	            {
+            	            match(input,DESCRIPTION,FOLLOW_DESCRIPTION_in_node161); 
+
+            	            }
+            	            break;
+
+            	    }
+
+
+            	    pushFollow(FOLLOW_field_in_node164);
+            	    field();
+
+            	    state._fsp--;
+
+
+            	    }
+            	    break;
+
+            	default :
+            	    break loop8;
+                }
+            } while (true);
+
+
+             println("    }\n"); 
+
+            match(input,RPAREN,FOLLOW_RPAREN_in_node184); 
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return ;
+    }
+    // $ANTLR end "node"
+
+
+
+    // $ANTLR start "subnode"
+    // treegen/Validatorgen.g:32:1: subnode : (n= NODE_NAME f= FIELD_NAME |n= NODE_NAME | NODE_NAME '?' ( FIELD_NAME )? | NODE_NAME '*' ( FIELD_NAME )? );
+    public final void subnode() throws RecognitionException {
+        Token n=null;
+        Token f=null;
+
+        try {
+            // treegen/Validatorgen.g:32:9: (n= NODE_NAME f= FIELD_NAME |n= NODE_NAME | NODE_NAME '?' ( FIELD_NAME )? | NODE_NAME '*' ( FIELD_NAME )? )
+            int alt11=4;
+            int LA11_0 = input.LA(1);
+
+            if ( (LA11_0==NODE_NAME) ) {
+                switch ( input.LA(2) ) {
+                case FIELD_NAME:
+                    {
+                    alt11=1;
+                    }
+                    break;
+                case OPTIONAL:
+                    {
+                    alt11=3;
+                    }
+                    break;
+                case 16:
+                    {
+                    alt11=4;
+                    }
+                    break;
+                case DESCRIPTION:
+                case NODE_NAME:
+                case RPAREN:
+                case TYPE_NAME:
+                case 17:
+                case 18:
+                    {
+                    alt11=2;
+                    }
+                    break;
+                default:
+                    NoViableAltException nvae =
+                        new NoViableAltException("", 11, 1, input);
+
+                    throw nvae;
+
+                }
+
+            }
+            else {
+                NoViableAltException nvae =
+                    new NoViableAltException("", 11, 0, input);
+
+                throw nvae;
+
+            }
+            switch (alt11) {
+                case 1 :
+                    // treegen/Validatorgen.g:32:11: n= NODE_NAME f= FIELD_NAME
+                    {
+                    n=(Token)match(input,NODE_NAME,FOLLOW_NODE_NAME_in_subnode200); 
+
+                    f=(Token)match(input,FIELD_NAME,FOLLOW_FIELD_NAME_in_subnode204); 
+
+                     println("        if (that.get" + initialUpper((f!=null?f.getText():null)) + "()==null)"); 
+
+                     println("            that.addError(\"missing tokens\");"); 
+
+                    }
+                    break;
+                case 2 :
+                    // treegen/Validatorgen.g:35:11: n= NODE_NAME
+                    {
+                    n=(Token)match(input,NODE_NAME,FOLLOW_NODE_NAME_in_subnode242); 
+
+                     println("        if (that.get" + className((n!=null?n.getText():null)) + "()==null)"); 
+
+                     println("            that.addError(\"missing " + description((n!=null?n.getText():null)) + "\");"); 
+
+                    }
+                    break;
+                case 3 :
+                    // treegen/Validatorgen.g:38:11: NODE_NAME '?' ( FIELD_NAME )?
+                    {
+                    match(input,NODE_NAME,FOLLOW_NODE_NAME_in_subnode278); 
+
+                    match(input,OPTIONAL,FOLLOW_OPTIONAL_in_subnode280); 
+
+                    // treegen/Validatorgen.g:38:25: ( FIELD_NAME )?
+                    int alt9=2;
+                    int LA9_0 = input.LA(1);
+
+                    if ( (LA9_0==FIELD_NAME) ) {
+                        alt9=1;
+                    }
+                    switch (alt9) {
+                        case 1 :
+                            // treegen/Validatorgen.g:38:25: FIELD_NAME
+                            {
+                            match(input,FIELD_NAME,FOLLOW_FIELD_NAME_in_subnode282); 
+
+                            }
+                            break;
+
+                    }
+
+
+                    }
+                    break;
+                case 4 :
+                    // treegen/Validatorgen.g:39:11: NODE_NAME '*' ( FIELD_NAME )?
+                    {
+                    match(input,NODE_NAME,FOLLOW_NODE_NAME_in_subnode295); 
+
+                    match(input,16,FOLLOW_16_in_subnode297); 
+
+                    // treegen/Validatorgen.g:39:25: ( FIELD_NAME )?
+                    int alt10=2;
+                    int LA10_0 = input.LA(1);
+
+                    if ( (LA10_0==FIELD_NAME) ) {
+                        alt10=1;
+                    }
+                    switch (alt10) {
+                        case 1 :
+                            // treegen/Validatorgen.g:39:25: FIELD_NAME
+                            {
+                            match(input,FIELD_NAME,FOLLOW_FIELD_NAME_in_subnode299); 
+
+                            }
+                            break;
+
+                    }
+
+
+                    }
+                    break;
+
+            }
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return ;
+    }
+    // $ANTLR end "subnode"
+
+
+
+    // $ANTLR start "field"
+    // treegen/Validatorgen.g:42:1: field : ( 'abstract' )? ( TYPE_NAME | 'boolean' ) FIELD_NAME ';' ;
+    public final void field() throws RecognitionException {
+        try {
+            // treegen/Validatorgen.g:42:7: ( ( 'abstract' )? ( TYPE_NAME | 'boolean' ) FIELD_NAME ';' )
+            // treegen/Validatorgen.g:42:9: ( 'abstract' )? ( TYPE_NAME | 'boolean' ) FIELD_NAME ';'
+            {
+            // treegen/Validatorgen.g:42:9: ( 'abstract' )?
+            int alt12=2;
+            int LA12_0 = input.LA(1);
+
+            if ( (LA12_0==17) ) {
+                alt12=1;
+            }
+            switch (alt12) {
+                case 1 :
+                    // treegen/Validatorgen.g:42:9: 'abstract'
+                    {
+                    match(input,17,FOLLOW_17_in_field317); 
+
+                    }
+                    break;
+
+            }
+
+
+            if ( input.LA(1)==TYPE_NAME||input.LA(1)==18 ) {
+                input.consume();
+                state.errorRecovery=false;
+            }
+            else {
+                MismatchedSetException mse = new MismatchedSetException(null,input);
+                throw mse;
+            }
+
+
+            match(input,FIELD_NAME,FOLLOW_FIELD_NAME_in_field326); 
+
+            match(input,SEMI,FOLLOW_SEMI_in_field328); 
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return ;
+    }
+    // $ANTLR end "field"
+
+    // Delegated rules
+
+
+ 
+
+    public static final BitSet FOLLOW_DESCRIPTION_in_nodeList41 = new BitSet(new long[]{0x0000000000000010L});
+    public static final BitSet FOLLOW_node_in_nodeList44 = new BitSet(new long[]{0x0000000000000030L});
+    public static final BitSet FOLLOW_EOF_in_nodeList60 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_CARAT_in_node93 = new BitSet(new long[]{0x0000000000000100L});
+    public static final BitSet FOLLOW_LPAREN_in_node95 = new BitSet(new long[]{0x0000000000020400L});
+    public static final BitSet FOLLOW_17_in_node104 = new BitSet(new long[]{0x0000000000000400L});
+    public static final BitSet FOLLOW_NODE_NAME_in_node109 = new BitSet(new long[]{0x0000000000065460L});
+    public static final BitSet FOLLOW_EXTENDS_in_node112 = new BitSet(new long[]{0x0000000000000400L});
+    public static final BitSet FOLLOW_NODE_NAME_in_node116 = new BitSet(new long[]{0x0000000000065420L});
+    public static final BitSet FOLLOW_DESCRIPTION_in_node146 = new BitSet(new long[]{0x0000000000000400L});
+    public static final BitSet FOLLOW_subnode_in_node149 = new BitSet(new long[]{0x0000000000065420L});
+    public static final BitSet FOLLOW_DESCRIPTION_in_node161 = new BitSet(new long[]{0x0000000000064000L});
+    public static final BitSet FOLLOW_field_in_node164 = new BitSet(new long[]{0x0000000000065020L});
+    public static final BitSet FOLLOW_RPAREN_in_node184 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_NODE_NAME_in_subnode200 = new BitSet(new long[]{0x0000000000000080L});
+    public static final BitSet FOLLOW_FIELD_NAME_in_subnode204 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_NODE_NAME_in_subnode242 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_NODE_NAME_in_subnode278 = new BitSet(new long[]{0x0000000000000800L});
+    public static final BitSet FOLLOW_OPTIONAL_in_subnode280 = new BitSet(new long[]{0x0000000000000082L});
+    public static final BitSet FOLLOW_FIELD_NAME_in_subnode282 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_NODE_NAME_in_subnode295 = new BitSet(new long[]{0x0000000000010000L});
+    public static final BitSet FOLLOW_16_in_subnode297 = new BitSet(new long[]{0x0000000000000082L});
+    public static final BitSet FOLLOW_FIELD_NAME_in_subnode299 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_17_in_field317 = new BitSet(new long[]{0x0000000000044000L});
+    public static final BitSet FOLLOW_set_in_field320 = new BitSet(new long[]{0x0000000000000080L});
+    public static final BitSet FOLLOW_FIELD_NAME_in_field326 = new BitSet(new long[]{0x0000000000002000L});
+    public static final BitSet FOLLOW_SEMI_in_field328 = new BitSet(new long[]{0x0000000000000002L});
+
+}
\ No newline at end of file
@@ -0,0 +1,657 @@
+// $ANTLR 3.4 treegen/Walkergen.g 2026-10-18 12:29:40
+ 
+    package com.redhat.ceylon.compiler.typechecker.treegen; 
+    import static com.redhat.ceylon.compiler.typechecker.treegen.Util.*; 
+
+
+import org.antlr.runtime.*;
+import java.util.Stack;
+import java.util.List;
+import java.util.ArrayList;
+
+@SuppressWarnings({"all", "warnings", "unchecked"})
+public class WalkergenParser extends Parser {
+    public static final String[] tokenNames = new String[] {
+        "<invalid>", "<EOR>", "<DOWN>", "<UP>", "CARAT", "DESCRIPTION", "EXTENDS", "FIELD_NAME", "LPAREN", "MANY", "NODE_NAME", "OPTIONAL", "RPAREN", "SEMI", "TYPE_NAME", "WS", "'*'", "'abstract'", "'boolean'"
+    };
+
+    public static final int EOF=-1;
+    public static final int T__16=16;
+    public static final int T__17=17;
+    public static final int T__18=18;
+    public static final int CARAT=4;
+    public static final int DESCRIPTION=5;
+    public static final int EXTENDS=6;
+    public static final int FIELD_NAME=7;
+    public static final int LPAREN=8;
+    public static final int MANY=9;
+    public static final int NODE_NAME=10;
+    public static final int OPTIONAL=11;
+    public static final int RPAREN=12;
+    public static final int SEMI=13;
+    public static final int TYPE_NAME=14;
+    public static final int WS=15;
+
+    // delegates
+    public Parser[] getDelegates() {
+        return new Parser[] {};
+    }
+
+    // delegators
+
+
+    public WalkergenParser(TokenStream input) {
+        this(input, new RecognizerSharedState());
+    }
+    public WalkergenParser(TokenStream input, RecognizerSharedState state) {
+        super(input, state);
+    }
+
+    public String[] getTokenNames() { return WalkergenParser.tokenNames; }
+    public String getGrammarFileName() { return "treegen/Walkergen.g"; }
+
+
+
+    // $ANTLR start "nodeList"
+    // treegen/Walkergen.g:11:1: nodeList : ( ( DESCRIPTION )? node )+ EOF ;
+    public final void nodeList() throws RecognitionException {
+        try {
+            // treegen/Walkergen.g:11:10: ( ( ( DESCRIPTION )? node )+ EOF )
+            // treegen/Walkergen.g:12:5: ( ( DESCRIPTION )? node )+ EOF
+            {
+
+                println("package com.redhat.ceylon.compiler.typechecker.tree;\n");
+                println("import java.util.List;");
+                println("import static com.redhat.ceylon.compiler.typechecker.tree.Tree.*;");
+                println("import static com.redhat.ceylon.compiler.typechecker.tree.Tree.Package;\n");
+                println("public class Walker {\n");
+                
+
+            // treegen/Walkergen.g:19:12: ( ( DESCRIPTION )? node )+
+            int cnt2=0;
+            loop2:
+            do {
+                int alt2=2;
+                int LA2_0 = input.LA(1);
+
+                if ( ((LA2_0 >= CARAT && LA2_0 <= DESCRIPTION)) ) {
+                    alt2=1;
+                }
+
+
+                switch (alt2) {
+            	case 1 :
+            	    // treegen/Walkergen.g:19:13: ( DESCRIPTION )? node
+            	    {
+            	    // treegen/Walkergen.g:19:13: ( DESCRIPTION )?
+            	    int alt1=2;
+            	    int LA1_0 = input.LA(1);
+
+            	    if ( (LA1_0==DESCRIPTION) ) {
+            	        alt1=1;
+            	    }
+            	    switch (alt1) {
+            	        case 1 :
+            	            // treegen/Walkergen.g:19:13: DESCRIPTION
+            	            {
+            	            match(input,DESCRIPTION,FOLLOW_DESCRIPTION_in_nodeList45); 
+
+            	            }
+            	            break;
+
+            	    }
+
+
+            	    pushFollow(FOLLOW_node_in_nodeList48);
+            	    node();
+
+            	    state._fsp--;
+
+
+            	    }
+            	    break;
+
+            	default :
+            	    if ( cnt2 >= 1 ) break loop2;
+                        EarlyExitException eee =
+                            new EarlyExitException(2, input);
+                        throw eee;
+                }
+                cnt2++;
+            } while (true);
+
+
+            match(input,EOF,FOLLOW_EOF_in_nodeList64); 
+
+             println("}"); 
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return ;
+    }
+    // $ANTLR end "nodeList"
+
+
+
+    // $ANTLR start "node"
+    // treegen/Walkergen.g:24:1: node : '^' '(' ( 'abstract' )? n= NODE_NAME ( extendsNode )? ( ( DESCRIPTION )? subnode )* ( ( DESCRIPTION )? field )* ')' ;
+    public final void node() throws RecognitionException {
+        Token n=null;
+
+        try {
+            // treegen/Walkergen.g:24:6: ( '^' '(' ( 'abstract' )? n= NODE_NAME ( extendsNode )? ( ( DESCRIPTION )? subnode )* ( ( DESCRIPTION )? field )* ')' )
+            // treegen/Walkergen.g:24:8: '^' '(' ( 'abstract' )? n= NODE_NAME ( extendsNode )? ( ( DESCRIPTION )? subnode )* ( ( DESCRIPTION )? field )* ')'
+            {
+            match(input,CARAT,FOLLOW_CARAT_in_node90); 
+
+            match(input,LPAREN,FOLLOW_LPAREN_in_node92); 
+
+            // treegen/Walkergen.g:25:8: ( 'abstract' )?
+            int alt3=2;
+            int LA3_0 = input.LA(1);
+
+            if ( (LA3_0==17) ) {
+                alt3=1;
+            }
+            switch (alt3) {
+                case 1 :
+                    // treegen/Walkergen.g:25:8: 'abstract'
+                    {
+                    match(input,17,FOLLOW_17_in_node101); 
+
+                    }
+                    break;
+
+            }
+
+
+            n=(Token)match(input,NODE_NAME,FOLLOW_NODE_NAME_in_node106); 
+
+             println("    public static void walk" + className((n!=null?n.getText():null)) +"(Visitor visitor, " + className((n!=null?n.getText():null)) + " node) {"); 
+
+            // treegen/Walkergen.g:27:8: ( extendsNode )?
+            int alt4=2;
+            int LA4_0 = input.LA(1);
+
+            if ( (LA4_0==EXTENDS) ) {
+                alt4=1;
+            }
+            switch (alt4) {
+                case 1 :
+                    // treegen/Walkergen.g:27:8: extendsNode
+                    {
+                    pushFollow(FOLLOW_extendsNode_in_node125);
+                    extendsNode();
+
+                    state._fsp--;
+
+
+                    }
+                    break;
+
+            }
+
+
+            // treegen/Walkergen.g:28:8: ( ( DESCRIPTION )? subnode )*
+            loop6:
+            do {
+                int alt6=2;
+                int LA6_0 = input.LA(1);
+
+                if ( (LA6_0==DESCRIPTION) ) {
+                    int LA6_1 = input.LA(2);
+
+                    if ( (LA6_1==NODE_NAME) ) {
+                        alt6=1;
+                    }
+
+
+                }
+                else if ( (LA6_0==NODE_NAME) ) {
+                    alt6=1;
+                }
+
+
+                switch (alt6) {
+            	case 1 :
+            	    // treegen/Walkergen.g:28:9: ( DESCRIPTION )? subnode
+            	    {
+            	    // treegen/Walkergen.g:28:9: ( DESCRIPTION )?
+            	    int alt5=2;
+            	    int LA5_0 = input.LA(1);
+
+            	    if ( (LA5_0==DESCRIPTION) ) {
+            	        alt5=1;
+            	    }
+            	    switch (alt5) {
+            	        case 1 :
+            	            // treegen/Walkergen.g:28:9: DESCRIPTION
+            	            {
+            	            match(input,DESCRIPTION,FOLLOW_DESCRIPTION_in_node136); 
+
+            	            }
+            	            break;
+
+            	    }
+
+
+            	    pushFollow(FOLLOW_subnode_in_node139);
+            	    subnode();
+
+            	    state._fsp--;
+
+
+            	    }
+            	    break;
+
+            	default :
+            	    break loop6;
+                }
+            } while (true);
+
+
+            // treegen/Walkergen.g:29:8: ( ( DESCRIPTION )? field )*
+            loop8:
+            do {
+                int alt8=2;
+                int LA8_0 = input.LA(1);
+
+                if ( (LA8_0==DESCRIPTION||LA8_0==TYPE_NAME||(LA8_0 >= 17 && LA8_0 <= 18)) ) {
+                    alt8=1;
+                }
+
+
+                switch (alt8) {
+            	case 1 :
+            	    // treegen/Walkergen.g:29:9: ( DESCRIPTION )? field
+            	    {
+            	    // treegen/Walkergen.g:29:9: ( DESCRIPTION )?
+            	    int alt7=2;
+            	    int LA7_0 = input.LA(1);
+
+            	    if ( (LA7_0==DESCRIPTION) ) {
+            	        alt7=1;
+            	    }
+            	    switch (alt7) {
+            	        case 1 :
+            	            // treegen/Walkergen.g:29:9: DESCRIPTION
+            	            {
+            	            match(input,DESCRIPTION,FOLLOW_DESCRIPTION_in_node151); 
+
+            	            }
+            	            break;
+
+            	    }
+
+
+            	    pushFollow(FOLLOW_field_in_node154);
+            	    field();
+
+            	    state._fsp--;
+
+
+            	    }
+            	    break;
+
+            	default :
+            	    break loop8;
+                }
+            } while (true);
+
+
+            match(input,RPAREN,FOLLOW_RPAREN_in_node165); 
+
+             println("    }\n"); 
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return ;
+    }
+    // $ANTLR end "node"
+
+
+
+    // $ANTLR start "extendsNode"
+    // treegen/Walkergen.g:34:1: extendsNode : ':' n= NODE_NAME ;
+    public final void extendsNode() throws RecognitionException {
+        Token n=null;
+
+        try {
+            // treegen/Walkergen.g:34:13: ( ':' n= NODE_NAME )
+            // treegen/Walkergen.g:34:15: ':' n= NODE_NAME
+            {
+            match(input,EXTENDS,FOLLOW_EXTENDS_in_extendsNode188); 
+
+            n=(Token)match(input,NODE_NAME,FOLLOW_NODE_NAME_in_extendsNode207); 
+
+             println("        walk" + className((n!=null?n.getText():null)) +"(visitor, node);"); 
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return ;
+    }
+    // $ANTLR end "extendsNode"
+
+
+
+    // $ANTLR start "subnode"
+    // treegen/Walkergen.g:39:1: subnode : (n= NODE_NAME ( '?' )? f= FIELD_NAME |n= NODE_NAME ( '?' )? |mn= NODE_NAME '*' |mn= NODE_NAME '*' f= FIELD_NAME );
+    public final void subnode() throws RecognitionException {
+        Token n=null;
+        Token f=null;
+        Token mn=null;
+
+        try {
+            // treegen/Walkergen.g:39:9: (n= NODE_NAME ( '?' )? f= FIELD_NAME |n= NODE_NAME ( '?' )? |mn= NODE_NAME '*' |mn= NODE_NAME '*' f= FIELD_NAME )
+            int alt11=4;
+            int LA11_0 = input.LA(1);
+
+            if ( (LA11_0==NODE_NAME) ) {
+                switch ( input.LA(2) ) {
+                case 16:
+                    {
+                    int LA11_2 = input.LA(3);
+
+                    if ( (LA11_2==FIELD_NAME) ) {
+                        alt11=4;
+                    }
+                    else if ( (LA11_2==DESCRIPTION||LA11_2==NODE_NAME||LA11_2==RPAREN||LA11_2==TYPE_NAME||(LA11_2 >= 17 && LA11_2 <= 18)) ) {
+                        alt11=3;
+                    }
+                    else {
+                        NoViableAltException nvae =
+                            new NoViableAltException("", 11, 2, input);
+
+                        throw nvae;
+
+                    }
+                    }
+                    break;
+                case OPTIONAL:
+                    {
+                    int LA11_3 = input.LA(3);
+
+                    if ( (LA11_3==FIELD_NAME) ) {
+                        alt11=1;
+                    }
+                    else if ( (LA11_3==DESCRIPTION||LA11_3==NODE_NAME||LA11_3==RPAREN||LA11_3==TYPE_NAME||(LA11_3 >= 17 && LA11_3 <= 18)) ) {
+                        alt11=2;
+                    }
+                    else {
+                        NoViableAltException nvae =
+                            new NoViableAltException("", 11, 3, input);
+
+                        throw nvae;
+
+                    }
+                    }
+                    break;
+                case FIELD_NAME:
+                    {
+                    alt11=1;
+                    }
+                    break;
+                case DESCRIPTION:
+                case NODE_NAME:
+                case RPAREN:
+                case TYPE_NAME:
+                case 17:
+                case 18:
+                    {
+                    alt11=2;
+                    }
+                    break;
+                default:
+                    NoViableAltException nvae =
+                        new NoViableAltException("", 11, 1, input);
+
+                    throw nvae;
+
+                }
+
+            }
+            else {
+                NoViableAltException nvae =
+                    new NoViableAltException("", 11, 0, input);
+
+                throw nvae;
+
+            }
+            switch (alt11) {
+                case 1 :
+                    // treegen/Walkergen.g:39:11: n= NODE_NAME ( '?' )? f= FIELD_NAME
+                    {
+                    n=(Token)match(input,NODE_NAME,FOLLOW_NODE_NAME_in_subnode246); 
+
+                    // treegen/Walkergen.g:39:23: ( '?' )?
+                    int alt9=2;
+                    int LA9_0 = input.LA(1);
+
+                    if ( (LA9_0==OPTIONAL) ) {
+                        alt9=1;
+                    }
+                    switch (alt9) {
+                        case 1 :
+                            // treegen/Walkergen.g:39:23: '?'
+                            {
+                            match(input,OPTIONAL,FOLLOW_OPTIONAL_in_subnode248); 
+
+                            }
+                            break;
+
+                    }
+
+
+                    f=(Token)match(input,FIELD_NAME,FOLLOW_FIELD_NAME_in_subnode253); 
+
+                     println("        if (node.get" + initialUpper((f!=null?f.getText():null)) + "()!=null)"); 
+
+                     println("            node.get" + initialUpper((f!=null?f.getText():null)) + "().visit(visitor);"); 
+
+                    }
+                    break;
+                case 2 :
+                    // treegen/Walkergen.g:42:11: n= NODE_NAME ( '?' )?
+                    {
+                    n=(Token)match(input,NODE_NAME,FOLLOW_NODE_NAME_in_subnode291); 
+
+                    // treegen/Walkergen.g:42:23: ( '?' )?
+                    int alt10=2;
+                    int LA10_0 = input.LA(1);
+
+                    if ( (LA10_0==OPTIONAL) ) {
+                        alt10=1;
+                    }
+                    switch (alt10) {
+                        case 1 :
+                            // treegen/Walkergen.g:42:23: '?'
+                            {
+                            match(input,OPTIONAL,FOLLOW_OPTIONAL_in_subnode293); 
+
+                            }
+                            break;
+
+                    }
+
+
+                     println("        if (node.get" + className((n!=null?n.getText():null)) + "()!=null)"); 
+
+                     println("            node.get" + className((n!=null?n.getText():null)) + "().visit(visitor);"); 
+
+                    }
+                    break;
+                case 3 :
+                    // treegen/Walkergen.g:45:11: mn= NODE_NAME '*'
+                    {
+                    mn=(Token)match(input,NODE_NAME,FOLLOW_NODE_NAME_in_subnode332); 
+
+                    match(input,16,FOLLOW_16_in_subnode334); 
+
+                     println("        List<"+className((mn!=null?mn.getText():null))+"> "+className((mn!=null?mn.getText():null))+"s = node.get" + className((mn!=null?mn.getText():null)) +"s();"); 
+
+                     println("        for (int i=0,l=" + className((mn!=null?mn.getText():null)) + "s.size();i<l;i++){"); 
+
+                     println("            "+className((mn!=null?mn.getText():null))+" subnode = "+className((mn!=null?mn.getText():null))+"s.get(i);"); 
+
+                     println("            subnode.visit(visitor);"); 
+
+                     println("        }"); 
+
+                    }
+                    break;
+                case 4 :
+                    // treegen/Walkergen.g:51:11: mn= NODE_NAME '*' f= FIELD_NAME
+                    {
+                    mn=(Token)match(input,NODE_NAME,FOLLOW_NODE_NAME_in_subnode408); 
+
+                    match(input,16,FOLLOW_16_in_subnode410); 
+
+                    f=(Token)match(input,FIELD_NAME,FOLLOW_FIELD_NAME_in_subnode414); 
+
+                     println("        List<"+className((mn!=null?mn.getText():null))+"> "+className((mn!=null?mn.getText():null))+"s = node.get" + initialUpper((f!=null?f.getText():null)) +"s();"); 
+
+                     println("        for (int i=0,l=" + className((mn!=null?mn.getText():null)) + "s.size();i<l;i++){"); 
+
+                     println("            "+className((mn!=null?mn.getText():null))+" subnode = "+className((mn!=null?mn.getText():null))+"s.get(i);"); 
+
+                     println("            subnode.visit(visitor);"); 
+
+                     println("        }"); 
+
+                    }
+                    break;
+
+            }
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return ;
+    }
+    // $ANTLR end "subnode"
+
+
+
+    // $ANTLR start "field"
+    // treegen/Walkergen.g:59:1: field : ( 'abstract' )? ( TYPE_NAME | 'boolean' ) FIELD_NAME ';' ;
+    public final void field() throws RecognitionException {
+        try {
+            // treegen/Walkergen.g:59:7: ( ( 'abstract' )? ( TYPE_NAME | 'boolean' ) FIELD_NAME ';' )
+            // treegen/Walkergen.g:59:9: ( 'abstract' )? ( TYPE_NAME | 'boolean' ) FIELD_NAME ';'
+            {
+            // treegen/Walkergen.g:59:9: ( 'abstract' )?
+            int alt12=2;
+            int LA12_0 = input.LA(1);
+
+            if ( (LA12_0==17) ) {
+                alt12=1;
+            }
+            switch (alt12) {
+                case 1 :
+                    // treegen/Walkergen.g:59:9: 'abstract'
+                    {
+                    match(input,17,FOLLOW_17_in_field491); 
+
+                    }
+                    break;
+
+            }
+
+
+            if ( input.LA(1)==TYPE_NAME||input.LA(1)==18 ) {
+                input.consume();
+                state.errorRecovery=false;
+            }
+            else {
+                MismatchedSetException mse = new MismatchedSetException(null,input);
+                throw mse;
+            }
+
+
+            match(input,FIELD_NAME,FOLLOW_FIELD_NAME_in_field500); 
+
+            match(input,SEMI,FOLLOW_SEMI_in_field502); 
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return ;
+    }
+    // $ANTLR end "field"
+
+    // Delegated rules
+
+
+ 
+
+    public static final BitSet FOLLOW_DESCRIPTION_in_nodeList45 = new BitSet(new long[]{0x0000000000000010L});
+    public static final BitSet FOLLOW_node_in_nodeList48 = new BitSet(new long[]{0x0000000000000030L});
+    public static final BitSet FOLLOW_EOF_in_nodeList64 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_CARAT_in_node90 = new BitSet(new long[]{0x0000000000000100L});
+    public static final BitSet FOLLOW_LPAREN_in_node92 = new BitSet(new long[]{0x0000000000020400L});
+    public static final BitSet FOLLOW_17_in_node101 = new BitSet(new long[]{0x0000000000000400L});
+    public static final BitSet FOLLOW_NODE_NAME_in_node106 = new BitSet(new long[]{0x0000000000065460L});
+    public static final BitSet FOLLOW_extendsNode_in_node125 = new BitSet(new long[]{0x0000000000065420L});
+    public static final BitSet FOLLOW_DESCRIPTION_in_node136 = new BitSet(new long[]{0x0000000000000400L});
+    public static final BitSet FOLLOW_subnode_in_node139 = new BitSet(new long[]{0x0000000000065420L});
+    public static final BitSet FOLLOW_DESCRIPTION_in_node151 = new BitSet(new long[]{0x0000000000064000L});
+    public static final BitSet FOLLOW_field_in_node154 = new BitSet(new long[]{0x0000000000065020L});
+    public static final BitSet FOLLOW_RPAREN_in_node165 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_EXTENDS_in_extendsNode188 = new BitSet(new long[]{0x0000000000000400L});
+    public static final BitSet FOLLOW_NODE_NAME_in_extendsNode207 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_NODE_NAME_in_subnode246 = new BitSet(new long[]{0x0000000000000880L});
+    public static final BitSet FOLLOW_OPTIONAL_in_subnode248 = new BitSet(new long[]{0x0000000000000080L});
+    public static final BitSet FOLLOW_FIELD_NAME_in_subnode253 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_NODE_NAME_in_subnode291 = new BitSet(new long[]{0x0000000000000802L});
+    public static final BitSet FOLLOW_OPTIONAL_in_subnode293 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_NODE_NAME_in_subnode332 = new BitSet(new long[]{0x0000000000010000L});
+    public static final BitSet FOLLOW_16_in_subnode334 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_NODE_NAME_in_subnode408 = new BitSet(new long[]{0x0000000000010000L});
+    public static final BitSet FOLLOW_16_in_subnode410 = new BitSet(new long[]{0x0000000000000080L});
+    public static final BitSet FOLLOW_FIELD_NAME_in_subnode414 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_17_in_field491 = new BitSet(new long[]{0x0000000000044000L});
+    public static final BitSet FOLLOW_set_in_field494 = new BitSet(new long[]{0x0000000000000080L});
+    public static final BitSet FOLLOW_FIELD_NAME_in_field500 = new BitSet(new long[]{0x0000000000002000L});
+    public static final BitSet FOLLOW_SEMI_in_field502 = new BitSet(new long[]{0x0000000000000002L});
+
+}
\ No newline at end of file
@@ -1,20 +1,42 @@
 package com.redhat.ceylon.compiler.typechecker;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import com.redhat.ceylon.cmr.api.RepositoryManager;
 import com.redhat.ceylon.common.Versions;
 import com.redhat.ceylon.compiler.typechecker.analyzer.ModuleValidator;
+import com.redhat.ceylon.compiler.typechecker.analyzer.TypeHierarchyCache;
 import com.redhat.ceylon.compiler.typechecker.context.Context;
+import com.redhat.ceylon.compiler.typechecker.context.DiagnosticsSink;
+import com.redhat.ceylon.compiler.typechecker.context.ImportGraphScheduler;
+import com.redhat.ceylon.compiler.typechecker.context.Phase;
 import com.redhat.ceylon.compiler.typechecker.context.PhasedUnit;
 import com.redhat.ceylon.compiler.typechecker.context.PhasedUnits;
+import com.redhat.ceylon.compiler.typechecker.context.TreeRetention;
+import com.redhat.ceylon.compiler.typechecker.context.TypeCheckerListener;
+import com.redhat.ceylon.compiler.typechecker.context.UnitDependencyGraph;
 import com.redhat.ceylon.compiler.typechecker.io.VFS;
 import com.redhat.ceylon.compiler.typechecker.io.VirtualFile;
+import com.redhat.ceylon.compiler.typechecker.parser.ParseCache;
 import com.redhat.ceylon.compiler.typechecker.tree.Message;
 import com.redhat.ceylon.compiler.typechecker.util.AssertionVisitor;
+import com.redhat.ceylon.compiler.typechecker.util.CancellationToken;
 import com.redhat.ceylon.compiler.typechecker.util.ModuleManagerFactory;
+import com.redhat.ceylon.compiler.typechecker.util.RepositoryManagerFactory;
 import com.redhat.ceylon.compiler.typechecker.util.StatisticsVisitor;
+import com.redhat.ceylon.model.typechecker.context.TypeCache;
 import com.redhat.ceylon.model.typechecker.model.Module;
+import com.redhat.ceylon.model.typechecker.util.ModuleManager;
 
 /**
  * Executes type checking upon construction and retrieve a CompilationUnit object for a given File.
@@ -34,15 +56,36 @@ public class TypeChecker {
     private final boolean verifyDependencies;
     private final AssertionVisitor assertionVisitor;
     private final StatisticsVisitor statsVisitor;
+    private final int parallelism;
+    private final boolean importGraphScheduling;
+    private final List<VirtualFile> srcDirectories;
+    private final TypeCheckerListener listener;
+    private final TreeRetention treeRetention;
+    private boolean processed = false;
+    private boolean modulesPrepared = false;
+    private CancellationToken cancellationToken;
+    private final TypeHierarchyCache typeHierarchyCache = 
+            new TypeHierarchyCache();
+    private UnitDependencyGraph unitDependencyGraph;
 
     //package level
-    TypeChecker(VFS vfs, List<VirtualFile> srcDirectories, RepositoryManager repositoryManager, boolean verifyDependencies,
+    TypeChecker(VFS vfs, List<VirtualFile> srcDirectories, RepositoryManager repositoryManager, 
+            RepositoryManagerFactory repositoryManagerFactory, boolean verifyDependencies,
             AssertionVisitor assertionVisitor, ModuleManagerFactory moduleManagerFactory, boolean verbose, boolean statistics,
-            List<String> moduleFilters, List<VirtualFile> srcFiles, String encoding) {
+            List<String> moduleFilters, List<VirtualFile> srcFiles, String encoding, int parallelism, 
+            boolean importGraphScheduling, ParseCache parseCache, 
+            TypeCheckerListener listener, TreeRetention treeRetention, 
+            DiagnosticsSink diagnosticsSink) {
         long start = System.nanoTime();
         this.verbose = verbose;
         this.statistics = statistics;
+        this.parallelism = parallelism;
+        this.importGraphScheduling = importGraphScheduling;
+        this.srcDirectories = srcDirectories;
+        this.listener = listener;
+        this.treeRetention = treeRetention;
         this.context = new Context(repositoryManager, vfs);
+        this.context.setRepositoryManagerFactory(repositoryManagerFactory);
         this.phasedUnits = new PhasedUnits(context, moduleManagerFactory);
         this.verifyDependencies = verifyDependencies;
         this.assertionVisitor = assertionVisitor;
@@ -50,6 +93,10 @@ public class TypeChecker {
         phasedUnits.setSourceFiles(srcFiles);
         phasedUnits.setModuleFilters(moduleFilters);
         phasedUnits.setEncoding(encoding);
+        phasedUnits.getModuleSourceMapper().setEncoding(encoding);
+        phasedUnits.setParallelism(parallelism);
+        phasedUnits.setParseCache(parseCache);
+        phasedUnits.setDiagnosticsSink(diagnosticsSink);
         phasedUnits.parseUnits(srcDirectories);
         long time = System.nanoTime()-start;
         if(statistics)
@@ -69,6 +116,15 @@ public class TypeChecker {
         this.phasedUnitsOfDependencies = phasedUnitsOfDependencies;
     }
 
+    /**
+     * The members of the types already sorted while the 
+     * hierarchy of the units was checked, shared by every
+     * unit of this type checker.
+     */
+    public TypeHierarchyCache getTypeHierarchyCache() {
+        return typeHierarchyCache;
+    }
+
     public Context getContext() {
         return context;
     }
@@ -124,8 +180,37 @@ public class TypeChecker {
     }
     
     public void process(boolean forceSilence) throws RuntimeException {
+        process(forceSilence, null);
+    }
+    
+    /**
+     * Type checks the project, unless the given token is 
+     * cancelled first, in which case a 
+     * {@link CancellationException} is thrown, leaving the 
+     * units which already went through a phase in that 
+     * phase. Calling this method again resumes the type 
+     * checking: the units on which a phase was cancelled 
+     * halfway are parsed again, the units depending on them
+     * go through the phases again, and the other units only
+     * go through the phases they didn't finish.
+     * 
+     * @param cancellationToken checked before each unit goes
+     *        through a phase and while the visitors walk the
+     *        tree, or null
+     */
+    public void process(boolean forceSilence, 
+            CancellationToken cancellationToken) 
+                    throws RuntimeException {
         long start = System.nanoTime();
-        executePhases(phasedUnits, forceSilence);
+        this.cancellationToken = cancellationToken;
+        try {
+            reparseInterruptedUnits();
+            executePhases(phasedUnits, forceSilence);
+        }
+        finally {
+            this.cancellationToken = null;
+        }
+        processed = true;
         long time = System.nanoTime()-start;
         if(statistics)
         	System.out.println("Type checked in " + time/1000000 + " ms");
@@ -134,6 +219,30 @@ public class TypeChecker {
     private void executePhases(PhasedUnits phasedUnits, boolean forceSilence) {
         List<PhasedUnit> listOfUnits = phasedUnits.getPhasedUnits();
 
+        if (!modulesPrepared) {
+            prepareModules(phasedUnits);
+            modulesPrepared = true;
+        }
+
+        executePhases(listOfUnits);
+
+        if (!forceSilence) {
+            for (PhasedUnit pu : listOfUnits) {
+                if (verbose) {
+                    pu.display();
+                }
+                pu.generateStatistics(statsVisitor);
+                pu.runAssertions(assertionVisitor);
+            }
+            if (verbose||statistics) {
+            	statsVisitor.print();
+            }
+            assertionVisitor.print(verbose);
+        }
+        
+    }
+
+    private void prepareModules(PhasedUnits phasedUnits) {
         phasedUnits.getModuleManager().prepareForTypeChecking();
         phasedUnits.visitModules();
         phasedUnits.getModuleManager().modulesVisited();
@@ -152,44 +261,342 @@ public class TypeChecker {
         }
         phasedUnitsOfDependencies = 
                 moduleValidator.getPhasedUnitsOfDependencies();
+        if (treeRetention == TreeRetention.MODEL_ONLY) {
+            //the dependencies don't go through any further 
+            //phase, and we only need their model from now on
+            for (PhasedUnits units : phasedUnitsOfDependencies) {
+                for (PhasedUnit pu : units.getPhasedUnits()) {
+                    pu.releaseTree();
+                }
+            }
+        }
+    }
 
-        executePhases(listOfUnits);
+    /**
+     * Parses again the units on which a phase was cancelled 
+     * halfway, and sends the units which may depend on what
+     * they had added to the model back through the phases.
+     */
+    private void reparseInterruptedUnits() {
+        Set<String> changedPackages = new LinkedHashSet<String>();
+        Set<PhasedUnit> updatedUnits = new LinkedHashSet<PhasedUnit>();
+        for (PhasedUnit pu: phasedUnits.getPhasedUnits()) {
+            if (pu.isInterrupted()) {
+                changedPackages.add(pu.getPackage().getNameAsString());
+                typeHierarchyCache.invalidate(pu.getUnit());
+                unitDependencyGraph = null;
+                updatedUnits.add(phasedUnits.reparseFile(
+                        pu.getUnitFile(), pu.getSrcDir(), 
+                        pu.getPackage()));
+            }
+        }
+        if (!changedPackages.isEmpty()) {
+            resetAffectedUnits(changedPackages, updatedUnits);
+        }
+    }
 
-        if (!forceSilence) {
-            for (PhasedUnit pu : listOfUnits) {
-                if (verbose) {
-                    pu.display();
+    /**
+     * The dependencies between the units of this type 
+     * checker, built the first time they are needed after
+     * the units last changed.
+     */
+    private UnitDependencyGraph getUnitDependencyGraph() {
+        if (unitDependencyGraph==null) {
+            unitDependencyGraph = 
+                    new UnitDependencyGraph(phasedUnits.getPhasedUnits());
+        }
+        return unitDependencyGraph;
+    }
+
+    /**
+     * Sends the units of the given packages, and of the 
+     * packages importing them, back through the phases, 
+     * without parsing them again, since they may refer to
+     * declarations that no longer exist.
+     */
+    private void resetAffectedUnits(Set<String> changedPackages, 
+            Set<PhasedUnit> updatedUnits) {
+        UnitDependencyGraph graph = getUnitDependencyGraph();
+        for (PhasedUnit pu: graph.getAffectedUnits(changedPackages)) {
+            if (!updatedUnits.contains(pu)) {
+                typeHierarchyCache.invalidate(pu.getUnit());
+                pu.resetDeclarations();
+                updatedUnits.add(pu);
+            }
+        }
+    }
+
+    /**
+     * Updates the type checker after some source files have
+     * changed, without type checking the whole project again.
+     * The changed files are parsed again. The other units of
+     * their packages and of the packages importing them, 
+     * directly or indirectly, may refer to declarations that
+     * no longer exist, and go through the phases again, 
+     * keeping their syntax trees. Only these units are type
+     * checked again.
+     * 
+     * Changes to module or package descriptors can't be 
+     * handled this way, and require a new type checker.
+     * 
+     * @param changed the source files that were added or 
+     *        modified
+     * @param removed the source files that were deleted
+     * @return the units that were type checked again, in 
+     *         the order of {@link PhasedUnits#getPhasedUnits()},
+     *         whose compilation units hold the new errors
+     */
+    public List<PhasedUnit> update(Collection<VirtualFile> changed, 
+            Collection<VirtualFile> removed) {
+        for (VirtualFile file: changed) {
+            checkNotDescriptor(file);
+        }
+        for (VirtualFile file: removed) {
+            checkNotDescriptor(file);
+        }
+        long start = System.nanoTime();
+        //units are replaced or removed, so the graph of 
+        //their dependencies is built again
+        unitDependencyGraph = null;
+        Set<String> changedPackages = new LinkedHashSet<String>();
+        Set<PhasedUnit> updatedUnits = new LinkedHashSet<PhasedUnit>();
+        for (VirtualFile file: removed) {
+            PhasedUnit pu = phasedUnits.getPhasedUnit(file);
+            if (pu!=null) {
+                changedPackages.add(pu.getPackage().getNameAsString());
+                typeHierarchyCache.invalidate(pu.getUnit());
+                phasedUnits.removePhasedUnitForRelativePath(
+                        pu.getPathRelativeToSrcDir());
+            }
+        }
+        for (VirtualFile file: changed) {
+            PhasedUnit old = phasedUnits.getPhasedUnit(file);
+            if (old!=null) {
+                typeHierarchyCache.invalidate(old.getUnit());
+            }
+            PhasedUnit pu = 
+                    phasedUnits.reparseFile(file, 
+                            getSrcDirectory(file), null);
+            changedPackages.add(pu.getPackage().getNameAsString());
+            updatedUnits.add(pu);
+        }
+        resetAffectedUnits(changedPackages, updatedUnits);
+        //the phases run on the units in the same order as 
+        //they would in a full run
+        List<PhasedUnit> listOfUnits = 
+                new ArrayList<PhasedUnit>(updatedUnits.size());
+        for (PhasedUnit pu: phasedUnits.getPhasedUnits()) {
+            if (updatedUnits.contains(pu)) {
+                listOfUnits.add(pu);
+            }
+        }
+        if (processed) {
+            executePhases(listOfUnits);
+        }
+        long time = System.nanoTime()-start;
+        if(statistics)
+            System.out.println("Updated " + listOfUnits.size() + 
+                    " units in " + time/1000000 + " ms");
+        return listOfUnits;
+    }
+
+    /**
+     * Runs the phases up to the given phase on the given 
+     * unit only, after running the previous phases on the 
+     * units it needs: the other units of its package, and 
+     * the units of the packages it imports, directly or 
+     * indirectly. The rest of the project is not type 
+     * checked. The phases a unit already went through are 
+     * not run again.
+     * 
+     * @return the unit, or the unit parsed again from the 
+     *         same file if a previous phase was cancelled 
+     *         while it was running on it
+     */
+    public PhasedUnit ensurePhase(PhasedUnit unit, Phase phase) {
+        return ensurePhase(unit, phase, null);
+    }
+    
+    /**
+     * Like {@link #ensurePhase(PhasedUnit, Phase)}, unless 
+     * the given token is cancelled first, in which case a 
+     * {@link CancellationException} is thrown.
+     */
+    public PhasedUnit ensurePhase(PhasedUnit unit, Phase phase, 
+            CancellationToken cancellationToken) {
+        if (phasedUnits.getPhasedUnit(unit.getUnitFile())!=unit) {
+            throw new IllegalArgumentException("unit is not part of this type checker: " + 
+                    unit.getUnitFile().getPath());
+        }
+        this.cancellationToken = cancellationToken;
+        try {
+            reparseInterruptedUnits();
+            unit = phasedUnits.getPhasedUnit(unit.getUnitFile());
+            if (!modulesPrepared) {
+                prepareModules(phasedUnits);
+                modulesPrepared = true;
+            }
+            List<PhasedUnit> requiredUnits = 
+                    getUnitDependencyGraph().getRequiredUnits(unit);
+            prepareUnits(requiredUnits);
+            for (Phase p: Phase.values()) {
+                if (p.compareTo(phase)>0) {
+                    break;
+                }
+                if (p==phase) {
+                    p.run(unit);
+                }
+                else {
+                    for (PhasedUnit pu: requiredUnits) {
+                        p.run(pu);
+                    }
                 }
-                pu.generateStatistics(statsVisitor);
-                pu.runAssertions(assertionVisitor);
             }
-            if (verbose||statistics) {
-            	statsVisitor.print();
+            return unit;
+        }
+        finally {
+            this.cancellationToken = null;
+        }
+    }
+
+    private static void checkNotDescriptor(VirtualFile file) {
+        String name = file.getName();
+        if (name.equals(ModuleManager.MODULE_FILE) ||
+            name.equals(ModuleManager.PACKAGE_FILE)) {
+            throw new UnsupportedOperationException("module and package descriptors can't be updated incrementally: " + 
+                    file.getPath());
+        }
+    }
+
+    private VirtualFile getSrcDirectory(VirtualFile file) {
+        PhasedUnit pu = phasedUnits.getPhasedUnit(file);
+        if (pu!=null) {
+            return pu.getSrcDir();
+        }
+        String path = file.getPath();
+        VirtualFile result = null;
+        for (VirtualFile srcDir: srcDirectories) {
+            String srcPath = srcDir.getPath();
+            if (path.startsWith(srcPath + "/") ||
+                path.startsWith(srcPath + "!/")) {
+                if (result==null || 
+                        srcPath.length()>result.getPath().length()) {
+                    result = srcDir;
+                }
             }
-            assertionVisitor.print(verbose);
         }
-        
+        if (result==null) {
+            throw new IllegalArgumentException("file is not in a source directory: " + path);
+        }
+        return result;
+    }
+
+    private void prepareUnits(List<PhasedUnit> listOfUnits) {
+        for (PhasedUnit pu: listOfUnits) {
+            if (listener!=null) {
+                pu.setListener(listener);
+            }
+            pu.setCancellationToken(cancellationToken);
+            pu.setTypeHierarchyCache(typeHierarchyCache);
+        }
     }
 
     protected void executePhases(List<PhasedUnit> listOfUnits) {
-        for (PhasedUnit pu : listOfUnits) {
-            pu.validateTree();
-            pu.scanDeclarations();
+        prepareUnits(listOfUnits);
+        if (importGraphScheduling) {
+            new ImportGraphScheduler(listOfUnits, parallelism, 
+                    listener).execute();
+            return;
         }
-        for (PhasedUnit pu : listOfUnits) {
-            pu.scanTypeDeclarations();
+        if (parallelism > 1 && listOfUnits.size() > 1) {
+            executePhasesConcurrently(listOfUnits);
+            return;
         }
-        for (PhasedUnit pu: listOfUnits) {
-            pu.validateRefinement();
+        for (Phase phase: Phase.values()) {
+            if (listener!=null) {
+                listener.phaseStarted(phase);
+            }
+            long start = System.nanoTime();
+            for (PhasedUnit pu: listOfUnits) {
+                phase.run(pu);
+            }
+            if (listener!=null) {
+                listener.phaseFinished(phase, 
+                        System.nanoTime()-start);
+            }
         }
-        for (PhasedUnit pu : listOfUnits) {
-            pu.analyseTypes();
+    }
+    
+    /**
+     * Runs the phases on a pool of worker threads. Every unit
+     * finishes a phase before any unit starts the next one,
+     * just like in the sequential case, and the units of a
+     * package go through the declaration phases one after 
+     * the other.
+     */
+    private void executePhasesConcurrently(List<PhasedUnit> listOfUnits) {
+        //the caching flag is per thread: the workers must
+        //see the same one as the calling thread
+        Boolean cachingEnabled = TypeCache.setEnabled(true);
+        TypeCache.setEnabled(cachingEnabled);
+        ExecutorService executor = 
+                Executors.newFixedThreadPool(parallelism);
+        try {
+            for (Phase phase: Phase.values()) {
+                if (listener!=null) {
+                    listener.phaseStarted(phase);
+                }
+                long start = System.nanoTime();
+                executePhaseConcurrently(executor, phase, 
+                        listOfUnits, cachingEnabled);
+                if (listener!=null) {
+                    listener.phaseFinished(phase, 
+                            System.nanoTime()-start);
+                }
+            }
         }
-        for (PhasedUnit pu: listOfUnits) {
-            pu.analyseFlow();
+        finally {
+            executor.shutdown();
         }
-        for (PhasedUnit pu: listOfUnits) {
-            pu.analyseUsage();
+    }
+
+    private void executePhaseConcurrently(ExecutorService executor, 
+            final Phase phase, List<PhasedUnit> listOfUnits, 
+            final Boolean cachingEnabled) {
+        List<List<PhasedUnit>> batches = 
+                phase.getBatches(listOfUnits);
+        List<Callable<Void>> tasks = 
+                new ArrayList<Callable<Void>>(batches.size());
+        for (final List<PhasedUnit> batch: batches) {
+            tasks.add(new Callable<Void>() {
+                @Override
+                public Void call() {
+                    for (PhasedUnit pu: batch) {
+                        phase.runOnWorker(pu, cachingEnabled);
+                    }
+                    return null;
+                }
+            });
+        }
+        try {
+            //invokeAll() is the barrier between phases
+            for (Future<Void> future: executor.invokeAll(tasks)) {
+                future.get();
+            }
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted during phase " + phase, e);
+        }
+        catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new RuntimeException(cause);
         }
     }
     
@@ -6,11 +6,16 @@ import java.util.List;
 
 import com.redhat.ceylon.cmr.api.RepositoryManager;
 import com.redhat.ceylon.cmr.ceylon.CeylonUtils;
+import com.redhat.ceylon.compiler.typechecker.context.DiagnosticsSink;
+import com.redhat.ceylon.compiler.typechecker.context.TreeRetention;
+import com.redhat.ceylon.compiler.typechecker.context.TypeCheckerListener;
 import com.redhat.ceylon.compiler.typechecker.io.VFS;
 import com.redhat.ceylon.compiler.typechecker.io.VirtualFile;
 import com.redhat.ceylon.compiler.typechecker.io.cmr.impl.LeakingLogger;
+import com.redhat.ceylon.compiler.typechecker.parser.ParseCache;
 import com.redhat.ceylon.compiler.typechecker.util.AssertionVisitor;
 import com.redhat.ceylon.compiler.typechecker.util.ModuleManagerFactory;
+import com.redhat.ceylon.compiler.typechecker.util.RepositoryManagerFactory;
 
 /**
  * Build a TypeChecker using the builder pattern
@@ -38,13 +43,22 @@ public class TypeCheckerBuilder {
     };
     private ModuleManagerFactory moduleManagerFactory;
     private RepositoryManager repositoryManager;
+    private RepositoryManagerFactory repositoryManagerFactory;
     private List<String> moduleFilters = new ArrayList<String>();
+    private int parallelism = 1;
+    private boolean importGraphScheduling = false;
+    private ParseCache parseCache;
+    private TypeCheckerListener listener;
+    private TreeRetention treeRetention = TreeRetention.FULL;
+    private DiagnosticsSink diagnosticsSink;
 
     public TypeCheckerBuilder() {}
 
 	/**
 	 * Let's you add a directory or a file.
 	 * Directories are better as the type checker can extract the context like module name, package etc
+	 * The directory is listed afresh each time it is walked; to list it once and keep the listing,
+	 * add <code>vfs.getFromPath(path)</code> instead
 	 */
     public TypeCheckerBuilder addSrcDirectory(File srcDirectory) {
         return addSrcDirectory( vfs.getFromFile( srcDirectory ) );
@@ -131,6 +145,21 @@ public class TypeCheckerBuilder {
     	return this;
     }
 
+    /**
+     * Sets the factory of the repository managers. Unless a
+     * repository manager was set, the type checker uses one
+     * created by the factory, and when dependencies are 
+     * looked up on several threads, each thread uses one of
+     * its own. Without a factory, a repository manager which
+     * was set is used by a single thread.
+     *
+     * @return type checker builder.
+     */
+    public TypeCheckerBuilder repositoryManagerFactory(RepositoryManagerFactory repositoryManagerFactory){
+        this.repositoryManagerFactory = repositoryManagerFactory;
+        return this;
+    }
+
     public VFS getVFS(){
         return vfs;
     }
@@ -140,14 +169,113 @@ public class TypeCheckerBuilder {
         return this;
     }
 
+    /**
+     * Sets the number of threads used to parse the source 
+     * files and to run the type checking phases over them.
+     * Defaults to 1, meaning everything runs sequentially 
+     * on the calling thread.
+     *
+     * @param parallelism the number of worker threads
+     * @return type checker builder.
+     */
+    public TypeCheckerBuilder parallelism(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be at least 1: " + parallelism);
+        }
+        this.parallelism = parallelism;
+        return this;
+    }
+
+    /**
+     * Lets units move through the type checking phases as
+     * soon as the units of the packages they import are
+     * done with a phase, rather than waiting for every unit
+     * of the project. Works best with a parallelism greater
+     * than one.
+     *
+     * @see com.redhat.ceylon.compiler.typechecker.context.ImportGraphScheduler
+     * @return type checker builder.
+     */
+    public TypeCheckerBuilder importGraphScheduling(boolean importGraphScheduling) {
+        this.importGraphScheduling = importGraphScheduling;
+        return this;
+    }
+
+    /**
+     * Keeps the parsed compilation units in the given 
+     * directory, so that unchanged source files don't need
+     * to be parsed again by later type checkers.
+     *
+     * @param directory the cache directory
+     * @return type checker builder.
+     */
+    public TypeCheckerBuilder parseCache(File directory) {
+        this.parseCache = directory == null ? 
+                null : new ParseCache(directory);
+        return this;
+    }
+
+    /**
+     * Registers a listener notified of the time taken by 
+     * each phase, by each unit in each phase, and by each 
+     * visitor run on a unit.
+     *
+     * @param listener the listener, or null for none
+     * @return type checker builder.
+     */
+    public TypeCheckerBuilder listener(TypeCheckerListener listener) {
+        this.listener = listener;
+        return this;
+    }
+
+    /**
+     * Sets how long the syntax trees of source dependencies
+     * are kept. With {@link TreeRetention#MODEL_ONLY} they 
+     * are released as soon as the dependencies have been
+     * processed, and only their model is kept.
+     *
+     * @return type checker builder.
+     */
+    public TypeCheckerBuilder treeRetention(TreeRetention treeRetention) {
+        if (treeRetention == null) {
+            throw new IllegalArgumentException("treeRetention must not be null");
+        }
+        this.treeRetention = treeRetention;
+        return this;
+    }
+
+    /**
+     * Registers a sink which receives the errors and warnings
+     * of each unit as soon as they are found: lexer and 
+     * parser errors right after the unit is parsed, and the
+     * other messages as soon as the phase that found them
+     * has run on the unit.
+     *
+     * @param diagnosticsSink the sink, or null for none
+     * @return type checker builder.
+     */
+    public TypeCheckerBuilder diagnosticsSink(DiagnosticsSink diagnosticsSink) {
+        this.diagnosticsSink = diagnosticsSink;
+        return this;
+    }
+
     public TypeChecker getTypeChecker() {
         if (repositoryManager == null) {
-            repositoryManager = CeylonUtils.repoManager()
-                    .logger(new LeakingLogger())
-                    .buildManager();
+            if (repositoryManagerFactory == null) {
+                repositoryManagerFactory = new RepositoryManagerFactory() {
+                    @Override
+                    public RepositoryManager createRepositoryManager() {
+                        return CeylonUtils.repoManager()
+                                .logger(new LeakingLogger())
+                                .buildManager();
+                    }
+                };
+            }
+            repositoryManager = repositoryManagerFactory.createRepositoryManager();
         }
-        return new TypeChecker(vfs, srcDirectories, repositoryManager, verifyDependencies, assertionVisitor,
-                moduleManagerFactory, verbose, statistics, moduleFilters, srcFiles, encoding);
+        return new TypeChecker(vfs, srcDirectories, repositoryManager, repositoryManagerFactory, verifyDependencies, assertionVisitor,
+                moduleManagerFactory, verbose, statistics, moduleFilters, srcFiles, encoding, parallelism,
+                importGraphScheduling, parseCache, listener, treeRetention, diagnosticsSink);
     }
 
 }
@@ -9,9 +9,9 @@ import java.util.ArrayList;
 import java.util.List;
 
 import com.redhat.ceylon.compiler.typechecker.context.TypecheckerUnit;
+import com.redhat.ceylon.compiler.typechecker.tree.FusableVisitor;
 import com.redhat.ceylon.compiler.typechecker.tree.Node;
 import com.redhat.ceylon.compiler.typechecker.tree.Tree;
-import com.redhat.ceylon.compiler.typechecker.tree.Visitor;
 import com.redhat.ceylon.model.typechecker.model.Class;
 import com.redhat.ceylon.model.typechecker.model.Declaration;
 import com.redhat.ceylon.model.typechecker.model.Function;
@@ -27,7 +27,7 @@ import com.redhat.ceylon.model.typechecker.model.TypedDeclaration;
 import com.redhat.ceylon.model.typechecker.model.Unit;
 import com.redhat.ceylon.model.typechecker.model.Value;
 
-public class AnnotationVisitor extends Visitor {
+public class AnnotationVisitor extends FusableVisitor {
     
     private static final String DOC_LINK_MODULE = "module ";
     private static final String DOC_LINK_PACKAGE = "package ";
@@ -252,32 +252,32 @@ public class AnnotationVisitor extends Visitor {
     }
 
     @Override 
-    public void visit(Tree.PackageDescriptor that) {
-        super.visit(that);
+    public void leave(Tree.PackageDescriptor that) {
+        super.leave(that);
         Unit unit = that.getUnit();
         checkAnnotations(that.getAnnotationList(), 
                 unit.getPackageDeclarationType(), null);
     }
     
     @Override 
-    public void visit(Tree.ModuleDescriptor that) {
-        super.visit(that);
+    public void leave(Tree.ModuleDescriptor that) {
+        super.leave(that);
         Unit unit = that.getUnit();
         checkAnnotations(that.getAnnotationList(), 
                 unit.getModuleDeclarationType(), null);
     }
     
     @Override 
-    public void visit(Tree.ImportModule that) {
-        super.visit(that);
+    public void leave(Tree.ImportModule that) {
+        super.leave(that);
         Unit unit = that.getUnit();
         checkAnnotations(that.getAnnotationList(), 
                 unit.getImportDeclarationType(), null);
     }
     
     @Override
-    public void visit(Tree.AnyClass that) {
-        super.visit(that);
+    public void leave(Tree.AnyClass that) {
+        super.leave(that);
         Class c = that.getDeclarationModel();
         if (c.isAnnotation()) {
             checkAnnotationType(that, c);
@@ -290,8 +290,8 @@ public class AnnotationVisitor extends Visitor {
     }
 
     @Override 
-    public void visit(Tree.AnyInterface that) {
-        super.visit(that);
+    public void leave(Tree.AnyInterface that) {
+        super.leave(that);
         TypeDeclaration i = that.getDeclarationModel();
         Unit unit = that.getUnit();
         checkAnnotations(that.getAnnotationList(),
@@ -300,8 +300,8 @@ public class AnnotationVisitor extends Visitor {
     }
     
     @Override 
-    public void visit(Tree.Constructor that) {
-        super.visit(that);
+    public void leave(Tree.Constructor that) {
+        super.leave(that);
         Function f = that.getDeclarationModel();
         Unit unit = that.getUnit();
         checkAnnotations(that.getAnnotationList(),
@@ -310,8 +310,8 @@ public class AnnotationVisitor extends Visitor {
     }
     
     @Override 
-    public void visit(Tree.Enumerated that) {
-        super.visit(that);
+    public void leave(Tree.Enumerated that) {
+        super.leave(that);
         Value v = that.getDeclarationModel();
         Unit unit = that.getUnit();
         //TODO: metamodel types for Enumerated!!
@@ -321,8 +321,8 @@ public class AnnotationVisitor extends Visitor {
     }
     
     @Override
-    public void visit(Tree.AnyAttribute that) {
-        super.visit(that);
+    public void leave(Tree.AnyAttribute that) {
+        super.leave(that);
         TypedDeclaration a = that.getDeclarationModel();
         Unit unit = that.getUnit();
         checkAnnotations(that.getAnnotationList(), 
@@ -331,8 +331,8 @@ public class AnnotationVisitor extends Visitor {
     }
 
     @Override
-    public void visit(Tree.ObjectDefinition that) {
-        super.visit(that);
+    public void leave(Tree.ObjectDefinition that) {
+        super.leave(that);
         TypedDeclaration o = that.getDeclarationModel();
         Unit unit = that.getUnit();
         checkAnnotations(that.getAnnotationList(), 
@@ -341,8 +341,8 @@ public class AnnotationVisitor extends Visitor {
     }
 
     @Override
-    public void visit(Tree.AnyMethod that) {
-        super.visit(that);
+    public void leave(Tree.AnyMethod that) {
+        super.leave(that);
         Function a = that.getDeclarationModel();
         if (a.isAnnotation()) {
             checkAnnotationConstructor(that, a);
@@ -593,8 +593,8 @@ public class AnnotationVisitor extends Visitor {
     }
     
     @Override 
-    public void visit(Tree.DocLink that) {
-        super.visit(that);
+    public void leave(Tree.DocLink that) {
+        super.leave(that);
         String text = that.getText();
         
         int pipeIndex = text.indexOf("|");
@@ -786,8 +786,8 @@ public class AnnotationVisitor extends Visitor {
     }
 
     @Override 
-    public void visit(Tree.Annotation that) {
-        super.visit(that);
+    public void leave(Tree.Annotation that) {
+        super.leave(that);
         Tree.MemberOrTypeExpression primary = 
                 (Tree.MemberOrTypeExpression) 
                     that.getPrimary();
@@ -873,8 +873,8 @@ public class AnnotationVisitor extends Visitor {
     //      references are only resolved when we get to the 
     //      containing InvocationExpression, and I did not want
     //      to add a whole new Visitor just for overloading errors
-    @Override public void visit(Tree.MemberOrTypeExpression that) {
-        super.visit(that);
+    @Override public void leave(Tree.MemberOrTypeExpression that) {
+        super.leave(that);
         Declaration dec = that.getDeclaration();
         if (!that.getStaticMethodReferencePrimary() &&
                 isAbstraction(dec)) {
@@ -0,0 +1,432 @@
+package com.redhat.ceylon.compiler.typechecker.analyzer;
+
+import static com.redhat.ceylon.compiler.typechecker.tree.TreeUtil.formatPath;
+
+import java.io.File;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+
+import com.redhat.ceylon.cmr.api.ArtifactContext;
+import com.redhat.ceylon.cmr.api.RepositoryManager;
+import com.redhat.ceylon.compiler.typechecker.io.ClosableVirtualFile;
+import com.redhat.ceylon.compiler.typechecker.io.VFS;
+import com.redhat.ceylon.compiler.typechecker.io.VirtualFile;
+import com.redhat.ceylon.compiler.typechecker.io.impl.Helper;
+import com.redhat.ceylon.compiler.typechecker.parser.ParsedArchive;
+import com.redhat.ceylon.compiler.typechecker.parser.ParsedSource;
+import com.redhat.ceylon.compiler.typechecker.tree.Tree;
+import com.redhat.ceylon.compiler.typechecker.util.RepositoryManagerFactory;
+import com.redhat.ceylon.model.cmr.ArtifactResult;
+import com.redhat.ceylon.model.typechecker.model.Module;
+import com.redhat.ceylon.model.typechecker.util.ModuleManager;
+
+/**
+ * Looks up the artifacts of the modules imported by the
+ * modules being compiled, and the source archives of these
+ * artifacts, on a bounded pool of threads, and parses the
+ * source archives as soon as they arrive. The imports
+ * declared by the module descriptor of a parsed archive
+ * are looked up in turn, without waiting for the
+ * {@link ModuleValidator} to reach them.
+ *
+ * The validator still walks the dependency graph in the
+ * same order, and builds the model on its own thread: it
+ * just finds the artifacts, and the parsed trees, ready,
+ * or being prepared. An artifact which no thread of the
+ * pool started to look up yet is looked up by the thread
+ * which needs it.
+ *
+ * The repository manager is not known to be thread safe, so
+ * each thread of the pool looks up artifacts with its own
+ * repository manager, and the thread which needs an 
+ * artifact uses the repository manager of the type checker.
+ */
+public class ArtifactPipeline {
+
+    private final RepositoryManager repositoryManager;
+    private final ThreadLocal<RepositoryManager> threadRepositoryManager =
+            new ThreadLocal<RepositoryManager>();
+    private final VFS vfs;
+    private final String[] artifactSuffixes;
+    private final boolean parseSources;
+    private final Set<String> localModules;
+    private final String encoding;
+    private final ExecutorService executor;
+    private final ConcurrentMap<String,FutureTask<ArtifactResult>> artifacts =
+            new ConcurrentHashMap<String,FutureTask<ArtifactResult>>();
+    private final ConcurrentMap<String,FutureTask<Sources>> sources =
+            new ConcurrentHashMap<String,FutureTask<Sources>>();
+
+    /**
+     * The source archive of a module, if it was found, and
+     * its compilation units, if they could be parsed.
+     */
+    public static final class Sources {
+        private final ArtifactResult artifact;
+        private final Exception exception;
+        private final ParsedArchive parsedArchive;
+        Sources(ArtifactResult artifact, Exception exception,
+                ParsedArchive parsedArchive) {
+            this.artifact = artifact;
+            this.exception = exception;
+            this.parsedArchive = parsedArchive;
+        }
+        /**
+         * The source archive, or null if it wasn't found.
+         */
+        public ArtifactResult getArtifact() {
+            return artifact;
+        }
+        /**
+         * The exception thrown while looking up the source
+         * archive, or null.
+         */
+        public Exception getException() {
+            return exception;
+        }
+        /**
+         * The compilation units parsed without errors from
+         * the source archive, or null if it couldn't be
+         * read. The units which failed to parse are left out,
+         * so that they are parsed again with their errors.
+         */
+        public ParsedArchive getParsedArchive() {
+            return parsedArchive;
+        }
+    }
+
+    /**
+     * @param repositoryManager the repository manager of the
+     *        thread which needs the artifacts
+     * @param repositoryManagerFactory creates the repository
+     *        manager of each thread of the pool
+     * @param artifactSuffixes the suffixes of the artifacts
+     *        of the imported modules
+     * @param parseSources whether the source archives are
+     *        looked up and parsed, or only the artifacts
+     * @param localModules the names of the modules being
+     *        compiled, which are never looked up
+     * @param encoding the encoding of the source files
+     * @param parallelism the number of threads
+     */
+    public ArtifactPipeline(RepositoryManager repositoryManager,
+            final RepositoryManagerFactory repositoryManagerFactory,
+            VFS vfs, String[] artifactSuffixes, boolean parseSources,
+            Set<String> localModules, String encoding, int parallelism) {
+        this.repositoryManager = repositoryManager;
+        this.vfs = vfs;
+        this.artifactSuffixes = artifactSuffixes;
+        this.parseSources = parseSources;
+        this.localModules = localModules;
+        this.encoding = encoding;
+        final ThreadFactory threadFactory = Executors.defaultThreadFactory();
+        this.executor = Executors.newFixedThreadPool(parallelism, 
+                new ThreadFactory() {
+            @Override
+            public Thread newThread(final Runnable runnable) {
+                return threadFactory.newThread(new Runnable() {
+                    @Override
+                    public void run() {
+                        threadRepositoryManager.set(
+                                repositoryManagerFactory.createRepositoryManager());
+                        runnable.run();
+                    }
+                });
+            }
+        });
+    }
+
+    private static String key(String name, String version) {
+        return name + "/" + version;
+    }
+
+    /**
+     * Starts looking up the artifact of the given module,
+     * and then its source archive, unless it was already
+     * asked for.
+     */
+    public void lookup(Module module) {
+        lookup(module.getNameAsString(), module.getVersion());
+    }
+
+    private void lookup(String name, String version) {
+        if (name==null || version==null ||
+                localModules.contains(name)) {
+            return;
+        }
+        FutureTask<ArtifactResult> task =
+                newArtifactTask(name, version,
+                        new ArtifactContext(name, version,
+                                artifactSuffixes));
+        if (artifacts.putIfAbsent(key(name, version), task)==null) {
+            submit(task);
+        }
+    }
+
+    /**
+     * The artifact of the given module, waiting for the
+     * lookup to finish if it is still running, or looking
+     * it up on this thread if it wasn't asked for yet.
+     *
+     * @param artifactContext the artifact to look up if it
+     *        wasn't asked for yet
+     * @return the artifact, or null if there is none
+     * @throws Exception the exception thrown by the
+     *         repository manager
+     */
+    public ArtifactResult getArtifact(Module module,
+            ArtifactContext artifactContext)
+                    throws Exception {
+        String name = module.getNameAsString();
+        String version = module.getVersion();
+        FutureTask<ArtifactResult> task =
+                newArtifactTask(name, version, artifactContext);
+        FutureTask<ArtifactResult> existing =
+                artifacts.putIfAbsent(key(name, version), task);
+        if (existing!=null) {
+            task = existing;
+        }
+        //does nothing if a thread of the pool already 
+        //started it
+        task.run();
+        return get(task);
+    }
+
+    /**
+     * The source archive of the given module, and its
+     * parsed compilation units, waiting for them if they are
+     * still being looked up or parsed, or looking them up
+     * and parsing them on this thread if they weren't asked
+     * for yet.
+     */
+    public Sources getSources(Module module) {
+        String name = module.getNameAsString();
+        String version = module.getVersion();
+        FutureTask<Sources> task = newSourcesTask(name, version);
+        FutureTask<Sources> existing =
+                sources.putIfAbsent(key(name, version), task);
+        if (existing!=null) {
+            task = existing;
+        }
+        task.run();
+        try {
+            return get(task);
+        }
+        catch (Exception e) {
+            //the task itself catches every exception
+            return new Sources(null, e, null);
+        }
+    }
+
+    /**
+     * Stops the threads, abandoning the lookups which
+     * weren't needed.
+     */
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void submit(Runnable task) {
+        try {
+            executor.execute(task);
+        }
+        catch (RejectedExecutionException e) {
+            //shut down: whoever needs it runs it
+        }
+    }
+
+    private static <T> T get(Future<T> future) throws Exception {
+        boolean interrupted = false;
+        try {
+            while (true) {
+                try {
+                    return future.get();
+                }
+                catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        }
+        catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof Exception) {
+                throw (Exception) cause;
+            }
+            else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            else {
+                throw e;
+            }
+        }
+        finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private FutureTask<ArtifactResult> newArtifactTask(
+            final String name, final String version,
+            final ArtifactContext artifactContext) {
+        return new FutureTask<ArtifactResult>(new Callable<ArtifactResult>() {
+            @Override
+            public ArtifactResult call() throws Exception {
+                ArtifactResult artifact = 
+                        lookupArtifact(artifactContext);
+                if (artifact!=null && parseSources) {
+                    //the source archive is needed next
+                    FutureTask<Sources> task =
+                            newSourcesTask(name, version);
+                    if (sources.putIfAbsent(key(name, version), task)==null) {
+                        submit(task);
+                    }
+                }
+                return artifact;
+            }
+        });
+    }
+
+    private FutureTask<Sources> newSourcesTask(
+            final String name, final String version) {
+        return new FutureTask<Sources>(new Callable<Sources>() {
+            @Override
+            public Sources call() {
+                ArtifactContext artifactContext =
+                        new ArtifactContext(name, version,
+                                ArtifactContext.SRC);
+                ArtifactResult artifact;
+                try {
+                    artifact = lookupArtifact(artifactContext);
+                }
+                catch (Exception e) {
+                    return new Sources(null, e, null);
+                }
+                if (artifact==null) {
+                    return new Sources(null, null, null);
+                }
+                ParsedArchive parsedArchive;
+                try {
+                    parsedArchive = parse(artifact.artifact());
+                }
+                catch (Exception e) {
+                    //read it again on the validator thread,
+                    //which reports the error
+                    parsedArchive = null;
+                }
+                return new Sources(artifact, null, parsedArchive);
+            }
+        });
+    }
+
+    /**
+     * Looks up an artifact with the repository manager of
+     * this thread, if it belongs to the pool, or else with
+     * the repository manager of the type checker.
+     */
+    private ArtifactResult lookupArtifact(ArtifactContext artifactContext) 
+            throws Exception {
+        RepositoryManager manager = threadRepositoryManager.get();
+        if (manager==null) {
+            manager = repositoryManager;
+        }
+        return manager.getArtifactResult(artifactContext);
+    }
+
+    private ParsedArchive parse(File artifactFile) 
+            throws Exception {
+        ParsedArchive parsedArchive = new ParsedArchive();
+        ClosableVirtualFile root = vfs.getFromZipFile(artifactFile);
+        try {
+            parse(root, root, parsedArchive);
+        }
+        finally {
+            root.close();
+        }
+        return parsedArchive;
+    }
+
+    private void parse(VirtualFile file, VirtualFile root,
+            ParsedArchive parsedArchive)
+                    throws Exception {
+        if (file.isFolder()) {
+            for (VirtualFile child: file.getChildren()) {
+                parse(child, root, parsedArchive);
+            }
+        }
+        else if (file.getName().endsWith(".ceylon")) {
+            String relativePath =
+                    Helper.computeRelativePath(file, root);
+            String text = 
+                    new String(Helper.readContent(file), encoding);
+            ParsedSource parsed = parsedArchive.parse(relativePath, text);
+            if (!parsed.hasErrors() && 
+                    file.getName().equals(ModuleManager.MODULE_FILE)) {
+                lookupImports(parsed.getCompilationUnit());
+            }
+        }
+    }
+
+    /**
+     * Looks up the modules imported by the given module
+     * descriptor, except the imports for a particular
+     * backend, which the validator may skip.
+     */
+    private void lookupImports(Tree.CompilationUnit cu) {
+        for (Tree.ModuleDescriptor md: cu.getModuleDescriptors()) {
+            Tree.ImportModuleList iml = md.getImportModuleList();
+            if (iml==null) {
+                continue;
+            }
+            for (Tree.ImportModule im: iml.getImportModules()) {
+                if (isNative(im.getAnnotationList())) {
+                    continue;
+                }
+                String name;
+                if (im.getImportPath()!=null) {
+                    name = formatPath(im.getImportPath().getIdentifiers());
+                }
+                else if (im.getQuotedLiteral()!=null) {
+                    name = unquote(im.getQuotedLiteral());
+                }
+                else {
+                    continue;
+                }
+                if (im.getVersion()!=null &&
+                        !name.equals(Module.LANGUAGE_MODULE_NAME)) {
+                    lookup(name, unquote(im.getVersion()));
+                }
+            }
+        }
+    }
+
+    private static boolean isNative(Tree.AnnotationList al) {
+        if (al!=null) {
+            for (Tree.Annotation a: al.getAnnotations()) {
+                Tree.Primary p = a.getPrimary();
+                if (p instanceof Tree.BaseMemberExpression &&
+                        ((Tree.BaseMemberExpression) p).getIdentifier()
+                            .getText().equals("native")) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static String unquote(Tree.QuotedLiteral quoted) {
+        String text = quoted.getText();
+        return text.length()<2 ? "" :
+            text.substring(1, text.length()-1);
+    }
+
+}
@@ -0,0 +1,37 @@
+package com.redhat.ceylon.compiler.typechecker.analyzer;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import com.redhat.ceylon.compiler.typechecker.tree.Node;
+import com.redhat.ceylon.compiler.typechecker.tree.Tree;
+import com.redhat.ceylon.model.typechecker.model.Declaration;
+
+/**
+ * The node which declares each declaration of a
+ * compilation unit, recorded by the 
+ * {@link DeclarationVisitor} when it creates the model of 
+ * the declaration. Lets an analysis of a single 
+ * declaration visit only the subtree of its declaration,
+ * instead of searching the whole unit for it.
+ */
+public class DeclarationIndex {
+
+    private final Map<Declaration,Node> nodes =
+            new IdentityHashMap<Declaration,Node>();
+
+    void add(Declaration model, Node node) {
+        nodes.put(model, node);
+    }
+
+    /**
+     * The node which declares the given declaration: a
+     * {@link Tree.Declaration}, a named argument, or an
+     * object expression, or null if the declaration does
+     * not belong to this unit.
+     */
+    public Node getNode(Declaration declaration) {
+        return nodes.get(declaration);
+    }
+
+}
@@ -0,0 +1,120 @@
+package com.redhat.ceylon.compiler.typechecker.analyzer;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.redhat.ceylon.compiler.typechecker.tree.Tree;
+import com.redhat.ceylon.compiler.typechecker.tree.Visitor;
+import com.redhat.ceylon.model.typechecker.model.Declaration;
+import com.redhat.ceylon.model.typechecker.model.Parameter;
+import com.redhat.ceylon.model.typechecker.model.Setter;
+
+/**
+ * Records, for each declaration node of a compilation
+ * unit, the model declarations it declares or refers to,
+ * directly or in a nested node, so that the
+ * {@link SpecificationVisitor} of a declaration can skip
+ * the declarations which have nothing to do with it,
+ * instead of walking the whole unit for each declaration.
+ */
+public class DeclarationReferences extends Visitor {
+
+    private final Map<Tree.Declaration,Set<Declaration>> references =
+            new IdentityHashMap<Tree.Declaration,Set<Declaration>>();
+    private final List<Set<Declaration>> stack =
+            new ArrayList<Set<Declaration>>();
+
+    /**
+     * Whether the given declaration node declares, or
+     * refers to, the given declaration anywhere in its
+     * subtree. Answers true for nodes which were not
+     * visited.
+     */
+    public boolean isReferencedWithin(Tree.Declaration that,
+            Declaration declaration) {
+        Set<Declaration> set = references.get(that);
+        return set==null || set.contains(declaration);
+    }
+
+    private void add(Declaration declaration) {
+        if (declaration!=null && !stack.isEmpty()) {
+            stack.get(stack.size()-1).add(declaration);
+        }
+    }
+
+    @Override
+    public void visit(Tree.Declaration that) {
+        Set<Declaration> set = new HashSet<Declaration>();
+        stack.add(set);
+        add(that.getDeclarationModel());
+        super.visit(that);
+        stack.remove(stack.size()-1);
+        references.put(that, set);
+        if (!stack.isEmpty()) {
+            stack.get(stack.size()-1).addAll(set);
+        }
+    }
+
+    @Override
+    public void visit(Tree.Constructor that) {
+        super.visit(that);
+        add(that.getConstructor());
+    }
+
+    @Override
+    public void visit(Tree.Enumerated that) {
+        super.visit(that);
+        add(that.getEnumerated());
+    }
+
+    @Override
+    public void visit(Tree.AttributeSetterDefinition that) {
+        super.visit(that);
+        Setter setter = that.getDeclarationModel();
+        if (setter!=null && setter.getParameter()!=null) {
+            add(setter.getParameter().getModel());
+        }
+    }
+
+    @Override
+    public void visit(Tree.TypedArgument that) {
+        super.visit(that);
+        add(that.getDeclarationModel());
+    }
+
+    @Override
+    public void visit(Tree.Parameter that) {
+        super.visit(that);
+        Parameter p = that.getParameterModel();
+        if (p!=null) {
+            add(p.getModel());
+        }
+    }
+
+    @Override
+    public void visit(Tree.InitializerParameter that) {
+        super.visit(that);
+        Parameter p = that.getParameterModel();
+        if (p!=null && that.getScope()!=null) {
+            add(that.getScope().getDirectMember(p.getName(),
+                    null, false));
+        }
+    }
+
+    @Override
+    public void visit(Tree.MemberOrTypeExpression that) {
+        super.visit(that);
+        add(that.getDeclaration());
+    }
+
+    @Override
+    public void visit(Tree.MetaLiteral that) {
+        super.visit(that);
+        add(that.getDeclaration());
+    }
+
+}
@@ -93,6 +93,8 @@ public abstract class DeclarationVisitor extends Visitor implements NaturalVisit
     private String fullPath; 
     private String relativePath;
     private boolean dynamic;
+    private final DeclarationIndex declarationIndex = 
+            new DeclarationIndex();
     
     public DeclarationVisitor(Package pkg, String filename,
             String fullPath, String relativePath) {
@@ -107,6 +109,14 @@ public abstract class DeclarationVisitor extends Visitor implements NaturalVisit
         return unit;
     }
     
+    /**
+     * The node declaring each declaration this visitor has
+     * created.
+     */
+    public DeclarationIndex getDeclarationIndex() {
+        return declarationIndex;
+    }
+    
     private Scope enterScope(Scope innerScope) {
         Scope outerScope = scope;
         scope = innerScope;
@@ -153,6 +163,7 @@ public abstract class DeclarationVisitor extends Visitor implements NaturalVisit
         }
         //that.setDeclarationModel(model);
         unit.addDeclaration(model);
+        declarationIndex.add(model, that);
         Scope sc = getContainer(that);
         sc.addMember(model);
     }
@@ -164,6 +175,7 @@ public abstract class DeclarationVisitor extends Visitor implements NaturalVisit
         visitElement(that, model);
         //that.setDeclarationModel(model);
         unit.addDeclaration(model);
+        declarationIndex.add(model, that);
         setVisibleScope(model);
     }
 
@@ -172,6 +184,7 @@ public abstract class DeclarationVisitor extends Visitor implements NaturalVisit
         visitElement(that, model);
         //that.setDeclarationModel(model);
         unit.addDeclaration(model);
+        declarationIndex.add(model, that);
         setVisibleScope(model);
     }
 
@@ -564,8 +577,10 @@ public abstract class DeclarationVisitor extends Visitor implements NaturalVisit
         unit.setFilename(filename);
         unit.setFullPath(fullPath);
         unit.setRelativePath(relativePath);
-        pkg.removeUnit(unit);
-        pkg.addUnit(unit);
+        synchronized (pkg) {
+            pkg.removeUnit(unit);
+            pkg.addUnit(unit);
+        }
         super.visit(that);
         Node firstNonImportNode = null;
         int index = -1;
@@ -1220,6 +1235,7 @@ public abstract class DeclarationVisitor extends Visitor implements NaturalVisit
         p.setDeclaration(s);
         visitElement(that, v);
         unit.addDeclaration(v);
+        declarationIndex.add(v, that);
         Scope sc = getContainer(that);
         sc.addMember(v);
         
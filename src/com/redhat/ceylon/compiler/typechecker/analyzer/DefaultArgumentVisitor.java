@@ -0,0 +1,33 @@
+package com.redhat.ceylon.compiler.typechecker.analyzer;
+
+import com.redhat.ceylon.compiler.typechecker.tree.Tree;
+import com.redhat.ceylon.compiler.typechecker.tree.Visitor;
+
+/**
+ * Validates that default argument expressions do not refer
+ * to super. Unlike the checks of the 
+ * {@link SelfReferenceVisitor}, this one does not depend on
+ * the type declaration being initialized, so it walks the 
+ * whole compilation unit.
+ */
+public class DefaultArgumentVisitor extends Visitor {
+    
+    private boolean defaultArgument;
+    
+    @Override
+    public void visit(Tree.Parameter that) {
+        boolean oda = defaultArgument;
+        defaultArgument = true;
+        super.visit(that);
+        defaultArgument = oda;
+    }
+    
+    @Override
+    public void visit(Tree.Super that) {
+        super.visit(that);
+        if (defaultArgument) {
+            that.addError("reference to super from default argument expression");
+        }
+    }
+    
+}
@@ -10,6 +10,8 @@ import static java.lang.Character.isWhitespace;
 import static java.lang.Character.toChars;
 import static java.lang.Integer.parseInt;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -43,6 +45,29 @@ public class LiteralVisitor extends Visitor {
             Pattern.compile("\\\\(\\{#([^}]*)\\}|\\{([^#]([^}]*))\\}|(.?))");
     
     
+    /**
+     * The names of the packages which qualify the 
+     * declarations the doc links of the given string 
+     * literal refer to, like <code>a.b</code> in 
+     * <code>[[a.b::C]]</code>.
+     */
+    public static List<String> getDocLinkPackageNames(StringLiteral that) {
+        List<String> result = new ArrayList<String>();
+        if (that.getToken()!=null) {
+            int type = that.getToken().getType();
+            if (type==AVERBATIM_STRING || type==ASTRING_LITERAL) {
+                Matcher m = DOC_LINK_PATTERN.matcher(that.getText());
+                while (m.find()) {
+                    String packageName = m.group(12);
+                    if (packageName!=null) {
+                        result.add(packageName);
+                    }
+                }
+            }
+        }
+        return result;
+    }
+    
     @Override
     public void visit(CompilationUnit that) {
         if (!that.getLiteralsProcessed()) {
@@ -2,13 +2,15 @@ package com.redhat.ceylon.compiler.typechecker.analyzer;
 
 import static com.redhat.ceylon.model.typechecker.model.ModelUtil.formatPath;
 
+import java.lang.ref.WeakReference;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Set;
 import java.util.TreeMap;
 import java.util.WeakHashMap;
@@ -19,9 +21,11 @@ import com.redhat.ceylon.common.Backend;
 import com.redhat.ceylon.compiler.typechecker.context.Context;
 import com.redhat.ceylon.compiler.typechecker.context.PhasedUnits;
 import com.redhat.ceylon.compiler.typechecker.io.ClosableVirtualFile;
+import com.redhat.ceylon.compiler.typechecker.parser.ParsedArchive;
 import com.redhat.ceylon.compiler.typechecker.tree.Node;
 import com.redhat.ceylon.compiler.typechecker.tree.Tree;
 import com.redhat.ceylon.compiler.typechecker.tree.Tree.ModuleDescriptor;
+import com.redhat.ceylon.compiler.typechecker.util.RepositoryManagerFactory;
 import com.redhat.ceylon.model.cmr.ArtifactResult;
 import com.redhat.ceylon.model.typechecker.model.Module;
 import com.redhat.ceylon.model.typechecker.model.ModuleImport;
@@ -52,13 +56,18 @@ public class ModuleSourceMapper {
 
     private final LinkedList<Package> packageStack = new LinkedList<Package>();
     private Module currentModule;
-    private final Map<ModuleImport,WeakHashMap<Node, Object>> moduleImportToNode = new HashMap<ModuleImport, WeakHashMap<Node, Object>>();
+    //the nodes which define each module import, held weakly so that trees can be released
+    private final Map<ModuleImport,List<WeakReference<Node>>> moduleImportToNodes = new HashMap<ModuleImport, List<WeakReference<Node>>>();
+    private final WeakHashMap<Node,ModuleImport> nodeToModuleImport = new WeakHashMap<Node, ModuleImport>();
+    //the imports of each imported module
+    private final Map<Module,List<ModuleImport>> moduleToModuleImports = new HashMap<Module, List<ModuleImport>>();
     private Map<List<String>, Set<String>> topLevelErrorsPerModuleName = new HashMap<List<String>,Set<String>>();
     private Map<Module, Node> moduleToNode = new TreeMap<Module, Node>();
     private ModuleManager moduleManager;
     private Context context;
     private Modules modules;
-    private static Object PRESENT = new Object();
+    private ArtifactPipeline artifactPipeline;
+    private String encoding;
 
     public ModuleSourceMapper(Context context, ModuleManager moduleManager) {
         this.context = context;
@@ -135,12 +144,47 @@ public class ModuleSourceMapper {
     }
 
     public void addModuleDependencyDefinition(ModuleImport moduleImport, Node definition) {
-        WeakHashMap<Node, Object> moduleDepDefinition = moduleImportToNode.get(moduleImport);
-        if (moduleDepDefinition == null) {
-            moduleDepDefinition = new WeakHashMap<Node, Object>();
-            moduleImportToNode.put(moduleImport, moduleDepDefinition);
+        if (nodeToModuleImport.put(definition, moduleImport) == moduleImport) {
+            //already known
+            return;
         }
-        moduleDepDefinition.put(definition, PRESENT);
+        List<WeakReference<Node>> definitions = moduleImportToNodes.get(moduleImport);
+        if (definitions == null) {
+            definitions = new ArrayList<WeakReference<Node>>(1);
+            moduleImportToNodes.put(moduleImport, definitions);
+            Module module = moduleImport.getModule();
+            List<ModuleImport> imports = moduleToModuleImports.get(module);
+            if (imports == null) {
+                imports = new ArrayList<ModuleImport>(2);
+                moduleToModuleImports.put(module, imports);
+            }
+            imports.add(moduleImport);
+        }
+        definitions.add(new WeakReference<Node>(definition));
+    }
+
+    /**
+     * The nodes which define the given module import, and 
+     * were not released yet, or null if the import was
+     * never defined by a node.
+     */
+    private List<Node> getDefinitions(ModuleImport moduleImport) {
+        List<WeakReference<Node>> definitions = moduleImportToNodes.get(moduleImport);
+        if (definitions == null) {
+            return null;
+        }
+        List<Node> nodes = new ArrayList<Node>(definitions.size());
+        Iterator<WeakReference<Node>> iter = definitions.iterator();
+        while (iter.hasNext()) {
+            Node node = iter.next().get();
+            if (node == null) {
+                iter.remove();
+            }
+            else {
+                nodes.add(node);
+            }
+        }
+        return nodes;
     }
 
     public void attachErrorToDependencyDeclaration(ModuleImport moduleImport, List<Module> dependencyTree, String error) {
@@ -170,9 +214,9 @@ public class ModuleSourceMapper {
     }
 
     private boolean attachErrorToDependencyDeclaration(ModuleImport moduleImport, String error) {
-        WeakHashMap<Node, Object> moduleDepError = moduleImportToNode.get(moduleImport);
+        List<Node> moduleDepError = getDefinitions(moduleImport);
         if (moduleDepError != null) {
-            for ( Node definition :  moduleDepError.keySet() ) {
+            for ( Node definition :  moduleDepError ) {
                 definition.addError(new ModuleDependencyAnalysisError(definition, error));
             }
             return true;
@@ -181,21 +225,18 @@ public class ModuleSourceMapper {
     }
 
     public Iterable<ModuleImport> retrieveModuleImports(Module module) {
-        List<ModuleImport> imports = new ArrayList<>();
-        for (ModuleImport imp : moduleImportToNode.keySet()) {
-            if (imp.getModule() == module) {
-                imports.add(imp);
-            }
-        }
-        return imports;
+        List<ModuleImport> imports = moduleToModuleImports.get(module);
+        return imports == null ? 
+                Collections.<ModuleImport>emptyList() : 
+                new ArrayList<ModuleImport>(imports);
     }
     
     public Iterable<Tree.ImportModule> retrieveModuleImportNodes(Module module) {
         List<Tree.ImportModule> nodes = new ArrayList<>();
         for (ModuleImport imp : module.getImports()) {
-            WeakHashMap<Node, Object> moduleDepDefinition = moduleImportToNode.get(imp);
+            List<Node> moduleDepDefinition = getDefinitions(imp);
             if (moduleDepDefinition != null) {
-                for (Node node : moduleDepDefinition.keySet()) {
+                for (Node node : moduleDepDefinition) {
                     if (node instanceof Tree.ImportModule) {
                         nodes.add((Tree.ImportModule)node);
                     }
@@ -206,23 +247,14 @@ public class ModuleSourceMapper {
     }
     
     public Module getModuleForNode(Node importNode) {
-        for (ModuleImport imp : moduleImportToNode.keySet()) {
-            WeakHashMap<Node, Object> moduleDepDefinition = moduleImportToNode.get(imp);
-            if (moduleDepDefinition != null) {
-                for (Node node : moduleDepDefinition.keySet()) {
-                    if (node == importNode) {
-                        return imp.getModule();
-                    }
-                }
-            }
-        }
-        return null;
+        ModuleImport imp = nodeToModuleImport.get(importNode);
+        return imp == null ? null : imp.getModule();
     }
     
     public void attachErrorToModuleImport(ModuleImport moduleImport, String error){
-        WeakHashMap<Node, Object> errors = moduleImportToNode.get(moduleImport);
+        List<Node> errors = getDefinitions(moduleImport);
         if(errors != null){
-            for ( Node definition :  errors.keySet() ) {
+            for ( Node definition :  errors ) {
                 definition.addError(new ModuleDependencyAnalysisError(definition, error));
             }
         }
@@ -234,9 +266,10 @@ public class ModuleSourceMapper {
             addErrorToModule(module, error);
         }else{
             // we must be importing it
-            for(Entry<ModuleImport, WeakHashMap<Node, Object>> entry : moduleImportToNode.entrySet()){
-                if(entry.getKey().getModule() == module){
-                    for ( Node definition :  entry.getValue().keySet() ) {
+            List<ModuleImport> imports = moduleToModuleImports.get(module);
+            if (imports != null) {
+                for (ModuleImport moduleImport : imports) {
+                    for ( Node definition :  getDefinitions(moduleImport) ) {
                         definition.addError(new ModuleDependencyAnalysisError(definition, error));
                     }
                 }
@@ -303,10 +336,20 @@ public class ModuleSourceMapper {
         RepositoryManager repositoryManager = context.getRepositoryManager();
         Exception exceptionOnGetArtifact = null;
         ArtifactResult sourceArtifact = null;
-        try {
-            sourceArtifact = repositoryManager.getArtifactResult(artifactContext);
-        } catch (Exception e) {
-            exceptionOnGetArtifact = e;
+        ParsedArchive parsedSources = null;
+        if (artifactPipeline != null) {
+            //looked up and parsed ahead of time
+            ArtifactPipeline.Sources sources = artifactPipeline.getSources(module);
+            sourceArtifact = sources.getArtifact();
+            exceptionOnGetArtifact = sources.getException();
+            parsedSources = sources.getParsedArchive();
+        }
+        else {
+            try {
+                sourceArtifact = repositoryManager.getArtifactResult(artifactContext);
+            } catch (Exception e) {
+                exceptionOnGetArtifact = e;
+            }
         }
         if ( sourceArtifact == null ) {
             ModuleHelper.buildErrorOnMissingArtifact(artifactContext, module, moduleImport, dependencyTree, exceptionOnGetArtifact, this);
@@ -317,7 +360,18 @@ public class ModuleSourceMapper {
             ClosableVirtualFile virtualArtifact= null;
             try {
                 virtualArtifact = context.getVfs().getFromZipFile(sourceArtifact.artifact());
-                modulePhasedUnits.parseUnit(virtualArtifact);
+                if (parsedSources != null) {
+                    modulePhasedUnits.setParsedArchive(parsedSources);
+                    try {
+                        modulePhasedUnits.parseUnit(virtualArtifact);
+                    }
+                    finally {
+                        modulePhasedUnits.setParsedArchive(null);
+                    }
+                }
+                else {
+                    modulePhasedUnits.parseUnit(virtualArtifact);
+                }
                 //populate module.getDependencies()
                 modulePhasedUnits.visitModules();
                 addToPhasedUnitsOfDependencies(modulePhasedUnits, phasedUnitsOfDependencies, module);
@@ -334,12 +388,68 @@ public class ModuleSourceMapper {
         }
     }
 
+    /**
+     * Creates the pipeline which looks up and parses the
+     * dependencies ahead of the {@link ModuleValidator}, 
+     * while it walks the module dependency graph, or returns
+     * null if the context has no factory to create the 
+     * repository managers of its threads. Subclasses which 
+     * don't read the model of their dependencies from source
+     * archives should pass <code>false</code> as 
+     * <code>parseSources</code>.
+     */
+    protected ArtifactPipeline createArtifactPipeline(String[] artifactSuffixes, 
+            int parallelism) {
+        RepositoryManagerFactory repositoryManagerFactory = 
+                context.getRepositoryManagerFactory();
+        if (repositoryManagerFactory == null) {
+            return null;
+        }
+        Set<String> localModules = new HashSet<String>();
+        for (Module module : getCompiledModules()) {
+            localModules.add(module.getNameAsString());
+        }
+        //the same default as PhasedUnits
+        String encoding = this.encoding != null ? 
+                this.encoding : System.getProperty("file.encoding");
+        return new ArtifactPipeline(context.getRepositoryManager(), repositoryManagerFactory, 
+                context.getVfs(), artifactSuffixes, true, localModules, encoding, parallelism);
+    }
+
+    /**
+     * Sets the pipeline from which the source archives of
+     * the dependencies are taken, or null to look them up
+     * and parse them when they are resolved.
+     */
+    public void setArtifactPipeline(ArtifactPipeline artifactPipeline) {
+        this.artifactPipeline = artifactPipeline;
+    }
+
+    public ArtifactPipeline getArtifactPipeline() {
+        return artifactPipeline;
+    }
+
     protected void addToPhasedUnitsOfDependencies(PhasedUnits modulePhasedUnits, List<PhasedUnits> phasedUnitsOfDependencies, Module module) {
         phasedUnitsOfDependencies.add(modulePhasedUnits);
     }
     
     protected PhasedUnits createPhasedUnits() {
-        return new PhasedUnits(context);
+        PhasedUnits phasedUnits = new PhasedUnits(context);
+        phasedUnits.setEncoding(encoding);
+        return phasedUnits;
+    }
+
+    /**
+     * Sets the encoding of the source archives of the 
+     * dependencies, or null for the default encoding of
+     * the platform.
+     */
+    public void setEncoding(String encoding) {
+        this.encoding = encoding;
+    }
+
+    public String getEncoding() {
+        return encoding;
     }
     
     protected ModuleManager getModuleManager(){
@@ -4,6 +4,7 @@ import static com.redhat.ceylon.compiler.typechecker.tree.TreeUtil.getNativeBack
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
@@ -41,6 +42,9 @@ public class ModuleValidator {
     private final ModuleManager moduleManager;
     private final ModuleSourceMapper moduleManagerUtil;
     private Map<Module, ArtifactResult> searchedArtifacts = new HashMap<Module, ArtifactResult>();
+    private Map<ImportDepth, Map<Module, Verification>> verifiedModules;
+    private final int parallelism;
+    private ArtifactPipeline artifactPipeline;
 
     public static interface ProgressListener {
         void retrievingModuleArtifact(Module module, ArtifactContext artifactContext);
@@ -62,6 +66,7 @@ public class ModuleValidator {
         this.context = context;
         this.moduleManager = phasedUnits.getModuleManager();
         this.moduleManagerUtil = phasedUnits.getModuleSourceMapper();
+        this.parallelism = phasedUnits.getParallelism();
     }
 
     public void setListener (ProgressListener listener) {
@@ -85,6 +90,10 @@ public class ModuleValidator {
             @Override
             public void run() {
                 phasedUnitsOfDependencies = new ArrayList<PhasedUnits>();
+                verifiedModules = new EnumMap<ImportDepth, Map<Module, Verification>>(ImportDepth.class);
+                for (ImportDepth importDepth : ImportDepth.values()) {
+                    verifiedModules.put(importDepth, new HashMap<Module, Verification>());
+                }
                 LinkedList<Module> dependencyTree = new LinkedList<Module>();
                 // only verify modules we compile (and default/language), as that makes us traverse their dependencies anyways
                 Set<Module> compiledModules = moduleManagerUtil.getCompiledModules();
@@ -94,12 +103,29 @@ public class ModuleValidator {
                 modules.add(context.getModules().getLanguageModule());
                 modules.add(context.getModules().getDefaultModule());
                 modules.addAll(compiledModules);
-                for (Module module : modules) {
-                    dependencyTree.addLast(module);
-                    //we don't care about propagated dependency here as top modules are independent from one another
-                    verifyModuleDependencyTree(module.getImports(), dependencyTree, new ArrayList<Module>(), ImportDepth.First, searchedArtifacts);
-                    dependencyTree.pollLast();
+                if (parallelism > 1) {
+                    //look up and parse the dependencies ahead of the walk
+                    artifactPipeline = moduleManagerUtil.createArtifactPipeline(
+                            getArtifactSuffixes(moduleManager.getSearchedArtifactExtensions()), parallelism);
+                    moduleManagerUtil.setArtifactPipeline(artifactPipeline);
+                }
+                try {
+                    for (Module module : modules) {
+                        dependencyTree.addLast(module);
+                        //we don't care about propagated dependency here as top modules are independent from one another
+                        verifyModuleDependencyTree(module.getImports(), dependencyTree, new Verification(), ImportDepth.First, searchedArtifacts);
+                        dependencyTree.pollLast();
+                    }
+                }
+                finally {
+                    if (artifactPipeline != null) {
+                        moduleManagerUtil.setArtifactPipeline(null);
+                        artifactPipeline.shutdown();
+                        artifactPipeline = null;
+                    }
                 }
+                //the results only hold for this graph of modules
+                verifiedModules = null;
                 for (Module module : compiledModules) {
                     verifyNative(module);
                 }
@@ -183,14 +209,90 @@ public class ModuleValidator {
         public abstract boolean isVisibleToCompiledModules();
     }
     
+    /**
+     * A list of modules, with an index of the modules by name
+     */
+    private static final class Dependencies {
+        final List<Module> modules = new ArrayList<Module>();
+        private final Map<String, Module> modulesByName = new HashMap<String, Module>();
+
+        /**
+         * Returns the module of the same name, whatever its version
+         */
+        Module findByName(Module module) {
+            return modulesByName.get(module.getNameAsString());
+        }
+
+        void add(Module module) {
+            modules.add(module);
+            String name = module.getNameAsString();
+            if (!modulesByName.containsKey(name)) {
+                modulesByName.put(name, module);
+            }
+        }
+    }
+
+    /**
+     * The outcome of the verification of the imports of a module, reached with a given import 
+     * depth: the dependencies it propagates, and the conflicts found among its dependencies. 
+     * This outcome doesn't depend on the path which leads to the module, unless a circular 
+     * dependency cut the verification short, so it is reused when the same module is reached 
+     * again through another path, with its conflicts reported again to the compiled module at 
+     * the root of that path
+     */
+    private static final class Verification {
+        final Dependencies propagatedDependencies = new Dependencies();
+        final List<String> conflictErrors = new ArrayList<String>();
+        final List<String> similarModuleWarnings = new ArrayList<String>();
+        boolean circular;
+    }
+
+    private Verification verifyModuleDependencies(
+            Module module,
+            LinkedList<Module> dependencyTree,
+            ImportDepth importDepth,
+            Map<Module, ArtifactResult> alreadySearchedArtifacts) {
+        Map<Module, Verification> verified = verifiedModules.get(importDepth);
+        Verification verification = verified.get(module);
+        if (verification != null) {
+            //already verified through another path: don't walk the imports again
+            Module root = dependencyTree.getFirst();
+            for (String error : verification.conflictErrors) {
+                moduleManagerUtil.addErrorToModule(root, error);
+            }
+            for (String warning : verification.similarModuleWarnings) {
+                moduleManagerUtil.addWarningToModule(root, Warning.similarModule, warning);
+            }
+            return verification;
+        }
+        verification = new Verification();
+        verifyModuleDependencyTree(module.getImports(), dependencyTree, verification, importDepth, alreadySearchedArtifacts);
+        if (!verification.circular) {
+            verified.put(module, verification);
+        }
+        return verification;
+    }
+
     private void verifyModuleDependencyTree(
             Collection<ModuleImport> moduleImports,
             LinkedList<Module> dependencyTree,
-            List<Module> propagatedDependencies, 
+            Verification verification, 
             ImportDepth importDepth,
             Map<Module, ArtifactResult> alreadySearchedArtifacts) {
-        List<Module> visibleDependencies = new ArrayList<Module>();
+        Dependencies visibleDependencies = new Dependencies();
         visibleDependencies.add(dependencyTree.getLast()); //first addition => no possible conflict
+        Dependencies propagatedDependencies = verification.propagatedDependencies;
+        if (artifactPipeline != null) {
+            //start looking up every missing import, the walk takes them in order
+            for (ModuleImport moduleImport : moduleImports) {
+                Module module = moduleImport.getModule();
+                if (!module.isAvailable() && !alreadySearchedArtifacts.containsKey(module) &&
+                        (!moduleImport.isNative() || 
+                                moduleManager.supportsBackend(Backend.fromAnnotation(moduleImport.getNativeBackend())))) {
+                    artifactPipeline.lookup(module);
+                }
+            }
+        }
         for (ModuleImport moduleImport : moduleImports) {
             if (moduleImport.isNative() && !moduleManager.supportsBackend(Backend.fromAnnotation(moduleImport.getNativeBackend()))) {
                 //import is not for this backend
@@ -199,6 +301,7 @@ public class ModuleValidator {
             Module module = moduleImport.getModule();
             if (moduleManager.findModule(module, dependencyTree, true) != null) {
                 //circular dependency: stop right here
+                verification.circular = true;
                 return;
             }
             Iterable<String> searchedArtifactExtensions = moduleManager.getSearchedArtifactExtensions();
@@ -216,7 +319,12 @@ public class ModuleValidator {
                     ArtifactContext artifactContext = new ArtifactContext(module.getNameAsString(), module.getVersion(), getArtifactSuffixes(searchedArtifactExtensions));
                     listener.retrievingModuleArtifact(module, artifactContext);
                     try {
-                        artifact = repositoryManager.getArtifactResult(artifactContext);
+                        if (artifactPipeline != null) {
+                            artifact = artifactPipeline.getArtifact(module, artifactContext);
+                        }
+                        else {
+                            artifact = repositoryManager.getArtifactResult(artifactContext);
+                        }
                     } catch (Exception e) {
                         exceptionOnGetArtifact = catchIfPossible(e);
                     }
@@ -243,18 +351,24 @@ public class ModuleValidator {
             }
             moduleManager.visitedModule(module, forCompiledModule);
             dependencyTree.addLast(module);
-            List<Module> subModulePropagatedDependencies = new ArrayList<Module>();
-            verifyModuleDependencyTree( module.getImports(), dependencyTree, subModulePropagatedDependencies, newImportDepth, alreadySearchedArtifacts);
+            Verification subModuleVerification = 
+                    verifyModuleDependencies(module, dependencyTree, newImportDepth, alreadySearchedArtifacts);
+            if (subModuleVerification.circular) {
+                verification.circular = true;
+            }
+            verification.conflictErrors.addAll(subModuleVerification.conflictErrors);
+            verification.similarModuleWarnings.addAll(subModuleVerification.similarModuleWarnings);
+            List<Module> subModulePropagatedDependencies = subModuleVerification.propagatedDependencies.modules;
             //visible dependency += subModule + subModulePropagatedDependencies
-            checkAndAddDependency(visibleDependencies, module, dependencyTree);
+            checkAndAddDependency(visibleDependencies, module, dependencyTree, verification);
             for (Module submodule : subModulePropagatedDependencies) {
-                checkAndAddDependency(visibleDependencies, submodule, dependencyTree);
+                checkAndAddDependency(visibleDependencies, submodule, dependencyTree, verification);
             }
             //propagated dependency += if subModule.export then subModule + subModulePropagatedDependencies
             if (moduleImport.isExport()) {
-                checkAndAddDependency(propagatedDependencies, module, dependencyTree);
+                checkAndAddDependency(propagatedDependencies, module, dependencyTree, verification);
                 for (Module submodule : subModulePropagatedDependencies) {
-                    checkAndAddDependency(propagatedDependencies, submodule, dependencyTree);
+                    checkAndAddDependency(propagatedDependencies, submodule, dependencyTree, verification);
                 }
             }
             dependencyTree.pollLast();
@@ -273,11 +387,12 @@ public class ModuleValidator {
         return suffixes.toArray(new String[suffixes.size()]);
     }
     
-    private void checkAndAddDependency(List<Module> dependencies, Module module, LinkedList<Module> dependencyTree) {
-        Module dupe = moduleManager.findModule(module, dependencies, false);
+    private void checkAndAddDependency(Dependencies dependencies, Module module, LinkedList<Module> dependencyTree, 
+            Verification verification) {
+        Module dupe = dependencies.findByName(module);
         boolean isDupe = dupe != null;
         if(dupe == null)
-            dupe = moduleManager.findSimilarModule(module, dependencies);
+            dupe = moduleManager.findSimilarModule(module, dependencies.modules);
         if (dupe != null && !isSameVersion(module, dupe)) {
             //TODO improve by giving the dependency string leading to these two conflicting modules
             if(isDupe){
@@ -286,6 +401,7 @@ public class ModuleValidator {
                 String[] versions = VersionComparator.orderVersions(module.getVersion(), dupe.getVersion());
                 error.append("version '").append(versions[0]).append("' and version '").append(versions[1]).append("'");
                 moduleManagerUtil.addErrorToModule(dependencyTree.getFirst(), error.toString());
+                verification.conflictErrors.add(error.toString());
             }else {
                 // just possibly a dupe
                 String moduleA;
@@ -302,6 +418,7 @@ public class ModuleValidator {
                 String error = "module (transitively) imports conflicting versions of similar dependencies '" + 
                         moduleA + "' and '"+ moduleB + "'";
                 moduleManagerUtil.addWarningToModule(dependencyTree.getFirst(), Warning.similarModule, error);
+                verification.similarModuleWarnings.add(error);
             }
         }
         else {
@@ -7,8 +7,6 @@ import static com.redhat.ceylon.model.typechecker.model.ModelUtil.isConstructor;
 import com.redhat.ceylon.compiler.typechecker.tree.Node;
 import com.redhat.ceylon.compiler.typechecker.tree.Tree;
 import com.redhat.ceylon.compiler.typechecker.tree.Tree.MemberOrTypeExpression;
-import com.redhat.ceylon.compiler.typechecker.tree.Tree.Parameter;
-import com.redhat.ceylon.compiler.typechecker.tree.Tree.Super;
 import com.redhat.ceylon.compiler.typechecker.tree.Visitor;
 import com.redhat.ceylon.model.typechecker.model.Declaration;
 import com.redhat.ceylon.model.typechecker.model.FunctionOrValue;
@@ -29,7 +27,6 @@ public class SelfReferenceVisitor extends Visitor {
     private Tree.Statement lastExecutableStatement;
     private boolean declarationSection = false;
     private int nestedLevel = -1;
-    private boolean defaultArgument;
     private boolean inCaseTypesList;
 
     public SelfReferenceVisitor(TypeDeclaration td) {
@@ -402,22 +399,6 @@ public class SelfReferenceVisitor extends Visitor {
     	return !declarationSection && inBody();
     }
     
-    @Override
-    public void visit(Parameter that) {
-        boolean oda = defaultArgument;
-        defaultArgument = true;
-        super.visit(that);
-        defaultArgument = oda;
-    }
-    
-    @Override
-    public void visit(Super that) {
-        super.visit(that);
-        if (defaultArgument) {
-            that.addError("reference to super from default argument expression");
-        }
-    }
-
     @Override
     public void visit(Tree.Return that) {
         super.visit(that);
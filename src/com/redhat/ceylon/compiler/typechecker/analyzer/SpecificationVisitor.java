@@ -43,6 +43,7 @@ import com.redhat.ceylon.model.typechecker.model.Value;
 public class SpecificationVisitor extends Visitor {
     
     private final Declaration declaration;
+    private final DeclarationReferences references;
     
     private SpecificationState specified = 
             new SpecificationState(false, false);
@@ -104,7 +105,55 @@ public class SpecificationVisitor extends Visitor {
     }
     
     public SpecificationVisitor(Declaration declaration) {
+        this(declaration, null);
+    }
+    
+    /**
+     * @param references the declarations each declaration 
+     *        node of the unit refers to, used to skip the
+     *        declarations which neither declare nor refer 
+     *        to the given declaration, or null to visit 
+     *        every node
+     */
+    public SpecificationVisitor(Declaration declaration, 
+            DeclarationReferences references) {
         this.declaration = declaration;
+        this.references = references;
+    }
+    
+    /**
+     * Whether the given statement is a declaration which 
+     * can be skipped, since it neither declares nor refers
+     * to the declaration, nor contains its container. Such
+     * a declaration can't report an error and leaves the
+     * state of this visitor as it found it, except for the 
+     * declaration section. Constructors are never skipped, 
+     * since they take part in specifying the members of 
+     * their class.
+     */
+    private boolean isUnrelated(Tree.Statement st) {
+        if (references==null || 
+                !(st instanceof Tree.Declaration) ||
+                st instanceof Tree.Constructor ||
+                st instanceof Tree.Enumerated) {
+            return false;
+        }
+        Tree.Declaration dec = (Tree.Declaration) st;
+        if (dec.getScope() instanceof Constructor ||
+                references.isReferencedWithin(dec, declaration)) {
+            return false;
+        }
+        Declaration model = dec.getDeclarationModel();
+        Scope anon = dec instanceof Tree.ObjectDefinition ?
+                ((Tree.ObjectDefinition) dec).getAnonymousClass() : 
+                null;
+        for (Scope s = declaration.getContainer(); 
+                s!=null; s = s.getContainer()) {
+            if (s==model || s==anon) {
+                return false;
+            }
+        }
+        return true;
     }
     
     private void declare() {
@@ -569,7 +618,12 @@ public class SpecificationVisitor extends Visitor {
     	    else {
                 withinAttributeInitializer = false;
             }
-    		st.visit(this);
+    	    if (isUnrelated(st)) {
+    	        checkDeclarationSection(st);
+    	    }
+    	    else {
+    	        st.visit(this);
+    	    }
     		withinAttributeInitializer = false;
     	}
     }
@@ -592,7 +646,12 @@ public class SpecificationVisitor extends Visitor {
             else {
                 withinAttributeInitializer = false;
             }
-            st.visit(this);
+            if (isUnrelated(st)) {
+                checkDeclarationSection(st);
+            }
+            else {
+                st.visit(this);
+            }
     		withinAttributeInitializer = false;
     	}
     }
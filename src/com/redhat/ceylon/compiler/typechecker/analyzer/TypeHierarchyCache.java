@@ -0,0 +1,60 @@
+package com.redhat.ceylon.compiler.typechecker.analyzer;
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import com.redhat.ceylon.model.typechecker.model.TypeDeclaration;
+import com.redhat.ceylon.model.typechecker.model.Unit;
+
+/**
+ * The members of each type, grouped by name and sorted by
+ * the {@link TypeHierarchyVisitor}, shared by the visitors
+ * of every unit of a type checker, so that the members of
+ * supertypes like <code>Object</code> or
+ * <code>Identifiable</code> are sorted once, instead of
+ * once per unit which inherits them. May be used by
+ * several threads at once.
+ */
+public class TypeHierarchyCache {
+
+    private final ConcurrentMap<TypeDeclaration,TypeHierarchyVisitor.Type> types =
+            new ConcurrentHashMap<TypeDeclaration,TypeHierarchyVisitor.Type>();
+
+    TypeHierarchyVisitor.Type get(TypeDeclaration declaration) {
+        TypeHierarchyVisitor.Type type = types.get(declaration);
+        //the declaration of a unit which was parsed again
+        //may be equal to the declaration it replaces
+        return type==null || type.declaration!=declaration ?
+                null : type;
+    }
+
+    void put(TypeDeclaration declaration,
+            TypeHierarchyVisitor.Type type) {
+        types.put(declaration, type);
+    }
+
+    /**
+     * Forgets the members of the types declared by the given
+     * unit, which is about to be parsed again or removed.
+     */
+    public void invalidate(Unit unit) {
+        if (unit!=null) {
+            Iterator<TypeHierarchyVisitor.Type> iter =
+                    types.values().iterator();
+            while (iter.hasNext()) {
+                if (iter.next().declaration.getUnit()==unit) {
+                    iter.remove();
+                }
+            }
+        }
+    }
+
+    /**
+     * Forgets the members of every type.
+     */
+    public void clear() {
+        types.clear();
+    }
+
+}
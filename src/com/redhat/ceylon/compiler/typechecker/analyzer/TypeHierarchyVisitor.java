@@ -48,8 +48,21 @@ import com.redhat.ceylon.model.typechecker.model.Value;
 public class TypeHierarchyVisitor extends Visitor {
 
     private final Map<TypeDeclaration,Type> types = new HashMap<TypeDeclaration, Type>();
+    private final TypeHierarchyCache cache;
 
-    private static final class Type {
+    public TypeHierarchyVisitor() {
+        this(null);
+    }
+
+    /**
+     * @param cache the members of the types already sorted
+     *        by the visitors of other units, or null
+     */
+    public TypeHierarchyVisitor(TypeHierarchyCache cache) {
+        this.cache = cache;
+    }
+
+    static final class Type {
         public Map<String,Members> membersByName = new HashMap<String, Members>();
         public TypeDeclaration declaration;
         public static final class Members {
@@ -549,6 +562,12 @@ public class TypeHierarchyVisitor extends Visitor {
 
     private Type getOrBuildType(TypeDeclaration declaration) {
         Type type = types.get(declaration);
+        if (type == null && cache != null) {
+            type = cache.get(declaration);
+            if (type != null) {
+                types.put(declaration,type);
+            }
+        }
         if (type == null) {
             type = new Type();
             type.declaration = declaration;
@@ -597,6 +616,9 @@ public class TypeHierarchyVisitor extends Visitor {
                 }
             }
             types.put(declaration,type);
+            if (cache != null) {
+                cache.put(declaration,type);
+            }
         }
         return type;
     }
@@ -8,10 +8,10 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
+import com.redhat.ceylon.compiler.typechecker.tree.FusableVisitor;
 import com.redhat.ceylon.compiler.typechecker.tree.Node;
 import com.redhat.ceylon.compiler.typechecker.tree.Tree;
 import com.redhat.ceylon.compiler.typechecker.tree.Tree.ParameterList;
-import com.redhat.ceylon.compiler.typechecker.tree.Visitor;
 import com.redhat.ceylon.model.typechecker.model.Declaration;
 import com.redhat.ceylon.model.typechecker.model.Element;
 import com.redhat.ceylon.model.typechecker.model.Function;
@@ -33,49 +33,49 @@ import com.redhat.ceylon.model.typechecker.model.TypedDeclaration;
  * @author Gavin King
  *
  */
-public class VisibilityVisitor extends Visitor {
+public class VisibilityVisitor extends FusableVisitor {
     
-    @Override public void visit(Tree.TypedDeclaration that) {
+    @Override public void enter(Tree.TypedDeclaration that) {
         checkVisibility(that, that.getDeclarationModel());
-        super.visit(that);
+        super.enter(that);
     }
 
-    @Override public void visit(Tree.TypedArgument that) {
+    @Override public void enter(Tree.TypedArgument that) {
         checkVisibility(that, that.getDeclarationModel());
-        super.visit(that);
+        super.enter(that);
     }
 
     @Override
-    public void visit(Tree.AnyClass that) {
-        super.visit(that);
+    public void leave(Tree.AnyClass that) {
+        super.leave(that);
         checkParameterVisibility(that.getDeclarationModel(), 
                 that.getParameterList());
     }
 
     @Override
-    public void visit(Tree.AnyMethod that) {
-        super.visit(that);
+    public void leave(Tree.AnyMethod that) {
+        super.leave(that);
         checkParameterVisibility(that.getDeclarationModel(), 
                 that.getParameterLists());
     }
 
     @Override
-    public void visit(Tree.Constructor that) {
-        super.visit(that);
+    public void leave(Tree.Constructor that) {
+        super.leave(that);
         checkParameterVisibility(that.getDeclarationModel(), 
                 that.getParameterList());
     }
 
     @Override
-    public void visit(Tree.MethodArgument that) {
-        super.visit(that);
+    public void leave(Tree.MethodArgument that) {
+        super.leave(that);
         checkParameterVisibility(that.getDeclarationModel(), 
                 that.getParameterLists());
     }
 
     @Override
-    public void visit(Tree.FunctionArgument that) {
-        super.visit(that);
+    public void leave(Tree.FunctionArgument that) {
+        super.leave(that);
         Function m = that.getDeclarationModel();
         checkVisibility(that, m);
         checkParameterVisibility(m, that.getParameterLists());
@@ -102,27 +102,27 @@ public class VisibilityVisitor extends Visitor {
         }
     }
 
-    @Override public void visit(Tree.TypeDeclaration that) {
+    @Override public void enter(Tree.TypeDeclaration that) {
         validateSupertypes(that, that.getDeclarationModel());
-        super.visit(that);
+        super.enter(that);
     }
 
-    @Override public void visit(Tree.ObjectDefinition that) {
+    @Override public void enter(Tree.ObjectDefinition that) {
         validateSupertypes(that, 
                 that.getAnonymousClass());
-        super.visit(that);
+        super.enter(that);
     }
 
-    @Override public void visit(Tree.ObjectArgument that) {
+    @Override public void enter(Tree.ObjectArgument that) {
         validateSupertypes(that, 
                 that.getAnonymousClass());
-        super.visit(that);
+        super.enter(that);
     }
 
-    @Override public void visit(Tree.ObjectExpression that) {
+    @Override public void enter(Tree.ObjectExpression that) {
         validateSupertypes(that, 
                 that.getAnonymousClass());
-        super.visit(that);
+        super.enter(that);
     }
 
     private void validateSupertypes(Node that, TypeDeclaration td) {
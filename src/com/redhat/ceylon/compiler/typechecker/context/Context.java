@@ -2,6 +2,7 @@ package com.redhat.ceylon.compiler.typechecker.context;
 
 import com.redhat.ceylon.cmr.api.RepositoryManager;
 import com.redhat.ceylon.compiler.typechecker.io.VFS;
+import com.redhat.ceylon.compiler.typechecker.util.RepositoryManagerFactory;
 import com.redhat.ceylon.model.typechecker.model.Modules;
 
 /**
@@ -14,6 +15,7 @@ public class Context {
     private Modules modules;
     private VFS vfs;
     private RepositoryManager repositoryManager;
+    private RepositoryManagerFactory repositoryManagerFactory;
 
     public Context(RepositoryManager repositoryManager, VFS vfs) {
         this.vfs = vfs;
@@ -32,6 +34,19 @@ public class Context {
         return repositoryManager;
     }
 
+    /**
+     * The factory which creates a repository manager like 
+     * this context's one for each thread which looks up
+     * artifacts, or null if there is none.
+     */
+    public RepositoryManagerFactory getRepositoryManagerFactory() {
+        return repositoryManagerFactory;
+    }
+
+    public void setRepositoryManagerFactory(RepositoryManagerFactory repositoryManagerFactory) {
+        this.repositoryManagerFactory = repositoryManagerFactory;
+    }
+
     public VFS getVfs() {
         return vfs;
     }
@@ -0,0 +1,26 @@
+package com.redhat.ceylon.compiler.typechecker.context;
+
+import com.redhat.ceylon.compiler.typechecker.tree.Message;
+
+/**
+ * Receives the errors and warnings of each unit as soon as
+ * they are found, instead of after all the units have been
+ * type checked.
+ * 
+ * When the type checker runs with a parallelism greater 
+ * than one, messages are reported from the worker threads, 
+ * so implementations must be thread safe.
+ */
+public interface DiagnosticsSink {
+    
+    /**
+     * A message was attached to the compilation unit of the
+     * given unit.
+     * 
+     * @param phase the phase which produced the message, or
+     *        null for the errors reported by the lexer and 
+     *        the parser
+     */
+    void report(PhasedUnit unit, Phase phase, Message message);
+    
+}
@@ -0,0 +1,280 @@
+package com.redhat.ceylon.compiler.typechecker.context;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.redhat.ceylon.compiler.typechecker.context.UnitDependencyGraph.Group;
+import com.redhat.ceylon.model.typechecker.context.TypeCache;
+
+/**
+ * Moves phased units through the type checking phases in
+ * waves that follow the {@link UnitDependencyGraph}, instead
+ * of waiting for every unit to finish a phase before any
+ * unit starts the next one.
+ *
+ * The tree validation and declaration phases still run for
+ * all units before anything else, so that every package
+ * has all its members by the time any name is looked up.
+ * After that, a group of units may run a phase as soon as
+ * it has finished the previous phase, and all the groups
+ * it depends on have finished the phase itself. So a
+ * leaf package can reach the flow analysis while packages
+ * it doesn't import are still being typed.
+ */
+public class ImportGraphScheduler {
+
+    private static final Phase[] GLOBAL_PHASES =
+            { Phase.TREE_VALIDATION, Phase.DECLARATIONS };
+    private static final Phase[] WAVE_PHASES =
+            { Phase.TYPE_DECLARATIONS, Phase.REFINEMENT,
+              Phase.TYPES, Phase.FLOW, Phase.USAGE };
+
+    private final List<PhasedUnit> units;
+    private final int parallelism;
+    private final TypeCheckerListener listener;
+
+    private ExecutorService executor;
+    private Boolean cachingEnabled;
+    private Map<Group,Step[]> steps;
+    private CountDownLatch done;
+    private AtomicInteger remaining;
+    private final AtomicReference<Throwable> failure =
+            new AtomicReference<Throwable>();
+
+    private AtomicInteger[] remainingPerPhase;
+    private long[] phaseStarts;
+
+    public ImportGraphScheduler(List<PhasedUnit> units,
+            int parallelism) {
+        this(units, parallelism, null);
+    }
+
+    /**
+     * @param listener notified when a phase starts for the
+     *        first group, and when it has finished for the
+     *        last group
+     */
+    public ImportGraphScheduler(List<PhasedUnit> units,
+            int parallelism, TypeCheckerListener listener) {
+        this.units = units;
+        this.parallelism = parallelism;
+        this.listener = listener;
+    }
+
+    /**
+     * A phase of a group. It becomes ready when its
+     * prerequisites (the previous phase of the same group,
+     * and the same phase of the groups it depends on) are
+     * finished, and it is finished when all its units have
+     * gone through the phase. The units of a package go
+     * through the declaration phases one after the other.
+     */
+    private class Step {
+        final Group group;
+        final int phaseIndex;
+        final List<List<PhasedUnit>> batches;
+        final AtomicInteger pendingPrerequisites;
+        final AtomicInteger pendingBatches;
+
+        Step(Group group, int phaseIndex) {
+            this.group = group;
+            this.phaseIndex = phaseIndex;
+            int prerequisites = group.getDependencies().size();
+            if (phaseIndex>0) {
+                prerequisites++;
+            }
+            pendingPrerequisites =
+                    new AtomicInteger(prerequisites);
+            batches = getPhase().getBatches(group.getUnits());
+            pendingBatches =
+                    new AtomicInteger(batches.size());
+        }
+
+        Phase getPhase() {
+            return WAVE_PHASES[phaseIndex];
+        }
+
+        void prerequisiteFinished() {
+            if (pendingPrerequisites.decrementAndGet()==0) {
+                submit();
+            }
+        }
+
+        void submit() {
+            final Phase phase = getPhase();
+            if (listener!=null) {
+                synchronized (phaseStarts) {
+                    if (phaseStarts[phaseIndex]==0) {
+                        phaseStarts[phaseIndex] = System.nanoTime();
+                        listener.phaseStarted(phase);
+                    }
+                }
+            }
+            for (final List<PhasedUnit> batch: batches) {
+                executor.execute(new Runnable() {
+                    @Override
+                    public void run() {
+                        if (failure.get()!=null) {
+                            return;
+                        }
+                        try {
+                            for (PhasedUnit pu: batch) {
+                                phase.runOnWorker(pu, cachingEnabled);
+                            }
+                            if (pendingBatches.decrementAndGet()==0) {
+                                finished();
+                            }
+                        }
+                        catch (Throwable t) {
+                            fail(t);
+                        }
+                    }
+                });
+            }
+        }
+
+        void finished() {
+            if (phaseIndex+1<WAVE_PHASES.length) {
+                steps.get(group)[phaseIndex+1]
+                        .prerequisiteFinished();
+            }
+            for (Group dependent: group.getDependents()) {
+                steps.get(dependent)[phaseIndex]
+                        .prerequisiteFinished();
+            }
+            if (listener!=null &&
+                    remainingPerPhase[phaseIndex]
+                            .decrementAndGet()==0) {
+                long start;
+                synchronized (phaseStarts) {
+                    start = phaseStarts[phaseIndex];
+                }
+                listener.phaseFinished(getPhase(),
+                        System.nanoTime()-start);
+            }
+            if (remaining.decrementAndGet()==0) {
+                done.countDown();
+            }
+        }
+    }
+
+    private void fail(Throwable t) {
+        failure.compareAndSet(null, t);
+        done.countDown();
+    }
+
+    public void execute() {
+        if (units.isEmpty()) {
+            return;
+        }
+        //the caching flag is per thread: the workers must
+        //see the same one as the calling thread
+        cachingEnabled = TypeCache.setEnabled(true);
+        TypeCache.setEnabled(cachingEnabled);
+        executor = Executors.newFixedThreadPool(parallelism);
+        try {
+            for (Phase phase: GLOBAL_PHASES) {
+                executeGlobally(phase);
+            }
+            executeInWaves(new UnitDependencyGraph(units));
+        }
+        finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void executeGlobally(final Phase phase) {
+        if (listener!=null) {
+            listener.phaseStarted(phase);
+        }
+        long start = System.nanoTime();
+        List<List<PhasedUnit>> batches = phase.getBatches(units);
+        List<Callable<Void>> tasks =
+                new ArrayList<Callable<Void>>(batches.size());
+        for (final List<PhasedUnit> batch: batches) {
+            tasks.add(new Callable<Void>() {
+                @Override
+                public Void call() {
+                    for (PhasedUnit pu: batch) {
+                        phase.runOnWorker(pu, cachingEnabled);
+                    }
+                    return null;
+                }
+            });
+        }
+        try {
+            for (Future<Void> future: executor.invokeAll(tasks)) {
+                future.get();
+            }
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted during phase " + phase, e);
+        }
+        catch (ExecutionException e) {
+            rethrow(e.getCause());
+        }
+        if (listener!=null) {
+            listener.phaseFinished(phase,
+                    System.nanoTime()-start);
+        }
+    }
+
+    private void executeInWaves(UnitDependencyGraph graph) {
+        List<Group> groups = graph.getGroups();
+        steps = new HashMap<Group,Step[]>();
+        for (Group group: groups) {
+            Step[] groupSteps = new Step[WAVE_PHASES.length];
+            for (int i=0; i<groupSteps.length; i++) {
+                groupSteps[i] = new Step(group, i);
+            }
+            steps.put(group, groupSteps);
+        }
+        remaining = new AtomicInteger(
+                groups.size() * WAVE_PHASES.length);
+        remainingPerPhase = new AtomicInteger[WAVE_PHASES.length];
+        for (int i=0; i<remainingPerPhase.length; i++) {
+            remainingPerPhase[i] = new AtomicInteger(groups.size());
+        }
+        phaseStarts = new long[WAVE_PHASES.length];
+        done = new CountDownLatch(1);
+        //the groups that depend on nothing start the first wave
+        for (Group group: groups) {
+            if (group.getDependencies().isEmpty()) {
+                steps.get(group)[0].submit();
+            }
+        }
+        try {
+            done.await();
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while type checking", e);
+        }
+        Throwable t = failure.get();
+        if (t!=null) {
+            rethrow(t);
+        }
+    }
+
+    private static void rethrow(Throwable t) {
+        if (t instanceof RuntimeException) {
+            throw (RuntimeException) t;
+        }
+        if (t instanceof Error) {
+            throw (Error) t;
+        }
+        throw new RuntimeException(t);
+    }
+
+}
@@ -0,0 +1,176 @@
+package com.redhat.ceylon.compiler.typechecker.context;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.redhat.ceylon.compiler.typechecker.util.CancellationToken;
+import com.redhat.ceylon.model.typechecker.context.TypeCache;
+import com.redhat.ceylon.model.typechecker.model.Package;
+import com.redhat.ceylon.model.typechecker.model.Type;
+
+/**
+ * The type checking phases of a {@link PhasedUnit}, in the 
+ * order in which they are executed.
+ */
+public enum Phase {
+    
+    TREE_VALIDATION {
+        @Override
+        public void execute(PhasedUnit unit) {
+            unit.validateTree();
+        }
+    },
+    DECLARATIONS {
+        @Override
+        public void execute(PhasedUnit unit) {
+            unit.scanDeclarations();
+        }
+    },
+    TYPE_DECLARATIONS {
+        @Override
+        public void execute(PhasedUnit unit) {
+            unit.scanTypeDeclarations();
+        }
+    },
+    REFINEMENT {
+        @Override
+        public void execute(PhasedUnit unit) {
+            unit.validateRefinement();
+        }
+    },
+    TYPES {
+        @Override
+        public void execute(PhasedUnit unit) {
+            unit.analyseTypes();
+        }
+    },
+    FLOW {
+        @Override
+        public void execute(PhasedUnit unit) {
+            unit.analyseFlow();
+        }
+    },
+    USAGE {
+        @Override
+        public void execute(PhasedUnit unit) {
+            unit.analyseUsage();
+        }
+    };
+    
+    /**
+     * Runs this phase on the given unit. Does nothing if 
+     * the unit already went through this phase.
+     * 
+     * @throws java.util.concurrent.CancellationException if
+     *         the cancellation token of the unit was 
+     *         cancelled
+     */
+    public void run(PhasedUnit unit) {
+        CancellationToken cancellationToken = 
+                unit.getCancellationToken();
+        if (cancellationToken!=null) {
+            cancellationToken.check();
+        }
+        TypeCheckerListener listener = unit.getListener();
+        if (listener==null) {
+            execute(unit);
+        }
+        else {
+            listener.unitStarted(this, unit);
+            long start = System.nanoTime();
+            try {
+                execute(unit);
+            }
+            finally {
+                listener.unitFinished(this, unit, 
+                        System.nanoTime()-start);
+            }
+        }
+        unit.reportMessages(this);
+    }
+    
+    /**
+     * Runs the body of this phase on the given unit, without
+     * checking for cancellation, notifying the listener, or
+     * reporting the messages of the unit to its sink.
+     */
+    public abstract void execute(PhasedUnit unit);
+    
+    /**
+     * Whether the units of a package must go through this 
+     * phase one after the other, in the order they were 
+     * given, even on a pool of worker threads. The 
+     * declaration phases add members to the package, which
+     * may not be done concurrently, and report a duplicate
+     * declaration on whichever unit declares it last.
+     */
+    public boolean isSequentialPerPackage() {
+        return this==DECLARATIONS || this==TYPE_DECLARATIONS;
+    }
+    
+    /**
+     * Splits the given units into the batches which may go 
+     * through this phase concurrently, each batch running 
+     * its units in order on a single thread: a batch for 
+     * each package if the phase is 
+     * {@linkplain #isSequentialPerPackage() sequential per 
+     * package}, and a batch for each unit otherwise.
+     */
+    public List<List<PhasedUnit>> getBatches(List<PhasedUnit> units) {
+        if (!isSequentialPerPackage()) {
+            List<List<PhasedUnit>> batches = 
+                    new ArrayList<List<PhasedUnit>>(units.size());
+            for (PhasedUnit pu: units) {
+                batches.add(Collections.singletonList(pu));
+            }
+            return batches;
+        }
+        Map<Package,List<PhasedUnit>> batches = 
+                new LinkedHashMap<Package,List<PhasedUnit>>();
+        for (PhasedUnit pu: units) {
+            List<PhasedUnit> batch = batches.get(pu.getPackage());
+            if (batch==null) {
+                batch = new ArrayList<PhasedUnit>();
+                batches.put(pu.getPackage(), batch);
+            }
+            batch.add(pu);
+        }
+        return new ArrayList<List<PhasedUnit>>(batches.values());
+    }
+    
+    /**
+     * Runs this phase on the given unit from a worker 
+     * thread. The type depth and the caching flag of the 
+     * model are kept per thread, so they are first set up 
+     * the way the sequential loop leaves them on the 
+     * calling thread when it reaches this phase.
+     * 
+     * @param cachingEnabled the caching flag of the thread
+     *        that started the type checking
+     */
+    public void runOnWorker(PhasedUnit unit, Boolean cachingEnabled) {
+        Boolean enabled = TypeCache.setEnabled(cachingEnabled);
+        try {
+            switch (this) {
+            case TYPES:
+                //sets its own depth
+                break;
+            case FLOW:
+            case USAGE:
+                //left over by analyseTypes()
+                Type.resetDepth(-100);
+                break;
+            default:
+                Type.resetDepth(0);
+            }
+            run(unit);
+        }
+        finally {
+            TypeCache.setEnabled(enabled);
+        }
+    }
+    
+}
@@ -3,15 +3,26 @@ package com.redhat.ceylon.compiler.typechecker.context;
 import static com.redhat.ceylon.compiler.typechecker.tree.TreeUtil.formatPath;
 
 import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.EnumSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
 
 import org.antlr.runtime.CommonToken;
 
+import com.redhat.ceylon.common.Backend;
 import com.redhat.ceylon.compiler.typechecker.analyzer.AliasVisitor;
 import com.redhat.ceylon.compiler.typechecker.analyzer.AnnotationVisitor;
 import com.redhat.ceylon.compiler.typechecker.analyzer.ControlFlowVisitor;
+import com.redhat.ceylon.compiler.typechecker.analyzer.DeclarationIndex;
+import com.redhat.ceylon.compiler.typechecker.analyzer.DeclarationReferences;
 import com.redhat.ceylon.compiler.typechecker.analyzer.DeclarationVisitor;
+import com.redhat.ceylon.compiler.typechecker.analyzer.DefaultArgumentVisitor;
 import com.redhat.ceylon.compiler.typechecker.analyzer.DefaultTypeArgVisitor;
 import com.redhat.ceylon.compiler.typechecker.analyzer.ExpressionVisitor;
 import com.redhat.ceylon.compiler.typechecker.analyzer.InheritanceVisitor;
@@ -24,18 +35,25 @@ import com.redhat.ceylon.compiler.typechecker.analyzer.SelfReferenceVisitor;
 import com.redhat.ceylon.compiler.typechecker.analyzer.SpecificationVisitor;
 import com.redhat.ceylon.compiler.typechecker.analyzer.SupertypeVisitor;
 import com.redhat.ceylon.compiler.typechecker.analyzer.TypeArgumentVisitor;
+import com.redhat.ceylon.compiler.typechecker.analyzer.TypeHierarchyCache;
 import com.redhat.ceylon.compiler.typechecker.analyzer.TypeHierarchyVisitor;
 import com.redhat.ceylon.compiler.typechecker.analyzer.TypeVisitor;
 import com.redhat.ceylon.compiler.typechecker.analyzer.VisibilityVisitor;
 import com.redhat.ceylon.compiler.typechecker.analyzer.Warning;
 import com.redhat.ceylon.compiler.typechecker.io.VirtualFile;
 import com.redhat.ceylon.compiler.typechecker.io.impl.Helper;
+import com.redhat.ceylon.compiler.typechecker.parser.PackedTokenList;
+import com.redhat.ceylon.compiler.typechecker.tree.FusableVisitor;
+import com.redhat.ceylon.compiler.typechecker.tree.FusedVisitor;
+import com.redhat.ceylon.compiler.typechecker.tree.Message;
+import com.redhat.ceylon.compiler.typechecker.tree.Node;
 import com.redhat.ceylon.compiler.typechecker.tree.Tree;
 import com.redhat.ceylon.compiler.typechecker.tree.Tree.ImportPath;
 import com.redhat.ceylon.compiler.typechecker.tree.Tree.ModuleDescriptor;
 import com.redhat.ceylon.compiler.typechecker.tree.Validator;
 import com.redhat.ceylon.compiler.typechecker.tree.Visitor;
 import com.redhat.ceylon.compiler.typechecker.util.AssertionVisitor;
+import com.redhat.ceylon.compiler.typechecker.util.CancellationToken;
 import com.redhat.ceylon.compiler.typechecker.util.DeprecationVisitor;
 import com.redhat.ceylon.compiler.typechecker.util.PrintVisitor;
 import com.redhat.ceylon.compiler.typechecker.util.ReferenceCounter;
@@ -82,6 +100,18 @@ public class PhasedUnit {
     private boolean moduleVisited = false;
     private EnumSet<Warning> suppressedWarnings = 
             EnumSet.noneOf(Warning.class);
+    private TypeCheckerListener listener;
+    private DiagnosticsSink diagnosticsSink;
+    private CancellationToken cancellationToken;
+    private TypeHierarchyCache typeHierarchyCache;
+    private DeclarationIndex declarationIndex;
+    private ReferenceCounter referenceCounter;
+    private Map<Node,Integer> errorCountsBeforeDeclarations;
+    private Set<String> docLinkPackageNames;
+    private volatile boolean interrupted = false;
+    private Set<Message> reportedMessages;
+    private List<Message> releasedMessages = 
+            Collections.<Message>emptyList();
     public VirtualFile getSrcDir() {
         return srcDir;
     }
@@ -107,14 +137,17 @@ public class PhasedUnit {
         this.moduleManagerUtilRef = 
                 new WeakReference<ModuleSourceMapper>
                     (moduleManagerUtil);
-        this.tokens = tokenStream;
+        //tokens are kept packed for the lifetime of the unit
+        this.tokens = PackedTokenList.pack(tokenStream);
         unit = createUnit();
         unit.setFilename(fileName);
         unit.setFullPath(unitFile.getPath());
         unit.setRelativePath(pathRelativeToSrcDir);
         unit.setPackage(pkg);
-        pkg.removeUnit(unit);
-        pkg.addUnit(unit);
+        synchronized (pkg) {
+            pkg.removeUnit(unit);
+            pkg.addUnit(unit);
+        }
         rootNode.setUnit(unit);
     }
 
@@ -142,6 +175,18 @@ public class PhasedUnit {
         this.refinementValidated = other.refinementValidated;
         this.fullyTyped = other.fullyTyped;
         this.flowAnalyzed = other.flowAnalyzed;
+        this.listener = other.listener;
+        this.diagnosticsSink = other.diagnosticsSink;
+        this.cancellationToken = other.cancellationToken;
+        this.typeHierarchyCache = other.typeHierarchyCache;
+        this.declarationIndex = other.declarationIndex;
+        this.referenceCounter = other.referenceCounter;
+        this.errorCountsBeforeDeclarations = 
+                other.errorCountsBeforeDeclarations;
+        this.docLinkPackageNames = other.docLinkPackageNames;
+        this.interrupted = other.interrupted;
+        this.reportedMessages = other.reportedMessages;
+        this.releasedMessages = other.releasedMessages;
     }
 
     protected boolean shouldIgnoreOverload(Declaration overload,
@@ -242,7 +287,7 @@ public class PhasedUnit {
         this.refinementValidated = refinementValidated;
     }
 
-    public void validateTree() {
+    public synchronized void validateTree() {
         //System.out.println("Validating tree for " + fileName);
         if (!treeValidated) {
             String fn = unit.getRelativePath();
@@ -258,7 +303,13 @@ public class PhasedUnit {
                 }
             }
             String ufn = unit.getFilename();
-            for (Unit u: unit.getPackage().getUnits()) {
+            List<Unit> units = new ArrayList<Unit>();
+            synchronized (pkg) {
+                for (Unit u: unit.getPackage().getUnits()) {
+                    units.add(u);
+                }
+            }
+            for (Unit u: units) {
                 if (!u.equals(unit) && 
                         u.getFilename().equalsIgnoreCase(ufn)) {
                     if (u.getFilename().equals(ufn)) {
@@ -281,8 +332,8 @@ public class PhasedUnit {
                     }
                 }
             }
-            rootNode.visit(new Validator());
-            rootNode.visit(new Visitor() {
+            visit(new Validator());
+            visit(new Visitor() {
                 @Override
                 public void visit(ModuleDescriptor that) {
                     super.visit(that);
@@ -318,19 +369,23 @@ public class PhasedUnit {
         }
     }
 
-    public void scanDeclarations() {
+    public synchronized void scanDeclarations() {
         Boolean enabled = 
                 TypeCache.setEnabled(false);
         try {
             if (!declarationsScanned) {
                 processLiterals();
+                if (errorCountsBeforeDeclarations==null) {
+                    errorCountsBeforeDeclarations = countErrors();
+                }
                 scanningDeclarations = true;
                 //System.out.println("Scan declarations for " + fileName);
                 DeclarationVisitor dv = createDeclarationVisitor();
-                rootNode.visit(dv);
+                visit(dv);
                 unit = dv.getCompilationUnit();
+                declarationIndex = dv.getDeclarationIndex();
 
-                rootNode.visit(new LocalDeclarationVisitor());
+                visit(new LocalDeclarationVisitor());
 
                 declarationsScanned = true;
                 scanningDeclarations = false;
@@ -341,6 +396,90 @@ public class PhasedUnit {
         }
     }
 
+    /**
+     * The number of errors of each node which has errors,
+     * found by descending only into the subtrees which
+     * count errors or warnings, so that a unit without 
+     * errors costs nothing
+     */
+    private Map<Node,Integer> countErrors() {
+        if (!rootNode.containsErrorsOrWarnings()) {
+            return Collections.emptyMap();
+        }
+        final Map<Node,Integer> counts = 
+                new IdentityHashMap<Node,Integer>();
+        rootNode.visit(new Visitor() {
+            @Override
+            public void visitAny(Node that) {
+                if (that.containsErrorsOrWarnings()) {
+                    if (!that.getErrors().isEmpty()) {
+                        counts.put(that, that.getErrors().size());
+                    }
+                    super.visitAny(that);
+                }
+            }
+        });
+        return counts;
+    }
+    
+    /**
+     * Takes this unit back to where it was before its 
+     * declarations were scanned, so that it goes through the
+     * phases again, without being parsed again, after a unit
+     * it depends on has changed. The messages the phases 
+     * attached to the tree are removed, and the next scan of
+     * the declarations creates a new model of the unit. Does
+     * nothing if the declarations were never scanned.
+     */
+    public synchronized void resetDeclarations() {
+        if (rootNode==null) {
+            throw new IllegalStateException("syntax tree already released: " + 
+                    pathRelativeToSrcDir);
+        }
+        final Map<Node,Integer> counts = 
+                errorCountsBeforeDeclarations;
+        if (counts==null) {
+            return;
+        }
+        //the next scan takes the counts again
+        errorCountsBeforeDeclarations = null;
+        rootNode.visit(new Visitor() {
+            @Override
+            public void visitAny(Node that) {
+                Integer count = counts.get(that);
+                that.retainErrors(count==null ? 0 : count);
+                super.visitAny(that);
+            }
+            @Override
+            public void visit(Tree.PackageLiteral that) {
+                //the ExpressionVisitor fills in the path of
+                //a literal for the current package
+                if (that.getImportPath()!=null &&
+                        that.getImportPath().getToken()==null) {
+                    that.setImportPath(null);
+                }
+                super.visit(that);
+            }
+            @Override
+            public void visit(Tree.ModuleLiteral that) {
+                if (that.getImportPath()!=null &&
+                        that.getImportPath().getToken()==null) {
+                    that.setImportPath(null);
+                }
+                super.visit(that);
+            }
+        });
+        declarationsScanned = false;
+        scanningDeclarations = false;
+        typeDeclarationsScanned = false;
+        refinementValidated = false;
+        fullyTyped = false;
+        flowAnalyzed = false;
+        usageAnalyzed = false;
+        declarationIndex = null;
+        referenceCounter = null;
+    }
+
     protected DeclarationVisitor createDeclarationVisitor() {
         return new DeclarationVisitor(pkg, 
                 fileName,
@@ -363,20 +502,20 @@ public class PhasedUnit {
 
     private void processLiterals() {
 		if (!literalsProcessed) {
-			rootNode.visit(new LiteralVisitor());
+			visit(new LiteralVisitor());
 			literalsProcessed = true;
 		}
 	}
 
-    public void scanTypeDeclarations() {
+    public synchronized void scanTypeDeclarations() {
         Boolean enabled = 
                 TypeCache.setEnabled(false);
         try {
             if (!typeDeclarationsScanned) {
                 //System.out.println("Scan type declarations for " + fileName);
-                rootNode.visit(new DefaultTypeArgVisitor());
-                rootNode.visit(new SupertypeVisitor(false)); //TODO: move to a new phase!
-                rootNode.visit(new TypeVisitor(moduleManagerRef.get()));
+                visit(new DefaultTypeArgVisitor());
+                visit(new SupertypeVisitor(false)); //TODO: move to a new phase!
+                visit(new TypeVisitor(moduleManagerRef.get()));
                 typeDeclarationsScanned = true;
             }
         }
@@ -392,10 +531,10 @@ public class PhasedUnit {
             if (!refinementValidated) {
                 Type.resetDepth(0);
                 //System.out.println("Validate member refinement for " + fileName);
-                rootNode.visit(new AliasVisitor());
-                rootNode.visit(new SupertypeVisitor(true)); //TODO: move to a new phase!
-                rootNode.visit(new InheritanceVisitor());
-                rootNode.visit(new RefinementVisitor());
+                visit(new AliasVisitor());
+                visit(new SupertypeVisitor(true)); //TODO: move to a new phase!
+                visit(new InheritanceVisitor());
+                visit(new RefinementVisitor());
                 refinementValidated = true;
             }
         }
@@ -408,31 +547,47 @@ public class PhasedUnit {
         if (!fullyTyped) {
             Type.resetDepth(-100);
             //System.out.println("Run analysis phase for " + fileName);
-            rootNode.visit(new ExpressionVisitor(moduleManagerRef.get()));
-            rootNode.visit(new VisibilityVisitor());
-            rootNode.visit(new AnnotationVisitor());
-            rootNode.visit(new TypeArgumentVisitor());
+            visit(new ExpressionVisitor(moduleManagerRef.get()));
+            visitFused(new VisibilityVisitor(), 
+                    new AnnotationVisitor());
+            visit(new TypeArgumentVisitor());
             fullyTyped = true;
         }
     }
     
     public synchronized void analyseFlow() {
         if (!flowAnalyzed) {
-            rootNode.visit(new TypeHierarchyVisitor());
+            visit(new TypeHierarchyVisitor(typeHierarchyCache));
             //System.out.println("Validate control flow for " + fileName);
-            rootNode.visit(new ControlFlowVisitor());
+            visit(new ControlFlowVisitor());
             //System.out.println("Validate self references for " + fileName);
             //System.out.println("Validate specification for " + fileName);
+            DeclarationReferences references = 
+                    new DeclarationReferences();
+            visit(references);
+            boolean hasTypes = false;
             for (Declaration d: unit.getDeclarations()) {
                 if (d.getName()!=null) {
-                    rootNode.visit(new SpecificationVisitor(d));
+                    visit(new SpecificationVisitor(d, references));
                     if (d instanceof TypeDeclaration) {
                         TypeDeclaration td = 
                                 (TypeDeclaration) d;
-                        rootNode.visit(new SelfReferenceVisitor(td));
+                        //only the declaration of the type
+                        //can leak self references
+                        Node node = declarationIndex==null ? 
+                                null : declarationIndex.getNode(td);
+                        visit(node==null ? rootNode : node, 
+                                new SelfReferenceVisitor(td));
+                        hasTypes = true;
                     }
                 }
             }
+            if (hasTypes) {
+                //references to super from default arguments
+                //anywhere in the unit (there is no super 
+                //outside a type)
+                visit(new DefaultArgumentVisitor());
+            }
             flowAnalyzed = true;
         }
     }
@@ -440,13 +595,159 @@ public class PhasedUnit {
     public synchronized void analyseUsage() {
         if (! usageAnalyzed) {
             ReferenceCounter rc = new ReferenceCounter();
-            rootNode.visit(rc);
-            rootNode.visit(new UsageVisitor(rc));
-            rootNode.visit(new DeprecationVisitor());
+            visit(rc);
+            //the UsageVisitor skips terms with warnings, so 
+            //it must run before the DeprecationVisitor adds
+            //its own
+            visit(new UsageVisitor(rc));
+            visit(new DeprecationVisitor());
+            referenceCounter = rc;
             usageAnalyzed = true;
         }
     }
 
+    private void visit(Visitor visitor) {
+        visit(rootNode, visitor);
+    }
+
+    /**
+     * Runs the given independent visitors in a single walk of
+     * the tree, unless a listener is set, in which case each
+     * of them walks the tree on its own, so that the listener
+     * is told about each visitor, and how long it took.
+     */
+    private void visitFused(FusableVisitor... visitors) {
+        if (listener==null) {
+            visit(new FusedVisitor(visitors));
+        }
+        else {
+            for (FusableVisitor visitor: visitors) {
+                visit(visitor);
+            }
+        }
+    }
+
+    private void visit(Node node, Visitor visitor) {
+        if (rootNode==null) {
+            throw new IllegalStateException("syntax tree already released: " + 
+                    pathRelativeToSrcDir);
+        }
+        if (cancellationToken!=null) {
+            visitor.setCancellationToken(cancellationToken);
+        }
+        try {
+            if (listener==null) {
+                node.visit(visitor);
+            }
+            else {
+                listener.visitorStarted(this, visitor);
+                long start = System.nanoTime();
+                try {
+                    node.visit(visitor);
+                }
+                finally {
+                    listener.visitorFinished(this, visitor, 
+                            System.nanoTime()-start);
+                }
+            }
+        }
+        catch (CancellationException e) {
+            //the phase was left half done
+            interrupted = true;
+            throw e;
+        }
+    }
+
+    public TypeCheckerListener getListener() {
+        return listener;
+    }
+
+    /**
+     * Sets the listener notified of the time taken by the 
+     * phases and visitors run on this unit.
+     */
+    public void setListener(TypeCheckerListener listener) {
+        this.listener = listener;
+    }
+
+    public CancellationToken getCancellationToken() {
+        return cancellationToken;
+    }
+
+    /**
+     * Sets the token checked while the visitors of each 
+     * phase walk the tree of this unit.
+     */
+    public void setCancellationToken(CancellationToken cancellationToken) {
+        this.cancellationToken = cancellationToken;
+    }
+
+    public TypeHierarchyCache getTypeHierarchyCache() {
+        return typeHierarchyCache;
+    }
+
+    /**
+     * Sets the members of the types already sorted while 
+     * the hierarchy of other units was checked.
+     */
+    public void setTypeHierarchyCache(TypeHierarchyCache typeHierarchyCache) {
+        this.typeHierarchyCache = typeHierarchyCache;
+    }
+
+    /**
+     * Whether a phase was cancelled while it was running on
+     * this unit, leaving its tree and model partly processed.
+     * Such a unit must be parsed again before it goes 
+     * through the phases again.
+     */
+    public boolean isInterrupted() {
+        return interrupted;
+    }
+
+    public DiagnosticsSink getDiagnosticsSink() {
+        return diagnosticsSink;
+    }
+
+    /**
+     * Sets the sink to which the messages found in this unit
+     * are reported after each phase.
+     */
+    public void setDiagnosticsSink(DiagnosticsSink diagnosticsSink) {
+        this.diagnosticsSink = diagnosticsSink;
+    }
+
+    /**
+     * Reports the messages attached to the tree since the 
+     * last call to the diagnostics sink, if any.
+     * 
+     * @param phase the phase which just ran, or null after 
+     *        parsing
+     */
+    public synchronized void reportMessages(final Phase phase) {
+        if (diagnosticsSink==null || rootNode==null) {
+            return;
+        }
+        if (reportedMessages==null) {
+            reportedMessages = Collections.newSetFromMap(
+                    new IdentityHashMap<Message,Boolean>());
+        }
+        final List<Message> messages = new ArrayList<Message>();
+        rootNode.visit(new Visitor() {
+            @Override
+            public void visitAny(Node that) {
+                for (Message message: that.getErrors()) {
+                    if (reportedMessages.add(message)) {
+                        messages.add(message);
+                    }
+                }
+                super.visitAny(that);
+            }
+        });
+        for (Message message: messages) {
+            diagnosticsSink.report(this, phase, message);
+        }
+    }
+
     public void generateStatistics(StatisticsVisitor statsVisitor) {
         rootNode.visit(statsVisitor);
     }
@@ -495,10 +796,149 @@ public class PhasedUnit {
             .toString();
     }
 
+    /**
+     * The syntax tree of this unit, or null if it was 
+     * released.
+     * 
+     * @see #releaseTree()
+     */
     public Tree.CompilationUnit getCompilationUnit() {
         return rootNode;
     }
 
+    /**
+     * The node declaring each declaration of this unit, or
+     * null if the declarations were not scanned yet, or if
+     * the tree was released.
+     */
+    public DeclarationIndex getDeclarationIndex() {
+        return declarationIndex;
+    }
+
+    /**
+     * The references to declarations found in this unit, 
+     * and the nodes they occur at, or null if the usage
+     * of this unit was not analysed yet, or if the tree was
+     * released.
+     */
+    public ReferenceCounter getReferenceCounter() {
+        return referenceCounter;
+    }
+
+    /**
+     * The names of the packages the doc links of this unit
+     * name, as in <code>[[a.b::C]]</code>. The tree is only
+     * walked for them the first time they are asked for.
+     */
+    public synchronized Set<String> getDocLinkPackageNames() {
+        if (docLinkPackageNames==null) {
+            final Set<String> result = new LinkedHashSet<String>();
+            rootNode.visit(new Visitor() {
+                @Override
+                public void visit(Tree.StringLiteral that) {
+                    super.visit(that);
+                    result.addAll(LiteralVisitor.getDocLinkPackageNames(that));
+                }
+            });
+            docLinkPackageNames = result;
+        }
+        return docLinkPackageNames;
+    }
+    
+    /**
+     * Drops the syntax tree and the tokens of this unit, 
+     * keeping only its model and the errors and warnings 
+     * found in the tree. The unit can't go through any phase
+     * it hasn't gone through yet afterwards.
+     * 
+     * @see #getReleasedMessages()
+     */
+    public synchronized void releaseTree() {
+        if (rootNode!=null) {
+            final List<Message> messages = new ArrayList<Message>();
+            rootNode.visit(new Visitor() {
+                @Override
+                public void visitAny(Node that) {
+                    for (Message message: that.getErrors()) {
+                        messages.add(new ReleasedMessage(message));
+                    }
+                    super.visitAny(that);
+                }
+            });
+            releasedMessages = messages;
+            rootNode = null;
+            declarationIndex = null;
+            referenceCounter = null;
+            errorCountsBeforeDeclarations = null;
+            tokens = null;
+            moduleDescriptor = null;
+            moduleVisitor = null;
+        }
+    }
+    
+    public boolean isTreeReleased() {
+        return rootNode==null;
+    }
+    
+    /**
+     * The errors and warnings that were attached to the
+     * syntax tree when it was released, or an empty list if
+     * it wasn't released.
+     */
+    public List<Message> getReleasedMessages() {
+        return releasedMessages;
+    }
+    
+    /**
+     * A copy of a message which doesn't hold on to the node
+     * it was attached to.
+     */
+    private static class ReleasedMessage implements Message {
+        private final String message;
+        private final int code;
+        private final int line;
+        private final Backend backend;
+        private final boolean warning;
+        ReleasedMessage(Message message) {
+            this.message = message.getMessage();
+            this.code = message.getCode();
+            this.line = message.getLine();
+            this.backend = message.getBackend();
+            this.warning = message.isWarning();
+        }
+        @Override
+        public String getMessage() {
+            return message;
+        }
+        @Override
+        public int getCode() {
+            return code;
+        }
+        @Override
+        public int getLine() {
+            return line;
+        }
+        @Override
+        public Backend getBackend() {
+            return backend;
+        }
+        @Override
+        public boolean isWarning() {
+            return warning;
+        }
+        @Override
+        public String toString() {
+            return message;
+        }
+    }
+
+    /**
+     * The tokens of this unit, including the hidden ones. 
+     * They are stored packed, and the token at an index is
+     * created the first time it is retrieved, after which 
+     * the list returns that same instance. The list can't
+     * be modified.
+     */
     public List<CommonToken> getTokens() {
         return tokens;
     }
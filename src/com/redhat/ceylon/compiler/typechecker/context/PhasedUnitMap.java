@@ -8,6 +8,7 @@ import java.util.Map;
 import java.util.Map.Entry;
 
 import com.redhat.ceylon.compiler.typechecker.io.VirtualFile;
+import com.redhat.ceylon.model.typechecker.model.Package;
 import com.redhat.ceylon.model.typechecker.model.Unit;
 
 public abstract class PhasedUnitMap<ReturnedType extends PhasedUnit, StoredType> {
@@ -29,7 +30,10 @@ public abstract class PhasedUnitMap<ReturnedType extends PhasedUnit, StoredType>
         if (phasedUnit != null) {
             Unit unit = phasedUnit.getUnit();
             if (unit != null) {
-                unit.getPackage().removeUnit(unit);
+                Package pkg = unit.getPackage();
+                synchronized (pkg) {
+                    pkg.removeUnit(unit);
+                }
             }
         }
         relativePathToPath.remove(relativePath);
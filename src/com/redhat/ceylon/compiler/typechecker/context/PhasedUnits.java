@@ -1,25 +1,38 @@
 package com.redhat.ceylon.compiler.typechecker.context;
 
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 import org.antlr.runtime.ANTLRInputStream;
 import org.antlr.runtime.CommonToken;
 import org.antlr.runtime.CommonTokenStream;
+import org.antlr.runtime.RecognitionException;
 
 import com.redhat.ceylon.compiler.typechecker.analyzer.ModuleSourceMapper;
 import com.redhat.ceylon.compiler.typechecker.io.VirtualFile;
+import com.redhat.ceylon.compiler.typechecker.io.impl.Helper;
+import com.redhat.ceylon.compiler.typechecker.io.impl.PathVirtualFile;
 import com.redhat.ceylon.compiler.typechecker.parser.CeylonLexer;
 import com.redhat.ceylon.compiler.typechecker.parser.CeylonParser;
 import com.redhat.ceylon.compiler.typechecker.parser.LexError;
+import com.redhat.ceylon.compiler.typechecker.parser.ParsedArchive;
+import com.redhat.ceylon.compiler.typechecker.parser.PackedTokenList;
+import com.redhat.ceylon.compiler.typechecker.parser.ParseCache;
 import com.redhat.ceylon.compiler.typechecker.parser.ParseError;
+import com.redhat.ceylon.compiler.typechecker.parser.ParsedSource;
 import com.redhat.ceylon.compiler.typechecker.tree.Tree;
 import com.redhat.ceylon.compiler.typechecker.util.ModuleManagerFactory;
 import com.redhat.ceylon.model.typechecker.model.Module;
 import com.redhat.ceylon.model.typechecker.model.Modules;
 import com.redhat.ceylon.model.typechecker.model.Package;
+import com.redhat.ceylon.model.typechecker.model.Unit;
 import com.redhat.ceylon.model.typechecker.util.ModuleManager;
 
 /**
@@ -34,6 +47,52 @@ public class PhasedUnits extends PhasedUnitMap<PhasedUnit, PhasedUnit> {
     private List<String> moduleFilters;
     private Set<VirtualFile> sourceFiles  = new HashSet<VirtualFile>();
     private String encoding;
+    private int parallelism = 1;
+    private ParseCache parseCache;
+    private ParsedArchive parsedArchive;
+    private DiagnosticsSink diagnosticsSink;
+    private List<PendingFile> pendingFiles;
+    private Map<String, Package> packagesByName = new HashMap<String, Package>();
+
+    /**
+     * A source file found during the directory walk, with
+     * the package it belongs to, waiting to be parsed
+     */
+    private static class PendingFile {
+        final VirtualFile file;
+        final VirtualFile srcDir;
+        final Package pkg;
+        ParsedFile parsed;
+        PendingFile(VirtualFile file, VirtualFile srcDir, Package pkg) {
+            this.file = file;
+            this.srcDir = srcDir;
+            this.pkg = pkg;
+        }
+    }
+
+    /**
+     * The result of lexing and parsing a single source file
+     */
+    private static class ParsedFile {
+        final Tree.CompilationUnit compilationUnit;
+        final List<CommonToken> tokens;
+        final List<LexError> lexErrors;
+        final List<ParseError> parseErrors;
+        ParsedFile(Tree.CompilationUnit compilationUnit, 
+                List<CommonToken> tokens,
+                List<LexError> lexErrors, 
+                List<ParseError> parseErrors) {
+            this.compilationUnit = compilationUnit;
+            this.tokens = tokens;
+            this.lexErrors = lexErrors;
+            this.parseErrors = parseErrors;
+        }
+        ParsedFile(ParsedSource parsed) {
+            this(parsed.getCompilationUnit(), 
+                    PackedTokenList.pack(parsed.getTokens()), 
+                    parsed.getLexErrors(), parsed.getParseErrors());
+        }
+    }
 
     public PhasedUnits(Context context) {
         this.context = context;
@@ -78,9 +137,135 @@ public class PhasedUnits extends PhasedUnitMap<PhasedUnit, PhasedUnit> {
         return moduleSourceMapper;
     }
 
+    /**
+     * Sets the number of threads used to lex and parse the
+     * source files. With a parallelism greater than one, the
+     * source directories are first walked to determine the
+     * package of each file, then the files are parsed 
+     * concurrently, and finally the phased units are added
+     * in the order they were found by the walk.
+     */
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Sets a cache of parsed compilation units, used to skip
+     * the lexer and parser for files whose content did not
+     * change since they were last parsed.
+     */
+    public void setParseCache(ParseCache parseCache) {
+        this.parseCache = parseCache;
+    }
+
+    public ParseCache getParseCache() {
+        return parseCache;
+    }
+
+    /**
+     * Sets the units already parsed from the source archive
+     * being parsed. Files found in it are not parsed again.
+     */
+    public void setParsedArchive(ParsedArchive parsedArchive) {
+        this.parsedArchive = parsedArchive;
+    }
+
+    public ParsedArchive getParsedArchive() {
+        return parsedArchive;
+    }
+
+    /**
+     * Sets the sink to which the lexer and parser errors of
+     * each unit are reported as soon as the unit is created,
+     * in the order of the directory walk, and which is 
+     * passed on to the units for the errors found by the
+     * phases.
+     */
+    public void setDiagnosticsSink(DiagnosticsSink diagnosticsSink) {
+        this.diagnosticsSink = diagnosticsSink;
+    }
+
+    public DiagnosticsSink getDiagnosticsSink() {
+        return diagnosticsSink;
+    }
+
     public void parseUnits(List<VirtualFile> srcDirectories) {
-        for (VirtualFile file : srcDirectories) {
-            parseUnit(file, file);
+        if (parallelism > 1) {
+            pendingFiles = new ArrayList<PendingFile>();
+            try {
+                for (VirtualFile file : srcDirectories) {
+                    if (file instanceof PathVirtualFile) {
+                        //list the whole source directory on
+                        //several threads before walking it
+                        ((PathVirtualFile) file).scan(parallelism);
+                    }
+                    parseUnit(file, file);
+                }
+                parsePendingFiles(pendingFiles);
+            }
+            finally {
+                pendingFiles = null;
+            }
+        }
+        else {
+            for (VirtualFile file : srcDirectories) {
+                parseUnit(file, file);
+            }
+        }
+    }
+
+    private void parsePendingFiles(final List<PendingFile> files) {
+        if (files.isEmpty()) {
+            return;
+        }
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            pool.invoke(new ParseAction(files, 0, files.size()));
+        }
+        finally {
+            pool.shutdown();
+        }
+        //create and register the units on this thread, in
+        //discovery order, so that the units of a package and
+        //the syntax errors reported to the sink do not 
+        //depend on thread scheduling
+        for (PendingFile pending : files) {
+            addParsedFile(pending.file, pending.srcDir, 
+                    pending.pkg, pending.parsed);
+            pending.parsed = null;
+        }
+    }
+
+    private class ParseAction extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        private final List<PendingFile> files;
+        private final int from;
+        private final int to;
+
+        ParseAction(List<PendingFile> files, int from, int to) {
+            this.files = files;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= 4) {
+                for (int i = from; i < to; i++) {
+                    PendingFile pending = files.get(i);
+                    pending.parsed = 
+                            lexAndParse(pending.file, pending.srcDir);
+                }
+            }
+            else {
+                int middle = (from + to) >>> 1;
+                invokeAll(new ParseAction(files, from, middle),
+                        new ParseAction(files, middle, to));
+            }
         }
     }
 
@@ -114,34 +299,171 @@ public class PhasedUnits extends PhasedUnitMap<PhasedUnit, PhasedUnit> {
 
     protected void parseFile(VirtualFile file, VirtualFile srcDir) throws Exception {
         if (file.getName().endsWith(".ceylon") && (sourceFiles.isEmpty() || sourceFiles.contains(file))) {
+            Package pkg = moduleSourceMapper.getCurrentPackage();
+            if (pendingFiles != null) {
+                //parallel mode: the package is fixed now,
+                //the file itself gets parsed later
+                pendingFiles.add(new PendingFile(file, srcDir, pkg));
+            }
+            else {
+                //System.out.println("Parsing " + file.getName());
+                addParsedFile(file, srcDir, pkg, lexAndParse(file, srcDir));
+            }
+        }
+    }
 
-            //System.out.println("Parsing " + file.getName());
-            CeylonLexer lexer = new CeylonLexer(new ANTLRInputStream(file.getInputStream(), getEncoding()));
-            CommonTokenStream tokenStream = new CommonTokenStream(lexer);
-            CeylonParser parser = new CeylonParser(tokenStream);
-            Tree.CompilationUnit cu = parser.compilationUnit();
-            List<CommonToken> tokens = new ArrayList<CommonToken>(tokenStream.getTokens().size()); 
-            tokens.addAll(tokenStream.getTokens());
-            PhasedUnit phasedUnit = new PhasedUnit(file, srcDir, cu, 
-                    moduleSourceMapper.getCurrentPackage(), moduleManager, moduleSourceMapper,
-                    context, tokens);
-            addPhasedUnit(file, phasedUnit);
-
-            List<LexError> lexerErrors = lexer.getErrors();
-            for (LexError le : lexerErrors) {
-                //System.out.println("Lexer error in " + file.getName() + ": " + le.getMessage());
-                cu.addLexError(le);
+    /**
+     * Lexes and parses a single file, wrapping the exceptions
+     * of the input stream and of the parser
+     */
+    private ParsedFile lexAndParse(VirtualFile file, VirtualFile srcDir) {
+        try {
+            return parseSource(file, srcDir);
+        }
+        catch (IOException e) {
+            throw new RuntimeException("Error while parsing the source file: " + file.toString(), e);
+        }
+        catch (RecognitionException e) {
+            throw new RuntimeException("Error while parsing the source file: " + file.toString(), e);
+        }
+    }
+
+    private ParsedFile parseSource(VirtualFile file, VirtualFile srcDir) 
+            throws IOException, RecognitionException {
+        if (parsedArchive != null) {
+            ParsedSource parsed = parsedArchive.get(
+                    Helper.computeRelativePath(file, srcDir));
+            if (parsed != null) {
+                return new ParsedFile(parsed);
             }
-            lexerErrors.clear();
+        }
+        if (parseCache != null) {
+            return lexAndParseWithCache(file);
+        }
+        CeylonLexer lexer = new CeylonLexer(new ANTLRInputStream(file.getInputStream(), getEncoding()));
+        CommonTokenStream tokenStream = new CommonTokenStream(lexer);
+        CeylonParser parser = new CeylonParser(tokenStream);
+        Tree.CompilationUnit cu = parser.compilationUnit();
+        List<CommonToken> tokens = PackedTokenList.pack(tokenStream.getTokens());
+        return new ParsedFile(cu, tokens, lexer.getErrors(), parser.getErrors());
+    }
 
-            List<ParseError> parserErrors = parser.getErrors();
-            for (ParseError pe : parserErrors) {
-                //System.out.println("Parser error in " + file.getName() + ": " + pe.getMessage());
-                cu.addParseError(pe);
+    @Override
+    public void addPhasedUnit(VirtualFile unitFile, PhasedUnit phasedUnit) {
+        super.addPhasedUnit(unitFile, phasedUnit);
+        Package pkg = phasedUnit.getPackage();
+        String pkgName = pkg.getNameAsString();
+        if (!packagesByName.containsKey(pkgName)) {
+            packagesByName.put(pkgName, pkg);
+        }
+    }
+
+    /**
+     * Parses the given file again, replacing the phased unit
+     * previously registered for it, if any, at the same 
+     * position in the list of units. The new phased unit has
+     * not gone through any phase.
+     * 
+     * @param pkg the package of the file, or null to find it
+     *        from the location of the file in its source 
+     *        directory
+     */
+    public PhasedUnit reparseFile(VirtualFile file, VirtualFile srcDir, Package pkg) {
+        PhasedUnit old = getPhasedUnit(file);
+        if (old != null) {
+            Unit unit = old.getUnit();
+            if (unit != null) {
+                synchronized (unit.getPackage()) {
+                    unit.getPackage().removeUnit(unit);
+                }
+            }
+            if (pkg == null) {
+                pkg = old.getPackage();
+            }
+        }
+        if (pkg == null) {
+            pkg = findPackage(file, srcDir);
+        }
+        return addParsedFile(file, srcDir, pkg, lexAndParse(file, srcDir));
+    }
+
+    /**
+     * Determines the package of a file which was not part of
+     * the directory walk from its path relative to the 
+     * source directory. The package belongs to the compiled
+     * module with the longest matching name, or to the 
+     * default module.
+     */
+    private Package findPackage(VirtualFile file, VirtualFile srcDir) {
+        String relativePath = Helper.computeRelativePath(file, srcDir);
+        int lastSlash = relativePath.lastIndexOf('/');
+        String pkgName = lastSlash < 0 ? "" : 
+            relativePath.substring(0, lastSlash).replace('/', '.');
+        Package pkg = packagesByName.get(pkgName);
+        if (pkg != null) {
+            return pkg;
+        }
+        Module module = context.getModules().getDefaultModule();
+        for (Module m : moduleSourceMapper.getCompiledModules()) {
+            String moduleName = m.getNameAsString();
+            if ((pkgName.equals(moduleName) || pkgName.startsWith(moduleName + "."))
+                    && (module.isDefault() || moduleName.length() > module.getNameAsString().length())) {
+                module = m;
             }
-            parserErrors.clear();
+        }
+        return moduleManager.createPackage(pkgName, module);
+    }
+
+    private ParsedFile lexAndParseWithCache(VirtualFile file) 
+            throws IOException, RecognitionException {
+        byte[] content = Helper.readContent(file);
+        String encoding = getEncoding();
+        String text = new String(content, encoding);
+        String key = parseCache.key(content, encoding);
+        ParseCache.Entry entry = parseCache.load(key, text);
+        if (entry != null) {
+            return new ParsedFile(entry.getCompilationUnit(), 
+                    PackedTokenList.pack(entry.getTokens()), 
+                    new ArrayList<LexError>(0), new ArrayList<ParseError>(0));
+        }
+        ParsedSource parsed = ParsedSource.parse(text);
+        if (!parsed.hasErrors()) {
+            parseCache.store(key, parsed.getCompilationUnit(), 
+                    parsed.getTokens());
+        }
+        return new ParsedFile(parsed);
+    }
 
+    /**
+     * Creates and registers the phased unit of a parsed 
+     * file, with the errors of the lexer and the parser, 
+     * which are reported to the sink right away.
+     */
+    private PhasedUnit addParsedFile(VirtualFile file, VirtualFile srcDir, Package pkg, ParsedFile parsed) {
+        Tree.CompilationUnit cu = parsed.compilationUnit;
+        PhasedUnit phasedUnit = new PhasedUnit(file, srcDir, cu, 
+                pkg, moduleManager, moduleSourceMapper,
+                context, parsed.tokens);
+        addPhasedUnit(file, phasedUnit);
+
+        List<LexError> lexerErrors = parsed.lexErrors;
+        for (LexError le : lexerErrors) {
+            //System.out.println("Lexer error in " + file.getName() + ": " + le.getMessage());
+            cu.addLexError(le);
+        }
+        lexerErrors.clear();
+
+        List<ParseError> parserErrors = parsed.parseErrors;
+        for (ParseError pe : parserErrors) {
+            //System.out.println("Parser error in " + file.getName() + ": " + pe.getMessage());
+            cu.addParseError(pe);
         }
+        parserErrors.clear();
+        if (diagnosticsSink != null) {
+            phasedUnit.setDiagnosticsSink(diagnosticsSink);
+            phasedUnit.reportMessages(null);
+        }
+        return phasedUnit;
     }
 
     protected String getEncoding() {
@@ -0,0 +1,24 @@
+package com.redhat.ceylon.compiler.typechecker.context;
+
+/**
+ * How long the syntax trees of the source dependencies of
+ * the modules being type checked are kept.
+ */
+public enum TreeRetention {
+    
+    /**
+     * Keep the syntax trees and tokens of every unit for the
+     * lifetime of the type checker.
+     */
+    FULL,
+    
+    /**
+     * Release the syntax trees and tokens of the units of 
+     * source dependencies once they have gone through the
+     * phases run on dependencies, keeping only their model.
+     * 
+     * @see PhasedUnit#releaseTree()
+     */
+    MODEL_ONLY
+    
+}
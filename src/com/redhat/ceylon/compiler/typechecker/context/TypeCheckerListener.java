@@ -0,0 +1,49 @@
+package com.redhat.ceylon.compiler.typechecker.context;
+
+import com.redhat.ceylon.compiler.typechecker.tree.Visitor;
+
+/**
+ * Receives timing events while the type checker runs the
+ * phases. Durations are in nanoseconds, as measured by 
+ * {@link System#nanoTime()}.
+ * 
+ * When the type checker runs with a parallelism greater 
+ * than one, the unit and visitor events come from the 
+ * worker threads, so implementations must be thread safe.
+ */
+public interface TypeCheckerListener {
+    
+    /**
+     * A phase is about to run on the units being type 
+     * checked.
+     */
+    void phaseStarted(Phase phase);
+    
+    /**
+     * A phase has run on all the units being type checked.
+     */
+    void phaseFinished(Phase phase, long nanos);
+    
+    /**
+     * A phase is about to run on the given unit.
+     */
+    void unitStarted(Phase phase, PhasedUnit unit);
+    
+    /**
+     * A phase has run on the given unit.
+     */
+    void unitFinished(Phase phase, PhasedUnit unit, long nanos);
+    
+    /**
+     * A visitor is about to walk the compilation unit of the
+     * given unit.
+     */
+    void visitorStarted(PhasedUnit unit, Visitor visitor);
+    
+    /**
+     * A visitor has walked the compilation unit of the given
+     * unit.
+     */
+    void visitorFinished(PhasedUnit unit, Visitor visitor, long nanos);
+    
+}
@@ -0,0 +1,333 @@
+package com.redhat.ceylon.compiler.typechecker.context;
+
+import static com.redhat.ceylon.compiler.typechecker.tree.TreeUtil.formatPath;
+import static com.redhat.ceylon.model.typechecker.model.Module.LANGUAGE_MODULE_NAME;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.redhat.ceylon.compiler.typechecker.tree.Tree;
+
+/**
+ * The dependencies between a set of phased units, derived
+ * from the packages each unit imports. A unit depends on
+ * every unit of its own package, on every unit of the
+ * packages it imports, and on the units of the language
+ * package when it is one of the units being type checked.
+ *
+ * Those are the only packages whose declarations a unit
+ * can refer to by name, with one exception: a doc link may
+ * name a declaration of any package, as in 
+ * <code>[[a.b::C]]</code>, so a unit also depends on the 
+ * units of the packages its doc links name.
+ *
+ * Packages which import each other, directly or not, form
+ * a {@link Group} whose units must go through the phases
+ * together.
+ */
+public class UnitDependencyGraph {
+
+    /**
+     * A strongly connected set of packages, and the groups
+     * it depends on or is depended on by.
+     */
+    public static class Group {
+        private final List<PhasedUnit> units =
+                new ArrayList<PhasedUnit>();
+        private final Set<Group> dependencies =
+                new LinkedHashSet<Group>();
+        private final Set<Group> dependents =
+                new LinkedHashSet<Group>();
+
+        public List<PhasedUnit> getUnits() {
+            return units;
+        }
+
+        public Set<Group> getDependencies() {
+            return dependencies;
+        }
+
+        public Set<Group> getDependents() {
+            return dependents;
+        }
+
+        @Override
+        public String toString() {
+            return "Group" + units;
+        }
+    }
+
+    private final Map<String,List<PhasedUnit>> unitsByPackage =
+            new LinkedHashMap<String,List<PhasedUnit>>();
+    private final Map<String,Set<String>> importedPackages =
+            new HashMap<String,Set<String>>();
+    private final Map<String,Set<String>> importingPackages =
+            new HashMap<String,Set<String>>();
+    private final Map<PhasedUnit,Group> groupByUnit =
+            new HashMap<PhasedUnit,Group>();
+    private final List<Group> groups = new ArrayList<Group>();
+
+    public UnitDependencyGraph(List<PhasedUnit> units) {
+        final Map<PhasedUnit,Integer> positions =
+                new HashMap<PhasedUnit,Integer>();
+        for (PhasedUnit pu: units) {
+            String pkg = pu.getPackage().getNameAsString();
+            List<PhasedUnit> list = unitsByPackage.get(pkg);
+            if (list==null) {
+                list = new ArrayList<PhasedUnit>();
+                unitsByPackage.put(pkg, list);
+                importedPackages.put(pkg,
+                        new LinkedHashSet<String>());
+            }
+            list.add(pu);
+            positions.put(pu, positions.size());
+        }
+        for (PhasedUnit pu: units) {
+            String pkg = pu.getPackage().getNameAsString();
+            Set<String> imported = importedPackages.get(pkg);
+            if (!pkg.equals(LANGUAGE_MODULE_NAME)) {
+                addImporter(LANGUAGE_MODULE_NAME, pkg);
+                if (unitsByPackage.containsKey(LANGUAGE_MODULE_NAME)) {
+                    imported.add(LANGUAGE_MODULE_NAME);
+                }
+            }
+            Tree.ImportList importList =
+                    pu.getCompilationUnit().getImportList();
+            if (importList!=null) {
+                for (Tree.Import im: importList.getImports()) {
+                    Tree.ImportPath path = im.getImportPath();
+                    if (path!=null) {
+                        addImport(pkg, imported,
+                                formatPath(path.getIdentifiers()));
+                    }
+                }
+            }
+            for (String name: pu.getDocLinkPackageNames()) {
+                addImport(pkg, imported, name);
+            }
+        }
+        new Tarjan().run();
+        Comparator<PhasedUnit> byPosition =
+                new Comparator<PhasedUnit>() {
+            @Override
+            public int compare(PhasedUnit x, PhasedUnit y) {
+                return positions.get(x).compareTo(positions.get(y));
+            }
+        };
+        for (Group group: groups) {
+            //keep the units in the order they were given
+            Collections.sort(group.units, byPosition);
+            for (PhasedUnit pu: group.units) {
+                groupByUnit.put(pu, group);
+            }
+        }
+        for (Map.Entry<String,Set<String>> entry:
+                importedPackages.entrySet()) {
+            Group group = groupByUnit.get(
+                    unitsByPackage.get(entry.getKey()).get(0));
+            for (String imported: entry.getValue()) {
+                Group dependency = groupByUnit.get(
+                        unitsByPackage.get(imported).get(0));
+                if (dependency!=group) {
+                    group.dependencies.add(dependency);
+                    dependency.dependents.add(group);
+                }
+            }
+        }
+    }
+
+    private void addImport(String pkg, Set<String> imported,
+            String name) {
+        if (!name.equals(pkg)) {
+            addImporter(name, pkg);
+            if (unitsByPackage.containsKey(name)) {
+                imported.add(name);
+            }
+        }
+    }
+
+    private void addImporter(String imported, String importer) {
+        Set<String> importers = importingPackages.get(imported);
+        if (importers==null) {
+            importers = new LinkedHashSet<String>();
+            importingPackages.put(imported, importers);
+        }
+        importers.add(importer);
+    }
+
+    /**
+     * The groups of units, each one listed after all the
+     * groups it depends on.
+     */
+    public List<Group> getGroups() {
+        return Collections.unmodifiableList(groups);
+    }
+
+    /**
+     * The group the given unit belongs to, or null if the
+     * unit is not part of this graph.
+     */
+    public Group getGroup(PhasedUnit unit) {
+        return groupByUnit.get(unit);
+    }
+
+    /**
+     * The units the given unit directly depends on, that is,
+     * the other units of its package and the units of the
+     * packages it imports.
+     */
+    public Set<PhasedUnit> getDependencies(PhasedUnit unit) {
+        Set<PhasedUnit> result = new LinkedHashSet<PhasedUnit>();
+        String pkg = unit.getPackage().getNameAsString();
+        List<PhasedUnit> samePackage = unitsByPackage.get(pkg);
+        if (samePackage!=null) {
+            result.addAll(samePackage);
+            for (String imported: importedPackages.get(pkg)) {
+                result.addAll(unitsByPackage.get(imported));
+            }
+            result.remove(unit);
+        }
+        return result;
+    }
+
+    /**
+     * The units which directly depend on the given unit.
+     */
+    public Set<PhasedUnit> getDependents(PhasedUnit unit) {
+        Set<PhasedUnit> result = new LinkedHashSet<PhasedUnit>();
+        String pkg = unit.getPackage().getNameAsString();
+        List<PhasedUnit> samePackage = unitsByPackage.get(pkg);
+        if (samePackage!=null) {
+            result.addAll(samePackage);
+            Set<String> importers = importingPackages.get(pkg);
+            if (importers!=null) {
+                for (String importer: importers) {
+                    result.addAll(unitsByPackage.get(importer));
+                }
+            }
+            result.remove(unit);
+        }
+        return result;
+    }
+
+    /**
+     * The given unit, the other units of its package, and
+     * the units of every package it imports, directly or 
+     * indirectly, with the units of the imported packages
+     * listed first.
+     */
+    public List<PhasedUnit> getRequiredUnits(PhasedUnit unit) {
+        String pkg = unit.getPackage().getNameAsString();
+        if (!unitsByPackage.containsKey(pkg)) {
+            return Collections.singletonList(unit);
+        }
+        Set<String> required = new LinkedHashSet<String>();
+        collectRequiredPackages(pkg, new LinkedHashSet<String>(), 
+                required);
+        List<PhasedUnit> result = new ArrayList<PhasedUnit>();
+        for (String name: required) {
+            result.addAll(unitsByPackage.get(name));
+        }
+        return result;
+    }
+
+    private void collectRequiredPackages(String pkg, 
+            Set<String> visited, Set<String> required) {
+        if (visited.add(pkg)) {
+            for (String imported: importedPackages.get(pkg)) {
+                collectRequiredPackages(imported, visited, required);
+            }
+            required.add(pkg);
+        }
+    }
+
+    /**
+     * The units of the given packages, and of every package
+     * which imports one of them, directly or indirectly. The
+     * given packages don't need to have units anymore, so
+     * that the units affected by the removal of the last 
+     * unit of a package can be found.
+     */
+    public Set<PhasedUnit> getAffectedUnits(Collection<String> packageNames) {
+        Set<String> affected = new LinkedHashSet<String>();
+        List<String> queue = new ArrayList<String>(packageNames);
+        while (!queue.isEmpty()) {
+            String pkg = queue.remove(queue.size()-1);
+            if (affected.add(pkg)) {
+                Set<String> importers = importingPackages.get(pkg);
+                if (importers!=null) {
+                    queue.addAll(importers);
+                }
+            }
+        }
+        Set<PhasedUnit> result = new LinkedHashSet<PhasedUnit>();
+        for (String pkg: affected) {
+            List<PhasedUnit> units = unitsByPackage.get(pkg);
+            if (units!=null) {
+                result.addAll(units);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Tarjan's algorithm over the package graph. Strongly
+     * connected components are found after every component
+     * they depend on, which is the order we want.
+     */
+    private class Tarjan {
+        private final Map<String,Integer> index =
+                new HashMap<String,Integer>();
+        private final Map<String,Integer> lowLink =
+                new HashMap<String,Integer>();
+        private final List<String> stack = new ArrayList<String>();
+        private final Set<String> onStack = new LinkedHashSet<String>();
+
+        void run() {
+            for (String pkg: unitsByPackage.keySet()) {
+                if (!index.containsKey(pkg)) {
+                    visit(pkg);
+                }
+            }
+        }
+
+        private void visit(String pkg) {
+            int i = index.size();
+            index.put(pkg, i);
+            lowLink.put(pkg, i);
+            stack.add(pkg);
+            onStack.add(pkg);
+            for (String imported: importedPackages.get(pkg)) {
+                if (!index.containsKey(imported)) {
+                    visit(imported);
+                    lowLink.put(pkg, Math.min(lowLink.get(pkg),
+                            lowLink.get(imported)));
+                }
+                else if (onStack.contains(imported)) {
+                    lowLink.put(pkg, Math.min(lowLink.get(pkg),
+                            index.get(imported)));
+                }
+            }
+            if (lowLink.get(pkg).equals(index.get(pkg))) {
+                Group group = new Group();
+                String member;
+                do {
+                    member = stack.remove(stack.size()-1);
+                    onStack.remove(member);
+                    group.units.addAll(unitsByPackage.get(member));
+                }
+                while (!member.equals(pkg));
+                groups.add(group);
+            }
+        }
+    }
+
+}
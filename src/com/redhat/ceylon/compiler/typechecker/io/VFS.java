@@ -1,10 +1,12 @@
 package com.redhat.ceylon.compiler.typechecker.io;
 
 import com.redhat.ceylon.compiler.typechecker.io.impl.FileSystemVirtualFile;
+import com.redhat.ceylon.compiler.typechecker.io.impl.PathVirtualFile;
 import com.redhat.ceylon.compiler.typechecker.io.impl.ZipFileVirtualFile;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Path;
 import java.util.zip.ZipFile;
 
 /**
@@ -30,6 +32,14 @@ public class VFS {
         return new FileSystemVirtualFile(file);
     }
 
+    /**
+     * A file whose attributes and children are read once
+     * and then kept
+     */
+    public VirtualFile getFromPath(Path path) {
+        return new PathVirtualFile(path);
+    }
+
     //experimental
     public ClosableVirtualFile openAsContainer(VirtualFile file) {
         if (file instanceof ZipFileVirtualFile) {
@@ -39,6 +49,10 @@ public class VFS {
             final File realFile = ((FileSystemVirtualFile) file).getFile();
             return getFromZipFile( realFile );
         }
+        else if (file instanceof PathVirtualFile) {
+            final File realFile = ((PathVirtualFile) file).getFile();
+            return getFromZipFile( realFile );
+        }
         throw new RuntimeException( "Unknown type: " + file.getClass() );
     }
 }
@@ -1,6 +1,9 @@
 package com.redhat.ceylon.compiler.typechecker.io.impl;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.zip.ZipEntry;
 
 import com.redhat.ceylon.compiler.typechecker.io.VirtualFile;
@@ -51,4 +54,20 @@ public class Helper {
             return rawRelativePath;
         }
     }
+
+    public static byte[] readContent(VirtualFile file) throws IOException {
+        InputStream in = file.getInputStream();
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = in.read(buffer)) >= 0) {
+                out.write(buffer, 0, read);
+            }
+            return out.toByteArray();
+        }
+        finally {
+            in.close();
+        }
+    }
 }
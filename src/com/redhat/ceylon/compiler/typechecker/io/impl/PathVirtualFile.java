@@ -0,0 +1,243 @@
+package com.redhat.ceylon.compiler.typechecker.io.impl;
+
+import com.redhat.ceylon.compiler.typechecker.io.VirtualFile;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.FileVisitOption;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * A file or folder of the file system, read through
+ * <code>java.nio.file</code>. Unlike a
+ * {@link FileSystemVirtualFile}, the attributes of the file
+ * are read once, and the children of a folder are listed
+ * once, together with their own attributes, so that a walk
+ * of a source directory costs a listing per folder rather
+ * than a system call for each question asked about each
+ * file. A folder which may have changed on disk since it
+ * was listed must be obtained again.
+ */
+public class PathVirtualFile implements VirtualFile {
+    private final Path path;
+    private final String name;
+    private final String pathName;
+    private boolean folder;
+    private long size;
+    private long lastModified;
+    private volatile boolean read;
+    private volatile List<PathVirtualFile> children;
+
+    public PathVirtualFile(Path path) {
+        this.path = path;
+        final Path fileName = path.getFileName();
+        this.name = fileName == null ? "" : fileName.toString();
+        if ('\\' == File.separatorChar) {
+            this.pathName = path.toString().replace('\\', '/');
+        }
+        else {
+            this.pathName = path.toString();
+        }
+    }
+
+    private PathVirtualFile(Path path, BasicFileAttributes attributes) {
+        this(path);
+        setAttributes(attributes);
+    }
+
+    private void setAttributes(BasicFileAttributes attributes) {
+        folder = attributes.isDirectory();
+        size = attributes.size();
+        lastModified = attributes.lastModifiedTime().toMillis();
+        read = true;
+    }
+
+    private void readAttributes() {
+        if (!read) {
+            try {
+                setAttributes(Files.readAttributes(path, BasicFileAttributes.class));
+            }
+            catch (IOException e) {
+                //like a missing java.io.File: not a folder,
+                //with no size and no modification time
+                read = true;
+            }
+        }
+    }
+
+    public Path toPath() {
+        return path;
+    }
+
+    public File getFile() {
+        return path.toFile();
+    }
+
+    /**
+     * Size of the file in bytes, or 0 if it does not exist
+     */
+    public long getSize() {
+        readAttributes();
+        return size;
+    }
+
+    /**
+     * Modification time of the file in milliseconds since
+     * the epoch, or 0 if it does not exist
+     */
+    public long getLastModified() {
+        readAttributes();
+        return lastModified;
+    }
+
+    @Override
+    public boolean isFolder() {
+        readAttributes();
+        return folder;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public String getPath() {
+        return pathName;
+    }
+
+    @Override
+    public InputStream getInputStream() {
+        try {
+            return Files.newInputStream( path );
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public List<PathVirtualFile> getChildren() {
+        List<PathVirtualFile> files = children;
+        if (files == null) {
+            files = Collections.unmodifiableList( listChildren() );
+            children = files;
+        }
+        return files;
+    }
+
+    private List<PathVirtualFile> listChildren() {
+        final List<PathVirtualFile> localFiles = new ArrayList<PathVirtualFile>();
+        if (!isFolder()) {
+            return localFiles;
+        }
+        try {
+            //a walk of depth one hands over the attributes of
+            //each child, taken from the listing itself where
+            //the file system provides them
+            Files.walkFileTree(path, EnumSet.of(FileVisitOption.FOLLOW_LINKS), 1,
+                    new SimpleFileVisitor<Path>() {
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) {
+                    localFiles.add( new PathVirtualFile(file, attributes) );
+                    return FileVisitResult.CONTINUE;
+                }
+                @Override
+                public FileVisitResult visitFileFailed(Path file, IOException e) {
+                    //removed since the folder was listed,
+                    //or the folder itself can't be read
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        }
+        catch (IOException e) {
+            //the listing failed part way through:
+            //keep the children listed so far
+        }
+        return localFiles;
+    }
+
+    /**
+     * Lists this folder, and every folder below it, ahead of
+     * the walk which will need them, using the given number
+     * of threads, so that the walk itself finds everything
+     * it asks for in memory.
+     */
+    public void scan(int parallelism) {
+        if (parallelism > 1) {
+            ForkJoinPool pool = new ForkJoinPool(parallelism);
+            try {
+                pool.invoke(new ScanAction(this));
+            }
+            finally {
+                pool.shutdown();
+            }
+        }
+        else {
+            for (PathVirtualFile child : getChildren()) {
+                if (child.isFolder()) {
+                    child.scan(parallelism);
+                }
+            }
+        }
+    }
+
+    private static class ScanAction extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        private final PathVirtualFile folder;
+
+        ScanAction(PathVirtualFile folder) {
+            this.folder = folder;
+        }
+
+        @Override
+        protected void compute() {
+            List<ScanAction> actions = new ArrayList<ScanAction>();
+            for (PathVirtualFile child : folder.getChildren()) {
+                if (child.isFolder()) {
+                    actions.add(new ScanAction(child));
+                }
+            }
+            invokeAll(actions);
+        }
+    }
+
+    @Override
+    public int hashCode() {
+        return pathName.hashCode();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj instanceof VirtualFile) {
+            return ((VirtualFile) obj).getPath().equals(pathName);
+        }
+        else {
+            return super.equals(obj);
+        }
+    }
+
+    @Override
+    public int compareTo(VirtualFile o) {
+        return pathName.compareTo(o.getPath());
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder();
+        sb.append("PathVirtualFile");
+        sb.append("{name='").append( name ).append('\'');
+        sb.append('}');
+        return sb.toString();
+    }
+}
@@ -19,13 +19,17 @@ class ZipEntryVirtualFile implements VirtualFile {
     public static final List<VirtualFile> EMPTY_CHILDREN = Collections.unmodifiableList( new ArrayList<VirtualFile>(0) );
     private final String name;
     private final String path;
-    private final ZipEntry entry;
+    private final String entryName;
     private final ZipFile zipFile;
 
     public ZipEntryVirtualFile(ZipEntry entry, ZipFile zipFile) {
-        this.name = Helper.getSimpleName(entry);
-        this.entry = entry;
-        String tempPath = zipFile.getName() + "!/" + entry.getName();
+        this(entry.getName(), zipFile);
+    }
+
+    public ZipEntryVirtualFile(String entryName, ZipFile zipFile) {
+        this.name = Helper.getSimpleName(entryName);
+        this.entryName = entryName;
+        String tempPath = zipFile.getName() + "!/" + entryName;
         this.path = tempPath.endsWith("/") ? tempPath.substring(0, tempPath.length() - 1 ) : tempPath;
         this.zipFile = zipFile;
     }
@@ -48,6 +52,10 @@ class ZipEntryVirtualFile implements VirtualFile {
     @Override
     public InputStream getInputStream() {
         try {
+            ZipEntry entry = zipFile.getEntry( entryName );
+            if (entry == null) {
+                throw new IOException("Entry not found: " + getPath());
+            }
             return new FilterInputStream(zipFile.getInputStream( entry )) {
                 // Do nothing since the ZipInputStream will be closed by the ZipFile.close call
                 @Override
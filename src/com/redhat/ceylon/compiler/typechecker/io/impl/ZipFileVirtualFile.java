@@ -4,11 +4,10 @@ import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Enumeration;
-import java.util.LinkedList;
 import java.util.List;
-import java.util.SortedSet;
-import java.util.TreeSet;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
 
@@ -22,8 +21,12 @@ public class ZipFileVirtualFile implements ClosableVirtualFile {
 
     protected final ZipFile zipFile;
     private final String name;
-    private final List<VirtualFile> children;
     private final boolean closable;
+    // the names of the entries, sorted, so that the entries 
+    // of a folder are a range of the index: the folders and 
+    // their children are created when they are listed
+    private final String[] entryNames;
+    private volatile List<VirtualFile> children;
 
     public ZipFileVirtualFile(File file) throws IOException {
         this( new ZipFile(file), true );
@@ -39,70 +42,55 @@ public class ZipFileVirtualFile implements ClosableVirtualFile {
         final String path = zipFile.getName();
         final int lastIndex = path.lastIndexOf(File.separator);
         this.name = lastIndex == -1 ? path : path.substring(lastIndex+1);
+        final String[] names = new String[zipFile.size()];
+        int count = 0;
         final Enumeration<? extends ZipEntry> entries = zipFile.entries();
-        SortedSet<String> entryNames = new TreeSet<String>();
-        while ( entries.hasMoreElements() ) {
-            String entryName = entries.nextElement().getName();
-            // Also add the ancestor directories (for the case directories are not in the archive)
-            List<String> parentEntriesNames = getParentEntriesNames(entryName);
-            entryNames.add(entryName);
-            entryNames.addAll(parentEntriesNames);
+        while ( entries.hasMoreElements() && count < names.length ) {
+            names[count++] = entries.nextElement().getName();
         }
-        List<VirtualFile> directChildren = new ArrayList<VirtualFile>();
-        LinkedList<ZipFolderVirtualFile> directoryStack = new LinkedList<ZipFolderVirtualFile>();
-        for ( String entryName : entryNames ) {
-            if ( entryName.endsWith("/")) {
-                /*
-                entries are now ordered with directories,
-                if an entry is a child of the previous entry, add it as child
-                if an entry is not a child of the previous entry, move up till we find its parent
-                 */
-                final ZipFolderVirtualFile folder = new ZipFolderVirtualFile(entryName, path);
-                addToParentfolder(directChildren, directoryStack, entryName, folder);
-                directoryStack.addLast(folder);
+        Arrays.sort(names, 0, count);
+        this.entryNames = count == names.length ? names : Arrays.copyOf(names, count);
+    }
+
+    /**
+     * The files and folders directly inside the folder with
+     * the given entry name, in the order of their names. A
+     * folder is listed even if the archive has no entry for
+     * it, as long as it has entries for its files.
+     */
+    List<VirtualFile> listChildren(String folderEntryName) {
+        final List<VirtualFile> result = new ArrayList<VirtualFile>();
+        final int length = folderEntryName.length();
+        int index = indexOf(folderEntryName);
+        while ( index < entryNames.length && entryNames[index].startsWith(folderEntryName) ) {
+            final String entryName = entryNames[index];
+            final int slash = entryName.indexOf('/', length);
+            if (entryName.length() == length || 
+                    index > 0 && entryName.equals(entryNames[index-1])) {
+                // the entry of the folder itself, or a duplicate
+                index++;
+            }
+            else if (slash == -1) {
+                result.add( new ZipEntryVirtualFile(entryName, zipFile) );
+                index++;
             }
             else {
-                final ZipEntry entry = zipFile.getEntry(entryName);
-                ZipEntryVirtualFile file = new ZipEntryVirtualFile(entry, zipFile);
-                addToParentfolder(directChildren, directoryStack, entryName, file);
+                final String subfolderEntryName = entryName.substring(0, slash+1);
+                result.add( new ZipFolderVirtualFile(subfolderEntryName, getPath(), this) );
+                // skip the entries inside the subfolder
+                index = indexOf(subfolderEntryName + Character.MAX_VALUE);
             }
         }
-        children = directChildren;
+        return Collections.unmodifiableList(result);
     }
 
-    private List<String> getParentEntriesNames(String entryName) {
-        List<String> parentEntries = new ArrayList<String>();
-        String[] entrySegments = entryName.split("/");
-        if (entrySegments.length == 0) {
-            return parentEntries;
-        }
-        String ancestor = "";
-        for (int i=0; i<entrySegments.length - 1; i++) {
-            ancestor += entrySegments[i] + "/";
-            parentEntries.add(ancestor);
-        }
-        return parentEntries;
-    }
-
-    private void addToParentfolder(List<VirtualFile> directChildren, LinkedList<ZipFolderVirtualFile> directoryStack, String entryName, VirtualFile file) {
-        ZipFolderVirtualFile up = directoryStack.peekLast();
-        while ( !isChildOf(entryName, up) ) {
-            directoryStack.pollLast();
-            up = directoryStack.peekLast();
-        }
-        if (up == null) {
-            directChildren.add(file);
-        }
-        else {
-            up.addChild(file);
-        }
-    }
-
-    private boolean isChildOf(String entryName, ZipFolderVirtualFile lastFolder) {
-        if (lastFolder == null) {
-            return true;
-        }
-        return entryName.startsWith( lastFolder.getEntryName() );
+    /**
+     * The index of the first entry name not less than the
+     * given name.
+     */
+    private int indexOf(String entryName) {
+        int index = Arrays.binarySearch(entryNames, entryName);
+        return index < 0 ? -index-1 : index;
     }
 
     @Override
@@ -127,7 +115,12 @@ public class ZipFileVirtualFile implements ClosableVirtualFile {
 
     @Override
     public List<VirtualFile> getChildren() {
-        return children;
+        List<VirtualFile> result = children;
+        if (result == null) {
+            result = listChildren("");
+            children = result;
+        }
+        return result;
     }
 
     @Override
@@ -0,0 +1,200 @@
+package com.redhat.ceylon.compiler.typechecker.parser;
+
+import java.util.AbstractList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+
+import org.antlr.runtime.CharStream;
+import org.antlr.runtime.CommonToken;
+import org.antlr.runtime.Token;
+
+/**
+ * An immutable list of tokens which stores their type,
+ * channel, position and line in parallel int arrays, along
+ * with the character stream they were all lexed from,
+ * instead of keeping a {@link CommonToken} for each of them.
+ *
+ * A {@code CommonToken} is created the first time an element
+ * is retrieved, and kept in a sparse table of blocks of
+ * 64 tokens, so that later calls to
+ * {@link #get(int)} return the same instance, along with
+ * any change made to it, while the tokens nobody asked for
+ * are never created. {@link #indexOf(Object)} matches tokens
+ * by index, type and position rather than by identity, so
+ * that the tokens held by the syntax tree, which are not
+ * the ones of this list, can be looked up.
+ */
+public class PackedTokenList
+        extends AbstractList<CommonToken>
+        implements RandomAccess {
+
+    private final CharStream input;
+    private final int[] types;
+    private final int[] channels;
+    private final int[] starts;
+    private final int[] stops;
+    private final int[] lines;
+    private final int[] columns;
+    //text of the tokens which can't be read from the input
+    private final Map<Integer,String> texts;
+    //the tokens created so far, by block
+    private final CommonToken[][] blocks;
+
+    private static final int BLOCK_SHIFT = 6;
+    private static final int BLOCK_SIZE = 1<<BLOCK_SHIFT;
+
+    /**
+     * Packs the given tokens, or returns them as they are if
+     * they are already packed.
+     */
+    public static PackedTokenList pack(List<? extends Token> tokens) {
+        if (tokens==null) {
+            return null;
+        }
+        if (tokens instanceof PackedTokenList) {
+            return (PackedTokenList) tokens;
+        }
+        return new PackedTokenList(tokens);
+    }
+
+    private PackedTokenList(List<? extends Token> tokens) {
+        int size = tokens.size();
+        types = new int[size];
+        channels = new int[size];
+        starts = new int[size];
+        stops = new int[size];
+        lines = new int[size];
+        columns = new int[size];
+        CharStream input = null;
+        Map<Integer,String> texts = null;
+        for (int i=0; i<size; i++) {
+            Token token = tokens.get(i);
+            types[i] = token.getType();
+            channels[i] = token.getChannel();
+            lines[i] = token.getLine();
+            columns[i] = token.getCharPositionInLine();
+            CharStream tokenInput = token.getInputStream();
+            if (input==null) {
+                input = tokenInput;
+            }
+            if (token instanceof CommonToken &&
+                    tokenInput!=null && tokenInput==input) {
+                CommonToken ct = (CommonToken) token;
+                starts[i] = ct.getStartIndex();
+                stops[i] = ct.getStopIndex();
+            }
+            else {
+                //not backed by the shared input, so keep the
+                //text, and no position
+                starts[i] = -1;
+                stops[i] = -1;
+                if (texts==null) {
+                    texts = new HashMap<Integer,String>();
+                }
+                texts.put(i, token.getText());
+            }
+        }
+        this.input = input;
+        this.texts = texts;
+        this.blocks = new CommonToken[(size+BLOCK_SIZE-1)>>BLOCK_SHIFT][];
+    }
+
+    @Override
+    public int size() {
+        return types.length;
+    }
+
+    @Override
+    public synchronized CommonToken get(int index) {
+        if (index<0 || index>=types.length) {
+            throw new IndexOutOfBoundsException("index: " + index + 
+                    ", size: " + types.length);
+        }
+        CommonToken[] block = blocks[index>>BLOCK_SHIFT];
+        if (block==null) {
+            block = new CommonToken[BLOCK_SIZE];
+            blocks[index>>BLOCK_SHIFT] = block;
+        }
+        CommonToken token = block[index&(BLOCK_SIZE-1)];
+        if (token==null) {
+            token = createToken(index);
+            block[index&(BLOCK_SIZE-1)] = token;
+        }
+        return token;
+    }
+
+    private CommonToken createToken(int index) {
+        CommonToken token;
+        if (starts[index]<0) {
+            token = new CommonToken(types[index],
+                    texts.get(index));
+            token.setInputStream(input);
+        }
+        else {
+            token = new CommonToken(input,
+                    types[index], channels[index],
+                    starts[index], stops[index]);
+        }
+        token.setChannel(channels[index]);
+        token.setLine(lines[index]);
+        token.setCharPositionInLine(columns[index]);
+        token.setTokenIndex(index);
+        return token;
+    }
+
+    public int getType(int index) {
+        return types[index];
+    }
+
+    public int getChannel(int index) {
+        return channels[index];
+    }
+
+    public int getStartIndex(int index) {
+        return starts[index];
+    }
+
+    public int getStopIndex(int index) {
+        return stops[index];
+    }
+
+    public int getLine(int index) {
+        return lines[index];
+    }
+
+    public int getCharPositionInLine(int index) {
+        return columns[index];
+    }
+
+    public CharStream getInputStream() {
+        return input;
+    }
+
+    @Override
+    public int indexOf(Object object) {
+        if (object instanceof CommonToken) {
+            CommonToken token = (CommonToken) object;
+            int index = token.getTokenIndex();
+            if (index>=0 && index<types.length &&
+                    types[index]==token.getType() &&
+                    (starts[index]<0 ||
+                     starts[index]==token.getStartIndex())) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int lastIndexOf(Object object) {
+        return indexOf(object);
+    }
+
+    @Override
+    public boolean contains(Object object) {
+        return indexOf(object)>=0;
+    }
+
+}
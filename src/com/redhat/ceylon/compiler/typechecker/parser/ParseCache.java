@@ -0,0 +1,346 @@
+package com.redhat.ceylon.compiler.typechecker.parser;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidClassException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.UnsupportedEncodingException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.antlr.runtime.ANTLRStringStream;
+import org.antlr.runtime.CharStream;
+import org.antlr.runtime.CommonToken;
+
+import com.redhat.ceylon.common.Versions;
+import com.redhat.ceylon.compiler.typechecker.tree.Node;
+import com.redhat.ceylon.compiler.typechecker.tree.Tree;
+import com.redhat.ceylon.compiler.typechecker.tree.Visitor;
+
+/**
+ * An on-disk cache of parsed compilation units, keyed by a
+ * hash of the source text, its encoding, and the version of
+ * the grammar and of the tree classes. On a hit, the tree
+ * and the token list are read back without running the
+ * lexer or the parser.
+ *
+ * Only units without lexer or parser errors are stored: the
+ * errors keep a reference to the recognizer that is needed
+ * to format their messages. Trees nested deeper than
+ * {@link #MAX_DEPTH} are not stored either, since Java
+ * serialization recurses once per level of the tree.
+ *
+ * The cache directory may be shared, so an entry is read
+ * back with a stream which only resolves the classes of
+ * the syntax tree and of its tokens, and anything else
+ * makes the entry a miss.
+ */
+public class ParseCache {
+
+    private static final int MAGIC = 0xCE1AC0DE;
+    private static final String SUFFIX = ".ast";
+
+    /**
+     * The maximum depth of a tree stored in the cache
+     */
+    public static final int MAX_DEPTH = 200;
+
+    private static String grammarVersion;
+
+    private final File directory;
+    private final String version;
+
+    /**
+     * A compilation unit read from the cache, with its
+     * tokens attached to the source text
+     */
+    public static class Entry {
+        private final Tree.CompilationUnit compilationUnit;
+        private final List<CommonToken> tokens;
+        Entry(Tree.CompilationUnit compilationUnit,
+                List<CommonToken> tokens) {
+            this.compilationUnit = compilationUnit;
+            this.tokens = tokens;
+        }
+        public Tree.CompilationUnit getCompilationUnit() {
+            return compilationUnit;
+        }
+        public List<CommonToken> getTokens() {
+            return tokens;
+        }
+    }
+
+    public ParseCache(File directory) {
+        this(directory, getGrammarVersion());
+    }
+
+    /**
+     * A cache whose entries are valid for the given version
+     * of the grammar, instead of the version of the lexer,
+     * parser, and tree classes that are loaded.
+     */
+    public ParseCache(File directory, String version) {
+        this.directory = directory;
+        this.version = version;
+    }
+
+    public File getDirectory() {
+        return directory;
+    }
+
+    /**
+     * The cache key of a source file with the given content
+     * and encoding.
+     */
+    public String key(byte[] content, String encoding) {
+        MessageDigest digest = newDigest();
+        digest.update(bytes(version));
+        digest.update((byte) 0);
+        digest.update(bytes(encoding));
+        digest.update((byte) 0);
+        digest.update(content);
+        return toHex(digest.digest());
+    }
+
+    /**
+     * Reads the compilation unit for the given key, or
+     * returns null if it is not in the cache, or if the
+     * cached entry can't be read.
+     *
+     * @param text the source text, to which the tokens are
+     *        attached
+     */
+    public Entry load(String key, String text) {
+        File file = getFile(key);
+        if (!file.isFile()) {
+            return null;
+        }
+        try {
+            ObjectInputStream in = openInput(file);
+            try {
+                if (in.readInt()!=MAGIC ||
+                        !key.equals(in.readUTF())) {
+                    return null;
+                }
+                @SuppressWarnings("unchecked")
+                List<CommonToken> tokens =
+                        (List<CommonToken>) in.readObject();
+                Tree.CompilationUnit cu =
+                        (Tree.CompilationUnit) in.readObject();
+                CharStream input = new ANTLRStringStream(text);
+                for (CommonToken token: tokens) {
+                    token.setInputStream(input);
+                }
+                return new Entry(cu, tokens);
+            }
+            finally {
+                in.close();
+            }
+        }
+        catch (Exception e) {
+            //a stale or corrupt entry: just parse again
+            file.delete();
+            return null;
+        }
+        catch (StackOverflowError e) {
+            //nested deeper than any tree we store
+            file.delete();
+            return null;
+        }
+    }
+
+    /**
+     * Writes the given compilation unit to the cache. Does
+     * nothing if the tree can't be written, for example
+     * because the parser attached errors to it.
+     */
+    public void store(String key, Tree.CompilationUnit cu,
+            List<CommonToken> tokens) {
+        if (!isShallow(cu)) {
+            return;
+        }
+        File file = getFile(key);
+        File dir = file.getParentFile();
+        dir.mkdirs();
+        File tmp = null;
+        try {
+            tmp = File.createTempFile(key, ".tmp", dir);
+            ObjectOutputStream out =
+                    new ObjectOutputStream(
+                        new BufferedOutputStream(
+                            new FileOutputStream(tmp)));
+            try {
+                out.writeInt(MAGIC);
+                out.writeUTF(key);
+                out.writeObject(tokens);
+                out.writeObject(cu);
+            }
+            finally {
+                out.close();
+            }
+            if (tmp.renameTo(file)) {
+                tmp = null;
+            }
+        }
+        catch (IOException e) {
+            //the cache is just an optimization
+        }
+        catch (StackOverflowError e) {
+            //the stack of this thread is smaller than 
+            //MAX_DEPTH assumes: don't cache the tree
+        }
+        finally {
+            if (tmp!=null) {
+                tmp.delete();
+            }
+        }
+    }
+
+    /**
+     * Opens a file written by this class for reading. The
+     * stream refuses to create objects of any class other 
+     * than the classes of the syntax tree, the token class, 
+     * and ArrayList.
+     */
+    private static ObjectInputStream openInput(File file) throws IOException {
+        return new TreeInputStream(
+                new BufferedInputStream(
+                    new FileInputStream(file)));
+    }
+
+    private static class TreeInputStream extends ObjectInputStream {
+        private static final String TREE_PREFIX = 
+                Tree.class.getName() + "$";
+
+        TreeInputStream(InputStream in) throws IOException {
+            super(in);
+        }
+
+        @Override
+        protected Class<?> resolveClass(ObjectStreamClass desc)
+                throws IOException, ClassNotFoundException {
+            String name = desc.getName();
+            if (name.startsWith(TREE_PREFIX) ||
+                    name.equals(Node.class.getName()) ||
+                    name.equals(CommonToken.class.getName()) ||
+                    name.equals(ArrayList.class.getName()) ||
+                    name.equals(String.class.getName())) {
+                return super.resolveClass(desc);
+            }
+            throw new InvalidClassException(name, 
+                    "not a class of a syntax tree");
+        }
+
+        @Override
+        protected Class<?> resolveProxyClass(String[] interfaces)
+                throws IOException, ClassNotFoundException {
+            throw new InvalidClassException("proxy", 
+                    "not a class of a syntax tree");
+        }
+    }
+
+    /**
+     * Determines if the given tree is no deeper than 
+     * {@link #MAX_DEPTH}.
+     */
+    static boolean isShallow(Node node) {
+        final boolean[] deep = new boolean[1];
+        node.visit(new Visitor() {
+            int depth = 0;
+            @Override
+            public void visitAny(Node that) {
+                if (depth>=MAX_DEPTH) {
+                    deep[0] = true;
+                }
+                else if (!deep[0]) {
+                    depth++;
+                    super.visitAny(that);
+                    depth--;
+                }
+            }
+        });
+        return !deep[0];
+    }
+
+    private File getFile(String key) {
+        return new File(new File(directory, key.substring(0, 2)),
+                key.substring(2) + SUFFIX);
+    }
+
+    /**
+     * A digest of the generated lexer, parser, and tree
+     * classes, and of the node base class, so that a
+     * change to any of them invalidates the cache.
+     */
+    private static synchronized String getGrammarVersion() {
+        if (grammarVersion==null) {
+            MessageDigest digest = newDigest();
+            digest.update(bytes(Versions.CEYLON_VERSION_NUMBER));
+            for (Class<?> clazz: new Class<?>[] {
+                    CeylonLexer.class, CeylonParser.class,
+                    Tree.class, Node.class }) {
+                String resource =
+                        clazz.getSimpleName() + ".class";
+                try {
+                    InputStream in =
+                            clazz.getResourceAsStream(resource);
+                    if (in!=null) {
+                        try {
+                            byte[] buffer = new byte[8192];
+                            int read;
+                            while ((read = in.read(buffer))>=0) {
+                                digest.update(buffer, 0, read);
+                            }
+                        }
+                        finally {
+                            in.close();
+                        }
+                    }
+                }
+                catch (IOException e) {
+                    throw new RuntimeException(e);
+                }
+            }
+            grammarVersion = toHex(digest.digest());
+        }
+        return grammarVersion;
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-1");
+        }
+        catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static byte[] bytes(String string) {
+        try {
+            return string.getBytes("UTF-8");
+        }
+        catch (UnsupportedEncodingException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static String toHex(byte[] bytes) {
+        StringBuilder result =
+                new StringBuilder(bytes.length*2);
+        for (byte b: bytes) {
+            result.append(Character.forDigit((b>>4)&0xF, 16))
+                  .append(Character.forDigit(b&0xF, 16));
+        }
+        return result.toString();
+    }
+
+}
@@ -0,0 +1,43 @@
+package com.redhat.ceylon.compiler.typechecker.parser;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.antlr.runtime.RecognitionException;
+
+/**
+ * The compilation units parsed from the source files of a
+ * source archive, by their path relative to the root of the
+ * archive. Only the units parsed without errors are kept,
+ * so that the others are parsed again, and their errors
+ * reported, when the archive is read.
+ */
+public class ParsedArchive {
+
+    private final Map<String,ParsedSource> units =
+            new HashMap<String,ParsedSource>();
+
+    /**
+     * The unit parsed from the source file at the given 
+     * path, or null if it wasn't parsed, or had errors.
+     */
+    public synchronized ParsedSource get(String relativePath) {
+        return units.get(relativePath);
+    }
+
+    /**
+     * Lexes and parses the given source text, and keeps the
+     * unit if there were no errors.
+     */
+    public ParsedSource parse(String relativePath, String text) 
+            throws RecognitionException {
+        ParsedSource parsed = ParsedSource.parse(text);
+        if (!parsed.hasErrors()) {
+            synchronized (this) {
+                units.put(relativePath, parsed);
+            }
+        }
+        return parsed;
+    }
+
+}
@@ -0,0 +1,74 @@
+package com.redhat.ceylon.compiler.typechecker.parser;
+
+import java.util.List;
+
+import org.antlr.runtime.ANTLRStringStream;
+import org.antlr.runtime.CommonToken;
+import org.antlr.runtime.CommonTokenStream;
+import org.antlr.runtime.RecognitionException;
+
+import com.redhat.ceylon.compiler.typechecker.tree.Tree;
+
+/**
+ * The compilation unit parsed from a source text, with its
+ * tokens, and the errors of the lexer and of the parser.
+ */
+public class ParsedSource {
+
+    private final Tree.CompilationUnit compilationUnit;
+    private final List<CommonToken> tokens;
+    private final List<LexError> lexErrors;
+    private final List<ParseError> parseErrors;
+
+    private ParsedSource(Tree.CompilationUnit compilationUnit,
+            List<CommonToken> tokens,
+            List<LexError> lexErrors,
+            List<ParseError> parseErrors) {
+        this.compilationUnit = compilationUnit;
+        this.tokens = tokens;
+        this.lexErrors = lexErrors;
+        this.parseErrors = parseErrors;
+    }
+
+    /**
+     * Lexes and parses the given source text.
+     */
+    public static ParsedSource parse(String text) 
+            throws RecognitionException {
+        CeylonLexer lexer =
+                new CeylonLexer(new ANTLRStringStream(text));
+        CommonTokenStream tokenStream =
+                new CommonTokenStream(lexer);
+        CeylonParser parser = new CeylonParser(tokenStream);
+        Tree.CompilationUnit cu = parser.compilationUnit();
+        @SuppressWarnings("unchecked")
+        List<CommonToken> tokens = tokenStream.getTokens();
+        return new ParsedSource(cu, tokens,
+                lexer.getErrors(), parser.getErrors());
+    }
+
+    public Tree.CompilationUnit getCompilationUnit() {
+        return compilationUnit;
+    }
+
+    public List<CommonToken> getTokens() {
+        return tokens;
+    }
+
+    public List<LexError> getLexErrors() {
+        return lexErrors;
+    }
+
+    public List<ParseError> getParseErrors() {
+        return parseErrors;
+    }
+
+    /**
+     * Whether the lexer or the parser reported errors, in
+     * which case the tree must not be cached.
+     */
+    public boolean hasErrors() {
+        return !lexErrors.isEmpty() || !parseErrors.isEmpty();
+    }
+
+}
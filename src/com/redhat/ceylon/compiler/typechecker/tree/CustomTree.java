@@ -230,7 +230,8 @@ public class CustomTree extends Tree {
         }
         public void setExtendedType(SimpleType type) {
             this.type = type;
-            connect(type);
+            //the type belongs to the ExtendedType
+            extendTokenRange(type);
         }
     }
         
@@ -242,7 +243,9 @@ public class CustomTree extends Tree {
         }
         @Override
         public void setVariable(Tree.Variable node) {
+            disconnect(variable);
             variable = node;
+            adopt(node);
         }
         @Override
         public Tree.Variable getVariable() {
@@ -1,5 +1,6 @@
 package com.redhat.ceylon.compiler.typechecker.tree;
 
+import java.io.Serializable;
 import java.io.StringWriter;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -18,16 +19,21 @@ import com.redhat.ceylon.compiler.typechecker.parser.ParseError;
 import com.redhat.ceylon.compiler.typechecker.util.PrintVisitor;
 import com.redhat.ceylon.model.typechecker.model.Scope;
 
-public abstract class Node {
+public abstract class Node implements Serializable {
+    
+    private static final long serialVersionUID = 1L;
     
     private String text;
     private Token token;
     private Token endToken;
     private Token firstChildToken;
     private Token lastChildToken;
-    private Scope scope;
-    private TypecheckerUnit unit;
+    private transient Scope scope;
+    private transient TypecheckerUnit unit;
     private List<Message> errors = null;
+    private Node parent;
+    private int subtreeErrors;
+    private int subtreeWarnings;
     
     protected Node(Token token) {
         this.token = token;
@@ -199,11 +205,15 @@ public abstract class Node {
 	}
     
     /**
-     * The compilation errors belonging to this node.
+     * The compilation errors belonging to this node. The
+     * list can't be modified: errors are added with 
+     * {@link #addError(Message)}, so that the counts of
+     * errors of the enclosing nodes stay up to date.
      */
     public List<Message> getErrors() {
         return errors != null ? 
-                errors : Collections.<Message>emptyList();
+                Collections.unmodifiableList(errors) : 
+                Collections.<Message>emptyList();
     }
     
     public void addError(Message error){
@@ -211,6 +221,49 @@ public abstract class Node {
             errors = new ArrayList<Message>(2);
         }
         errors.add(error);
+        boolean warning = error.isWarning();
+        for (Node node=this; node!=null; node=node.parent) {
+            if (warning) {
+                node.subtreeWarnings++;
+            }
+            else {
+                node.subtreeErrors++;
+            }
+        }
+    }
+    
+    /**
+     * Removes the errors of this node, except for the given
+     * number of errors which were added first.
+     */
+    public void retainErrors(int count) {
+        if (errors != null) {
+            while (errors.size() > count) {
+                Message error = errors.remove(errors.size()-1);
+                if (error.isWarning()) {
+                    propagate(0, -1);
+                }
+                else {
+                    propagate(-1, 0);
+                }
+            }
+        }
+    }
+    
+    /**
+     * Whether this node, or any node beneath it, has an
+     * error which is not a warning.
+     */
+    public boolean containsErrors() {
+        return subtreeErrors>0;
+    }
+    
+    /**
+     * Whether this node, or any node beneath it, has an
+     * error or a warning.
+     */
+    public boolean containsErrorsOrWarnings() {
+        return subtreeErrors>0 || subtreeWarnings>0;
     }
     
     public void addError(String message) {
@@ -299,6 +352,17 @@ public abstract class Node {
 	}
 	
 	public void connect(Node child) {
+		if (child!=null) {
+		    extendTokenRange(child);
+		    adopt(child);
+		}
+	}
+	
+	/**
+	 * Extends the token range of this node to cover the
+	 * given node, without making this node its parent.
+	 */
+	protected void extendTokenRange(Node child) {
 		if (child!=null) {
 			Token childFirstChildToken = child.getFirstChildToken();
             if (childFirstChildToken!=null &&
@@ -314,5 +378,44 @@ public abstract class Node {
             }
 		}
 	}
+	
+	/**
+	 * Makes this node the parent of the given node, so that
+	 * errors in the subtree of the given node count as
+	 * errors of this node. A node has only one parent: if
+	 * it already belonged to another node, it is moved.
+	 */
+	protected void adopt(Node child) {
+	    if (child!=null && child.parent!=this) {
+	        if (child.parent!=null) {
+	            child.parent.disconnect(child);
+	        }
+	        child.parent = this;
+	        propagate(child.subtreeErrors, 
+	                child.subtreeWarnings);
+	    }
+	}
+	
+	/**
+	 * Detaches the given child node, which is being 
+	 * replaced, so that its errors no longer count as
+	 * errors of this node.
+	 */
+	protected void disconnect(Node child) {
+	    if (child!=null && child.parent==this) {
+	        child.parent = null;
+	        propagate(-child.subtreeErrors, 
+	                -child.subtreeWarnings);
+	    }
+	}
+	
+	private void propagate(int errors, int warnings) {
+	    if (errors!=0 || warnings!=0) {
+	        for (Node node=this; node!=null; node=node.parent) {
+	            node.subtreeErrors += errors;
+	            node.subtreeWarnings += warnings;
+	        }
+	    }
+	}
 
 }
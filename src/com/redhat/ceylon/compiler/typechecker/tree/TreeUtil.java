@@ -279,50 +279,13 @@ public class TreeUtil {
     }
 
     static boolean hasError(Node node, 
-            final boolean includeWarnings) {
-        // we use an exception to get out of the visitor 
-        // as fast as possible when an error is found
-        // TODO: wtf?! because it's the common case that
-        //       a node has an error? that's just silly
-        @SuppressWarnings("serial")
-        class ErrorFoundException extends RuntimeException {}
-        class ErrorVisitor extends Visitor {
-            @Override
-            public void handleException(Exception e, Node that) {
-                if (e instanceof ErrorFoundException) {
-                    throw (ErrorFoundException) e;
-                }
-                super.handleException(e, that);
-            }
-            @Override
-            public void visitAny(Node that) {
-                if (that.getErrors().isEmpty()) {
-                    super.visitAny(that);
-                }
-                else if (includeWarnings) {
-                    throw new ErrorFoundException();
-                }
-                else {
-                    // UsageWarning don't count as errors
-                    for (Message error: that.getErrors()) {
-                        if (!error.isWarning()) {
-                            // get out fast
-                            throw new ErrorFoundException();
-                        }
-                    }
-                    // no real error, proceed
-                    super.visitAny(that);
-                }
-            }
-        }
-        ErrorVisitor ev = new ErrorVisitor();
-        try {
-            node.visit(ev);
-            return false;
-        }
-        catch (ErrorFoundException x) {
-            return true;
-        }
+            boolean includeWarnings) {
+        // the node keeps a count of the errors in its 
+        // subtree up to date as errors are added, so 
+        // there's no need to walk the subtree
+        return includeWarnings ? 
+                node.containsErrorsOrWarnings() : 
+                node.containsErrors();
     }
 
     public static void buildAnnotations(Tree.AnnotationList al, 
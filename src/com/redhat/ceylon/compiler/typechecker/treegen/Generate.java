@@ -21,6 +21,8 @@ public class Generate {
         visitor(file);
         visitorAdaptor(file);
         validator(file);
+        fusableVisitor(file);
+        fusedVisitor(file);
     }
     
     private static void tree(File file) throws Exception {
@@ -95,4 +97,28 @@ public class Generate {
         parser.nodeList();
     }
     
+    private static void fusableVisitor(File file) throws Exception {
+        InputStream is = new FileInputStream( file );
+        ANTLRInputStream input = new ANTLRInputStream(is);
+        FusableVisitorgenLexer lexer = new FusableVisitorgenLexer(input);
+        CommonTokenStream tokens = new CommonTokenStream(lexer);
+        FusableVisitorgenParser parser = new FusableVisitorgenParser(tokens);
+        File out = new File( GENERATED_PACKAGE_DIR + "FusableVisitor.java" );
+        out.createNewFile();
+        Util.out=new PrintStream(out);
+        parser.nodeList();
+    }
+    
+    private static void fusedVisitor(File file) throws Exception {
+        InputStream is = new FileInputStream( file );
+        ANTLRInputStream input = new ANTLRInputStream(is);
+        FusedVisitorgenLexer lexer = new FusedVisitorgenLexer(input);
+        CommonTokenStream tokens = new CommonTokenStream(lexer);
+        FusedVisitorgenParser parser = new FusedVisitorgenParser(tokens);
+        File out = new File( GENERATED_PACKAGE_DIR + "FusedVisitor.java" );
+        out.createNewFile();
+        Util.out=new PrintStream(out);
+        parser.nodeList();
+    }
+    
 }
@@ -0,0 +1,62 @@
+package com.redhat.ceylon.compiler.typechecker.util;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lets another thread stop a type checker, or stops it once
+ * a deadline has passed. The type checker checks the token 
+ * before each unit goes through a phase, and regularly while
+ * visitors walk the syntax tree, and then throws a 
+ * {@link CancellationException}.
+ */
+public class CancellationToken {
+    
+    private volatile boolean cancelled = false;
+    private final boolean hasDeadline;
+    private final long deadline;
+    
+    /**
+     * A token which is only cancelled by {@link #cancel()}.
+     */
+    public CancellationToken() {
+        this.hasDeadline = false;
+        this.deadline = 0;
+    }
+    
+    private CancellationToken(long deadline) {
+        this.hasDeadline = true;
+        this.deadline = deadline;
+    }
+    
+    /**
+     * A token which is cancelled by {@link #cancel()}, or 
+     * when the given time has elapsed.
+     */
+    public static CancellationToken withTimeout(long timeout, TimeUnit unit) {
+        return new CancellationToken(System.nanoTime() + unit.toNanos(timeout));
+    }
+    
+    public void cancel() {
+        cancelled = true;
+    }
+    
+    public boolean isCancelled() {
+        if (!cancelled && hasDeadline && 
+                System.nanoTime() - deadline >= 0) {
+            cancelled = true;
+        }
+        return cancelled;
+    }
+    
+    /**
+     * @throws CancellationException if this token was 
+     *         cancelled or its deadline has passed
+     */
+    public void check() {
+        if (isCancelled()) {
+            throw new CancellationException("type checking cancelled");
+        }
+    }
+    
+}
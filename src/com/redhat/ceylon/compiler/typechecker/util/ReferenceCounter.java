@@ -4,9 +4,13 @@
  */
 package com.redhat.ceylon.compiler.typechecker.util;
 
-import java.util.HashSet;
-import java.util.Set;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
+import com.redhat.ceylon.compiler.typechecker.tree.Node;
 import com.redhat.ceylon.compiler.typechecker.tree.Tree;
 import com.redhat.ceylon.compiler.typechecker.tree.Visitor;
 import com.redhat.ceylon.model.typechecker.model.Declaration;
@@ -23,29 +27,99 @@ import com.redhat.ceylon.model.typechecker.model.Value;
  */
 public class ReferenceCounter extends Visitor {
 	
-	private Set<Declaration> referencedDeclarations = new HashSet<Declaration>();
+    /**
+     * Identifies a referenced declaration by its container
+     * and name, so that a reference to one overload or to 
+     * a refinement of a declaration counts as a reference 
+     * to every declaration with the same container and 
+     * name.
+     */
+    private static final class Key {
+        final Scope container;
+        final String name;
+        Key(Scope container, String name) {
+            this.container = container;
+            this.name = name;
+        }
+        @Override
+        public boolean equals(Object obj) {
+            if (obj instanceof Key) {
+                Key that = (Key) obj;
+                return container.equals(that.container) &&
+                        name.equals(that.name);
+            }
+            return false;
+        }
+        @Override
+        public int hashCode() {
+            return container.hashCode()*31 + name.hashCode();
+        }
+    }
+    
+	private final Map<Key,List<Node>> references = 
+	        new HashMap<Key,List<Node>>();
+	
+	private static Key key(Declaration d) {
+	    Scope container = d.getContainer();
+	    String name = d.getName();
+	    return container==null || name==null ? 
+	            null : new Key(container, name);
+	}
 	
-	void referenced(Declaration d) {
-		referencedDeclarations.add(d);
+	void referenced(Declaration d, Node site) {
+		add(d, site);
 		//TODO: check that the value is actually assigned!
 		if (d instanceof Value) {
 			Setter setter = ((Value) d).getSetter();
 			if (setter!=null) {
-				referencedDeclarations.add(setter);
+				add(setter, site);
 			}
 		}
 	}
 	
-	boolean isReferenced(Declaration d) {
-		for (Declaration rd: referencedDeclarations) {
-		    Scope container = rd.getContainer();
-            if (container!=null &&
-                    container.equals(d.getContainer()) &&
-		            rd.getName().equals(d.getName())) {
-		        return true;
-		    }
-		}
-		return false;
+	private void add(Declaration d, Node site) {
+	    Key key = key(d);
+	    if (key!=null) {
+	        List<Node> sites = references.get(key);
+	        if (sites==null) {
+	            sites = new ArrayList<Node>(2);
+	            references.put(key, sites);
+	        }
+	        sites.add(site);
+	    }
+	}
+	
+	/**
+	 * Whether the given declaration, or another declaration
+	 * with the same container and name, is referenced in 
+	 * the visited tree.
+	 */
+	public boolean isReferenced(Declaration d) {
+	    Key key = key(d);
+	    return key!=null && references.containsKey(key);
+	}
+	
+	/**
+	 * The number of references to the given declaration, 
+	 * or to another declaration with the same container 
+	 * and name, in the visited tree.
+	 */
+	public int getReferenceCount(Declaration d) {
+	    return getReferences(d).size();
+	}
+	
+	/**
+	 * The nodes of the visited tree which refer to the 
+	 * given declaration, or to another declaration with the
+	 * same container and name, in the order they occur.
+	 */
+	public List<Node> getReferences(Declaration d) {
+	    Key key = key(d);
+	    List<Node> sites = key==null ? 
+	            null : references.get(key);
+	    return sites==null ? 
+	            Collections.<Node>emptyList() : 
+	            Collections.unmodifiableList(sites);
 	}
 	
 	@Override
@@ -67,7 +141,7 @@ public class ReferenceCounter extends Visitor {
     public void visit(Tree.MemberOrTypeExpression that) {
         super.visit(that);
         Declaration d = that.getDeclaration();
-		if (d!=null) referenced(d);
+		if (d!=null) referenced(d, that);
     }
     
     @Override
@@ -77,7 +151,7 @@ public class ReferenceCounter extends Visitor {
         if (t!=null && 
         		!(t instanceof UnionType) && 
         		!(t instanceof IntersectionType)) {
-        	referenced(t);
+        	referenced(t, that);
         }
     }
     
@@ -86,7 +160,7 @@ public class ReferenceCounter extends Visitor {
         super.visit(that);
         Declaration d = that.getDeclaration();
         if (d!=null) {
-            referenced(d);
+            referenced(d, that);
         }
     }
 
@@ -95,7 +169,7 @@ public class ReferenceCounter extends Visitor {
         super.visit(that);
         Declaration d = that.getBase();
         if (d!=null) {
-            referenced(d);
+            referenced(d, that);
         }
     }
 
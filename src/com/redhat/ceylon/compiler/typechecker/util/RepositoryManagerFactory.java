@@ -0,0 +1,19 @@
+package com.redhat.ceylon.compiler.typechecker.util;
+
+import com.redhat.ceylon.cmr.api.RepositoryManager;
+
+/**
+ * Factory to create the RepositoryManagers of the TypeChecker. Besides
+ * the one shared by the module phases, each thread which looks up the
+ * dependencies ahead of them gets its own, since a RepositoryManager 
+ * is not known to be safe to use from several threads.
+ */
+public interface RepositoryManagerFactory {
+
+    /**
+     * Creates a new instance of RepositoryManager, set up like every
+     * other instance created by this factory.
+     */
+    RepositoryManager createRepositoryManager();
+
+}
@@ -0,0 +1,223 @@
+package main;
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.redhat.ceylon.cmr.api.RepositoryManager;
+import com.redhat.ceylon.cmr.ceylon.CeylonUtils;
+import com.redhat.ceylon.compiler.typechecker.TypeChecker;
+import com.redhat.ceylon.compiler.typechecker.TypeCheckerBuilder;
+import com.redhat.ceylon.compiler.typechecker.context.PhasedUnit;
+import com.redhat.ceylon.compiler.typechecker.io.VFS;
+import com.redhat.ceylon.compiler.typechecker.io.VirtualFile;
+import com.redhat.ceylon.compiler.typechecker.io.cmr.impl.LeakingLogger;
+import com.redhat.ceylon.compiler.typechecker.io.impl.PathVirtualFile;
+import com.redhat.ceylon.compiler.typechecker.tree.Message;
+import com.redhat.ceylon.compiler.typechecker.tree.Node;
+import com.redhat.ceylon.compiler.typechecker.tree.Visitor;
+
+/**
+ * Runs the type checker as a long lived process, reading
+ * requests from standard input and writing diagnostics to
+ * standard output, one per line. The JVM, the repository
+ * manager, and a type checker for each set of source
+ * directories are kept between requests, and a new request
+ * for the same source directories only parses and type
+ * checks again what changed since the previous one.
+ *
+ * Requests are:
+ * <pre>
+ * check &lt;directory&gt; [&lt;directory&gt;...]
+ * reset
+ * quit
+ * </pre>
+ *
+ * A check is answered with a line for each error and
+ * warning:
+ * <pre>
+ * error|warning &lt;file&gt;:&lt;line&gt;: &lt;message&gt;
+ * </pre>
+ * followed by a last line:
+ * <pre>
+ * done &lt;errors&gt; &lt;warnings&gt; &lt;milliseconds&gt;
+ * </pre>
+ * or by a single line starting with {@code failed} if the
+ * request could not be carried out. Anything the type
+ * checker itself prints goes to standard error.
+ */
+public class Daemon {
+
+    private final PrintStream out;
+    private final RepositoryManager repositoryManager;
+    private final VFS vfs = new VFS();
+    private final Map<List<File>,Project> projects =
+            new HashMap<List<File>,Project>();
+
+    /**
+     * A type checker, and the source files it has seen with
+     * their modification time and size.
+     */
+    private class Project {
+        final List<File> srcDirectories;
+        TypeChecker typeChecker;
+        Map<File,String> stamps;
+
+        Project(List<File> srcDirectories) {
+            this.srcDirectories = srcDirectories;
+        }
+
+        void check() {
+            Map<File,String> newStamps = new HashMap<File,String>();
+            for (File srcDirectory: srcDirectories) {
+                collectStamps(new PathVirtualFile(srcDirectory.toPath()), 
+                        newStamps);
+            }
+            if (typeChecker == null) {
+                rebuild(newStamps);
+                return;
+            }
+            List<VirtualFile> changed = new ArrayList<VirtualFile>();
+            List<VirtualFile> removed = new ArrayList<VirtualFile>();
+            for (Map.Entry<File,String> entry: newStamps.entrySet()) {
+                if (!entry.getValue().equals(stamps.get(entry.getKey()))) {
+                    changed.add(vfs.getFromFile(entry.getKey()));
+                }
+            }
+            for (File file: stamps.keySet()) {
+                if (!newStamps.containsKey(file)) {
+                    removed.add(vfs.getFromFile(file));
+                }
+            }
+            if (!changed.isEmpty() || !removed.isEmpty()) {
+                try {
+                    typeChecker.update(changed, removed);
+                    stamps = newStamps;
+                }
+                catch (UnsupportedOperationException e) {
+                    //a module or package descriptor changed
+                    rebuild(newStamps);
+                }
+            }
+        }
+
+        private void rebuild(Map<File,String> newStamps) {
+            typeChecker = null;
+            TypeCheckerBuilder builder = new TypeCheckerBuilder()
+                    .verbose(false)
+                    .statistics(false)
+                    .setRepositoryManager(repositoryManager);
+            for (File srcDirectory: srcDirectories) {
+                builder.addSrcDirectory(srcDirectory);
+            }
+            TypeChecker tc = builder.getTypeChecker();
+            tc.process(true);
+            typeChecker = tc;
+            stamps = newStamps;
+        }
+    }
+
+    public Daemon(PrintStream out) {
+        this.out = out;
+        this.repositoryManager = CeylonUtils.repoManager()
+                .logger(new LeakingLogger())
+                .buildManager();
+    }
+
+    public static void main(String[] args) throws Exception {
+        //keep whatever the type checker prints out of the
+        //protocol
+        PrintStream out = System.out;
+        System.setOut(System.err);
+        new Daemon(out).run(new BufferedReader(new InputStreamReader(System.in)));
+    }
+
+    public void run(BufferedReader in) throws IOException {
+        String line;
+        while ((line = in.readLine()) != null) {
+            line = line.trim();
+            if (line.isEmpty()) {
+                continue;
+            }
+            String[] words = line.split("\\s+");
+            String command = words[0];
+            if ("quit".equals(command)) {
+                break;
+            }
+            else if ("reset".equals(command)) {
+                projects.clear();
+                out.println("done 0 0 0");
+            }
+            else if ("check".equals(command) && words.length>1) {
+                check(Arrays.asList(words).subList(1, words.length));
+            }
+            else {
+                out.println("failed unknown request: " + line);
+            }
+            out.flush();
+        }
+    }
+
+    private void check(List<String> paths) {
+        long start = System.nanoTime();
+        List<File> srcDirectories = new ArrayList<File>(paths.size());
+        for (String path: paths) {
+            srcDirectories.add(new File(path).getAbsoluteFile());
+        }
+        Project project = projects.get(srcDirectories);
+        if (project == null) {
+            project = new Project(srcDirectories);
+            projects.put(srcDirectories, project);
+        }
+        try {
+            project.check();
+        }
+        catch (RuntimeException e) {
+            //start from scratch next time
+            projects.remove(srcDirectories);
+            out.println("failed " + e);
+            return;
+        }
+        int[] counts = new int[2];
+        for (PhasedUnit pu: project.typeChecker.getPhasedUnits().getPhasedUnits()) {
+            report(pu, counts);
+        }
+        out.println("done " + counts[0] + " " + counts[1] + " " +
+                (System.nanoTime()-start)/1000000);
+    }
+
+    private void report(PhasedUnit pu, final int[] counts) {
+        final String path = pu.getUnitFile().getPath();
+        pu.getCompilationUnit().visit(new Visitor() {
+            @Override
+            public void visitAny(Node that) {
+                for (Message message: that.getErrors()) {
+                    boolean warning = message.isWarning();
+                    counts[warning ? 1 : 0]++;
+                    out.println((warning ? "warning " : "error ") +
+                            path + ":" + message.getLine() + ": " +
+                            message.getMessage().replace('\n', ' '));
+                }
+                super.visitAny(that);
+            }
+        });
+    }
+
+    private static void collectStamps(PathVirtualFile file, Map<File,String> stamps) {
+        if (file.isFolder()) {
+            for (PathVirtualFile child: file.getChildren()) {
+                collectStamps(child, stamps);
+            }
+        }
+        else if (file.getName().endsWith(".ceylon")) {
+            stamps.put(file.getFile(), 
+                    file.getLastModified() + ":" + file.getSize());
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package main;
+import com.redhat.ceylon.cmr.api.RepositoryManager;
+import com.redhat.ceylon.cmr.ceylon.CeylonUtils;
+import com.redhat.ceylon.compiler.typechecker.TypeCheckerBuilder;
+import com.redhat.ceylon.compiler.typechecker.io.cmr.impl.LeakingLogger;
+import com.redhat.ceylon.compiler.typechecker.util.RepositoryManagerFactory;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Type checks a module importing modules which are only
+ * found as source archives in a local file repository, with
+ * the archives looked up by the validator, and by the 
+ * artifact pipeline, and fails if the messages differ.
+ */
+public class MainForArtifactPipeline {
+
+    public static void main(String[] args) throws Exception {
+        File root = File.createTempFile("pipeline", "");
+        root.delete();
+        try {
+            File repo = new File(root, "repo");
+            writeArchive(repo, "pipeline.b", "1",
+                    "module pipeline.b \"1\" {}\n",
+                    "shared String greeting = \"hello\";\n");
+            writeArchive(repo, "pipeline.a", "1",
+                    "module pipeline.a \"1\" {\n" +
+                    "    shared import pipeline.b \"1\";\n" +
+                    "}\n",
+                    "import pipeline.b { greeting }\n" +
+                    "shared String hello() => greeting;\n");
+            File source = new File(root, "source");
+            write(new File(source, "pipeline/c/module.ceylon"),
+                    "module pipeline.c \"1\" {\n" +
+                    "    import pipeline.a \"1\";\n" +
+                    "}\n");
+            write(new File(source, "pipeline/c/c.ceylon"),
+                    "import pipeline.a { hello }\n" +
+                    "import pipeline.b { greeting }\n" +
+                    "shared void run() {\n" +
+                    "    print(hello() + greeting);\n" +
+                    "    Integer i = hello();\n" +
+                    "    print(i);\n" +
+                    "}\n");
+            final String repoPath = repo.getAbsolutePath();
+            RepositoryManagerFactory repositoryManagerFactory = 
+                    new RepositoryManagerFactory() {
+                @Override
+                public RepositoryManager createRepositoryManager() {
+                    return CeylonUtils.repoManager()
+                            .userRepos(Arrays.asList(repoPath))
+                            .logger(new LeakingLogger())
+                            .buildManager();
+                }
+            };
+
+            List<String> expected = MainForModes.messages(
+                    builder(repositoryManagerFactory, source).getTypeChecker());
+            //the imports resolve, and the only error is the
+            //assignment of a String to an Integer
+            if (expected.size() != 1 ||
+                    !expected.get(0).startsWith("pipeline/c/c.ceylon:5:")) {
+                throw new RuntimeException("Unexpected messages: " + expected);
+            }
+
+            MainForModes.compare("artifact pipeline", expected,
+                    MainForModes.messages(builder(repositoryManagerFactory, source)
+                            .parallelism(4).getTypeChecker()));
+        }
+        finally {
+            MainForModes.delete(root);
+        }
+    }
+
+    static TypeCheckerBuilder builder(
+            RepositoryManagerFactory repositoryManagerFactory,
+            File source) {
+        return new TypeCheckerBuilder()
+                .verbose(false)
+                .repositoryManagerFactory(repositoryManagerFactory)
+                .addSrcDirectory(source);
+    }
+
+    static File archive(File repo, String module, String version) {
+        return new File(new File(new File(repo, module.replace('.', '/')), version),
+                module + "-" + version + ".src");
+    }
+
+    /**
+     * Writes the source archive of a module with a module
+     * descriptor and a single source file
+     */
+    static void writeArchive(File repo, String module, String version,
+            String descriptor, String code) throws Exception {
+        File archive = archive(repo, module, version);
+        archive.getParentFile().mkdirs();
+        String path = module.replace('.', '/');
+        ZipOutputStream zip = new ZipOutputStream(new FileOutputStream(archive));
+        try {
+            zip.putNextEntry(new ZipEntry(path + "/module.ceylon"));
+            zip.write(descriptor.getBytes("UTF-8"));
+            zip.closeEntry();
+            zip.putNextEntry(new ZipEntry(path + "/code.ceylon"));
+            zip.write(code.getBytes("UTF-8"));
+            zip.closeEntry();
+        }
+        finally {
+            zip.close();
+        }
+    }
+
+    static void write(File file, String content) throws Exception {
+        file.getParentFile().mkdirs();
+        OutputStream out = new FileOutputStream(file);
+        try {
+            out.write(content.getBytes("UTF-8"));
+        }
+        finally {
+            out.close();
+        }
+    }
+}
@@ -0,0 +1,297 @@
+package main;
+import com.redhat.ceylon.compiler.typechecker.TypeChecker;
+import com.redhat.ceylon.compiler.typechecker.TypeCheckerBuilder;
+import com.redhat.ceylon.compiler.typechecker.context.DiagnosticsSink;
+import com.redhat.ceylon.compiler.typechecker.context.Phase;
+import com.redhat.ceylon.compiler.typechecker.context.PhasedUnit;
+import com.redhat.ceylon.compiler.typechecker.context.TypeCheckerListener;
+import com.redhat.ceylon.compiler.typechecker.io.VFS;
+import com.redhat.ceylon.compiler.typechecker.io.VirtualFile;
+import com.redhat.ceylon.compiler.typechecker.tree.Message;
+import com.redhat.ceylon.compiler.typechecker.tree.Node;
+import com.redhat.ceylon.compiler.typechecker.tree.TreeUtil;
+import com.redhat.ceylon.compiler.typechecker.tree.Visitor;
+import com.redhat.ceylon.compiler.typechecker.util.CancellationToken;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+
+/**
+ * Type checks test/main in each mode of the type checker,
+ * and fails if a mode reports other messages than the ones
+ * reported when everything runs sequentially on the calling
+ * thread.
+ */
+public class MainForModes {
+
+    private static final File SOURCES = new File("test/main");
+
+    public static void main(String[] args) throws Exception {
+        long start = System.nanoTime();
+        TypeChecker sequential = builder().getTypeChecker();
+        List<String> expected = messages(sequential);
+        if (expected.isEmpty()) {
+            throw new RuntimeException("No messages reported for " + SOURCES);
+        }
+        checkErrorCounts(sequential);
+
+        compare("parallelism 4", expected,
+                messages(builder().parallelism(4).getTypeChecker()));
+        compare("import graph scheduling", expected,
+                messages(builder().parallelism(4)
+                        .importGraphScheduling(true)
+                        .getTypeChecker()));
+
+        final List<String> reported = new ArrayList<String>();
+        messages(builder().parallelism(4)
+                .diagnosticsSink(new DiagnosticsSink() {
+                    @Override
+                    public void report(PhasedUnit unit, Phase phase, 
+                            Message message) {
+                        synchronized (reported) {
+                            reported.add(unit.getPathRelativeToSrcDir() + 
+                                    ":" + message.getLine() + ": " + 
+                                    message.getMessage());
+                        }
+                    }
+                })
+                .getTypeChecker());
+        List<String> sortedExpected = new ArrayList<String>(expected);
+        Collections.sort(sortedExpected);
+        Collections.sort(reported);
+        compare("diagnostics sink", sortedExpected, reported);
+
+        File cacheDirectory = File.createTempFile("parsecache", "");
+        cacheDirectory.delete();
+        try {
+            compare("parse cache, cold", expected,
+                    messages(builder().parseCache(cacheDirectory)
+                            .getTypeChecker()));
+            compare("parse cache, warm", expected,
+                    messages(builder().parseCache(cacheDirectory)
+                            .getTypeChecker()));
+        }
+        finally {
+            delete(cacheDirectory);
+        }
+
+        compare("cached listings", expected,
+                messages(new TypeCheckerBuilder()
+                        .verbose(false)
+                        .parallelism(4)
+                        .addSrcDirectory( new VFS().getFromPath( SOURCES.toPath() ) )
+                        .getTypeChecker()));
+
+        TypeChecker updated = builder().getTypeChecker();
+        updated.process(true);
+        updated.update(filesOfPackage(updated, "aliases/"), 
+                Collections.<VirtualFile>emptyList());
+        compare("update", expected, 
+                messages(updated.getPhasedUnits().getPhasedUnits()));
+
+        TypeChecker cancelled = builder().getTypeChecker();
+        int cancellations = 0;
+        for (int checks = 500;; checks *= 2) {
+            try {
+                cancelled.process(true, cancelAfter(checks));
+                break;
+            }
+            catch (CancellationException e) {
+                cancellations++;
+            }
+        }
+        if (cancellations == 0) {
+            throw new RuntimeException("Type checking was never cancelled");
+        }
+        compare("resumed after " + cancellations + " cancellations", expected, 
+                messages(cancelled.getPhasedUnits().getPhasedUnits()));
+
+        TypeChecker onDemand = builder().getTypeChecker();
+        PhasedUnit unit = onDemand.getPhasedUnitFromRelativePath("aliases/Aliases.ceylon");
+        onDemand.ensurePhase(unit, Phase.USAGE);
+        compare("ensure phase, then process", expected, messages(onDemand));
+
+        //with a listener, the visitors that are otherwise 
+        //fused walk the tree one at a time
+        compare("separate walks", expected,
+                messages(builder().listener(new TypeCheckerListener() {
+                    @Override
+                    public void phaseStarted(Phase phase) {}
+                    @Override
+                    public void phaseFinished(Phase phase, long nanos) {}
+                    @Override
+                    public void unitStarted(Phase phase, PhasedUnit unit) {}
+                    @Override
+                    public void unitFinished(Phase phase, PhasedUnit unit, long nanos) {}
+                    @Override
+                    public void visitorStarted(PhasedUnit unit, Visitor visitor) {}
+                    @Override
+                    public void visitorFinished(PhasedUnit unit, Visitor visitor, long nanos) {}
+                }).getTypeChecker()));
+
+        System.out.println("Modes took " + ( (System.nanoTime()-start) / 1000000 ) + " ms");
+    }
+
+    /**
+     * Checks that the errors and warnings counted by each 
+     * node agree with a walk of the subtree of the node
+     */
+    static void checkErrorCounts(TypeChecker typeChecker) {
+        int count = 0;
+        for (PhasedUnit pu: typeChecker.getPhasedUnits().getPhasedUnits()) {
+            final List<Node> nodes = new ArrayList<Node>();
+            pu.getCompilationUnit().visit(new Visitor() {
+                @Override
+                public void visitAny(Node that) {
+                    nodes.add(that);
+                    super.visitAny(that);
+                }
+            });
+            for (Node node: nodes) {
+                if (TreeUtil.hasError(node)!=walkForErrors(node, false) ||
+                    TreeUtil.hasErrorOrWarning(node)!=walkForErrors(node, true)) {
+                    throw new RuntimeException("Counted errors differ from the subtree of " + 
+                            node.getNodeType() + " at " + 
+                            pu.getPathRelativeToSrcDir() + ":" + node.getLocation());
+                }
+            }
+            count += nodes.size();
+        }
+        System.out.println("error counts: " + count + " nodes agree with a walk");
+    }
+
+    private static boolean walkForErrors(Node node, 
+            final boolean includeWarnings) {
+        final boolean[] found = new boolean[1];
+        node.visit(new Visitor() {
+            @Override
+            public void visitAny(Node that) {
+                for (Message message: that.getErrors()) {
+                    if (includeWarnings || !message.isWarning()) {
+                        found[0] = true;
+                    }
+                }
+                if (!found[0]) {
+                    super.visitAny(that);
+                }
+            }
+        });
+        return found[0];
+    }
+
+    /**
+     * A token which is cancelled once it has been checked the
+     * given number of times
+     */
+    static CancellationToken cancelAfter(final int checks) {
+        return new CancellationToken() {
+            int count = 0;
+            @Override
+            public synchronized boolean isCancelled() {
+                if (++count > checks) {
+                    cancel();
+                }
+                return super.isCancelled();
+            }
+        };
+    }
+
+    static TypeCheckerBuilder builder() {
+        return new TypeCheckerBuilder()
+                .verbose(false)
+                .addSrcDirectory( SOURCES );
+    }
+
+    /**
+     * Type checks every unit, and returns the messages of
+     * the units
+     */
+    static List<String> messages(TypeChecker typeChecker) {
+        typeChecker.process(true);
+        return messages(typeChecker.getPhasedUnits().getPhasedUnits());
+    }
+
+    /**
+     * The source files of a package, given by its path 
+     * relative to the source directory, other than its 
+     * descriptors
+     */
+    static List<VirtualFile> filesOfPackage(TypeChecker typeChecker, 
+            String path) {
+        List<VirtualFile> files = new ArrayList<VirtualFile>();
+        for (PhasedUnit pu: typeChecker.getPhasedUnits().getPhasedUnits()) {
+            String relativePath = pu.getPathRelativeToSrcDir();
+            if (relativePath.startsWith(path) && 
+                    relativePath.indexOf('/', path.length())<0 &&
+                    !relativePath.endsWith("/module.ceylon") &&
+                    !relativePath.endsWith("/package.ceylon")) {
+                files.add(pu.getUnitFile());
+            }
+        }
+        if (files.isEmpty()) {
+            throw new RuntimeException("No source files in " + path);
+        }
+        return files;
+    }
+
+    /**
+     * The messages of the given units, in the order of their
+     * paths, and in the order of the tree within a unit
+     */
+    static List<String> messages(List<PhasedUnit> units) {
+        List<PhasedUnit> sorted = new ArrayList<PhasedUnit>(units);
+        Collections.sort(sorted, new Comparator<PhasedUnit>() {
+            @Override
+            public int compare(PhasedUnit x, PhasedUnit y) {
+                return x.getPathRelativeToSrcDir()
+                        .compareTo(y.getPathRelativeToSrcDir());
+            }
+        });
+        final List<String> result = new ArrayList<String>();
+        for (PhasedUnit pu: sorted) {
+            final String path = pu.getPathRelativeToSrcDir();
+            pu.getCompilationUnit().visit(new Visitor() {
+                @Override
+                public void visitAny(Node that) {
+                    for (Message message: that.getErrors()) {
+                        result.add(path + ":" + message.getLine() + ": " +
+                                message.getMessage());
+                    }
+                    super.visitAny(that);
+                }
+            });
+        }
+        return result;
+    }
+
+    static void delete(File file) {
+        File[] children = file.listFiles();
+        if (children != null) {
+            for (File child: children) {
+                delete(child);
+            }
+        }
+        file.delete();
+    }
+
+    static void compare(String mode, List<String> expected,
+            List<String> actual) {
+        for (int i=0; i<expected.size() && i<actual.size(); i++) {
+            if (!expected.get(i).equals(actual.get(i))) {
+                throw new RuntimeException("Messages differ with " + mode +
+                        ": expected '" + expected.get(i) +
+                        "' but found '" + actual.get(i) + "'");
+            }
+        }
+        if (expected.size()!=actual.size()) {
+            throw new RuntimeException("Messages differ with " + mode +
+                    ": expected " + expected.size() +
+                    " messages but found " + actual.size());
+        }
+        System.out.println(mode + ": " + actual.size() + " messages, as expected");
+    }
+}
@@ -0,0 +1,145 @@
+package main;
+import com.redhat.ceylon.compiler.typechecker.parser.CeylonLexer;
+import com.redhat.ceylon.compiler.typechecker.parser.CeylonParser;
+import com.redhat.ceylon.compiler.typechecker.parser.ParseCache;
+import com.redhat.ceylon.compiler.typechecker.tree.Node;
+import com.redhat.ceylon.compiler.typechecker.tree.Tree;
+import com.redhat.ceylon.compiler.typechecker.tree.Visitor;
+
+import org.antlr.runtime.ANTLRStringStream;
+import org.antlr.runtime.CommonToken;
+import org.antlr.runtime.CommonTokenStream;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * Checks that the parse cache reads back what it stored,
+ * misses when the grammar version changes, and treats a
+ * corrupt or foreign entry as a miss.
+ */
+public class MainForParseCache {
+
+    private static final String SOURCE =
+            "shared void run() {\n" +
+            "    value greeting = \"hello\";\n" +
+            "    print(greeting + \" world\");\n" +
+            "}\n";
+
+    public static void main(String[] args) throws Exception {
+        File directory = File.createTempFile("parsecache", "");
+        directory.delete();
+        try {
+            byte[] content = SOURCE.getBytes("UTF-8");
+            ParseCache cache = new ParseCache(directory, "1");
+            String key = cache.key(content, "UTF-8");
+
+            CeylonLexer lexer = new CeylonLexer(new ANTLRStringStream(SOURCE));
+            CommonTokenStream tokenStream = new CommonTokenStream(lexer);
+            CeylonParser parser = new CeylonParser(tokenStream);
+            Tree.CompilationUnit cu = parser.compilationUnit();
+            @SuppressWarnings("unchecked")
+            List<CommonToken> tokens = tokenStream.getTokens();
+            cache.store(key, cu, tokens);
+
+            //a hit gives back the same tree and tokens
+            ParseCache.Entry entry = cache.load(key, SOURCE);
+            if (entry == null) {
+                throw new RuntimeException("Cache miss for a stored unit");
+            }
+            if (entry.getTokens().size() != tokens.size()) {
+                throw new RuntimeException("Expected " + tokens.size() +
+                        " tokens but found " + entry.getTokens().size());
+            }
+            for (int i=0; i<tokens.size(); i++) {
+                if (!tokens.get(i).getText().equals(entry.getTokens().get(i).getText())) {
+                    throw new RuntimeException("Token " + i + " differs");
+                }
+            }
+            if (!describe(cu).equals(describe(entry.getCompilationUnit()))) {
+                throw new RuntimeException("Cached tree differs from the parsed tree");
+            }
+
+            //another grammar version doesn't see the entry
+            ParseCache other = new ParseCache(directory, "2");
+            if (other.load(other.key(content, "UTF-8"), SOURCE) != null) {
+                throw new RuntimeException("Cache hit for another grammar version");
+            }
+
+            //a corrupt entry is a miss, and is removed
+            File file = entryFile(directory);
+            FileOutputStream out = new FileOutputStream(file);
+            try {
+                out.write(new byte[] { 1, 2, 3 });
+            }
+            finally {
+                out.close();
+            }
+            if (cache.load(key, SOURCE) != null) {
+                throw new RuntimeException("Cache hit for a corrupt entry");
+            }
+            if (file.exists()) {
+                throw new RuntimeException("Corrupt entry was not removed");
+            }
+
+            //an entry holding anything but a syntax tree is
+            //not read
+            ObjectOutputStream objects =
+                    new ObjectOutputStream(new FileOutputStream(file));
+            try {
+                objects.writeInt(0xCE1AC0DE);
+                objects.writeUTF(key);
+                objects.writeObject(new ArrayList<Object>());
+                objects.writeObject(new HashMap<String,String>());
+            }
+            finally {
+                objects.close();
+            }
+            if (cache.load(key, SOURCE) != null) {
+                throw new RuntimeException("Cache hit for an entry which is not a tree");
+            }
+            System.out.println("Parse cache: hit, grammar version miss, corrupt and foreign entries as expected");
+        }
+        finally {
+            delete(directory);
+        }
+    }
+
+    private static List<String> describe(Node node) {
+        final List<String> result = new ArrayList<String>();
+        node.visit(new Visitor() {
+            @Override
+            public void visitAny(Node that) {
+                result.add(that.getClass().getSimpleName() + 
+                        ":" + that.getText());
+                super.visitAny(that);
+            }
+        });
+        return result;
+    }
+
+    private static File entryFile(File directory) {
+        for (File dir: directory.listFiles()) {
+            for (File file: dir.listFiles()) {
+                if (file.getName().endsWith(".ast")) {
+                    return file;
+                }
+            }
+        }
+        throw new RuntimeException("No entry stored in " + directory);
+    }
+
+    private static void delete(File file) {
+        File[] children = file.listFiles();
+        if (children != null) {
+            for (File child: children) {
+                delete(child);
+            }
+        }
+        file.delete();
+    }
+}
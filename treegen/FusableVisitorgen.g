@@ -0,0 +1,89 @@
+grammar FusableVisitorgen;
+
+@parser::header { 
+    package com.redhat.ceylon.compiler.typechecker.treegen; 
+    import static com.redhat.ceylon.compiler.typechecker.treegen.Util.*; 
+}
+@lexer::header { 
+    package com.redhat.ceylon.compiler.typechecker.treegen; 
+}
+
+nodeList : {
+           println("package com.redhat.ceylon.compiler.typechecker.tree;\n");
+           println("import static com.redhat.ceylon.compiler.typechecker.tree.Tree.*;");
+           println("import static com.redhat.ceylon.compiler.typechecker.tree.Tree.Package;\n");
+           println("/**");
+           println(" * A visitor which does its work in an {@code enter()}");
+           println(" * hook, called before the children of a node are");
+           println(" * visited, and in a {@code leave()} hook, called after");
+           println(" * them. A {@link FusedVisitor} calls the hooks of");
+           println(" * several such visitors in a single walk of the tree,");
+           println(" * in the same order as each of them would on its own.");
+           println(" * ");
+           println(" * Like {@code visit()}, the hook for a node type calls");
+           println(" * the hook for its supertype, so an override calls");
+           println(" * {@code super.enter()} after its own work, and");
+           println(" * {@code super.leave()} before it.");
+           println(" */");
+           println("public abstract class FusableVisitor extends Visitor {\n");
+           println("    public void enterAny(Node that) {}\n");
+           println("    public void leaveAny(Node that) {}\n");
+           }
+           (DESCRIPTION? node)+ 
+           EOF
+           { println("\n}"); }
+           ;
+
+node : '^' '('
+       a='abstract'? n=NODE_NAME
+       (
+         { 
+           println("    public void enter(" + className($n.text) + " that) { enterAny(that); }");
+           println("    public void leave(" + className($n.text) + " that) { leaveAny(that); }");
+         }
+       | ':' en=NODE_NAME
+         { 
+           println("    public void enter(" + className($n.text) + " that) { enter((" + className($en.text) + ") that); }");
+           println("    public void leave(" + className($n.text) + " that) { leave((" + className($en.text) + ") that); }");
+         }
+       ) 
+       { 
+         if ($a==null) {
+           println("    @Override public final void visit(" + className($n.text) + " that) {");
+           println("        enter(that);");
+           println("        that.visitChildren(this);");
+           println("        leave(that);");
+           println("    }");
+         }
+       }
+       (DESCRIPTION? subnode)*
+       (DESCRIPTION? field)*
+       ')'
+     ;
+
+subnode : n=NODE_NAME '?'? f=FIELD_NAME?
+        | mn=NODE_NAME '*' f=FIELD_NAME?
+        ;
+
+field : 'abstract'? (TYPE_NAME|'boolean') FIELD_NAME ';';
+
+NODE_NAME : ('A'..'Z'|'_')+;
+
+FIELD_NAME : ('a'..'z') ('a'..'z'|'A'..'Z')*;
+TYPE_NAME : ('A'..'Z') ('a'..'z'|'A'..'Z'|'<'|'>')*;
+
+WS : (' ' | '\n' | '\t' | '\r' | '\u000C') { skip(); };
+
+CARAT : '^';
+
+LPAREN : '(';
+RPAREN : ')';
+
+MANY : '*'|'+';
+OPTIONAL : '?';
+
+EXTENDS : ':';
+
+SEMI : ';';
+
+DESCRIPTION : '\"' (~'\"')* '\"';
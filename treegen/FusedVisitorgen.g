@@ -0,0 +1,98 @@
+grammar FusedVisitorgen;
+
+@parser::header { 
+    package com.redhat.ceylon.compiler.typechecker.treegen; 
+    import static com.redhat.ceylon.compiler.typechecker.treegen.Util.*; 
+}
+@lexer::header { 
+    package com.redhat.ceylon.compiler.typechecker.treegen; 
+}
+
+nodeList : {
+           println("package com.redhat.ceylon.compiler.typechecker.tree;\n");
+           println("import static com.redhat.ceylon.compiler.typechecker.tree.Tree.*;");
+           println("import static com.redhat.ceylon.compiler.typechecker.tree.Tree.Package;\n");
+           println("import java.util.concurrent.CancellationException;\n");
+           println("/**");
+           println(" * Runs several {@link FusableVisitor}s in a single walk");
+           println(" * of the tree. At each node, the {@code enter()} hook of");
+           println(" * every visitor is called in turn, then the children");
+           println(" * are visited once for all of them, and then the");
+           println(" * {@code leave()} hook of every visitor is called, in");
+           println(" * the same order.");
+           println(" */");
+           println("public class FusedVisitor extends Visitor {\n");
+           println("    private final FusableVisitor[] visitors;\n");
+           println("    public FusedVisitor(FusableVisitor... visitors) {");
+           println("        this.visitors = visitors.clone();");
+           println("    }\n");
+           println("    public FusableVisitor[] getVisitors() { return visitors.clone(); }\n");
+           }
+           (DESCRIPTION? node)+ 
+           EOF
+           { println("\n}"); }
+           ;
+
+node : '^' '('
+       a='abstract'? n=NODE_NAME
+       { 
+         if ($a==null) {
+           println("    @Override public void visit(" + className($n.text) + " that) {");
+           println("        for (FusableVisitor visitor: visitors) {");
+           println("            try {");
+           println("                visitor.enter(that);");
+           println("            }");
+           println("            catch (CancellationException e) {");
+           println("                throw e;");
+           println("            }");
+           println("            catch (Exception e) {");
+           println("                visitor.handleException(e, that);");
+           println("            }");
+           println("        }");
+           println("        that.visitChildren(this);");
+           println("        for (FusableVisitor visitor: visitors) {");
+           println("            try {");
+           println("                visitor.leave(that);");
+           println("            }");
+           println("            catch (CancellationException e) {");
+           println("                throw e;");
+           println("            }");
+           println("            catch (Exception e) {");
+           println("                visitor.handleException(e, that);");
+           println("            }");
+           println("        }");
+           println("    }\n");
+         }
+       }
+       (':' en=NODE_NAME)?
+       (DESCRIPTION? subnode)*
+       (DESCRIPTION? field)*
+       ')'
+     ;
+
+subnode : n=NODE_NAME '?'? f=FIELD_NAME?
+        | mn=NODE_NAME '*' f=FIELD_NAME?
+        ;
+
+field : 'abstract'? (TYPE_NAME|'boolean') FIELD_NAME ';';
+
+NODE_NAME : ('A'..'Z'|'_')+;
+
+FIELD_NAME : ('a'..'z') ('a'..'z'|'A'..'Z')*;
+TYPE_NAME : ('A'..'Z') ('a'..'z'|'A'..'Z'|'<'|'>')*;
+
+WS : (' ' | '\n' | '\t' | '\r' | '\u000C') { skip(); };
+
+CARAT : '^';
+
+LPAREN : '(';
+RPAREN : ')';
+
+MANY : '*'|'+';
+OPTIONAL : '?';
+
+EXTENDS : ':';
+
+SEMI : ';';
+
+DESCRIPTION : '\"' (~'\"')* '\"';
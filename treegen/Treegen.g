@@ -12,7 +12,8 @@ nodeList : {
            println("package com.redhat.ceylon.compiler.typechecker.tree;\n");
            println("import static com.redhat.ceylon.compiler.typechecker.tree.Walker.*;\n");
            println("import org.antlr.runtime.Token;\n");
-           println("import java.util.*;\n");
+           println("import java.util.*;");
+           println("import java.util.concurrent.CancellationException;\n");
            println("public class Tree {\n");
            }
            (nodeDescription? node)+ 
@@ -32,9 +33,13 @@ node : '^' '('
        { println("            super(token);" ); }
        { println("        }\n" ); }
        { println("        @Override public void visit(Visitor visitor) {" ); }
+       { println("            visitor.checkCancellation();" ); }
        { println("            try {" ); }
        { println("                visitor.visit(this);" ); }
        { println("            }" ); }
+       { println("            catch (CancellationException e) {" ); }
+       { println("                throw e;"); }
+       { println("            }" ); }
        { println("            catch (Exception e) {" ); }
        { println("                visitor.handleException(e, this);"); }
        { println("            }" ); }
@@ -65,11 +70,11 @@ subnode :
           n=NODE_NAME '?'? f=FIELD_NAME
           { println("        private " + className($n.text) + " " + $f.text + ";"); }
           { println("        public " + className($n.text) + " get" + initialUpper($f.text) + "() { return " + $f.text + "; }"); }
-          { println("        public void set" + initialUpper($f.text) + "(" + className($n.text) + " node) { " + $f.text + " = node; connect(node); }\n"); }
+          { println("        public void set" + initialUpper($f.text) + "(" + className($n.text) + " node) { disconnect(" + $f.text + "); " + $f.text + " = node; connect(node); }\n"); }
         | n=NODE_NAME '?'?
           { println("        private " + className($n.text) + " " + fieldName($n.text) + ";"); }
           { println("        public " + className($n.text) + " get" + className($n.text) + "() { return " + fieldName($n.text) + "; }"); }
-          { println("        public void set" + className($n.text) + "(" + className($n.text) + " node) { " + fieldName($n.text) + " = node; connect(node); }\n"); }
+          { println("        public void set" + className($n.text) + "(" + className($n.text) + " node) { disconnect(" + fieldName($n.text) + "); " + fieldName($n.text) + " = node; connect(node); }\n"); }
         | mn=NODE_NAME '*'
           { println("        private List<" + className($mn.text) + "> " + fieldName($mn.text) + 
                                "s = new ArrayList<" + className($mn.text) + ">(3);"); }
@@ -12,7 +12,21 @@ nodeList : {
            println("package com.redhat.ceylon.compiler.typechecker.tree;\n");
            println("import static com.redhat.ceylon.compiler.typechecker.tree.Tree.*;");
            println("import static com.redhat.ceylon.compiler.typechecker.tree.Tree.Package;\n");
+           println("import com.redhat.ceylon.compiler.typechecker.util.CancellationToken;\n");
            println("public abstract class Visitor {\n");
+           println("    private CancellationToken cancellationToken;");
+           println("    private int nodesSinceCheck = 0;\n");
+           println("    public CancellationToken getCancellationToken() { return cancellationToken; }\n");
+           println("    public void setCancellationToken(CancellationToken cancellationToken) { this.cancellationToken = cancellationToken; }\n");
+           println("    /**");
+           println("     * Called before each node is visited. Checks the");
+           println("     * cancellation token, if any, every 64 nodes.");
+           println("     */");
+           println("    public void checkCancellation() {");
+           println("        if (cancellationToken!=null && (++nodesSinceCheck & 63)==0) {");
+           println("            cancellationToken.check();");
+           println("        }");
+           println("    }\n");
            println("    public void handleException(Exception e, Node that) { that.handleException(e, this); }\n");
            println("    public void visitAny(Node that) { that.visitChildren(this); }\n");
            }